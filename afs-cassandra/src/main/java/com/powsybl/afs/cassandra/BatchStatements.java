@@ -8,7 +8,7 @@
 package com.powsybl.afs.cassandra;
 
 import com.datastax.oss.driver.api.core.cql.BatchStatementBuilder;
-import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.BatchableStatement;
 import io.netty.util.internal.shaded.org.jctools.queues.MessagePassingQueue;
 
 import java.util.function.Supplier;
@@ -35,7 +35,7 @@ public class BatchStatements {
         this(supplier, consumer, DEFAULT_COUNT_TRESHOLD);
     }
 
-    public void addStatement(SimpleStatement statement) {
+    public void addStatement(BatchableStatement<?> statement) {
         if (batchStatementBuilder.getStatementsCount() >= countTreshold) {
             execute();
         }
@@ -14,16 +14,20 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.function.IntSupplier;
 import java.util.zip.GZIPInputStream;
 
-import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.literal;
-import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.selectFrom;
-import static com.powsybl.afs.cassandra.CassandraConstants.*;
-
 /**
+ * Reads the chunks of a binary data one after the other. Each chunk is a gzip member, which is decompressed, or
+ * transferred as stored if {@code decompress} is {@code false}: the concatenation of the chunks is then a valid gzip
+ * stream.
+ * <p>
+ * The number of chunks is read with the first one: a chunk missing before it means that the data has been rewritten
+ * and its previous chunks dropped while being read, which is reported rather than returning truncated data.
+ *
  * @author Nicolas Rol {@literal <nicolas.rol at rte-france.com>}
  */
 class BinaryDataInputStream extends InputStream {
@@ -31,17 +35,28 @@ class BinaryDataInputStream extends InputStream {
     private final CassandraAppStorage storage;
     private final UUID nodeUuid;
     private final String name;
-    private ByteArrayInputStream buffer;
-    private GZIPInputStream gzis;
+    private final boolean decompress;
+    private final int chunksCount;
+    private InputStream chunk;
     private int chunkNum = 1;
 
-    BinaryDataInputStream(CassandraAppStorage storage, UUID nodeUuid, String name, Row firstRow) {
+    BinaryDataInputStream(CassandraAppStorage storage, UUID nodeUuid, String name, Row firstRow, boolean decompress) {
         this.storage = storage;
         this.nodeUuid = Objects.requireNonNull(nodeUuid);
         this.name = Objects.requireNonNull(name);
-        buffer = new ByteArrayInputStream(firstRow.getByteBuffer(0).array());
+        this.decompress = decompress;
+        chunksCount = firstRow.isNull(1) ? 0 : firstRow.getInt(1);
+        chunk = openChunk(firstRow);
+    }
+
+    private InputStream openChunk(Row row) {
+        ByteBuffer bytes = row.getByteBuffer(0);
+        ByteArrayInputStream buffer = new ByteArrayInputStream(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
+        if (!decompress) {
+            return buffer;
+        }
         try {
-            gzis = new GZIPInputStream(buffer);
+            return new GZIPInputStream(buffer);
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
@@ -51,7 +66,7 @@ class BinaryDataInputStream extends InputStream {
     public int read() {
         return read(() -> {
             try {
-                return gzis.read();
+                return chunk.read();
             } catch (IOException e) {
                 throw new UncheckedIOException(e);
             }
@@ -62,7 +77,7 @@ class BinaryDataInputStream extends InputStream {
     public int read(byte[] b, int off, int len) throws IOException {
         return read(() -> {
             try {
-                return gzis.read(b, off, len);
+                return chunk.read(b, off, len);
             } catch (IOException e) {
                 throw new UncheckedIOException(e);
             }
@@ -74,28 +89,19 @@ class BinaryDataInputStream extends InputStream {
         c = supplier.getAsInt();
         if (c == -1) {
             // try to get next chunk
-            ResultSet resultSet = storage.getSession().execute(selectFrom(NODE_DATA)
-                .column(CHUNK)
-                .whereColumn(ID).isEqualTo(literal(nodeUuid))
-                .whereColumn(NAME).isEqualTo(literal(name))
-                .whereColumn(CHUNK_NUM).isEqualTo(literal(chunkNum))
-                .build());
+            ResultSet resultSet = storage.getSession().execute(storage.getPreparedStatements().selectBinaryDataChunk(nodeUuid, name, chunkNum));
             Row row = resultSet.one();
             if (row != null) {
                 try {
-                    gzis.close();
-                } catch (IOException e) {
-                    throw new UncheckedIOException(e);
-                }
-                byte[] array = row.getByteBuffer(0).array();
-                buffer = new ByteArrayInputStream(array);
-                try {
-                    gzis = new GZIPInputStream(buffer);
+                    chunk.close();
                 } catch (IOException e) {
                     throw new UncheckedIOException(e);
                 }
+                chunk = openChunk(row);
                 c = supplier.getAsInt();
                 chunkNum++;
+            } else if (chunkNum < chunksCount) {
+                throw new UncheckedIOException(new IOException("Binary data " + nodeUuid + "/" + name + " has been rewritten while being read"));
             }
         }
         return c;
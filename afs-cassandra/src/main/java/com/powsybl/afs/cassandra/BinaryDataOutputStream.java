@@ -15,15 +15,17 @@ import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.zip.GZIPOutputStream;
 
-import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.insertInto;
-import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.literal;
-import static com.powsybl.afs.cassandra.CassandraConstants.*;
 import static com.powsybl.afs.storage.AbstractAppStorage.APPSTORAGE_NODE_TOPIC;
 
 /**
+ * Writes the chunks of a binary data to a new {@code node_data} partition, which is switched in the
+ * {@code node_data_names} row at close: readers keep seeing the previous data until the write is complete, and a
+ * failed write leaves it untouched.
+ *
  * @author Nicolas Rol {@literal <nicolas.rol at rte-france.com>}
  */
 class BinaryDataOutputStream extends OutputStream {
@@ -31,6 +33,7 @@ class BinaryDataOutputStream extends OutputStream {
     private final CassandraAppStorage storage;
     private final UUID nodeUuid;
     private final String name;
+    private final String chunksName;
     private final CassandraAppStorageConfig config;
     private ByteArrayOutputStream buffer;
     private long count = 0;
@@ -41,6 +44,7 @@ class BinaryDataOutputStream extends OutputStream {
         this.storage = storage;
         this.nodeUuid = Objects.requireNonNull(nodeUuid);
         this.name = Objects.requireNonNull(name);
+        chunksName = name + "#" + UUID.randomUUID();
         this.config = config;
         this.buffer = new ByteArrayOutputStream(this.config.getBinaryDataChunkSize());
         try {
@@ -57,18 +61,7 @@ class BinaryDataOutputStream extends OutputStream {
             throw new UncheckedIOException(e);
         }
 
-        // at first write clear previous data to prevent just overlapping on a potential previous data of greater length
-        if (chunkNum == 0) {
-            storage.removeData(nodeUuid.toString(), name);
-        }
-
-        storage.getSession().execute(insertInto(NODE_DATA)
-            .value(ID, literal(nodeUuid))
-            .value(NAME, literal(name))
-            .value(CHUNK_NUM, literal(chunkNum++))
-            .value(CHUNKS_COUNT, literal(chunkNum))
-            .value(CHUNK, literal(ByteBuffer.wrap(buffer.toByteArray())))
-            .build());
+        storage.executeWrite(storage.getPreparedStatements().insertBinaryDataChunk(nodeUuid, chunksName, chunkNum++, ByteBuffer.wrap(buffer.toByteArray())));
         buffer = new ByteArrayOutputStream(config.getBinaryDataChunkSize());
         try {
             gzos = new GZIPOutputStream(buffer);
@@ -117,11 +110,10 @@ class BinaryDataOutputStream extends OutputStream {
             execute();
         }
 
-        // update data names
-        storage.getSession().execute(insertInto(NODE_DATA_NAMES)
-            .value(ID, literal(nodeUuid))
-            .value(NAME, literal(name))
-            .build());
+        // switch the data name to the new chunks, then drop the previous ones
+        Optional<String> previousChunksName = storage.getDataChunksName(nodeUuid, name);
+        storage.executeWrite(storage.getPreparedStatements().insertDataName(nodeUuid, name, chunksName));
+        previousChunksName.ifPresent(previous -> storage.executeWrite(storage.getPreparedStatements().deleteBinaryData(nodeUuid, previous)));
 
         storage.pushEvent(new NodeDataUpdated(nodeUuid.toString(), name), APPSTORAGE_NODE_TOPIC);
     }
@@ -9,8 +9,6 @@ package com.powsybl.afs.cassandra;
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.cql.*;
 import com.datastax.oss.driver.api.core.uuid.Uuids;
-import com.datastax.oss.driver.api.querybuilder.QueryBuilder;
-import com.datastax.oss.driver.api.querybuilder.term.Term;
 import com.google.common.base.Stopwatch;
 import com.google.common.base.Suppliers;
 import com.google.common.collect.Lists;
@@ -25,14 +23,26 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -47,14 +57,20 @@ public class CassandraAppStorage extends AbstractAppStorage {
     public static final String REF_NOT_FOUND = "REFERENCE_NOT_FOUND";
     public static final String ORPHAN_NODE = "ORPHAN_NODE";
     public static final String ORPHAN_DATA = "ORPHAN_DATA";
+    public static final String UNINDEXED_NODE = "UNINDEXED_NODE";
     private static final Logger LOGGER = LoggerFactory.getLogger(CassandraAppStorage.class);
-    private static final String BROKEN_DEPENDENCY = "Broken dependency";
+    static final String BROKEN_DEPENDENCY = "Broken dependency";
+    private static final long CHECK_EXPECTED_NODE_COUNT = 10_000_000L;
+    private static final int CHECK_MAX_IN_MEMORY_NODE_IDS = 1_000_000;
+    private static final int FIND_NODES_PAGE_SIZE = 100;
     private final String fileSystemName;
 
     private final Supplier<CassandraContext> contextSupplier;
 
     private final CassandraAppStorageConfig config;
     private final Supplier<PreparedStatements> preparedStatementsSupplier;
+    private final Supplier<Boolean> packedDoubleChunksSupplier;
+    private final Supplier<Boolean> nodeIndexSupplier;
     private final StorageChangeFlusher changeFlusher = new StorageChangeFlusher() {
 
         private void flush(TimeSeriesCreation creation, List<Statement<?>> statements, TimeSeriesWritingContext writingContext) {
@@ -90,16 +106,24 @@ public class CassandraAppStorage extends AbstractAppStorage {
                     continue;
                 }
 
+                DoubleChunkEncoding encoding = config.getDoubleChunkEncoding();
+                TimeSeriesChunkType chunkType;
+                if (encoding != DoubleChunkEncoding.LIST) {
+                    chunkType = TimeSeriesChunkType.DOUBLE_PACKED;
+                } else {
+                    chunkType = chunk.isCompressed() ? TimeSeriesChunkType.DOUBLE_COMPRESSED : TimeSeriesChunkType.DOUBLE_UNCOMPRESSED;
+                }
                 statements.add(preparedStatementsSupplier.get().getInsertTimeSeriesDataChunksPreparedStmt()
                     .bind()
                     .setUuid(ID, nodeUuid)
                     .setString(TIME_SERIES_NAME, timeSeriesName)
                     .setInt(VERSION, version)
                     .setUuid(CHUNK_ID, chunkId)
-                    .setInt(CHUNK_TYPE, chunk.isCompressed() ? TimeSeriesChunkType.DOUBLE_COMPRESSED.ordinal()
-                        : TimeSeriesChunkType.DOUBLE_UNCOMPRESSED.ordinal()));
+                    .setInt(CHUNK_TYPE, chunkType.ordinal()));
 
-                if (chunk.isCompressed()) {
+                if (encoding != DoubleChunkEncoding.LIST) {
+                    statements.add(bindPackedChunk(nodeUuid, timeSeriesName, version, chunkId, chunk, encoding));
+                } else if (chunk.isCompressed()) {
                     statements.add(preparedStatementsSupplier.get().getInsertDoubleTimeSeriesDataCompressedChunksPreparedStmt()
                         .bind()
                         .setUuid(ID, nodeUuid)
@@ -126,6 +150,28 @@ public class CassandraAppStorage extends AbstractAppStorage {
             }
         }
 
+        private Statement<?> bindPackedChunk(UUID nodeUuid, String timeSeriesName, int version, UUID chunkId, DoubleDataChunk chunk,
+                                             DoubleChunkEncoding encoding) {
+            BoundStatementBuilder builder = preparedStatementsSupplier.get().getInsertDoubleTimeSeriesDataPackedChunksPreparedStmt()
+                .boundStatementBuilder()
+                .setUuid(ID, nodeUuid)
+                .setString(TIME_SERIES_NAME, timeSeriesName)
+                .setInt(VERSION, version)
+                .setUuid(CHUNK_ID, chunkId)
+                .setInt(OFFSET, chunk.getOffset())
+                .setInt(ENCODING, encoding.ordinal());
+            if (chunk instanceof CompressedDoubleDataChunk compressedChunk) {
+                builder.setInt(UNCOMPRESSED_LENGTH, compressedChunk.getLength())
+                    .setByteBuffer(VALUES, PackedDoubles.encode(compressedChunk.getStepValues(), encoding))
+                    .setList(STEP_LENGTHS, Arrays.stream(compressedChunk.getStepLengths()).boxed().collect(Collectors.toList()), Integer.class);
+            } else {
+                builder.setInt(UNCOMPRESSED_LENGTH, chunk.getLength())
+                    .setByteBuffer(VALUES, PackedDoubles.encode(((UncompressedDoubleDataChunk) chunk).getValues(), encoding))
+                    .setToNull(STEP_LENGTHS);
+            }
+            return builder.build();
+        }
+
         /**
          * <p>Cassandra does not support null values in collection, so in order to avoid the following error, we replace
          * null strings by empty strings.</p>
@@ -226,7 +272,7 @@ public class CassandraAppStorage extends AbstractAppStorage {
             try {
                 for (Statement<?> s : statements) {
                     statement = s;
-                    getSession().execute(s);
+                    executeWrite(s);
                 }
             } catch (Exception e) {
                 LOGGER.error("Failed to execute statement {}. The subsequent buffered changes in {} will be ignored.", statement, changeSet);
@@ -257,29 +303,38 @@ public class CassandraAppStorage extends AbstractAppStorage {
         // WARNING: Cassandra cannot mutate more that 16Mo per query!
         changeBuffer = new StorageChangeBuffer(changeFlusher, config.getFlushMaximumChange(), config.getFlushMaximumSize());
 
-        // prepared statement
-        preparedStatementsSupplier = Suppliers.memoize(() -> new PreparedStatements(this));
-    }
-
-    private static boolean isConsistentBackwardCompatible(Row row, int i) {
-        return row.isNull(i) || row.getBoolean(i);
-    }
+        // chunks may have been written in packed format by other instances, in which case the table has to be read
+        packedDoubleChunksSupplier = Suppliers.memoize(() -> config.getDoubleChunkEncoding() != DoubleChunkEncoding.LIST
+            || getSession().getMetadata().getKeyspace(AFS_KEYSPACE)
+                .flatMap(keyspace -> keyspace.getTable(DOUBLE_TIME_SERIES_DATA_PACKED_CHUNKS))
+                .isPresent());
+
+        // the node index is only used and maintained if its table has been created
+        nodeIndexSupplier = Suppliers.memoize(() -> getSession().getMetadata().getKeyspace(AFS_KEYSPACE)
+            .flatMap(keyspace -> keyspace.getTable(NODES_BY_PSEUDO_CLASS))
+            .filter(table -> {
+                if (table.getColumn(BUCKET).isEmpty()) {
+                    LOGGER.warn("Table {} has no {} column and has to be created again", NODES_BY_PSEUDO_CLASS, BUCKET);
+                    return false;
+                }
+                return true;
+            })
+            .isPresent());
 
-    private static Map<String, Term> addAllChildMetadata(NodeInfo nodeInfo) {
-        return addAllChildMetadata(nodeInfo.getGenericMetadata());
+        // prepared statement
+        preparedStatementsSupplier = Suppliers.memoize(() -> new PreparedStatements(this, config, config.getDoubleChunkEncoding() != DoubleChunkEncoding.LIST,
+            packedDoubleChunksSupplier.get()));
     }
 
-    private static Map<String, Term> addAllMetadata(NodeGenericMetadata genericMetadata) {
-        return Arrays.stream(NodeMetadataGetter.values())
-            .collect(Collectors.toUnmodifiableMap(NodeMetadataGetter::symbol, getter -> literal(getter.apply(genericMetadata))));
+    ResultSet executeWrite(Statement<?> statement) {
+        return getSession().execute(preparedStatementsSupplier.get().configure(statement, StatementClass.WRITE));
     }
 
-    private static Map<String, Term> addAllChildMetadata(NodeGenericMetadata genericMetadata) {
-        return Arrays.stream(NodeMetadataGetter.values())
-            .collect(Collectors.toUnmodifiableMap(NodeMetadataGetter::childSymbol, getter -> literal(getter.apply(genericMetadata))));
+    static boolean isConsistentBackwardCompatible(Row row, int i) {
+        return row.isNull(i) || row.getBoolean(i);
     }
 
-    private static UUID checkNodeId(String nodeId) {
+    static UUID checkNodeId(String nodeId) {
         Objects.requireNonNull(nodeId);
         return UUID.fromString(nodeId);
     }
@@ -325,20 +380,30 @@ public class CassandraAppStorage extends AbstractAppStorage {
         return Objects.requireNonNull(contextSupplier.get()).getSession();
     }
 
+    PreparedStatements getPreparedStatements() {
+        return preparedStatementsSupplier.get();
+    }
+
+    CassandraAppStorageConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Reads of nodes, data names and time series are run with the asynchronous API of the driver, without blocking any
+     * thread. Other operations are run on {@code executor}.
+     */
+    @Override
+    public AsyncAppStorage async(Executor executor) {
+        return new CassandraAsyncAppStorage(this, executor);
+    }
+
     @Override
     public NodeInfo createRootNodeIfNotExists(String name, String nodePseudoClass) {
         Objects.requireNonNull(name);
         Objects.requireNonNull(nodePseudoClass);
 
-        SimpleStatement insertQuery =
-            insertInto(ROOT_NODE)
-                .value(ROOT_ID, now())
-                .value(FS_NAME, literal(fileSystemName))
-                .ifNotExists()
-                .build();
-
         // check if root node with same name has already been created
-        ResultSet insertResultSet = getSession().execute(insertQuery);
+        ResultSet insertResultSet = executeWrite(preparedStatementsSupplier.get().insertRootNode(fileSystemName));
         boolean rootCreated = insertResultSet.wasApplied();
 
         SimpleStatement selectQuery = selectFrom(ROOT_NODE)
@@ -352,7 +417,7 @@ public class CassandraAppStorage extends AbstractAppStorage {
         if (rootCreated) {
             BatchStatementBuilder batchStatements = new BatchStatementBuilder(BatchType.UNLOGGED);
             rootNodeInfo = createNode(new NodeParameters(rootNodeUuid, null, name, nodePseudoClass, "", 0, new NodeGenericMetadata()), batchStatements);
-            getSession().execute(batchStatements.build());
+            executeWrite(batchStatements.build());
             setConsistent(rootNodeInfo.getId());
         } else {
             rootNodeInfo = getNodeInfo(rootNodeUuid);
@@ -363,12 +428,7 @@ public class CassandraAppStorage extends AbstractAppStorage {
 
     private Row getRowByUuid(UUID nodeUuid, String column) {
         Objects.requireNonNull(nodeUuid);
-        SimpleStatement selectQuery = selectFrom(CHILDREN_BY_NAME_AND_CLASS)
-            .distinct()
-            .column(column)
-            .whereColumn(ID).isEqualTo(literal(nodeUuid))
-            .build();
-        ResultSet resultSet = getSession().execute(selectQuery);
+        ResultSet resultSet = getSession().execute(preparedStatementsSupplier.get().selectNodeColumn(column, nodeUuid));
         Row row = resultSet.one();
         if (row == null) {
             throw createNodeNotFoundException(nodeUuid);
@@ -405,37 +465,20 @@ public class CassandraAppStorage extends AbstractAppStorage {
     private NodeInfo createNode(NodeParameters nodeParameters,
                                 BatchStatementBuilder batchStatements) {
         long creationTime = ZonedDateTime.now().toInstant().toEpochMilli();
-        batchStatements.addStatement(insertInto(CHILDREN_BY_NAME_AND_CLASS)
-            .value(ID, literal(nodeParameters.nodeUuid))
-            .value(NAME, literal(nodeParameters.name))
-            .value(PARENT_ID, literal(nodeParameters.parentNodeUuid))
-            .value(PSEUDO_CLASS, literal(nodeParameters.nodePseudoClass))
-            .value(DESCRIPTION, literal(nodeParameters.description))
-            .value(CONSISTENT, literal(false))
-            .value(CREATION_DATE, literal(Instant.ofEpochMilli(creationTime)))
-            .value(MODIFICATION_DATE, literal(Instant.ofEpochMilli(creationTime)))
-            .value(VERSION, literal(nodeParameters.version))
-            .values(addAllMetadata(nodeParameters.genericMetadata))
-            .build());
-
+        NodeInfo nodeInfo = new NodeInfo(nodeParameters.nodeUuid.toString(), nodeParameters.name, nodeParameters.nodePseudoClass,
+            nodeParameters.description, creationTime, creationTime, nodeParameters.version, nodeParameters.genericMetadata);
+        PreparedStatements preparedStatements = preparedStatementsSupplier.get();
+        batchStatements.addStatement(preparedStatements.insertNode(nodeParameters.nodeUuid, nodeParameters.parentNodeUuid, nodeInfo));
         if (nodeParameters.parentNodeUuid != null) {
-            batchStatements.addStatement(insertInto(CHILDREN_BY_NAME_AND_CLASS)
-                .value(ID, literal(nodeParameters.parentNodeUuid))
-                .value(CHILD_NAME, literal(nodeParameters.name))
-                .value(CHILD_ID, literal(nodeParameters.nodeUuid))
-                .value(CHILD_PSEUDO_CLASS, literal(nodeParameters.nodePseudoClass))
-                .value(CHILD_DESCRIPTION, literal(nodeParameters.description))
-                .value(CHILD_CONSISTENT, literal(false))
-                .value(CHILD_CREATION_DATE, literal(Instant.ofEpochMilli(creationTime)))
-                .value(CHILD_MODIFICATION_DATE, literal(Instant.ofEpochMilli(creationTime)))
-                .value(CHILD_VERSION, literal(nodeParameters.version))
-                .values(addAllChildMetadata(nodeParameters.genericMetadata))
-                .build());
+            batchStatements.addStatement(preparedStatements.insertChildNode(nodeParameters.parentNodeUuid, nodeParameters.name,
+                nodeParameters.nodeUuid, nodeInfo, false));
+        }
+        if (nodeIndexSupplier.get()) {
+            batchStatements.addStatement(preparedStatements.insertNodeIndex(nodeParameters.nodePseudoClass, nodeParameters.nodeUuid));
         }
         pushEvent(new NodeCreated(nodeParameters.nodeUuid.toString(),
             nodeParameters.parentNodeUuid != null ? nodeParameters.parentNodeUuid.toString() : null), APPSTORAGE_NODE_TOPIC);
-        return new NodeInfo(nodeParameters.nodeUuid.toString(), nodeParameters.name, nodeParameters.nodePseudoClass,
-            nodeParameters.description, creationTime, creationTime, nodeParameters.version, nodeParameters.genericMetadata);
+        return nodeInfo;
     }
 
     @Override
@@ -450,7 +493,7 @@ public class CassandraAppStorage extends AbstractAppStorage {
 
         BatchStatementBuilder batchStatements = new BatchStatementBuilder(BatchType.UNLOGGED);
         NodeInfo nodeInfo = createNode(parentNodeUuid, name, nodePseudoClass, description, version, genericMetadata, batchStatements);
-        getSession().execute(batchStatements.build());
+        executeWrite(batchStatements.build());
         return nodeInfo;
     }
 
@@ -463,53 +506,16 @@ public class CassandraAppStorage extends AbstractAppStorage {
         changeBuffer.flush();
 
         BatchStatementBuilder batchStatements = new BatchStatementBuilder(BatchType.UNLOGGED);
-        batchStatements.addStatement(update(CHILDREN_BY_NAME_AND_CLASS)
-            .setColumn(MD, literal(newMetadata.getDoubles()))
-            .whereColumn(ID).isEqualTo(literal(nodeUuid))
-            .build());
-        batchStatements.addStatement(update(CHILDREN_BY_NAME_AND_CLASS)
-            .setColumn(MT, literal(newMetadata.getStrings()))
-            .whereColumn(ID).isEqualTo(literal(nodeUuid))
-            .build());
-        batchStatements.addStatement(update(CHILDREN_BY_NAME_AND_CLASS)
-            .setColumn(MI, literal(newMetadata.getInts()))
-            .whereColumn(ID).isEqualTo(literal(nodeUuid))
-            .build());
-        batchStatements.addStatement(update(CHILDREN_BY_NAME_AND_CLASS)
-            .setColumn(MB, literal(newMetadata.getBooleans()))
-            .whereColumn(ID).isEqualTo(literal(nodeUuid))
-            .build());
+        batchStatements.addStatement(preparedStatementsSupplier.get().updateNodeMetadata(nodeUuid, newMetadata));
 
         UUID parentNodeUuid = getParentNodeUuid(nodeUuid);
         if (parentNodeUuid != null) {
             NodeInfo nodeInfo = getNodeInfo(nodeId);
-            batchStatements.addStatement(update(CHILDREN_BY_NAME_AND_CLASS)
-                .setColumn(CMD, literal(newMetadata.getDoubles()))
-                .whereColumn(ID).isEqualTo(literal(parentNodeUuid))
-                .whereColumn(CHILD_NAME).isEqualTo(literal(nodeInfo.getName()))
-                .whereColumn(CHILD_PSEUDO_CLASS).isEqualTo(literal(nodeInfo.getPseudoClass()))
-                .build());
-            batchStatements.addStatement(update(CHILDREN_BY_NAME_AND_CLASS)
-                .setColumn(CMT, literal(newMetadata.getStrings()))
-                .whereColumn(ID).isEqualTo(literal(parentNodeUuid))
-                .whereColumn(CHILD_NAME).isEqualTo(literal(nodeInfo.getName()))
-                .whereColumn(CHILD_PSEUDO_CLASS).isEqualTo(literal(nodeInfo.getPseudoClass()))
-                .build());
-            batchStatements.addStatement(update(CHILDREN_BY_NAME_AND_CLASS)
-                .setColumn(CMI, literal(newMetadata.getInts()))
-                .whereColumn(ID).isEqualTo(literal(parentNodeUuid))
-                .whereColumn(CHILD_NAME).isEqualTo(literal(nodeInfo.getName()))
-                .whereColumn(CHILD_PSEUDO_CLASS).isEqualTo(literal(nodeInfo.getPseudoClass()))
-                .build());
-            batchStatements.addStatement(update(CHILDREN_BY_NAME_AND_CLASS)
-                .setColumn(CMB, literal(newMetadata.getBooleans()))
-                .whereColumn(ID).isEqualTo(literal(parentNodeUuid))
-                .whereColumn(CHILD_NAME).isEqualTo(literal(nodeInfo.getName()))
-                .whereColumn(CHILD_PSEUDO_CLASS).isEqualTo(literal(nodeInfo.getPseudoClass()))
-                .build());
-        }
-
-        getSession().execute(batchStatements.build());
+            batchStatements.addStatement(preparedStatementsSupplier.get().updateChildNodeMetadata(parentNodeUuid, nodeInfo.getName(),
+                nodeInfo.getPseudoClass(), newMetadata));
+        }
+
+        executeWrite(batchStatements.build());
         pushEvent(new NodeMetadataUpdated(nodeId, newMetadata), APPSTORAGE_NODE_TOPIC);
     }
 
@@ -532,29 +538,12 @@ public class CassandraAppStorage extends AbstractAppStorage {
     private void renameChildOfParentNode(String name, NodeInfo parentNode, NodeInfo nodeInfo, UUID nodeUuid) {
         UUID parentNodeUuid = checkNodeId(parentNode.getId());
 
-        // need to remove and re-insert row because child_name is part of partition key
-        getSession().execute(deleteFrom(CHILDREN_BY_NAME_AND_CLASS)
-            .whereColumn(ID).isEqualTo(literal(parentNodeUuid))
-            .whereColumn(CHILD_NAME).isEqualTo(literal(nodeInfo.getName()))
-            .whereColumn(CHILD_PSEUDO_CLASS).isEqualTo(literal(nodeInfo.getPseudoClass()))
-            .build());
-
-        getSession().execute(insertInto(CHILDREN_BY_NAME_AND_CLASS)
-            .value(ID, literal(parentNodeUuid))
-            .value(CHILD_NAME, literal(name))
-            .value(CHILD_ID, literal(nodeUuid))
-            .value(CHILD_PSEUDO_CLASS, literal(nodeInfo.getPseudoClass()))
-            .value(CHILD_DESCRIPTION, literal(nodeInfo.getDescription()))
-            .value(CHILD_CREATION_DATE, literal(Instant.ofEpochMilli(nodeInfo.getCreationTime())))
-            .value(CHILD_MODIFICATION_DATE, literal(Instant.ofEpochMilli(nodeInfo.getModificationTime())))
-            .value(CHILD_VERSION, literal(nodeInfo.getVersion()))
-            .values(addAllChildMetadata(nodeInfo))
-            .build());
+        PreparedStatements preparedStatements = preparedStatementsSupplier.get();
 
-        getSession().execute(update(CHILDREN_BY_NAME_AND_CLASS)
-            .setColumn(NAME, literal(name))
-            .whereColumn(ID).isEqualTo(literal(nodeUuid))
-            .build());
+        // need to remove and re-insert row because child_name is part of partition key
+        executeWrite(preparedStatements.deleteChildNode(parentNodeUuid, nodeInfo.getName(), nodeInfo.getPseudoClass()));
+        executeWrite(preparedStatements.insertChildNode(parentNodeUuid, name, nodeUuid, nodeInfo, null));
+        executeWrite(preparedStatements.updateNodeColumn(NAME, nodeUuid, name));
     }
 
     @Override
@@ -565,12 +554,15 @@ public class CassandraAppStorage extends AbstractAppStorage {
 
     private NodeInfo getNodeInfo(UUID nodeUuid) {
         Objects.requireNonNull(nodeUuid);
-        ResultSet resultSet = getSession().execute(selectFrom(CHILDREN_BY_NAME_AND_CLASS)
-            .distinct()
-            .columns(NAME, PSEUDO_CLASS, DESCRIPTION, CREATION_DATE, MODIFICATION_DATE, VERSION, MT, MD, MI, MB)
-            .whereColumn(ID).isEqualTo(literal(nodeUuid))
-            .build());
-        Row row = resultSet.one();
+        ResultSet resultSet = getSession().execute(preparedStatementsSupplier.get().selectNodeInfo(nodeUuid));
+        return toNodeInfo(nodeUuid, resultSet.one());
+    }
+
+    /**
+     * Build the node info from the row of the node info query, {@code null} if the node does not exist, in which case
+     * a node not found exception is thrown.
+     */
+    NodeInfo toNodeInfo(UUID nodeUuid, Row row) {
         if (row == null) {
             throw createNodeNotFoundException(nodeUuid);
         }
@@ -601,20 +593,13 @@ public class CassandraAppStorage extends AbstractAppStorage {
 
         UUID parentNodeId = getParentNodeUuid(nodeUuid);
         BatchStatementBuilder batchStatements = new BatchStatementBuilder(BatchType.UNLOGGED);
-        batchStatements.addStatement(update(CHILDREN_BY_NAME_AND_CLASS)
-            .setColumn(attributeName, literal(newValue))
-            .whereColumn(ID).isEqualTo(literal(nodeUuid))
-            .build());
+        batchStatements.addStatement(preparedStatementsSupplier.get().updateNodeColumn(attributeName, nodeUuid, newValue));
         if (parentNodeId != null) {
             NodeInfo nodeInfo = getNodeInfo(nodeId);
-            batchStatements.addStatement(update(CHILDREN_BY_NAME_AND_CLASS)
-                .setColumn(childAttributeName, literal(newValue))
-                .whereColumn(ID).isEqualTo(literal(parentNodeId))
-                .whereColumn(CHILD_NAME).isEqualTo(literal(nodeInfo.getName()))
-                .whereColumn(CHILD_PSEUDO_CLASS).isEqualTo(literal(nodeInfo.getPseudoClass()))
-                .build());
+            batchStatements.addStatement(preparedStatementsSupplier.get().updateChildNodeColumn(childAttributeName, parentNodeId,
+                nodeInfo.getName(), nodeInfo.getPseudoClass(), newValue));
         }
-        getSession().execute(batchStatements.build());
+        executeWrite(batchStatements.build());
     }
 
     @Override
@@ -633,17 +618,14 @@ public class CassandraAppStorage extends AbstractAppStorage {
 
     @Override
     public void updateModificationTime(String nodeId) {
-        long modificationTime = ZonedDateTime.now().toInstant().toEpochMilli();
+        Instant modificationTime = Instant.ofEpochMilli(ZonedDateTime.now().toInstant().toEpochMilli());
         setAttribute(nodeId, MODIFICATION_DATE, CHILD_MODIFICATION_DATE, modificationTime);
     }
 
     private List<UUID> getChildNodeUuids(UUID nodeUuid) {
         Objects.requireNonNull(nodeUuid);
         List<UUID> childNodeUuids = new ArrayList<>();
-        ResultSet resultSet = getSession().execute(selectFrom(CHILDREN_BY_NAME_AND_CLASS)
-            .columns(CHILD_ID, CHILD_CONSISTENT)
-            .whereColumn(ID).isEqualTo(literal(nodeUuid))
-            .build());
+        ResultSet resultSet = getSession().execute(preparedStatementsSupplier.get().selectChildNodeIds(nodeUuid));
         for (Row row : resultSet) {
             UUID uuid = row.getUuid(0);
             if (uuid != null && isConsistentBackwardCompatible(row, 1)) {
@@ -657,22 +639,21 @@ public class CassandraAppStorage extends AbstractAppStorage {
     public List<NodeInfo> getChildNodes(String nodeId) {
         UUID nodeUuid = checkNodeId(nodeId);
         List<NodeInfo> childNodesInfo = new ArrayList<>();
-        ResultSet resultSet = getSession().execute(selectFrom(CHILDREN_BY_NAME_AND_CLASS)
-            .columns(CHILD_NAME, CHILD_PSEUDO_CLASS, CHILD_ID, CHILD_DESCRIPTION,
-                CHILD_CREATION_DATE, CHILD_MODIFICATION_DATE, CHILD_VERSION,
-                CMT, CMD, CMI, CMB, CHILD_CONSISTENT)
-            .whereColumn(ID).isEqualTo(literal(nodeUuid))
-            .build());
+        ResultSet resultSet = getSession().execute(preparedStatementsSupplier.get().selectChildNodes(nodeUuid));
         for (Row row : resultSet) {
-            UUID uuid = row.getUuid(2);
-            if (uuid != null && isConsistentBackwardCompatible(row, 11)) {
-                addNodeInfo(childNodesInfo, row, uuid);
-            }
+            addConsistentChildNodeInfo(childNodesInfo, row);
         }
         return childNodesInfo;
     }
 
-    private void addNodeInfo(List<NodeInfo> childNodesInfo, Row row, UUID uuid) {
+    static void addConsistentChildNodeInfo(List<NodeInfo> childNodesInfo, Row row) {
+        UUID uuid = row.getUuid(2);
+        if (uuid != null && isConsistentBackwardCompatible(row, 11)) {
+            addNodeInfo(childNodesInfo, row, uuid);
+        }
+    }
+
+    private static void addNodeInfo(List<NodeInfo> childNodesInfo, Row row, UUID uuid) {
         Instant creationTime = row.getInstant(4);
         Instant modificationTime = row.getInstant(5);
         if (creationTime != null && modificationTime != null) {
@@ -714,14 +695,11 @@ public class CassandraAppStorage extends AbstractAppStorage {
     public Optional<NodeInfo> getChildNode(String nodeId, String name) {
         UUID nodeUuid = checkNodeId(nodeId);
         Objects.requireNonNull(name);
-        ResultSet resultSet = getSession().execute(selectFrom(CHILDREN_BY_NAME_AND_CLASS)
-            .columns(CHILD_ID, CHILD_PSEUDO_CLASS, CHILD_DESCRIPTION,
-                CHILD_CREATION_DATE, CHILD_MODIFICATION_DATE, CHILD_VERSION,
-                CMT, CMD, CMI, CMB, CHILD_CONSISTENT)
-            .whereColumn(ID).isEqualTo(literal(nodeUuid))
-            .whereColumn(CHILD_NAME).isEqualTo(literal(name))
-            .build());
-        Row row = resultSet.one();
+        ResultSet resultSet = getSession().execute(preparedStatementsSupplier.get().selectChildNode(nodeUuid, name));
+        return toChildNodeInfo(name, resultSet.one());
+    }
+
+    static Optional<NodeInfo> toChildNodeInfo(String name, Row row) {
         if (row == null || !isConsistentBackwardCompatible(row, 10)) {
             return Optional.empty();
         }
@@ -743,12 +721,131 @@ public class CassandraAppStorage extends AbstractAppStorage {
                     row.getMap(9, String.class, Boolean.class))));
     }
 
+    /**
+     * Check if nodes and their ancestors are consistent, up to an ancestor, the result being memoized for each node
+     * met, so that the ancestors shared by several nodes are only read once. The nodes are walked up together, one
+     * level at a time, the parents of a level being read concurrently.
+     */
+    private void checkConsistentDescendants(Collection<UUID> nodeUuids, UUID ancestorUuid, Map<UUID, Boolean> descendants) {
+        PreparedStatements statements = preparedStatementsSupplier.get();
+        // node being walked up, with the nodes met from it
+        Map<UUID, UUID> currentUuids = new HashMap<>();
+        Map<UUID, List<UUID>> paths = new HashMap<>();
+        for (UUID nodeUuid : nodeUuids) {
+            currentUuids.put(nodeUuid, nodeUuid);
+            paths.put(nodeUuid, new ArrayList<>());
+        }
+        while (!currentUuids.isEmpty()) {
+            // walks reaching a known node are done
+            Iterator<Map.Entry<UUID, UUID>> it = currentUuids.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<UUID, UUID> e = it.next();
+                Boolean descendant = descendants.get(e.getValue());
+                if (descendant != null) {
+                    paths.get(e.getKey()).forEach(uuid -> descendants.put(uuid, descendant));
+                    it.remove();
+                }
+            }
+
+            Set<UUID> uuids = new HashSet<>(currentUuids.values());
+            Map<UUID, UUID> parentUuids = new HashMap<>();
+            ParallelQueries queries = new ParallelQueries(getSession()::executeAsync, config.getNodeQueryConcurrency());
+            for (UUID uuid : uuids) {
+                queries.submit(statements.selectParentNodeIdAndConsistency(uuid), row -> {
+                    if (!isConsistentBackwardCompatible(row, 1)) {
+                        descendants.put(uuid, false);
+                    } else if (ancestorUuid.equals(row.getUuid(0))) {
+                        descendants.put(uuid, true);
+                    } else if (row.isNull(0)) {
+                        // root reached
+                        descendants.put(uuid, false);
+                    } else {
+                        parentUuids.put(uuid, row.getUuid(0));
+                    }
+                });
+            }
+            queries.join();
+            for (UUID uuid : uuids) {
+                if (!parentUuids.containsKey(uuid)) {
+                    // removed
+                    descendants.putIfAbsent(uuid, false);
+                }
+            }
+
+            for (Map.Entry<UUID, UUID> e : currentUuids.entrySet()) {
+                paths.get(e.getKey()).add(e.getValue());
+                UUID parentUuid = parentUuids.get(e.getValue());
+                if (parentUuid != null) {
+                    e.setValue(parentUuid);
+                }
+            }
+        }
+    }
+
+    /**
+     * Infos of the nodes, read concurrently, the nodes which do not exist anymore being skipped.
+     */
+    private Map<UUID, NodeInfo> getNodeInfos(Collection<UUID> nodeUuids) {
+        PreparedStatements statements = preparedStatementsSupplier.get();
+        Map<UUID, NodeInfo> nodeInfos = new HashMap<>();
+        ParallelQueries queries = new ParallelQueries(getSession()::executeAsync, config.getNodeQueryConcurrency());
+        for (UUID nodeUuid : nodeUuids) {
+            queries.submit(statements.selectNodeInfo(nodeUuid), row -> {
+                if (row.getInstant(3) != null && row.getInstant(4) != null) {
+                    nodeInfos.put(nodeUuid, toNodeInfo(nodeUuid, row));
+                }
+            });
+        }
+        queries.join();
+        return nodeInfos;
+    }
+
+    /**
+     * Nodes of the pseudo-class of the query are read from the node index, other queries walk the tree. The buckets
+     * of the index are read concurrently, then the candidates are checked by pages, until the limit of the query is
+     * reached.
+     */
+    @Override
+    public List<NodeInfo> findNodes(String nodeId, NodeQuery query) {
+        UUID nodeUuid = checkNodeId(nodeId);
+        Objects.requireNonNull(query);
+        if (query.getPseudoClass() == null || !nodeIndexSupplier.get()) {
+            return query.walk(this, nodeId);
+        }
+
+        // flush buffer to keep change order
+        changeBuffer.flush();
+
+        PreparedStatements statements = preparedStatementsSupplier.get();
+        List<UUID> candidateUuids = new ArrayList<>();
+        ParallelQueries queries = new ParallelQueries(getSession()::executeAsync, config.getNodeQueryConcurrency());
+        for (int bucket = 0; bucket < PreparedStatements.NODE_INDEX_BUCKET_COUNT; bucket++) {
+            queries.submit(statements.selectNodesByPseudoClass(query.getPseudoClass(), bucket), row -> candidateUuids.add(row.getUuid(0)));
+        }
+        queries.join();
+
+        List<NodeInfo> nodes = new ArrayList<>();
+        Map<UUID, Boolean> descendants = new HashMap<>();
+        descendants.put(nodeUuid, false);
+        for (List<UUID> page : Lists.partition(candidateUuids, FIND_NODES_PAGE_SIZE)) {
+            checkConsistentDescendants(page, nodeUuid, descendants);
+            List<UUID> descendantUuids = page.stream().filter(descendants::get).toList();
+            Map<UUID, NodeInfo> nodeInfos = getNodeInfos(descendantUuids);
+            for (UUID descendantUuid : descendantUuids) {
+                NodeInfo nodeInfo = nodeInfos.get(descendantUuid);
+                if (nodeInfo != null && query.matches(nodeInfo)) {
+                    nodes.add(nodeInfo);
+                    if (nodes.size() >= query.getLimit()) {
+                        return nodes;
+                    }
+                }
+            }
+        }
+        return nodes;
+    }
+
     private UUID getParentNodeUuid(UUID nodeUuid) {
-        ResultSet resultSet = getSession().execute(selectFrom(CHILDREN_BY_NAME_AND_CLASS)
-            .distinct()
-            .column(PARENT_ID)
-            .whereColumn(ID).isEqualTo(literal(nodeUuid))
-            .build());
+        ResultSet resultSet = getSession().execute(preparedStatementsSupplier.get().selectParentNodeId(nodeUuid));
         Row row = resultSet.one();
         if (row == null) {
             throw createNodeNotFoundException(nodeUuid);
@@ -777,27 +874,12 @@ public class CassandraAppStorage extends AbstractAppStorage {
             throw new AfsStorageException("Cannot change parent of root folder");
         }
 
+        PreparedStatements preparedStatements = preparedStatementsSupplier.get();
         BatchStatementBuilder batchStatements = new BatchStatementBuilder(BatchType.UNLOGGED);
-        batchStatements.addStatement(update(CHILDREN_BY_NAME_AND_CLASS)
-            .setColumn(PARENT_ID, literal(newParentNodeUuid))
-            .whereColumn(ID).isEqualTo(literal(nodeUuid))
-            .build());
-        batchStatements.addStatement(deleteFrom(CHILDREN_BY_NAME_AND_CLASS)
-            .whereColumn(ID).isEqualTo(literal(currentParentId))
-            .whereColumn(CHILD_NAME).isEqualTo(literal(nodeInfo.getName()))
-            .build());
-        batchStatements.addStatement(insertInto(CHILDREN_BY_NAME_AND_CLASS)
-            .value(ID, literal(newParentNodeUuid))
-            .value(CHILD_NAME, literal(nodeInfo.getName()))
-            .value(CHILD_PSEUDO_CLASS, literal(nodeInfo.getPseudoClass()))
-            .value(CHILD_ID, literal(nodeUuid))
-            .value(CHILD_DESCRIPTION, literal(nodeInfo.getDescription()))
-            .value(CHILD_CREATION_DATE, literal(Instant.ofEpochMilli(nodeInfo.getCreationTime())))
-            .value(CHILD_MODIFICATION_DATE, literal(Instant.ofEpochMilli(nodeInfo.getModificationTime())))
-            .value(CHILD_VERSION, literal(nodeInfo.getVersion()))
-            .values(addAllChildMetadata(nodeInfo))
-            .build());
-        getSession().execute(batchStatements.build());
+        batchStatements.addStatement(preparedStatements.updateNodeColumn(PARENT_ID, nodeUuid, newParentNodeUuid));
+        batchStatements.addStatement(preparedStatements.deleteChildNode(currentParentId, nodeInfo.getName()));
+        batchStatements.addStatement(preparedStatements.insertChildNode(newParentNodeUuid, nodeInfo.getName(), nodeUuid, nodeInfo, null));
+        executeWrite(batchStatements.build());
 
         pushEvent(new ParentChanged(nodeId, currentParentId.toString(), newParentNodeId), APPSTORAGE_NODE_TOPIC);
     }
@@ -822,17 +904,16 @@ public class CassandraAppStorage extends AbstractAppStorage {
 
         BatchStatements batchStatements = new BatchStatements(
             () -> new BatchStatementBuilder(BatchType.UNLOGGED),
-            builder -> getSession().execute(builder.build()));
+            builder -> executeWrite(builder.build()));
 
         // children
-        batchStatements.addStatement(deleteFrom(CHILDREN_BY_NAME_AND_CLASS)
-            .whereColumn(ID).isEqualTo(literal(nodeUuid))
-            .build());
+        PreparedStatements preparedStatements = preparedStatementsSupplier.get();
+        batchStatements.addStatement(preparedStatements.deleteNode(nodeUuid));
         UUID parentNodeUuid = getParentNodeUuid(nodeUuid);
-        batchStatements.addStatement(deleteFrom(CHILDREN_BY_NAME_AND_CLASS)
-            .whereColumn(ID).isEqualTo(literal(parentNodeUuid))
-            .whereColumn(CHILD_NAME).isEqualTo(literal(getNodeName(nodeUuid)))
-            .build());
+        batchStatements.addStatement(preparedStatements.deleteChildNode(parentNodeUuid, getNodeName(nodeUuid)));
+        if (nodeIndexSupplier.get()) {
+            batchStatements.addStatement(preparedStatements.deleteNodeIndex(getRowByUuid(nodeUuid, PSEUDO_CLASS).getString(0), nodeUuid));
+        }
 
         // data
         removeAllData(nodeUuid, batchStatements);
@@ -844,37 +925,21 @@ public class CassandraAppStorage extends AbstractAppStorage {
         Map<String, UUID> dependencies = getDependencyInfo(nodeUuid);
         Map<String, List<UUID>> backwardDependencies = new HashMap<>();
 
-        ResultSet resultSet = getSession().execute(selectFrom(BACKWARD_DEPENDENCIES)
-            .columns(NAME, FROM_ID)
-            .whereColumn(TO_ID).isEqualTo(literal(nodeUuid))
-            .build());
+        ResultSet resultSet = getSession().execute(preparedStatements.selectBackwardDependencies(nodeUuid));
 
         for (Row row : resultSet) {
-            String name = row.getString(0);
-            UUID otherNodeUuid = row.getUuid(1);
+            UUID otherNodeUuid = row.getUuid(0);
+            String name = row.getString(1);
             List<UUID> uuids = backwardDependencies.computeIfAbsent(name, depName -> new ArrayList<>());
             uuids.add(otherNodeUuid);
             backwardDependencies.put(name, uuids);
-            batchStatements.addStatement(deleteFrom(DEPENDENCIES)
-                .whereColumn(FROM_ID).isEqualTo(literal(otherNodeUuid))
-                .whereColumn(NAME).isEqualTo(literal(name))
-                .whereColumn(TO_ID).isEqualTo(literal(nodeUuid))
-                .build());
+            batchStatements.addStatement(preparedStatements.deleteDependency(otherNodeUuid, name, nodeUuid));
         }
 
-        batchStatements.addStatement(deleteFrom(DEPENDENCIES)
-            .whereColumn(FROM_ID)
-            .isEqualTo(literal(nodeUuid))
-            .build());
-
-        List<Term> listDependencies = dependencies.values().stream()
-            .map(QueryBuilder::literal)
-            .collect(Collectors.toList());
+        batchStatements.addStatement(preparedStatements.deleteDependencies(nodeUuid));
 
-        if (!listDependencies.isEmpty()) {
-            batchStatements.addStatement(deleteFrom(BACKWARD_DEPENDENCIES)
-                .whereColumn(TO_ID).in(listDependencies)
-                .build());
+        if (!dependencies.isEmpty()) {
+            batchStatements.addStatement(preparedStatements.deleteBackwardDependencies(new ArrayList<>(dependencies.values())));
         }
 
         batchStatements.execute();
@@ -892,24 +957,51 @@ public class CassandraAppStorage extends AbstractAppStorage {
         return parentNodeUuid;
     }
 
-    @Override
-    public Optional<InputStream> readBinaryData(String nodeId, String name) {
+    /**
+     * The chunks of a binary data are stored in the {@code node_data} partition named in its {@code node_data_names}
+     * row, which is switched once a write is complete. Data written before this indirection are stored under their
+     * own name.
+     */
+    Optional<String> getDataChunksName(UUID nodeUuid, String name) {
+        Row row = getSession().execute(preparedStatementsSupplier.get().selectDataChunksName(nodeUuid, name)).one();
+        return row != null ? Optional.of(getChunksName(row, 0, name)) : Optional.empty();
+    }
+
+    private static String getChunksName(Row row, int i, String name) {
+        String chunksName = row.getString(i);
+        return chunksName != null ? chunksName : name;
+    }
+
+    private Optional<InputStream> readBinaryData(String nodeId, String name, boolean decompress) {
         UUID nodeUuid = checkNodeId(nodeId);
         Objects.requireNonNull(name);
 
+        String chunksName = getDataChunksName(nodeUuid, name).orElse(null);
+        if (chunksName == null) {
+            return Optional.empty();
+        }
+
         // get first chunk
-        ResultSet resultSet = getSession().execute(selectFrom(NODE_DATA)
-            .column(CHUNK)
-            .whereColumn(ID).isEqualTo(literal(nodeUuid))
-            .whereColumn(NAME).isEqualTo(literal(name))
-            .whereColumn(CHUNK_NUM).isEqualTo(literal(0))
-            .build());
+        ResultSet resultSet = getSession().execute(preparedStatementsSupplier.get().selectBinaryDataChunk(nodeUuid, chunksName, 0));
         Row firstRow = resultSet.one();
         if (firstRow == null) {
             return Optional.empty();
         }
 
-        return Optional.of(new BinaryDataInputStream(this, nodeUuid, name, firstRow));
+        return Optional.of(new BinaryDataInputStream(this, nodeUuid, chunksName, firstRow, decompress));
+    }
+
+    @Override
+    public Optional<InputStream> readBinaryData(String nodeId, String name) {
+        return readBinaryData(nodeId, name, true);
+    }
+
+    /**
+     * Binary data chunks are stored as gzip members, which are transferred as they are.
+     */
+    @Override
+    public Optional<InputStream> readGzippedBinaryData(String nodeId, String name) {
+        return readBinaryData(nodeId, name, false);
     }
 
     @Override
@@ -921,33 +1013,30 @@ public class CassandraAppStorage extends AbstractAppStorage {
         return new BinaryDataOutputStream(this, config, nodeUuid, name);
     }
 
-    private boolean dataExists(String nodeId, String name, String tableName, String nameColumn) {
-        UUID nodeUuid = checkNodeId(nodeId);
-        Objects.requireNonNull(name);
-        ResultSet resultSet = getSession().execute(selectFrom(tableName)
-            .countAll()
-            .whereColumn(ID).isEqualTo(literal(nodeUuid))
-            .whereColumn(nameColumn).isEqualTo(literal(name))
-            .build());
-        Row row = resultSet.one();
+    private boolean exists(Statement<?> countStatement) {
+        Row row = getSession().execute(countStatement).one();
         return row != null && row.getLong(0) > 0;
     }
 
     @Override
     public boolean dataExists(String nodeId, String name) {
-        return dataExists(nodeId, name, NODE_DATA_NAMES, NAME);
+        UUID nodeUuid = checkNodeId(nodeId);
+        Objects.requireNonNull(name);
+        return exists(preparedStatementsSupplier.get().countDataNames(nodeUuid, name));
     }
 
     private Set<String> getDataNames(UUID nodeUuid) {
-        ResultSet resultSet = getSession().execute(selectFrom(NODE_DATA_NAMES)
-            .column(NAME)
-            .whereColumn(ID).isEqualTo(literal(nodeUuid))
-            .build());
-        Set<String> dataNames = new HashSet<>();
+        return getDataChunksNames(nodeUuid).keySet();
+    }
+
+    private Map<String, String> getDataChunksNames(UUID nodeUuid) {
+        ResultSet resultSet = getSession().execute(preparedStatementsSupplier.get().selectDataNames(nodeUuid));
+        Map<String, String> chunksNames = new HashMap<>();
         for (Row row : resultSet) {
-            dataNames.add(row.getString(0));
+            String name = row.getString(0);
+            chunksNames.put(name, getChunksName(row, 1, name));
         }
-        return dataNames;
+        return chunksNames;
     }
 
     @Override
@@ -956,22 +1045,14 @@ public class CassandraAppStorage extends AbstractAppStorage {
         return getDataNames(nodeUuid);
     }
 
-    private void removeData(UUID nodeUuid, String name, BatchStatements batchStatements) {
-        batchStatements.addStatement(deleteFrom(NODE_DATA)
-            .whereColumn(ID).isEqualTo(literal(nodeUuid))
-            .whereColumn(NAME).isEqualTo(literal(name))
-            .build());
-        batchStatements.addStatement(deleteFrom(NODE_DATA_NAMES)
-            .whereColumn(ID).isEqualTo(literal(nodeUuid))
-            .whereColumn(NAME).isEqualTo(literal(name))
-            .build());
+    private void removeData(UUID nodeUuid, String name, String chunksName, BatchStatements batchStatements) {
+        batchStatements.addStatement(preparedStatementsSupplier.get().deleteBinaryData(nodeUuid, chunksName));
+        batchStatements.addStatement(preparedStatementsSupplier.get().deleteDataName(nodeUuid, name));
         pushEvent(new NodeDataRemoved(nodeUuid.toString(), name), APPSTORAGE_NODE_TOPIC);
     }
 
     private void removeAllData(UUID nodeUuid, BatchStatements batchStatements) {
-        for (String dataName : getDataNames(nodeUuid)) {
-            removeData(nodeUuid, dataName, batchStatements);
-        }
+        getDataChunksNames(nodeUuid).forEach((name, chunksName) -> removeData(nodeUuid, name, chunksName, batchStatements));
     }
 
     @Override
@@ -979,25 +1060,16 @@ public class CassandraAppStorage extends AbstractAppStorage {
         UUID nodeUuid = checkNodeId(nodeId);
         Objects.requireNonNull(name);
 
-        // get chunk num list
-        List<Integer> chunks = new ArrayList<>(1);
-        ResultSet resultSet = getSession().execute(selectFrom(NODE_DATA)
-            .column(CHUNKS_COUNT)
-            .whereColumn(ID).isEqualTo(literal(nodeUuid))
-            .whereColumn(NAME).isEqualTo(literal(name))
-            .build());
-        for (Row row : resultSet) {
-            chunks.add(row.getInt(0));
-        }
-        if (chunks.isEmpty()) {
+        String chunksName = getDataChunksName(nodeUuid, name).orElse(null);
+        if (chunksName == null) {
             return false;
         }
 
         BatchStatements batchStatements = new BatchStatements(
             () -> new BatchStatementBuilder(BatchType.UNLOGGED),
-            builder -> getSession().execute(builder.build())
+            builder -> executeWrite(builder.build())
         );
-        removeData(nodeUuid, name, batchStatements);
+        removeData(nodeUuid, name, chunksName, batchStatements);
         batchStatements.execute();
 
         return true;
@@ -1012,17 +1084,16 @@ public class CassandraAppStorage extends AbstractAppStorage {
 
     @Override
     public boolean timeSeriesExists(String nodeId, String timeSeriesName) {
-        return dataExists(nodeId, timeSeriesName, REGULAR_TIME_SERIES, TIME_SERIES_NAME);
+        UUID nodeUuid = checkNodeId(nodeId);
+        Objects.requireNonNull(timeSeriesName);
+        return exists(preparedStatementsSupplier.get().countTimeSeries(nodeUuid, timeSeriesName));
     }
 
     @Override
     public Set<String> getTimeSeriesNames(String nodeId) {
         UUID nodeUuid = checkNodeId(nodeId);
         Set<String> timeSeriesNames = new TreeSet<>();
-        ResultSet resultSet = getSession().execute(selectFrom(REGULAR_TIME_SERIES)
-            .column(TIME_SERIES_NAME)
-            .whereColumn(ID).isEqualTo(literal(nodeUuid))
-            .build());
+        ResultSet resultSet = getSession().execute(preparedStatementsSupplier.get().selectTimeSeriesNames(nodeUuid));
         for (Row row : resultSet) {
             timeSeriesNames.add(row.getString(0));
         }
@@ -1038,39 +1109,33 @@ public class CassandraAppStorage extends AbstractAppStorage {
         }
         List<TimeSeriesMetadata> timeSeries = new ArrayList<>();
 
-        List<Term> timeSeriesNamesList = timeSeriesNames.stream()
-            .map(QueryBuilder::literal)
-            .collect(Collectors.toList());
-        ResultSet resultSet = getSession().execute(selectFrom(REGULAR_TIME_SERIES)
-            .columns(TIME_SERIES_NAME, DATA_TYPE, TIME_SERIES_TAGS, START, END, SPACING)
-            .whereColumn(ID).isEqualTo(literal(nodeUuid))
-            .whereColumn(TIME_SERIES_NAME).in(timeSeriesNamesList)
-            .build());
+        ResultSet resultSet = getSession().execute(preparedStatementsSupplier.get().selectTimeSeriesMetadata(nodeUuid, new ArrayList<>(timeSeriesNames)));
         for (Row row : resultSet) {
-            String name = row.getString(0);
-            Map<String, String> tags = row.getMap(2, String.class, String.class);
-            Instant startTime = row.getInstant(3);
-            Instant endTime = row.getInstant(4);
-            if (name != null && tags != null && startTime != null && endTime != null) {
-                timeSeries.add(new TimeSeriesMetadata(name,
-                    TimeSeriesDataType.valueOf(row.getString(1)),
-                    tags,
-                    new RegularTimeSeriesIndex(startTime,
-                        endTime,
-                        Duration.of(row.getLong(5), ChronoUnit.MILLIS))));
-            }
+            addTimeSeriesMetadata(timeSeries, row);
         }
         return timeSeries;
     }
 
+    static void addTimeSeriesMetadata(List<TimeSeriesMetadata> timeSeries, Row row) {
+        String name = row.getString(0);
+        Map<String, String> tags = row.getMap(2, String.class, String.class);
+        Instant startTime = row.getInstant(3);
+        Instant endTime = row.getInstant(4);
+        if (name != null && tags != null && startTime != null && endTime != null) {
+            timeSeries.add(new TimeSeriesMetadata(name,
+                TimeSeriesDataType.valueOf(row.getString(1)),
+                tags,
+                new RegularTimeSeriesIndex(startTime,
+                    endTime,
+                    Duration.of(row.getLong(5), ChronoUnit.MILLIS))));
+        }
+    }
+
     @Override
     public Set<Integer> getTimeSeriesDataVersions(String nodeId) {
         UUID nodeUuid = checkNodeId(nodeId);
         Set<Integer> versions = new TreeSet<>();
-        ResultSet resultSet = getSession().execute(selectFrom(TIME_SERIES_DATA_CHUNK_TYPES)
-            .column(VERSION)
-            .whereColumn(ID).isEqualTo(literal(nodeUuid))
-            .build());
+        ResultSet resultSet = getSession().execute(preparedStatementsSupplier.get().selectTimeSeriesDataVersions(nodeUuid));
         for (Row row : resultSet) {
             versions.add(row.getInt(0));
         }
@@ -1082,11 +1147,7 @@ public class CassandraAppStorage extends AbstractAppStorage {
         UUID nodeUuid = checkNodeId(nodeId);
         Objects.requireNonNull(timeSeriesName);
         Set<Integer> versions = new TreeSet<>();
-        ResultSet resultSet = getSession().execute(selectFrom(TIME_SERIES_DATA_CHUNK_TYPES)
-            .column(VERSION)
-            .whereColumn(ID).isEqualTo(literal(nodeUuid))
-            .whereColumn(TIME_SERIES_NAME).isEqualTo(literal(timeSeriesName))
-            .build());
+        ResultSet resultSet = getSession().execute(preparedStatementsSupplier.get().selectTimeSeriesDataVersions(nodeUuid, timeSeriesName));
         for (Row row : resultSet) {
             versions.add(row.getInt(0));
         }
@@ -1095,105 +1156,156 @@ public class CassandraAppStorage extends AbstractAppStorage {
 
     @Override
     public Map<String, List<DoubleDataChunk>> getDoubleTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version) {
-        UUID nodeUuid = checkNodeId(nodeId);
-        TimeSeriesVersions.check(version);
+        return readDoubleTimeSeriesData(nodeId, timeSeriesNames, version, null);
+    }
+
+    /**
+     * Only the chunks overlapping the window are read: chunks starting after the window are filtered out by Cassandra,
+     * chunks ending before are skipped before being decoded, and the remaining ones are sliced to the window.
+     */
+    @Override
+    public Map<String, List<DoubleDataChunk>> getDoubleTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version, TimeSeriesWindow window) {
+        return readDoubleTimeSeriesData(nodeId, timeSeriesNames, version, Objects.requireNonNull(window));
+    }
 
-        // get time series data, both uncompressed and compressed chunks
+    private Map<String, List<DoubleDataChunk>> readDoubleTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version, TimeSeriesWindow window) {
         Map<String, List<DoubleDataChunk>> timeSeriesData = new HashMap<>();
+        submitDoubleTimeSeriesQueries(nodeId, timeSeriesNames, version, window, timeSeriesData).join();
+        return sortChunks(timeSeriesData);
+    }
 
-        for (List<String> timeSeriesNamesPartition : Lists.partition(new ArrayList<>(timeSeriesNames), config.getDoubleQueryPartitionSize())) {
-            ResultSet resultSet = getSession().execute(selectFrom(DOUBLE_TIME_SERIES_DATA_UNCOMPRESSED_CHUNKS)
-                .columns(TIME_SERIES_NAME, OFFSET, VALUES)
-                .whereColumn(ID).isEqualTo(literal(nodeUuid))
-                .whereColumn(TIME_SERIES_NAME).in(timeSeriesNamesPartition.stream().map(QueryBuilder::literal).collect(Collectors.toList()))
-                .whereColumn(VERSION).isEqualTo(literal(version))
-                .build());
-            for (Row row : resultSet) {
+    /**
+     * Start the queries of the data of the time series, both uncompressed and compressed chunks, with one query per partition.
+     * Rows are merged into {@code timeSeriesData}, the chunks of which are not sorted.
+     */
+    ParallelQueries submitDoubleTimeSeriesQueries(String nodeId, Set<String> timeSeriesNames, int version, TimeSeriesWindow window,
+                                                  Map<String, List<DoubleDataChunk>> timeSeriesData) {
+        UUID nodeUuid = checkNodeId(nodeId);
+        Objects.requireNonNull(timeSeriesNames);
+        TimeSeriesVersions.check(version);
+        boolean packedDoubleChunks = Boolean.TRUE.equals(packedDoubleChunksSupplier.get());
+
+        PreparedStatements statements = preparedStatementsSupplier.get();
+        ParallelQueries queries = new ParallelQueries(getSession()::executeAsync, config.getTimeSeriesQueryConcurrency());
+        for (String timeSeriesName : timeSeriesNames) {
+            queries.submit(statements.selectDoubleUncompressedChunks(nodeUuid, timeSeriesName, version, window), row -> {
                 String name = row.getString(0);
                 int offset = row.getInt(1);
                 List<Double> values = row.getList(2, Double.class);
-                if (values != null) {
-                    timeSeriesData.computeIfAbsent(name, k -> new ArrayList<>())
-                        .add(new UncompressedDoubleDataChunk(offset, values.stream().mapToDouble(Double::valueOf).toArray()));
+                if (values != null && (window == null || window.overlaps(offset, values.size()))) {
+                    addChunk(timeSeriesData, name, new UncompressedDoubleDataChunk(offset, values.stream().mapToDouble(Double::valueOf).toArray()), window);
                 }
-            }
+            });
 
-            resultSet = getSession().execute(selectFrom(DOUBLE_TIME_SERIES_DATA_COMPRESSED_CHUNKS)
-                .columns(TIME_SERIES_NAME, OFFSET, UNCOMPRESSED_LENGTH, STEP_VALUES, STEP_LENGTHS)
-                .whereColumn(ID).isEqualTo(literal(nodeUuid))
-                .whereColumn(TIME_SERIES_NAME).in(timeSeriesNamesPartition.stream().map(QueryBuilder::literal).collect(Collectors.toList()))
-                .whereColumn(VERSION).isEqualTo(literal(version))
-                .build());
-            for (Row row : resultSet) {
+            queries.submit(statements.selectDoubleCompressedChunks(nodeUuid, timeSeriesName, version, window), row -> {
                 String name = row.getString(0);
                 int offset = row.getInt(1);
                 int length = row.getInt(2);
                 List<Double> stepValues = row.getList(3, Double.class);
                 List<Integer> stepLengths = row.getList(4, Integer.class);
-                if (stepValues != null && stepLengths != null) {
-                    timeSeriesData.computeIfAbsent(name, k -> new ArrayList<>())
-                        .add(new CompressedDoubleDataChunk(offset, length,
+                if (stepValues != null && stepLengths != null && (window == null || window.overlaps(offset, length))) {
+                    addChunk(timeSeriesData, name, new CompressedDoubleDataChunk(offset, length,
                             stepValues.stream().mapToDouble(Double::valueOf).toArray(),
-                            stepLengths.stream().mapToInt(Integer::valueOf).toArray()));
+                            stepLengths.stream().mapToInt(Integer::valueOf).toArray()), window);
                 }
-            }
+            });
 
-            // Reorder the elements of the lists by offset
-            timeSeriesData.forEach((name, list) -> list.sort(Comparator.comparing(DoubleDataChunk::getOffset)));
+            if (packedDoubleChunks) {
+                queries.submit(statements.selectDoublePackedChunks(nodeUuid, timeSeriesName, version, window), row -> readPackedDoubleChunk(row, timeSeriesData, window));
+            }
         }
+        return queries;
+    }
+
+    static <C extends DataChunk<?, ?>> Map<String, List<C>> sortChunks(Map<String, List<C>> timeSeriesData) {
+        // Reorder the elements of the lists by offset
+        timeSeriesData.forEach((name, list) -> list.sort(Comparator.comparingInt(DataChunk::getOffset)));
         return timeSeriesData;
     }
 
+    private static void readPackedDoubleChunk(Row row, Map<String, List<DoubleDataChunk>> timeSeriesData, TimeSeriesWindow window) {
+        String name = row.getString(0);
+        int offset = row.getInt(1);
+        int length = row.getInt(2);
+        DoubleChunkEncoding encoding = DoubleChunkEncoding.values()[row.getInt(3)];
+        ByteBuffer values = row.getByteBuffer(4);
+        if (values == null || window != null && !window.overlaps(offset, length)) {
+            return;
+        }
+        DoubleDataChunk chunk;
+        if (row.isNull(5)) {
+            chunk = new UncompressedDoubleDataChunk(offset, PackedDoubles.decode(values, encoding, length));
+        } else {
+            int[] stepLengths = row.getList(5, Integer.class).stream().mapToInt(Integer::intValue).toArray();
+            chunk = new CompressedDoubleDataChunk(offset, length, PackedDoubles.decode(values, encoding, stepLengths.length), stepLengths);
+        }
+        addChunk(timeSeriesData, name, chunk, window);
+    }
+
+    private static void addChunk(Map<String, List<DoubleDataChunk>> timeSeriesData, String name, DoubleDataChunk chunk, TimeSeriesWindow window) {
+        timeSeriesData.computeIfAbsent(name, k -> new ArrayList<>()).add(window != null ? window.slice(chunk) : chunk);
+    }
+
+    private static void addChunk(Map<String, List<StringDataChunk>> timeSeriesData, String name, StringDataChunk chunk, TimeSeriesWindow window) {
+        timeSeriesData.computeIfAbsent(name, k -> new ArrayList<>()).add(window != null ? window.slice(chunk) : chunk);
+    }
+
     @Override
     public Map<String, List<StringDataChunk>> getStringTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version) {
-        UUID nodeUuid = checkNodeId(nodeId);
-        TimeSeriesVersions.check(version);
+        return readStringTimeSeriesData(nodeId, timeSeriesNames, version, null);
+    }
+
+    /**
+     * Only the chunks overlapping the window are read: chunks starting after the window are filtered out by Cassandra,
+     * chunks ending before are skipped before being decoded, and the remaining ones are sliced to the window.
+     */
+    @Override
+    public Map<String, List<StringDataChunk>> getStringTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version, TimeSeriesWindow window) {
+        return readStringTimeSeriesData(nodeId, timeSeriesNames, version, Objects.requireNonNull(window));
+    }
 
-        // get time series data, both uncompressed and compressed chunks
+    private Map<String, List<StringDataChunk>> readStringTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version, TimeSeriesWindow window) {
         Map<String, List<StringDataChunk>> timeSeriesData = new HashMap<>();
+        submitStringTimeSeriesQueries(nodeId, timeSeriesNames, version, window, timeSeriesData).join();
+        return sortChunks(timeSeriesData);
+    }
+
+    /**
+     * Start the queries of the data of the time series, both uncompressed and compressed chunks, with one query per partition.
+     * Rows are merged into {@code timeSeriesData}, the chunks of which are not sorted.
+     */
+    ParallelQueries submitStringTimeSeriesQueries(String nodeId, Set<String> timeSeriesNames, int version, TimeSeriesWindow window,
+                                                  Map<String, List<StringDataChunk>> timeSeriesData) {
+        UUID nodeUuid = checkNodeId(nodeId);
+        Objects.requireNonNull(timeSeriesNames);
+        TimeSeriesVersions.check(version);
 
-        for (List<String> timeSeriesNamesPartition : Lists.partition(new ArrayList<>(timeSeriesNames), config.getStringQueryPartitionSize())) {
-            ResultSet resultSet = getSession().execute(selectFrom(STRING_TIME_SERIES_DATA_UNCOMPRESSED_CHUNKS)
-                .columns(TIME_SERIES_NAME, OFFSET, VALUES)
-                .whereColumn(ID).isEqualTo(literal(nodeUuid))
-                .whereColumn(TIME_SERIES_NAME).in(timeSeriesNamesPartition.stream().map(QueryBuilder::literal).collect(Collectors.toList()))
-                .whereColumn(VERSION).isEqualTo(literal(version))
-                .build());
-            for (Row row : resultSet) {
+        PreparedStatements statements = preparedStatementsSupplier.get();
+        ParallelQueries queries = new ParallelQueries(getSession()::executeAsync, config.getTimeSeriesQueryConcurrency());
+        for (String timeSeriesName : timeSeriesNames) {
+            queries.submit(statements.selectStringUncompressedChunks(nodeUuid, timeSeriesName, version, window), row -> {
                 String name = row.getString(0);
                 int offset = row.getInt(1);
                 List<String> values = row.getList(2, String.class);
-                if (values != null) {
-                    timeSeriesData.computeIfAbsent(name, k -> new ArrayList<>())
-                        .add(new UncompressedStringDataChunk(offset, values.toArray(new String[0])));
+                if (values != null && (window == null || window.overlaps(offset, values.size()))) {
+                    addChunk(timeSeriesData, name, new UncompressedStringDataChunk(offset, values.toArray(new String[0])), window);
                 }
-            }
+            });
 
-            resultSet = getSession().execute(selectFrom(STRING_TIME_SERIES_DATA_COMPRESSED_CHUNKS)
-                .columns(TIME_SERIES_NAME, OFFSET, UNCOMPRESSED_LENGTH, STEP_VALUES, STEP_LENGTHS)
-                .whereColumn(ID).isEqualTo(literal(nodeUuid))
-                .whereColumn(TIME_SERIES_NAME).in(timeSeriesNamesPartition.stream().map(QueryBuilder::literal).collect(Collectors.toList()))
-                .whereColumn(VERSION).isEqualTo(literal(version))
-                .build());
-            for (Row row : resultSet) {
+            queries.submit(statements.selectStringCompressedChunks(nodeUuid, timeSeriesName, version, window), row -> {
                 String name = row.getString(0);
                 int offset = row.getInt(1);
                 int length = row.getInt(2);
                 List<String> stepValues = row.getList(3, String.class);
                 List<Integer> stepLengths = row.getList(4, Integer.class);
-                if (stepValues != null && stepLengths != null) {
-                    timeSeriesData.computeIfAbsent(name, k -> new ArrayList<>())
-                        .add(new CompressedStringDataChunk(offset, length,
+                if (stepValues != null && stepLengths != null && (window == null || window.overlaps(offset, length))) {
+                    addChunk(timeSeriesData, name, new CompressedStringDataChunk(offset, length,
                             stepValues.toArray(new String[0]),
-                            stepLengths.stream().mapToInt(Integer::valueOf).toArray()));
+                            stepLengths.stream().mapToInt(Integer::valueOf).toArray()), window);
                 }
-            }
-
-            // Reorder the elements of the lists by offset
-            timeSeriesData.forEach((name, list) -> list.sort(Comparator.comparing(StringDataChunk::getOffset)));
+            });
         }
-
-        return timeSeriesData;
+        return queries;
     }
 
     @Override
@@ -1209,49 +1321,23 @@ public class CassandraAppStorage extends AbstractAppStorage {
     }
 
     private void clearTimeSeries(UUID nodeUuid, BatchStatements batchStatements) {
-        batchStatements.addStatement(deleteFrom(REGULAR_TIME_SERIES)
-            .whereColumn(ID).isEqualTo(literal(nodeUuid))
-            .build());
-        ResultSet resultSet = getSession().execute(selectFrom(TIME_SERIES_DATA_CHUNK_TYPES)
-            .columns(TIME_SERIES_NAME, VERSION, CHUNK_TYPE)
-            .whereColumn(ID).isEqualTo(literal(nodeUuid))
-            .build());
+        PreparedStatements preparedStatements = preparedStatementsSupplier.get();
+        batchStatements.addStatement(preparedStatements.deleteTimeSeries(nodeUuid));
+        ResultSet resultSet = getSession().execute(preparedStatements.selectTimeSeriesChunkTypes(nodeUuid));
         for (Row row : resultSet) {
             String timeSeriesName = row.getString(0);
             int version = row.getInt(1);
             TimeSeriesChunkType chunkType = TimeSeriesChunkType.values()[row.getInt(2)];
-            switch (chunkType) {
-                case DOUBLE_UNCOMPRESSED:
-                    batchStatements.addStatement(deleteFrom(DOUBLE_TIME_SERIES_DATA_UNCOMPRESSED_CHUNKS)
-                        .whereColumn(ID).isEqualTo(literal(nodeUuid)).whereColumn(TIME_SERIES_NAME).isEqualTo(literal(timeSeriesName))
-                        .whereColumn(VERSION).isEqualTo(literal(version))
-                        .build());
-                    break;
-                case DOUBLE_COMPRESSED:
-                    batchStatements.addStatement(deleteFrom(DOUBLE_TIME_SERIES_DATA_COMPRESSED_CHUNKS)
-                        .whereColumn(ID).isEqualTo(literal(nodeUuid)).whereColumn(TIME_SERIES_NAME).isEqualTo(literal(timeSeriesName))
-                        .whereColumn(VERSION).isEqualTo(literal(version))
-                        .build());
-                    break;
-                case STRING_UNCOMPRESSED:
-                    batchStatements.addStatement(deleteFrom(STRING_TIME_SERIES_DATA_UNCOMPRESSED_CHUNKS)
-                        .whereColumn(ID).isEqualTo(literal(nodeUuid)).whereColumn(TIME_SERIES_NAME).isEqualTo(literal(timeSeriesName))
-                        .whereColumn(VERSION).isEqualTo(literal(version))
-                        .build());
-                    break;
-                case STRING_COMPRESSED:
-                    batchStatements.addStatement(deleteFrom(STRING_TIME_SERIES_DATA_COMPRESSED_CHUNKS)
-                        .whereColumn(ID).isEqualTo(literal(nodeUuid)).whereColumn(TIME_SERIES_NAME).isEqualTo(literal(timeSeriesName))
-                        .whereColumn(VERSION).isEqualTo(literal(version))
-                        .build());
-                    break;
-                default:
-                    throw new AfsException("Unknown chunk type " + chunkType);
-            }
+            String table = switch (chunkType) {
+                case DOUBLE_UNCOMPRESSED -> DOUBLE_TIME_SERIES_DATA_UNCOMPRESSED_CHUNKS;
+                case DOUBLE_COMPRESSED -> DOUBLE_TIME_SERIES_DATA_COMPRESSED_CHUNKS;
+                case DOUBLE_PACKED -> DOUBLE_TIME_SERIES_DATA_PACKED_CHUNKS;
+                case STRING_UNCOMPRESSED -> STRING_TIME_SERIES_DATA_UNCOMPRESSED_CHUNKS;
+                case STRING_COMPRESSED -> STRING_TIME_SERIES_DATA_COMPRESSED_CHUNKS;
+            };
+            batchStatements.addStatement(preparedStatements.deleteTimeSeriesChunks(table, nodeUuid, timeSeriesName, version));
         }
-        batchStatements.addStatement(deleteFrom(TIME_SERIES_DATA_CHUNK_TYPES)
-            .whereColumn(ID).isEqualTo(literal(nodeUuid))
-            .build());
+        batchStatements.addStatement(preparedStatements.deleteTimeSeriesChunkTypes(nodeUuid));
     }
 
     @Override
@@ -1263,7 +1349,7 @@ public class CassandraAppStorage extends AbstractAppStorage {
 
         BatchStatements batchStatements = new BatchStatements(
             () -> new BatchStatementBuilder(BatchType.UNLOGGED),
-            builder -> getSession().execute(builder.build())
+            builder -> executeWrite(builder.build())
         );
         clearTimeSeries(nodeUuid, batchStatements);
         batchStatements.execute();
@@ -1281,18 +1367,9 @@ public class CassandraAppStorage extends AbstractAppStorage {
 
         BatchStatementBuilder batchStatements = new BatchStatementBuilder(BatchType.UNLOGGED);
 
-        batchStatements.addStatement(insertInto(DEPENDENCIES)
-            .value(FROM_ID, literal(nodeUuid))
-            .value(NAME, literal(name))
-            .value(TO_ID, literal(toNodeUuid))
-            .value("dep_id", literal(Uuids.timeBased()))
-            .build());
-        batchStatements.addStatement(insertInto(BACKWARD_DEPENDENCIES)
-            .value(TO_ID, literal(toNodeUuid))
-            .value(NAME, literal(name))
-            .value(FROM_ID, literal(nodeUuid))
-            .build());
-        getSession().execute(batchStatements.build());
+        batchStatements.addStatement(preparedStatementsSupplier.get().insertDependency(nodeUuid, name, toNodeUuid, Uuids.timeBased()));
+        batchStatements.addStatement(preparedStatementsSupplier.get().insertBackwardDependency(toNodeUuid, name, nodeUuid));
+        executeWrite(batchStatements.build());
         pushEvent(new DependencyAdded(nodeId, name),
             String.valueOf(APPSTORAGE_DEPENDENCY_TOPIC));
         pushEvent(new BackwardDependencyAdded(toNodeId, name),
@@ -1302,10 +1379,7 @@ public class CassandraAppStorage extends AbstractAppStorage {
     private Map<String, UUID> getDependencyInfo(UUID nodeUuid) {
         Objects.requireNonNull(nodeUuid);
         Map<String, UUID> dependencies = new HashMap<>();
-        ResultSet resultSet = getSession().execute(selectFrom(DEPENDENCIES)
-            .columns(TO_ID, NAME)
-            .whereColumn(FROM_ID).isEqualTo(literal(nodeUuid))
-            .build());
+        ResultSet resultSet = getSession().execute(preparedStatementsSupplier.get().selectDependencies(nodeUuid));
         for (Row row : resultSet) {
             dependencies.put(row.getString(1), row.getUuid(0));
         }
@@ -1317,11 +1391,7 @@ public class CassandraAppStorage extends AbstractAppStorage {
         UUID nodeUuid = checkNodeId(nodeId);
         Objects.requireNonNull(name);
         Set<NodeInfo> dependencies = new HashSet<>();
-        ResultSet resultSet = getSession().execute(selectFrom(DEPENDENCIES)
-            .column(TO_ID)
-            .whereColumn(FROM_ID).isEqualTo(literal(nodeUuid))
-            .whereColumn(NAME).isEqualTo(literal(name))
-            .build());
+        ResultSet resultSet = getSession().execute(preparedStatementsSupplier.get().selectDependencies(nodeUuid, name));
         for (Row row : resultSet) {
             UUID toNodeUuid = row.getUuid(0);
             try {
@@ -1337,10 +1407,7 @@ public class CassandraAppStorage extends AbstractAppStorage {
     public Set<NodeDependency> getDependencies(String nodeId) {
         UUID nodeUuid = checkNodeId(nodeId);
         Set<NodeDependency> dependencies = new HashSet<>();
-        ResultSet resultSet = getSession().execute(selectFrom(DEPENDENCIES)
-            .columns(TO_ID, NAME)
-            .whereColumn(FROM_ID).isEqualTo(literal(nodeUuid))
-            .build());
+        ResultSet resultSet = getSession().execute(preparedStatementsSupplier.get().selectDependencies(nodeUuid));
         for (Row row : resultSet) {
             UUID toNodeUuid = row.getUuid(0);
             String name = row.getString(1);
@@ -1357,10 +1424,7 @@ public class CassandraAppStorage extends AbstractAppStorage {
     public Set<NodeInfo> getBackwardDependencies(String nodeId) {
         UUID nodeUuid = checkNodeId(nodeId);
         Set<NodeInfo> backwardDependencies = new HashSet<>();
-        ResultSet resultSet = getSession().execute(selectFrom(BACKWARD_DEPENDENCIES)
-            .column(FROM_ID)
-            .whereColumn(TO_ID).isEqualTo(literal(nodeUuid))
-            .build());
+        ResultSet resultSet = getSession().execute(preparedStatementsSupplier.get().selectBackwardDependencies(nodeUuid));
         for (Row row : resultSet) {
             try {
                 backwardDependencies.add(getNodeInfo(row.getUuid(0)));
@@ -1382,18 +1446,10 @@ public class CassandraAppStorage extends AbstractAppStorage {
 
         BatchStatementBuilder batchStatements = new BatchStatementBuilder(BatchType.UNLOGGED);
 
-        batchStatements.addStatement(deleteFrom(DEPENDENCIES)
-            .whereColumn(FROM_ID).isEqualTo(literal(nodeUuid))
-            .whereColumn(NAME).isEqualTo(literal(name))
-            .whereColumn(TO_ID).isEqualTo(literal(toNodeUuid))
-            .build());
-        batchStatements.addStatement(deleteFrom(BACKWARD_DEPENDENCIES)
-            .whereColumn(TO_ID).isEqualTo(literal(toNodeUuid))
-            .whereColumn(NAME).isEqualTo(literal(name))
-            .whereColumn(FROM_ID).isEqualTo(literal(nodeUuid))
-            .build());
+        batchStatements.addStatement(preparedStatementsSupplier.get().deleteDependency(nodeUuid, name, toNodeUuid));
+        batchStatements.addStatement(preparedStatementsSupplier.get().deleteBackwardDependency(toNodeUuid, name, nodeUuid));
 
-        getSession().execute(batchStatements.build());
+        executeWrite(batchStatements.build());
         pushEvent(new DependencyRemoved(nodeId, name), APPSTORAGE_DEPENDENCY_TOPIC);
         pushEvent(new BackwardDependencyRemoved(toNodeId, name), APPSTORAGE_DEPENDENCY_TOPIC);
     }
@@ -1418,27 +1474,31 @@ public class CassandraAppStorage extends AbstractAppStorage {
     @Override
     public List<String> getSupportedFileSystemChecks() {
         return List.of(FileSystemCheckOptions.EXPIRED_INCONSISTENT_NODES,
-            REF_NOT_FOUND, ORPHAN_NODE, ORPHAN_DATA);
+            REF_NOT_FOUND, ORPHAN_NODE, ORPHAN_DATA, UNINDEXED_NODE);
     }
 
     @Override
     public List<FileSystemCheckIssue> checkFileSystem(FileSystemCheckOptions options) {
         List<FileSystemCheckIssue> results = new ArrayList<>();
+        TokenRangeScan scan = new TokenRangeScan(getSession(), config.getCheckScanConcurrency(), options.getProgressListener());
 
         for (String type : options.getTypes()) {
             switch (type) {
                 case FileSystemCheckOptions.EXPIRED_INCONSISTENT_NODES:
                     options.getInconsistentNodesExpirationTime()
-                        .ifPresent(time -> checkInconsistent(results, time, options.isRepair()));
+                        .ifPresent(time -> checkInconsistent(scan, results, time, options.isRepair()));
                     break;
                 case REF_NOT_FOUND:
-                    checkReferenceNotFound(results, options);
+                    checkReferenceNotFound(scan, results, options);
                     break;
                 case ORPHAN_NODE:
-                    checkOrphanNode(results, options);
+                    checkOrphanNode(scan, results, options);
                     break;
                 case ORPHAN_DATA:
-                    checkOrphanData(results, options);
+                    checkOrphanData(scan, results, options);
+                    break;
+                case UNINDEXED_NODE:
+                    checkUnindexedNode(scan, results, options);
                     break;
                 default:
                     LOGGER.warn("Check {} not supported in {}", type, getClass());
@@ -1448,156 +1508,215 @@ public class CassandraAppStorage extends AbstractAppStorage {
         return results;
     }
 
-    private void checkOrphanData(List<FileSystemCheckIssue> results, FileSystemCheckOptions options) {
-        Set<UUID> existingNodeIds = new HashSet<>();
-        Set<UUID> orphanDataIds = new HashSet<>();
-        ResultSet existingNodes = getSession().execute(selectFrom(CHILDREN_BY_NAME_AND_CLASS)
-            .distinct()
-            .column(ID)
-            .build());
-        for (Row row : existingNodes) {
-            existingNodeIds.add(row.getUuid(ID));
+    private void checkOrphanData(TokenRangeScan scan, List<FileSystemCheckIssue> results, FileSystemCheckOptions options) {
+        if (!options.isRepair()) {
+            scanOrphanData(scan, results, false, (nodeUuid, chunksName) -> { });
+            return;
         }
-        ResultSet nodeDatas = getSession().execute(selectFrom(NODE_DATA)
-            .distinct()
-            .columns(ID, NAME)
-            .build());
-        for (Row row : nodeDatas) {
-            UUID uuid = row.getUuid(ID);
-            if (!existingNodeIds.contains(uuid)) {
-                orphanDataIds.add(uuid);
-                FileSystemCheckIssue issue = new FileSystemCheckIssue().setNodeName("N/A")
-                    .setNodeId(uuid.toString())
-                    .setType(ORPHAN_DATA)
-                    .setDescription("Orphan data(" + row.getString(NAME) + ") is binding to non-existing node(" + uuid + ")")
-                    .setRepaired(options.isRepair());
-                if (options.isRepair()) {
-                    issue.setRepaired(true)
-                        .setResolutionDescription("Delete orphan data(" + row.getString(NAME) + ").");
-                }
-                results.add(issue);
-            }
+        try {
+            repairOrphanData(scan, results);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
-        if (options.isRepair()) {
+    }
+
+    /**
+     * Rows are handled on the driver threads, which must not block, so the orphan data are only removed once the scan
+     * is done. They are spilled to disk meanwhile, so that the check stays within its memory bound.
+     */
+    private void repairOrphanData(TokenRangeScan scan, List<FileSystemCheckIssue> results) throws IOException {
+        Path orphanDataFile = Files.createTempFile("afs-orphan-data-", ".bin");
+        try {
+            AtomicLong orphanDataCount = new AtomicLong();
+            try (DataOutputStream os = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(orphanDataFile)))) {
+                scanOrphanData(scan, results, true, (nodeUuid, chunksName) -> {
+                    try {
+                        os.writeLong(nodeUuid.getMostSignificantBits());
+                        os.writeLong(nodeUuid.getLeastSignificantBits());
+                        os.writeUTF(chunksName);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    orphanDataCount.incrementAndGet();
+                });
+            }
             BatchStatements batchStatements = new BatchStatements(
                 () -> new BatchStatementBuilder(BatchType.UNLOGGED),
-                builder -> getSession().execute(builder.build())
+                builder -> executeWrite(builder.build())
             );
-            for (UUID id : orphanDataIds) {
-                removeAllData(id, batchStatements);
+            try (DataInputStream is = new DataInputStream(new BufferedInputStream(Files.newInputStream(orphanDataFile)))) {
+                for (long i = 0; i < orphanDataCount.get(); i++) {
+                    removeOrphanData(new UUID(is.readLong(), is.readLong()), is.readUTF(), batchStatements);
+                }
             }
             batchStatements.execute();
+        } finally {
+            Files.deleteIfExists(orphanDataFile);
+        }
+    }
+
+    private void scanOrphanData(TokenRangeScan scan, List<FileSystemCheckIssue> results, boolean repair, BiConsumer<UUID, String> orphanDataHandler) {
+        try (SpillableUuidSet existingNodeIds = getAllNodeIds(scan, ORPHAN_DATA)) {
+            scan.scan(ORPHAN_DATA, selectFrom(NODE_DATA)
+                .distinct()
+                .columns(ID, NAME), List.of(ID, NAME), row -> {
+                    UUID uuid = row.getUuid(ID);
+                    if (!existingNodeIds.contains(uuid)) {
+                        FileSystemCheckIssue issue = new FileSystemCheckIssue().setNodeName("N/A")
+                            .setNodeId(uuid.toString())
+                            .setType(ORPHAN_DATA)
+                            .setDescription("Orphan data(" + row.getString(NAME) + ") is binding to non-existing node(" + uuid + ")")
+                            .setRepaired(repair);
+                        if (repair) {
+                            issue.setRepaired(true)
+                                .setResolutionDescription("Delete orphan data(" + row.getString(NAME) + ").");
+                        }
+                        results.add(issue);
+                        orphanDataHandler.accept(uuid, row.getString(NAME));
+                    }
+                });
         }
     }
 
-    private void checkOrphanNode(List<FileSystemCheckIssue> results, FileSystemCheckOptions options) {
+    /**
+     * Remove a binary data partition of a node which does not exist anymore, and the data names referencing it.
+     */
+    private void removeOrphanData(UUID nodeUuid, String chunksName, BatchStatements batchStatements) {
+        boolean referenced = false;
+        for (Map.Entry<String, String> e : getDataChunksNames(nodeUuid).entrySet()) {
+            if (e.getValue().equals(chunksName)) {
+                removeData(nodeUuid, e.getKey(), chunksName, batchStatements);
+                referenced = true;
+            }
+        }
+        if (!referenced) {
+            batchStatements.addStatement(preparedStatementsSupplier.get().deleteBinaryData(nodeUuid, chunksName));
+        }
+    }
+
+    private void checkOrphanNode(TokenRangeScan scan, List<FileSystemCheckIssue> results, FileSystemCheckOptions options) {
         // get all child id which parent name is null
-        ResultSet resultSet = getSession().execute(selectFrom(CHILDREN_BY_NAME_AND_CLASS)
-            .columns(ID, CHILD_ID, NAME, CHILD_NAME)
-            .build());
         List<UUID> orphanIds = new ArrayList<>();
         Set<UUID> fakeParentIds = new HashSet<>();
-        for (Row row : resultSet) {
-            if (row.getString(NAME) == null) {
-                UUID nodeId = row.getUuid(CHILD_ID);
-                String nodeName = row.getString(CHILD_NAME);
-                UUID fakeParentId = row.getUuid(ID);
-                FileSystemCheckIssue issue = new FileSystemCheckIssue().setNodeId(nodeId.toString())
-                    .setNodeName(nodeName)
-                    .setType(ORPHAN_NODE)
-                    .setDescription(nodeName + "(" + nodeId + ") is an orphan node. Its fake parent id=" + fakeParentId);
-                if (options.isRepair()) {
-                    orphanIds.add(nodeId);
-                    fakeParentIds.add(fakeParentId);
-                    issue.setRepaired(true);
-                    issue.setResolutionDescription("Deleted node [name=" + nodeName + ", id=" + nodeId + "] and reference to null name node [id=" + fakeParentId + "]");
+        scan.scan(ORPHAN_NODE, selectFrom(CHILDREN_BY_NAME_AND_CLASS)
+            .columns(ID, CHILD_ID, NAME, CHILD_NAME), List.of(ID), row -> {
+                if (row.getString(NAME) == null) {
+                    UUID nodeId = row.getUuid(CHILD_ID);
+                    String nodeName = row.getString(CHILD_NAME);
+                    UUID fakeParentId = row.getUuid(ID);
+                    FileSystemCheckIssue issue = new FileSystemCheckIssue().setNodeId(nodeId.toString())
+                        .setNodeName(nodeName)
+                        .setType(ORPHAN_NODE)
+                        .setDescription(nodeName + "(" + nodeId + ") is an orphan node. Its fake parent id=" + fakeParentId);
+                    if (options.isRepair()) {
+                        orphanIds.add(nodeId);
+                        fakeParentIds.add(fakeParentId);
+                        issue.setRepaired(true);
+                        issue.setResolutionDescription("Deleted node [name=" + nodeName + ", id=" + nodeId + "] and reference to null name node [id=" + fakeParentId + "]");
+                    }
+                    results.add(issue);
                 }
-                results.add(issue);
-            }
-        }
+            });
         if (options.isRepair()) {
             orphanIds.forEach(this::deleteNode);
             for (UUID fakeParentId : fakeParentIds) {
-                getSession().execute(deleteFrom(CHILDREN_BY_NAME_AND_CLASS)
-                    .whereColumn(ID).isEqualTo(literal(fakeParentId))
-                    .build());
+                executeWrite(preparedStatementsSupplier.get().deleteNode(fakeParentId));
             }
         }
     }
 
-    private void checkReferenceNotFound(List<FileSystemCheckIssue> results, FileSystemCheckOptions options) {
-        List<SimpleStatement> statements = new ArrayList<>();
-        Set<ChildNodeInfo> notFoundIds = new HashSet<>();
-        Set<UUID> existingRows = allPrimaryKeys();
-        for (ChildNodeInfo entity : getAllIdsInChildId()) {
-            if (!existingRows.contains(entity.id)) {
-                notFoundIds.add(entity);
-            }
+    /**
+     * Nodes missing from the node index, for instance because they have been created before its table, which are
+     * added to it on repair.
+     */
+    private void checkUnindexedNode(TokenRangeScan scan, List<FileSystemCheckIssue> results, FileSystemCheckOptions options) {
+        if (!nodeIndexSupplier.get()) {
+            LOGGER.warn("Check {} needs table {} to be created", UNINDEXED_NODE, NODES_BY_PSEUDO_CLASS);
+            return;
+        }
+        List<Statement<?>> statements = new ArrayList<>();
+        try (SpillableUuidSet indexedNodeIds = new SpillableUuidSet(CHECK_EXPECTED_NODE_COUNT, CHECK_MAX_IN_MEMORY_NODE_IDS)) {
+            scan.scan(UNINDEXED_NODE, selectFrom(NODES_BY_PSEUDO_CLASS)
+                .columns(PSEUDO_CLASS, BUCKET, ID), List.of(PSEUDO_CLASS, BUCKET), row -> indexedNodeIds.add(row.getUuid(ID)));
+            scan.scan(UNINDEXED_NODE, selectFrom(CHILDREN_BY_NAME_AND_CLASS)
+                .distinct()
+                .columns(ID, NAME, PSEUDO_CLASS), List.of(ID), row -> {
+                    UUID nodeId = row.getUuid(ID);
+                    String pseudoClass = row.getString(PSEUDO_CLASS);
+                    if (pseudoClass != null && !indexedNodeIds.contains(nodeId)) {
+                        FileSystemCheckIssue issue = new FileSystemCheckIssue().setNodeId(nodeId.toString())
+                            .setNodeName(row.getString(NAME))
+                            .setType(UNINDEXED_NODE)
+                            .setDescription("Node " + nodeId + " is missing from " + NODES_BY_PSEUDO_CLASS);
+                        if (options.isRepair()) {
+                            statements.add(preparedStatementsSupplier.get().insertNodeIndex(pseudoClass, nodeId));
+                            issue.setRepaired(true)
+                                .setResolutionDescription("Added to " + NODES_BY_PSEUDO_CLASS);
+                        }
+                        results.add(issue);
+                    }
+                });
+        }
+        if (options.isRepair()) {
+            executeStatements(statements);
         }
+    }
 
-        for (ChildNodeInfo childNodeInfo : notFoundIds) {
-            final UUID childId = childNodeInfo.id;
-            final FileSystemCheckIssue issue = new FileSystemCheckIssue()
-                .setNodeId(childId.toString())
-                .setNodeName(childNodeInfo.name)
-                .setRepaired(options.isRepair())
-                .setDescription("row is not found but still referenced in " + childNodeInfo.parentId)
-                .setType(REF_NOT_FOUND);
-            results.add(issue);
-            if (options.isRepair()) {
-                statements.add(deleteFrom(CHILDREN_BY_NAME_AND_CLASS)
-                    .whereColumn(ID).isEqualTo(literal(childNodeInfo.parentId))
-                    .whereColumn(CHILD_NAME).isEqualTo(literal(childNodeInfo.name))
-                    .build());
-                issue.setResolutionDescription("reset null child_name and child_id in " + childNodeInfo.parentId);
-            }
+    private void checkReferenceNotFound(TokenRangeScan scan, List<FileSystemCheckIssue> results, FileSystemCheckOptions options) {
+        List<Statement<?>> statements = new ArrayList<>();
+        try (SpillableUuidSet existingRows = getAllNodeIds(scan, REF_NOT_FOUND)) {
+            scan.scan(REF_NOT_FOUND, selectFrom(CHILDREN_BY_NAME_AND_CLASS)
+                .columns(CHILD_ID, CHILD_NAME, ID), List.of(ID), row -> {
+                    UUID childId = row.getUuid(CHILD_ID);
+                    if (childId != null && !existingRows.contains(childId)) {
+                        results.add(buildReferenceNotFoundIssue(childId, row.getString(CHILD_NAME), row.getUuid(ID), statements, options.isRepair()));
+                    }
+                });
         }
         if (options.isRepair()) {
             executeStatements(statements);
         }
     }
 
-    private void executeStatements(List<SimpleStatement> statements) {
-        for (SimpleStatement statement : statements) {
-            getSession().execute(statement);
+    private FileSystemCheckIssue buildReferenceNotFoundIssue(UUID childId, String childName, UUID parentId, List<Statement<?>> statements, boolean repair) {
+        final FileSystemCheckIssue issue = new FileSystemCheckIssue()
+            .setNodeId(childId.toString())
+            .setNodeName(childName)
+            .setRepaired(repair)
+            .setDescription("row is not found but still referenced in " + parentId)
+            .setType(REF_NOT_FOUND);
+        if (repair) {
+            statements.add(preparedStatementsSupplier.get().deleteChildNode(parentId, childName));
+            issue.setResolutionDescription("reset null child_name and child_id in " + parentId);
         }
+        return issue;
     }
 
-    private Set<ChildNodeInfo> getAllIdsInChildId() {
-        Set<ChildNodeInfo> set = new HashSet<>();
-        ResultSet resultSet = getSession().execute(selectFrom(CHILDREN_BY_NAME_AND_CLASS)
-            .columns(CHILD_ID, CHILD_NAME, ID)
-            .build());
-        for (Row row : resultSet) {
-            final UUID id = row.getUuid(CHILD_ID);
-            if (id != null) {
-                set.add(new ChildNodeInfo(id, row.getString(CHILD_NAME), row.getUuid(ID)));
-            }
+    private void executeStatements(List<Statement<?>> statements) {
+        for (Statement<?> statement : statements) {
+            executeWrite(statement);
         }
-        return set;
     }
 
-    private Set<UUID> allPrimaryKeys() {
-        Set<UUID> set = new HashSet<>();
-        ResultSet resultSet = getSession().execute(selectFrom(CHILDREN_BY_NAME_AND_CLASS)
+    /**
+     * Ids of all the nodes, which are the partition keys of the children table. The set is spilled to disk
+     * when it does not fit in memory.
+     */
+    private SpillableUuidSet getAllNodeIds(TokenRangeScan scan, String type) {
+        SpillableUuidSet ids = new SpillableUuidSet(CHECK_EXPECTED_NODE_COUNT, CHECK_MAX_IN_MEMORY_NODE_IDS);
+        scan.scan(type, selectFrom(CHILDREN_BY_NAME_AND_CLASS)
             .distinct()
-            .column(ID)
-            .build());
-        for (Row row : resultSet) {
-            set.add(row.getUuid(0));
-        }
-        return set;
+            .column(ID), List.of(ID), row -> ids.add(row.getUuid(0)));
+        return ids;
     }
 
-    private void checkInconsistent(List<FileSystemCheckIssue> results, Instant expirationTime, boolean repair) {
-        ResultSet resultSet = getSession().execute(selectFrom(CHILDREN_BY_NAME_AND_CLASS)
+    private void checkInconsistent(TokenRangeScan scan, List<FileSystemCheckIssue> results, Instant expirationTime, boolean repair) {
+        scan.scan(FileSystemCheckOptions.EXPIRED_INCONSISTENT_NODES, selectFrom(CHILDREN_BY_NAME_AND_CLASS)
             .distinct()
-            .columns(ID, NAME, MODIFICATION_DATE, CONSISTENT)
-            .build());
-        for (Row row : resultSet) {
-            final Optional<FileSystemCheckIssue> issue = buildExpirationInconsistentIssue(row, expirationTime);
-            issue.ifPresent(results::add);
-        }
+            .columns(ID, NAME, MODIFICATION_DATE, CONSISTENT), List.of(ID), row -> {
+                final Optional<FileSystemCheckIssue> issue = buildExpirationInconsistentIssue(row, expirationTime);
+                issue.ifPresent(results::add);
+            });
         if (repair) {
             for (FileSystemCheckIssue issue : results) {
                 if (Objects.equals(issue.getType(), "inconsistent")) {
@@ -1617,7 +1736,8 @@ public class CassandraAppStorage extends AbstractAppStorage {
         DOUBLE_UNCOMPRESSED,
         DOUBLE_COMPRESSED,
         STRING_UNCOMPRESSED,
-        STRING_COMPRESSED
+        STRING_COMPRESSED,
+        DOUBLE_PACKED
     }
 
     private static final class TimeSeriesWritingContext {
@@ -6,9 +6,16 @@
  */
 package com.powsybl.afs.cassandra;
 
+import com.datastax.oss.driver.api.core.DefaultConsistencyLevel;
 import com.powsybl.commons.config.ModuleConfig;
 import com.powsybl.commons.config.PlatformConfig;
 
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+
 /**
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
  */
@@ -19,6 +26,10 @@ public class CassandraAppStorageConfig {
     private static final int DEFAULT_DOUBLE_QUERY_PARTITION_SIZE = 1000;
     private static final int DEFAULT_STRING_QUERY_PARTITION_SIZE = 1000;
     private static final int DEFAULT_BINARY_DATA_CHUNK_SIZE = (int) Math.round(Math.pow(2, 20));
+    private static final DoubleChunkEncoding DEFAULT_DOUBLE_CHUNK_ENCODING = DoubleChunkEncoding.LIST;
+    private static final int DEFAULT_TIME_SERIES_QUERY_CONCURRENCY = 64;
+    private static final int DEFAULT_CHECK_SCAN_CONCURRENCY = 16;
+    private static final int DEFAULT_NODE_QUERY_CONCURRENCY = 32;
 
     private int flushMaximumChange;
 
@@ -30,6 +41,18 @@ public class CassandraAppStorageConfig {
 
     private int binaryDataChunkSize;
 
+    private DoubleChunkEncoding doubleChunkEncoding = DEFAULT_DOUBLE_CHUNK_ENCODING;
+
+    private int timeSeriesQueryConcurrency = DEFAULT_TIME_SERIES_QUERY_CONCURRENCY;
+
+    private int checkScanConcurrency = DEFAULT_CHECK_SCAN_CONCURRENCY;
+
+    private int nodeQueryConcurrency = DEFAULT_NODE_QUERY_CONCURRENCY;
+
+    private final Map<StatementClass, Integer> pageSizes = new EnumMap<>(StatementClass.class);
+
+    private final Map<StatementClass, DefaultConsistencyLevel> consistencyLevels = new EnumMap<>(StatementClass.class);
+
     public static CassandraAppStorageConfig load() {
         return load(PlatformConfig.defaultConfig());
     }
@@ -40,6 +63,10 @@ public class CassandraAppStorageConfig {
         int doubleQueryPartitionSize = DEFAULT_DOUBLE_QUERY_PARTITION_SIZE;
         int stringQueryPartitionSize = DEFAULT_STRING_QUERY_PARTITION_SIZE;
         int binaryDataChunkSize = DEFAULT_BINARY_DATA_CHUNK_SIZE;
+        DoubleChunkEncoding doubleChunkEncoding = DEFAULT_DOUBLE_CHUNK_ENCODING;
+        int timeSeriesQueryConcurrency = DEFAULT_TIME_SERIES_QUERY_CONCURRENCY;
+        int checkScanConcurrency = DEFAULT_CHECK_SCAN_CONCURRENCY;
+        int nodeQueryConcurrency = DEFAULT_NODE_QUERY_CONCURRENCY;
         ModuleConfig moduleConfig = platformConfig.getOptionalModuleConfig("cassandra-app-storage").orElse(null);
         if (moduleConfig != null) {
             flushMaximumChange = moduleConfig.getIntProperty("flush-maximum-change", DEFAULT_FLUSH_MAXIMUM_CHANGE);
@@ -47,9 +74,26 @@ public class CassandraAppStorageConfig {
             doubleQueryPartitionSize = moduleConfig.getIntProperty("double-query-partition-size", DEFAULT_DOUBLE_QUERY_PARTITION_SIZE);
             stringQueryPartitionSize = moduleConfig.getIntProperty("string-query-partition-size", DEFAULT_STRING_QUERY_PARTITION_SIZE);
             binaryDataChunkSize = moduleConfig.getIntProperty("binary-data-chunk-size", DEFAULT_BINARY_DATA_CHUNK_SIZE);
+            doubleChunkEncoding = moduleConfig.getEnumProperty("double-chunk-encoding", DoubleChunkEncoding.class, DEFAULT_DOUBLE_CHUNK_ENCODING);
+            timeSeriesQueryConcurrency = moduleConfig.getIntProperty("time-series-query-concurrency", DEFAULT_TIME_SERIES_QUERY_CONCURRENCY);
+            checkScanConcurrency = moduleConfig.getIntProperty("check-scan-concurrency", DEFAULT_CHECK_SCAN_CONCURRENCY);
+            nodeQueryConcurrency = moduleConfig.getIntProperty("node-query-concurrency", DEFAULT_NODE_QUERY_CONCURRENCY);
         }
-        return new CassandraAppStorageConfig(flushMaximumChange, flushMaximumSize, doubleQueryPartitionSize,
-                stringQueryPartitionSize, binaryDataChunkSize);
+        CassandraAppStorageConfig config = new CassandraAppStorageConfig(flushMaximumChange, flushMaximumSize, doubleQueryPartitionSize,
+                stringQueryPartitionSize, binaryDataChunkSize)
+                .setDoubleChunkEncoding(doubleChunkEncoding)
+                .setTimeSeriesQueryConcurrency(timeSeriesQueryConcurrency)
+                .setCheckScanConcurrency(checkScanConcurrency)
+                .setNodeQueryConcurrency(nodeQueryConcurrency);
+        if (moduleConfig != null) {
+            for (StatementClass statementClass : StatementClass.values()) {
+                moduleConfig.getOptionalIntProperty(statementClass.getPropertyPrefix() + "-page-size")
+                    .ifPresent(pageSize -> config.setPageSize(statementClass, pageSize));
+                moduleConfig.getOptionalEnumProperty(statementClass.getPropertyPrefix() + "-consistency-level", DefaultConsistencyLevel.class)
+                    .ifPresent(consistencyLevel -> config.setConsistencyLevel(statementClass, consistencyLevel));
+            }
+        }
+        return config;
     }
 
     private static int checkFlushMaximumChange(int flushMaximumChange) {
@@ -73,6 +117,34 @@ public class CassandraAppStorageConfig {
         return queryPartitionSize;
     }
 
+    private static int checkTimeSeriesQueryConcurrency(int timeSeriesQueryConcurrency) {
+        if (timeSeriesQueryConcurrency < 1) {
+            throw new IllegalArgumentException("Invalid time series query concurrency " + timeSeriesQueryConcurrency);
+        }
+        return timeSeriesQueryConcurrency;
+    }
+
+    private static int checkCheckScanConcurrency(int checkScanConcurrency) {
+        if (checkScanConcurrency < 1) {
+            throw new IllegalArgumentException("Invalid check scan concurrency " + checkScanConcurrency);
+        }
+        return checkScanConcurrency;
+    }
+
+    private static int checkNodeQueryConcurrency(int nodeQueryConcurrency) {
+        if (nodeQueryConcurrency < 1) {
+            throw new IllegalArgumentException("Invalid node query concurrency " + nodeQueryConcurrency);
+        }
+        return nodeQueryConcurrency;
+    }
+
+    private static int checkPageSize(int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Invalid page size " + pageSize);
+        }
+        return pageSize;
+    }
+
     private static int checkBinaryDataChunkSize(int binaryDataChunkSize) {
         if (binaryDataChunkSize < 1) {
             throw new IllegalArgumentException("Invalid binary data chunk size " + binaryDataChunkSize);
@@ -112,19 +184,35 @@ public class CassandraAppStorageConfig {
         return this;
     }
 
+    /**
+     * @deprecated time series are now read with one query per Cassandra partition, see {@link #getTimeSeriesQueryConcurrency()}.
+     */
+    @Deprecated(since = "7.3.0")
     public int getDoubleQueryPartitionSize() {
         return doubleQueryPartitionSize;
     }
 
+    /**
+     * @deprecated time series are now read with one query per Cassandra partition, see {@link #setTimeSeriesQueryConcurrency(int)}.
+     */
+    @Deprecated(since = "7.3.0")
     public CassandraAppStorageConfig setDoubleQueryPartitionSize(int doubleQueryPartitionSize) {
         this.doubleQueryPartitionSize = checkQueryPartitionSize(doubleQueryPartitionSize);
         return this;
     }
 
+    /**
+     * @deprecated time series are now read with one query per Cassandra partition, see {@link #getTimeSeriesQueryConcurrency()}.
+     */
+    @Deprecated(since = "7.3.0")
     public int getStringQueryPartitionSize() {
         return stringQueryPartitionSize;
     }
 
+    /**
+     * @deprecated time series are now read with one query per Cassandra partition, see {@link #setTimeSeriesQueryConcurrency(int)}.
+     */
+    @Deprecated(since = "7.3.0")
     public CassandraAppStorageConfig setStringQueryPartitionSize(int stringQueryPartitionSize) {
         this.stringQueryPartitionSize = checkQueryPartitionSize(stringQueryPartitionSize);
         return this;
@@ -138,4 +226,78 @@ public class CassandraAppStorageConfig {
         this.binaryDataChunkSize = checkBinaryDataChunkSize(binaryDataChunkSize);
         return this;
     }
+
+    public DoubleChunkEncoding getDoubleChunkEncoding() {
+        return doubleChunkEncoding;
+    }
+
+    /**
+     * Packed encodings ({@link DoubleChunkEncoding#RAW} and {@link DoubleChunkEncoding#XOR}) require the
+     * {@code double_time_series_data_packed_chunks} table.
+     */
+    public CassandraAppStorageConfig setDoubleChunkEncoding(DoubleChunkEncoding doubleChunkEncoding) {
+        this.doubleChunkEncoding = Objects.requireNonNull(doubleChunkEncoding);
+        return this;
+    }
+
+    public int getTimeSeriesQueryConcurrency() {
+        return timeSeriesQueryConcurrency;
+    }
+
+    /**
+     * Maximum number of queries in flight when reading the data of time series, one query being issued per time series and chunk table.
+     */
+    public CassandraAppStorageConfig setTimeSeriesQueryConcurrency(int timeSeriesQueryConcurrency) {
+        this.timeSeriesQueryConcurrency = checkTimeSeriesQueryConcurrency(timeSeriesQueryConcurrency);
+        return this;
+    }
+
+    public int getCheckScanConcurrency() {
+        return checkScanConcurrency;
+    }
+
+    /**
+     * Maximum number of token range queries in flight when scanning tables during a file system check.
+     */
+    public CassandraAppStorageConfig setCheckScanConcurrency(int checkScanConcurrency) {
+        this.checkScanConcurrency = checkCheckScanConcurrency(checkScanConcurrency);
+        return this;
+    }
+
+    public int getNodeQueryConcurrency() {
+        return nodeQueryConcurrency;
+    }
+
+    /**
+     * Maximum number of queries in flight when reading the nodes found by a node query, one query being issued per node.
+     */
+    public CassandraAppStorageConfig setNodeQueryConcurrency(int nodeQueryConcurrency) {
+        this.nodeQueryConcurrency = checkNodeQueryConcurrency(nodeQueryConcurrency);
+        return this;
+    }
+
+    /**
+     * Page size of the statements of the given class, the driver default is used if empty.
+     */
+    public OptionalInt getPageSize(StatementClass statementClass) {
+        Integer pageSize = pageSizes.get(Objects.requireNonNull(statementClass));
+        return pageSize != null ? OptionalInt.of(pageSize) : OptionalInt.empty();
+    }
+
+    public CassandraAppStorageConfig setPageSize(StatementClass statementClass, int pageSize) {
+        pageSizes.put(Objects.requireNonNull(statementClass), checkPageSize(pageSize));
+        return this;
+    }
+
+    /**
+     * Consistency level of the statements of the given class, the driver default is used if empty.
+     */
+    public Optional<DefaultConsistencyLevel> getConsistencyLevel(StatementClass statementClass) {
+        return Optional.ofNullable(consistencyLevels.get(Objects.requireNonNull(statementClass)));
+    }
+
+    public CassandraAppStorageConfig setConsistencyLevel(StatementClass statementClass, DefaultConsistencyLevel consistencyLevel) {
+        consistencyLevels.put(Objects.requireNonNull(statementClass), Objects.requireNonNull(consistencyLevel));
+        return this;
+    }
 }
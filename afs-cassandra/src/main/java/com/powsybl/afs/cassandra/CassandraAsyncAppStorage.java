@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.cassandra;
+
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.powsybl.afs.storage.ExecutorAsyncAppStorage;
+import com.powsybl.afs.storage.NodeDependency;
+import com.powsybl.afs.storage.NodeInfo;
+import com.powsybl.afs.storage.TimeSeriesWindow;
+import com.powsybl.timeseries.DoubleDataChunk;
+import com.powsybl.timeseries.StringDataChunk;
+import com.powsybl.timeseries.TimeSeriesMetadata;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+import static com.powsybl.afs.cassandra.CassandraAppStorage.BROKEN_DEPENDENCY;
+import static com.powsybl.afs.cassandra.CassandraAppStorage.checkNodeId;
+import static com.powsybl.afs.cassandra.CassandraAppStorage.isConsistentBackwardCompatible;
+import static com.powsybl.afs.cassandra.CassandraConstants.CONSISTENT;
+
+/**
+ * Asynchronous view of a Cassandra storage: reads are run with the asynchronous API of the driver, pages being fetched
+ * as they are consumed, so that no thread waits for Cassandra. Writes, which are buffered, are run on the executor.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+final class CassandraAsyncAppStorage extends ExecutorAsyncAppStorage {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CassandraAsyncAppStorage.class);
+
+    private final CassandraAppStorage cassandraStorage;
+
+    CassandraAsyncAppStorage(CassandraAppStorage storage, Executor executor) {
+        super(storage, executor);
+        this.cassandraStorage = storage;
+    }
+
+    private PreparedStatements statements() {
+        return cassandraStorage.getPreparedStatements();
+    }
+
+    private CompletionStage<Row> readOne(Statement<?> statement) {
+        return cassandraStorage.getSession().executeAsync(statement).thenApply(AsyncResultSet::one);
+    }
+
+    /**
+     * Hand all the rows of the query, page after page, to {@code rowHandler}, which accumulates them into {@code result}.
+     */
+    private <T> CompletionStage<T> readAll(Statement<?> statement, T result, BiConsumer<T, Row> rowHandler) {
+        return cassandraStorage.getSession().executeAsync(statement)
+            .thenCompose(resultSet -> readAll(resultSet, result, rowHandler));
+    }
+
+    private static <T> CompletionStage<T> readAll(AsyncResultSet resultSet, T result, BiConsumer<T, Row> rowHandler) {
+        for (Row row : resultSet.currentPage()) {
+            rowHandler.accept(result, row);
+        }
+        if (resultSet.hasMorePages()) {
+            return resultSet.fetchNextPage().thenCompose(nextPage -> readAll(nextPage, result, rowHandler));
+        }
+        return CompletableFuture.completedFuture(result);
+    }
+
+    private CompletionStage<Boolean> exists(Statement<?> countStatement) {
+        return readOne(countStatement).thenApply(row -> row != null && row.getLong(0) > 0);
+    }
+
+    @Override
+    public CompletionStage<Boolean> isWritable(String nodeId) {
+        return start(() -> CompletableFuture.completedFuture(storage.isWritable(nodeId)));
+    }
+
+    @Override
+    public CompletionStage<Boolean> isConsistent(String nodeId) {
+        return start(() -> {
+            UUID nodeUuid = checkNodeId(nodeId);
+            return readOne(statements().selectNodeColumn(CONSISTENT, nodeUuid)).thenApply(row -> {
+                if (row == null) {
+                    throw storage.createNodeNotFoundException(nodeUuid);
+                }
+                return isConsistentBackwardCompatible(row, 0);
+            });
+        });
+    }
+
+    @Override
+    public CompletionStage<NodeInfo> getNodeInfo(String nodeId) {
+        return start(() -> getNodeInfo(checkNodeId(nodeId)));
+    }
+
+    private CompletionStage<NodeInfo> getNodeInfo(UUID nodeUuid) {
+        return readOne(statements().selectNodeInfo(nodeUuid)).thenApply(row -> cassandraStorage.toNodeInfo(nodeUuid, row));
+    }
+
+    @Override
+    public CompletionStage<List<NodeInfo>> getChildNodes(String nodeId) {
+        return start(() -> this.<List<NodeInfo>>readAll(statements().selectChildNodes(checkNodeId(nodeId)), new ArrayList<>(),
+            CassandraAppStorage::addConsistentChildNodeInfo));
+    }
+
+    @Override
+    public CompletionStage<Optional<NodeInfo>> getChildNode(String nodeId, String name) {
+        return start(() -> {
+            UUID nodeUuid = checkNodeId(nodeId);
+            Objects.requireNonNull(name);
+            return readOne(statements().selectChildNode(nodeUuid, name)).thenApply(row -> CassandraAppStorage.toChildNodeInfo(name, row));
+        });
+    }
+
+    @Override
+    public CompletionStage<Optional<NodeInfo>> getParentNode(String nodeId) {
+        return start(() -> {
+            UUID nodeUuid = checkNodeId(nodeId);
+            return readOne(statements().selectParentNodeId(nodeUuid)).thenCompose(row -> {
+                if (row == null) {
+                    throw storage.createNodeNotFoundException(nodeUuid);
+                }
+                UUID parentNodeUuid = row.getUuid(0);
+                return parentNodeUuid == null ? CompletableFuture.completedFuture(Optional.empty())
+                    : getNodeInfo(parentNodeUuid).thenApply(Optional::of);
+            });
+        });
+    }
+
+    @Override
+    public CompletionStage<Boolean> dataExists(String nodeId, String name) {
+        return start(() -> {
+            UUID nodeUuid = checkNodeId(nodeId);
+            Objects.requireNonNull(name);
+            return exists(statements().countDataNames(nodeUuid, name));
+        });
+    }
+
+    @Override
+    public CompletionStage<Set<String>> getDataNames(String nodeId) {
+        return start(() -> this.<Set<String>>readAll(statements().selectDataNames(checkNodeId(nodeId)), new HashSet<>(),
+            (dataNames, row) -> dataNames.add(row.getString(0))));
+    }
+
+    @Override
+    public CompletionStage<Set<String>> getTimeSeriesNames(String nodeId) {
+        return start(() -> this.<Set<String>>readAll(statements().selectTimeSeriesNames(checkNodeId(nodeId)), new TreeSet<>(),
+            (timeSeriesNames, row) -> timeSeriesNames.add(row.getString(0))));
+    }
+
+    @Override
+    public CompletionStage<Boolean> timeSeriesExists(String nodeId, String timeSeriesName) {
+        return start(() -> {
+            UUID nodeUuid = checkNodeId(nodeId);
+            Objects.requireNonNull(timeSeriesName);
+            return exists(statements().countTimeSeries(nodeUuid, timeSeriesName));
+        });
+    }
+
+    @Override
+    public CompletionStage<List<TimeSeriesMetadata>> getTimeSeriesMetadata(String nodeId, Set<String> timeSeriesNames) {
+        return start(() -> {
+            UUID nodeUuid = checkNodeId(nodeId);
+            Objects.requireNonNull(timeSeriesNames);
+            if (timeSeriesNames.isEmpty()) {
+                throw new IllegalArgumentException("Empty time series name list");
+            }
+            return this.<List<TimeSeriesMetadata>>readAll(statements().selectTimeSeriesMetadata(nodeUuid, new ArrayList<>(timeSeriesNames)),
+                new ArrayList<>(), CassandraAppStorage::addTimeSeriesMetadata);
+        });
+    }
+
+    @Override
+    public CompletionStage<Set<Integer>> getTimeSeriesDataVersions(String nodeId) {
+        return start(() -> this.<Set<Integer>>readAll(statements().selectTimeSeriesDataVersions(checkNodeId(nodeId)), new TreeSet<>(),
+            (versions, row) -> versions.add(row.getInt(0))));
+    }
+
+    @Override
+    public CompletionStage<Set<Integer>> getTimeSeriesDataVersions(String nodeId, String timeSeriesName) {
+        return start(() -> {
+            UUID nodeUuid = checkNodeId(nodeId);
+            Objects.requireNonNull(timeSeriesName);
+            return this.<Set<Integer>>readAll(statements().selectTimeSeriesDataVersions(nodeUuid, timeSeriesName), new TreeSet<>(),
+                (versions, row) -> versions.add(row.getInt(0)));
+        });
+    }
+
+    @Override
+    public CompletionStage<Map<String, List<DoubleDataChunk>>> getDoubleTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version) {
+        return start(() -> readDoubleTimeSeriesData(nodeId, timeSeriesNames, version, null));
+    }
+
+    @Override
+    public CompletionStage<Map<String, List<DoubleDataChunk>>> getDoubleTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version,
+                                                                                       TimeSeriesWindow window) {
+        return start(() -> readDoubleTimeSeriesData(nodeId, timeSeriesNames, version, Objects.requireNonNull(window)));
+    }
+
+    private CompletionStage<Map<String, List<DoubleDataChunk>>> readDoubleTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version,
+                                                                                         TimeSeriesWindow window) {
+        Map<String, List<DoubleDataChunk>> timeSeriesData = new HashMap<>();
+        return cassandraStorage.submitDoubleTimeSeriesQueries(nodeId, timeSeriesNames, version, window, timeSeriesData).completion()
+            .thenApply(ignored -> CassandraAppStorage.sortChunks(timeSeriesData));
+    }
+
+    @Override
+    public CompletionStage<Map<String, List<StringDataChunk>>> getStringTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version) {
+        return start(() -> readStringTimeSeriesData(nodeId, timeSeriesNames, version, null));
+    }
+
+    @Override
+    public CompletionStage<Map<String, List<StringDataChunk>>> getStringTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version,
+                                                                                       TimeSeriesWindow window) {
+        return start(() -> readStringTimeSeriesData(nodeId, timeSeriesNames, version, Objects.requireNonNull(window)));
+    }
+
+    private CompletionStage<Map<String, List<StringDataChunk>>> readStringTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version,
+                                                                                         TimeSeriesWindow window) {
+        Map<String, List<StringDataChunk>> timeSeriesData = new HashMap<>();
+        return cassandraStorage.submitStringTimeSeriesQueries(nodeId, timeSeriesNames, version, window, timeSeriesData).completion()
+            .thenApply(ignored -> CassandraAppStorage.sortChunks(timeSeriesData));
+    }
+
+    /**
+     * Get the info of the target node of a dependency, empty if the dependency is broken.
+     */
+    private CompletableFuture<Optional<NodeInfo>> getDependencyNodeInfo(UUID toNodeUuid) {
+        return getNodeInfo(toNodeUuid).handle((nodeInfo, error) -> {
+            if (error == null) {
+                return Optional.of(nodeInfo);
+            }
+            Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+            if (cause instanceof CassandraAfsException) {
+                LOGGER.warn(BROKEN_DEPENDENCY, cause);
+                return Optional.<NodeInfo>empty();
+            }
+            throw new CompletionException(cause);
+        }).toCompletableFuture();
+    }
+
+    private static <T> CompletionStage<Set<T>> allPresent(List<CompletableFuture<Optional<T>>> futures) {
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+            .thenApply(ignored -> futures.stream()
+                .map(CompletableFuture::join)
+                .flatMap(Optional::stream)
+                .collect(Collectors.toSet()));
+    }
+
+    @Override
+    public CompletionStage<Set<NodeInfo>> getDependencies(String nodeId, String name) {
+        return start(() -> {
+            UUID nodeUuid = checkNodeId(nodeId);
+            Objects.requireNonNull(name);
+            return this.<List<CompletableFuture<Optional<NodeInfo>>>>readAll(statements().selectDependencies(nodeUuid, name), new ArrayList<>(),
+                    (dependencies, row) -> dependencies.add(getDependencyNodeInfo(row.getUuid(0))))
+                .thenCompose(CassandraAsyncAppStorage::allPresent);
+        });
+    }
+
+    @Override
+    public CompletionStage<Set<NodeDependency>> getDependencies(String nodeId) {
+        return start(() -> this.<List<CompletableFuture<Optional<NodeDependency>>>>readAll(statements().selectDependencies(checkNodeId(nodeId)),
+                new ArrayList<>(), (dependencies, row) -> dependencies.add(getDependency(row)))
+            .thenCompose(CassandraAsyncAppStorage::allPresent));
+    }
+
+    private CompletableFuture<Optional<NodeDependency>> getDependency(Row row) {
+        String name = row.getString(1);
+        return getDependencyNodeInfo(row.getUuid(0)).thenApply(nodeInfo -> nodeInfo.map(info -> new NodeDependency(name, info)));
+    }
+
+    @Override
+    public CompletionStage<Set<NodeInfo>> getBackwardDependencies(String nodeId) {
+        return start(() -> this.<List<CompletableFuture<Optional<NodeInfo>>>>readAll(statements().selectBackwardDependencies(checkNodeId(nodeId)),
+                new ArrayList<>(), (dependencies, row) -> dependencies.add(getDependencyNodeInfo(row.getUuid(0))))
+            .thenCompose(CassandraAsyncAppStorage::allPresent));
+    }
+}
@@ -32,6 +32,7 @@ public final class CassandraConstants {
     public static final String FROM_ID = "from_id";
     public static final String BACKWARD_DEPENDENCIES = "backward_dependencies";
     public static final String TO_ID = "to_id";
+    public static final String DEP_ID = "dep_id";
     public static final String REGULAR_TIME_SERIES = "regular_time_series";
     public static final String TIME_SERIES_NAME = "time_series_name";
     public static final String DOUBLE_TIME_SERIES_DATA_COMPRESSED_CHUNKS = "double_time_series_data_compressed_chunks";
@@ -44,6 +45,8 @@ public final class CassandraConstants {
     public static final String TIME_SERIES_DATA_CHUNK_TYPES = "time_series_data_chunk_types";
     public static final String DOUBLE_TIME_SERIES_DATA_UNCOMPRESSED_CHUNKS = "double_time_series_data_uncompressed_chunks";
     public static final String VALUES = "values";
+    public static final String DOUBLE_TIME_SERIES_DATA_PACKED_CHUNKS = "double_time_series_data_packed_chunks";
+    public static final String ENCODING = "encoding";
     public static final String STRING_TIME_SERIES_DATA_COMPRESSED_CHUNKS = "string_time_series_data_compressed_chunks";
     public static final String STRING_TIME_SERIES_DATA_UNCOMPRESSED_CHUNKS = "string_time_series_data_uncompressed_chunks";
     public static final String NODE_DATA = "node_data";
@@ -70,6 +73,9 @@ public final class CassandraConstants {
     public static final String CHUNK_TYPE = "chunk_type";
     public static final String CHUNK = "chunk";
     public static final String CHUNKS_COUNT = "chunks_count";
+    public static final String CHUNKS_NAME = "chunks_name";
+    public static final String NODES_BY_PSEUDO_CLASS = "nodes_by_pseudo_class";
+    public static final String BUCKET = "bucket";
 
     private CassandraConstants() {
     }
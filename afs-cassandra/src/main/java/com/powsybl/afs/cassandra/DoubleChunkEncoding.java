@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.cassandra;
+
+/**
+ * Storage format of the values of double time series chunks.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+public enum DoubleChunkEncoding {
+
+    /**
+     * Values stored as a list of doubles, in the historical chunk tables.
+     */
+    LIST,
+
+    /**
+     * Values packed as little-endian doubles in a blob.
+     */
+    RAW,
+
+    /**
+     * Each value XORed with the previous one and stored without its leading and trailing zero bytes in a blob,
+     * which is efficient for slowly varying values.
+     */
+    XOR
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.cassandra;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * Encoding and decoding of double arrays into the blobs of the packed chunk table.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+final class PackedDoubles {
+
+    private PackedDoubles() {
+    }
+
+    static ByteBuffer encode(double[] values, DoubleChunkEncoding encoding) {
+        Objects.requireNonNull(values);
+        return switch (Objects.requireNonNull(encoding)) {
+            case RAW -> encodeRaw(values);
+            case XOR -> encodeXor(values);
+            default -> throw new IllegalArgumentException("Encoding " + encoding + " is not a packed encoding");
+        };
+    }
+
+    static double[] decode(ByteBuffer buffer, DoubleChunkEncoding encoding, int count) {
+        Objects.requireNonNull(buffer);
+        ByteBuffer input = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        return switch (Objects.requireNonNull(encoding)) {
+            case RAW -> decodeRaw(input, count);
+            case XOR -> decodeXor(input, count);
+            default -> throw new IllegalArgumentException("Encoding " + encoding + " is not a packed encoding");
+        };
+    }
+
+    private static ByteBuffer encodeRaw(double[] values) {
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asDoubleBuffer().put(values);
+        return buffer;
+    }
+
+    private static double[] decodeRaw(ByteBuffer input, int count) {
+        checkSize(input.remaining() == count * Double.BYTES, count);
+        double[] values = new double[count];
+        input.asDoubleBuffer().get(values);
+        return values;
+    }
+
+    /**
+     * Each value is XORed with the previous one, and written as a header byte holding the number of leading (high nibble)
+     * and trailing (low nibble) zero bytes of the result, followed by its remaining bytes.
+     */
+    private static ByteBuffer encodeXor(double[] values) {
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * (Double.BYTES + 1)).order(ByteOrder.LITTLE_ENDIAN);
+        long previous = 0;
+        for (double value : values) {
+            long bits = Double.doubleToRawLongBits(value);
+            long xor = bits ^ previous;
+            previous = bits;
+            int leadingBytes = Long.numberOfLeadingZeros(xor) / Byte.SIZE;
+            int trailingBytes = xor == 0 ? 0 : Long.numberOfTrailingZeros(xor) / Byte.SIZE;
+            buffer.put((byte) (leadingBytes << 4 | trailingBytes));
+            long meaningful = xor >>> (trailingBytes * Byte.SIZE);
+            for (int i = 0; i < Double.BYTES - leadingBytes - trailingBytes; i++) {
+                buffer.put((byte) (meaningful >>> (i * Byte.SIZE)));
+            }
+        }
+        return buffer.flip();
+    }
+
+    private static double[] decodeXor(ByteBuffer input, int count) {
+        double[] values = new double[count];
+        long previous = 0;
+        for (int i = 0; i < count; i++) {
+            checkSize(input.hasRemaining(), count);
+            int header = input.get() & 0xFF;
+            int leadingBytes = header >>> 4;
+            int trailingBytes = header & 0xF;
+            int meaningfulBytes = Double.BYTES - leadingBytes - trailingBytes;
+            checkSize(meaningfulBytes >= 0 && input.remaining() >= meaningfulBytes, count);
+            long meaningful = 0;
+            for (int j = 0; j < meaningfulBytes; j++) {
+                meaningful |= (input.get() & 0xFFL) << (j * Byte.SIZE);
+            }
+            previous ^= meaningful << (trailingBytes * Byte.SIZE);
+            values[i] = Double.longBitsToDouble(previous);
+        }
+        checkSize(!input.hasRemaining(), count);
+        return values;
+    }
+
+    private static void checkSize(boolean condition, int count) {
+        if (!condition) {
+            throw new CassandraAfsException("Packed double chunk is inconsistent with its length " + count);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.cassandra;
+
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.Statement;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Asynchronous execution of a set of read queries, with a bounded number of queries in flight.
+ * <p>
+ * Queries submitted beyond the concurrency limit are queued, and started as soon as a query in flight completes, so
+ * that submitting never blocks. Rows are handed to the handler of their query as soon as a page is received. Handlers
+ * are never called concurrently, so they can merge rows into a shared, non thread-safe, structure.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+final class ParallelQueries {
+
+    private final Function<Statement<?>, CompletionStage<AsyncResultSet>> executor;
+
+    private final int maxConcurrency;
+
+    // guarded by this
+    private int inFlight = 0;
+
+    // guarded by this
+    private final Deque<Runnable> waiting = new ArrayDeque<>();
+
+    // guarded by this
+    private final List<CompletableFuture<Void>> queries = new ArrayList<>();
+
+    private final Object rowsLock = new Object();
+
+    ParallelQueries(Function<Statement<?>, CompletionStage<AsyncResultSet>> executor, int maxConcurrency) {
+        this.executor = Objects.requireNonNull(executor);
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Invalid max concurrency " + maxConcurrency);
+        }
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Start the query, or queue it if the concurrency limit is reached.
+     *
+     * @return a future completed when all the rows of the query have been handled
+     */
+    CompletableFuture<Void> submit(Statement<?> statement, Consumer<Row> rowHandler) {
+        Objects.requireNonNull(statement);
+        Objects.requireNonNull(rowHandler);
+        CompletableFuture<Void> query = new CompletableFuture<>();
+        // a failure of the executor itself is reported through the query future
+        Runnable start = () -> CompletableFuture.completedFuture(statement)
+            .thenCompose(executor)
+            .thenCompose(resultSet -> consume(resultSet, rowHandler))
+            .whenComplete((result, error) -> {
+                startNext();
+                if (error != null) {
+                    query.completeExceptionally(error);
+                } else {
+                    query.complete(null);
+                }
+            });
+        boolean startNow;
+        synchronized (this) {
+            queries.add(query);
+            startNow = inFlight < maxConcurrency;
+            if (startNow) {
+                inFlight++;
+            } else {
+                waiting.add(start);
+            }
+        }
+        if (startNow) {
+            start.run();
+        }
+        return query;
+    }
+
+    private void startNext() {
+        Runnable next;
+        synchronized (this) {
+            next = waiting.poll();
+            if (next == null) {
+                inFlight--;
+            }
+        }
+        if (next != null) {
+            next.run();
+        }
+    }
+
+    private CompletionStage<Void> consume(AsyncResultSet resultSet, Consumer<Row> rowHandler) {
+        synchronized (rowsLock) {
+            resultSet.currentPage().forEach(rowHandler);
+        }
+        if (resultSet.hasMorePages()) {
+            return resultSet.fetchNextPage().thenCompose(nextPage -> consume(nextPage, rowHandler));
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * A future completed when all the queries submitted so far are, exceptionally if one of them failed.
+     */
+    CompletableFuture<Void> completion() {
+        synchronized (this) {
+            return CompletableFuture.allOf(queries.toArray(new CompletableFuture[0]));
+        }
+    }
+
+    /**
+     * Wait for all the submitted queries to complete, and rethrow the first failure if any.
+     */
+    void join() {
+        try {
+            completion().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new CassandraAfsException(e.getCause().getMessage());
+        }
+    }
+}
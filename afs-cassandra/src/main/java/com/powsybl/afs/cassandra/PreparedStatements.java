@@ -7,26 +7,431 @@
  */
 package com.powsybl.afs.cassandra;
 
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.DefaultConsistencyLevel;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
 import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.querybuilder.select.Select;
+import com.google.common.base.Suppliers;
+import com.powsybl.afs.storage.NodeGenericMetadata;
+import com.powsybl.afs.storage.NodeInfo;
+import com.powsybl.afs.storage.TimeSeriesWindow;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.bindMarker;
+import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.deleteFrom;
 import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.insertInto;
+import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.now;
+import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.selectFrom;
+import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.update;
 import static com.powsybl.afs.cassandra.CassandraConstants.*;
 import static com.powsybl.afs.cassandra.CassandraConstants.VALUES;
 
 /**
+ * Registry of the statements of the storage, prepared once and bound with the page size and the consistency level
+ * configured for their {@link StatementClass}.
+ *
  * @author Nicolas Rol {@literal <nicolas.rol at rte-france.com>}
  */
 class PreparedStatements {
+
+    /**
+     * Number of partitions of the node index per pseudo-class. It cannot be changed without rebuilding the index.
+     */
+    static final int NODE_INDEX_BUCKET_COUNT = 16;
+
+    /**
+     * Select of the chunks of a time series, over all its chunks or only the ones starting before the end of a window.
+     */
+    private record ChunksQuery(PreparedStatement all, PreparedStatement window) {
+
+        static ChunksQuery prepare(CqlSession session, Select select) {
+            Select partitionSelect = select.whereColumn(ID).isEqualTo(bindMarker())
+                .whereColumn(TIME_SERIES_NAME).isEqualTo(bindMarker())
+                .whereColumn(VERSION).isEqualTo(bindMarker());
+            // offset is a regular column, but filtering is restricted to the partition of the queried time series
+            return new ChunksQuery(session.prepare(partitionSelect.build()),
+                session.prepare(partitionSelect.whereColumn(OFFSET).isLessThanOrEqualTo(bindMarker()).allowFiltering().build()));
+        }
+
+        BoundStatement bind(UUID nodeUuid, String timeSeriesName, int version, TimeSeriesWindow window) {
+            return window == null ? all.bind(nodeUuid, timeSeriesName, version)
+                : this.window.bind(nodeUuid, timeSeriesName, version, window.getLastIndex());
+        }
+    }
+
+    /**
+     * Statements of the writes of nodes, binary data and dependencies, the writes of time series chunks being prepared
+     * apart.
+     */
+    private static final class WriteStatements {
+
+        private final PreparedStatement insertRootNodePreparedStmt;
+        private final PreparedStatement insertNodePreparedStmt;
+        private final PreparedStatement insertChildNodePreparedStmt;
+        private final Supplier<PreparedStatement> insertNodeIndexPreparedStmt;
+        private final Supplier<PreparedStatement> deleteNodeIndexPreparedStmt;
+        private final PreparedStatement updateNodeMetadataPreparedStmt;
+        private final PreparedStatement updateChildNodeMetadataPreparedStmt;
+        private final PreparedStatement deleteNodePreparedStmt;
+        private final PreparedStatement deleteChildNodePreparedStmt;
+        private final PreparedStatement deleteChildNodeOfClassPreparedStmt;
+        private final PreparedStatement insertBinaryDataChunkPreparedStmt;
+        private final PreparedStatement insertDataNamePreparedStmt;
+        private final PreparedStatement deleteBinaryDataPreparedStmt;
+        private final PreparedStatement deleteDataNamePreparedStmt;
+        private final PreparedStatement insertDependencyPreparedStmt;
+        private final PreparedStatement insertBackwardDependencyPreparedStmt;
+        private final PreparedStatement deleteDependencyPreparedStmt;
+        private final PreparedStatement deleteDependenciesPreparedStmt;
+        private final PreparedStatement deleteBackwardDependencyPreparedStmt;
+        private final PreparedStatement deleteBackwardDependenciesPreparedStmt;
+        private final PreparedStatement deleteTimeSeriesPreparedStmt;
+        private final PreparedStatement deleteTimeSeriesChunkTypesPreparedStmt;
+
+        WriteStatements(CqlSession session) {
+            insertRootNodePreparedStmt = session.prepare(insertInto(ROOT_NODE)
+                .value(ROOT_ID, now())
+                .value(FS_NAME, bindMarker())
+                .ifNotExists()
+                .build());
+
+            insertNodePreparedStmt = session.prepare(insertInto(CHILDREN_BY_NAME_AND_CLASS)
+                .value(ID, bindMarker())
+                .value(NAME, bindMarker())
+                .value(PARENT_ID, bindMarker())
+                .value(PSEUDO_CLASS, bindMarker())
+                .value(DESCRIPTION, bindMarker())
+                .value(CONSISTENT, bindMarker())
+                .value(CREATION_DATE, bindMarker())
+                .value(MODIFICATION_DATE, bindMarker())
+                .value(VERSION, bindMarker())
+                .value(MT, bindMarker())
+                .value(MD, bindMarker())
+                .value(MI, bindMarker())
+                .value(MB, bindMarker())
+                .build());
+
+            insertChildNodePreparedStmt = session.prepare(insertInto(CHILDREN_BY_NAME_AND_CLASS)
+                .value(ID, bindMarker())
+                .value(CHILD_NAME, bindMarker())
+                .value(CHILD_ID, bindMarker())
+                .value(CHILD_PSEUDO_CLASS, bindMarker())
+                .value(CHILD_DESCRIPTION, bindMarker())
+                .value(CHILD_CREATION_DATE, bindMarker())
+                .value(CHILD_MODIFICATION_DATE, bindMarker())
+                .value(CHILD_VERSION, bindMarker())
+                .value(CMT, bindMarker())
+                .value(CMD, bindMarker())
+                .value(CMI, bindMarker())
+                .value(CMB, bindMarker())
+                .value(CHILD_CONSISTENT, bindMarker())
+                .build());
+
+            // the node index table may not exist in schemas that have not been migrated
+            insertNodeIndexPreparedStmt = Suppliers.memoize(() -> session.prepare(insertInto(NODES_BY_PSEUDO_CLASS)
+                .value(PSEUDO_CLASS, bindMarker())
+                .value(BUCKET, bindMarker())
+                .value(ID, bindMarker())
+                .build()));
+            deleteNodeIndexPreparedStmt = Suppliers.memoize(() -> session.prepare(deleteFrom(NODES_BY_PSEUDO_CLASS)
+                .whereColumn(PSEUDO_CLASS).isEqualTo(bindMarker())
+                .whereColumn(BUCKET).isEqualTo(bindMarker())
+                .whereColumn(ID).isEqualTo(bindMarker())
+                .build()));
+
+            updateNodeMetadataPreparedStmt = session.prepare(update(CHILDREN_BY_NAME_AND_CLASS)
+                .setColumn(MT, bindMarker())
+                .setColumn(MD, bindMarker())
+                .setColumn(MI, bindMarker())
+                .setColumn(MB, bindMarker())
+                .whereColumn(ID).isEqualTo(bindMarker())
+                .build());
+
+            updateChildNodeMetadataPreparedStmt = session.prepare(update(CHILDREN_BY_NAME_AND_CLASS)
+                .setColumn(CMT, bindMarker())
+                .setColumn(CMD, bindMarker())
+                .setColumn(CMI, bindMarker())
+                .setColumn(CMB, bindMarker())
+                .whereColumn(ID).isEqualTo(bindMarker())
+                .whereColumn(CHILD_NAME).isEqualTo(bindMarker())
+                .whereColumn(CHILD_PSEUDO_CLASS).isEqualTo(bindMarker())
+                .build());
+
+            deleteNodePreparedStmt = session.prepare(deleteFrom(CHILDREN_BY_NAME_AND_CLASS)
+                .whereColumn(ID).isEqualTo(bindMarker())
+                .build());
+
+            deleteChildNodePreparedStmt = session.prepare(deleteFrom(CHILDREN_BY_NAME_AND_CLASS)
+                .whereColumn(ID).isEqualTo(bindMarker())
+                .whereColumn(CHILD_NAME).isEqualTo(bindMarker())
+                .build());
+
+            deleteChildNodeOfClassPreparedStmt = session.prepare(deleteFrom(CHILDREN_BY_NAME_AND_CLASS)
+                .whereColumn(ID).isEqualTo(bindMarker())
+                .whereColumn(CHILD_NAME).isEqualTo(bindMarker())
+                .whereColumn(CHILD_PSEUDO_CLASS).isEqualTo(bindMarker())
+                .build());
+
+            insertBinaryDataChunkPreparedStmt = session.prepare(insertInto(NODE_DATA)
+                .value(ID, bindMarker())
+                .value(NAME, bindMarker())
+                .value(CHUNK_NUM, bindMarker())
+                .value(CHUNKS_COUNT, bindMarker())
+                .value(CHUNK, bindMarker())
+                .build());
+
+            insertDataNamePreparedStmt = session.prepare(insertInto(NODE_DATA_NAMES)
+                .value(ID, bindMarker())
+                .value(NAME, bindMarker())
+                .value(CHUNKS_NAME, bindMarker())
+                .build());
+
+            deleteBinaryDataPreparedStmt = session.prepare(deleteFrom(NODE_DATA)
+                .whereColumn(ID).isEqualTo(bindMarker())
+                .whereColumn(NAME).isEqualTo(bindMarker())
+                .build());
+
+            deleteDataNamePreparedStmt = session.prepare(deleteFrom(NODE_DATA_NAMES)
+                .whereColumn(ID).isEqualTo(bindMarker())
+                .whereColumn(NAME).isEqualTo(bindMarker())
+                .build());
+
+            insertDependencyPreparedStmt = session.prepare(insertInto(DEPENDENCIES)
+                .value(FROM_ID, bindMarker())
+                .value(NAME, bindMarker())
+                .value(TO_ID, bindMarker())
+                .value(DEP_ID, bindMarker())
+                .build());
+
+            insertBackwardDependencyPreparedStmt = session.prepare(insertInto(BACKWARD_DEPENDENCIES)
+                .value(TO_ID, bindMarker())
+                .value(NAME, bindMarker())
+                .value(FROM_ID, bindMarker())
+                .build());
+
+            deleteDependencyPreparedStmt = session.prepare(deleteFrom(DEPENDENCIES)
+                .whereColumn(FROM_ID).isEqualTo(bindMarker())
+                .whereColumn(NAME).isEqualTo(bindMarker())
+                .whereColumn(TO_ID).isEqualTo(bindMarker())
+                .build());
+
+            deleteDependenciesPreparedStmt = session.prepare(deleteFrom(DEPENDENCIES)
+                .whereColumn(FROM_ID).isEqualTo(bindMarker())
+                .build());
+
+            deleteBackwardDependencyPreparedStmt = session.prepare(deleteFrom(BACKWARD_DEPENDENCIES)
+                .whereColumn(TO_ID).isEqualTo(bindMarker())
+                .whereColumn(NAME).isEqualTo(bindMarker())
+                .whereColumn(FROM_ID).isEqualTo(bindMarker())
+                .build());
+
+            deleteBackwardDependenciesPreparedStmt = session.prepare(deleteFrom(BACKWARD_DEPENDENCIES)
+                .whereColumn(TO_ID).in(bindMarker())
+                .build());
+
+            deleteTimeSeriesPreparedStmt = session.prepare(deleteFrom(REGULAR_TIME_SERIES)
+                .whereColumn(ID).isEqualTo(bindMarker())
+                .build());
+
+            deleteTimeSeriesChunkTypesPreparedStmt = session.prepare(deleteFrom(TIME_SERIES_DATA_CHUNK_TYPES)
+                .whereColumn(ID).isEqualTo(bindMarker())
+                .build());
+        }
+    }
+
+    private final CassandraAppStorageConfig config;
+    private final CqlSession session;
+
     private final PreparedStatement createTimeSeriesPreparedStmt;
     private final PreparedStatement insertTimeSeriesDataChunksPreparedStmt;
     private final PreparedStatement insertDoubleTimeSeriesDataCompressedChunksPreparedStmt;
     private final PreparedStatement insertDoubleTimeSeriesDataUncompressedChunksPreparedStmt;
+    private final PreparedStatement insertDoubleTimeSeriesDataPackedChunksPreparedStmt;
     private final PreparedStatement insertStringTimeSeriesDataCompressedChunksPreparedStmt;
     private final PreparedStatement insertStringTimeSeriesDataUncompressedChunksPreparedStmt;
 
-    PreparedStatements(CassandraAppStorage storage) {
-        createTimeSeriesPreparedStmt = storage.getSession().prepare(
+    private final PreparedStatement selectNodeInfoPreparedStmt;
+    private final PreparedStatement selectParentNodeIdPreparedStmt;
+    private final PreparedStatement selectParentNodeIdAndConsistencyPreparedStmt;
+    private final Supplier<PreparedStatement> selectNodesByPseudoClassPreparedStmt;
+    private final PreparedStatement selectChildNodeIdsPreparedStmt;
+    private final PreparedStatement selectChildNodesPreparedStmt;
+    private final PreparedStatement selectChildNodePreparedStmt;
+    private final PreparedStatement selectBinaryDataChunkPreparedStmt;
+    private final PreparedStatement selectDataChunksNamePreparedStmt;
+    private final Map<String, PreparedStatement> selectNodeColumnPreparedStmts = new ConcurrentHashMap<>();
+    private final PreparedStatement countDataNamesPreparedStmt;
+    private final PreparedStatement selectDataNamesPreparedStmt;
+    private final PreparedStatement selectDependenciesPreparedStmt;
+    private final PreparedStatement selectNamedDependenciesPreparedStmt;
+    private final PreparedStatement selectBackwardDependenciesPreparedStmt;
+    private final PreparedStatement countTimeSeriesPreparedStmt;
+    private final PreparedStatement selectTimeSeriesNamesPreparedStmt;
+    private final PreparedStatement selectTimeSeriesMetadataPreparedStmt;
+    private final PreparedStatement selectTimeSeriesChunkTypesPreparedStmt;
+    private final PreparedStatement selectTimeSeriesDataVersionsPreparedStmt;
+    private final PreparedStatement selectNamedTimeSeriesDataVersionsPreparedStmt;
+    private final ChunksQuery selectDoubleUncompressedChunks;
+    private final ChunksQuery selectDoubleCompressedChunks;
+    private final ChunksQuery selectDoublePackedChunks;
+    private final ChunksQuery selectStringUncompressedChunks;
+    private final ChunksQuery selectStringCompressedChunks;
+
+    private final WriteStatements writeStatements;
+    private final Map<String, PreparedStatement> updateNodeColumnPreparedStmts = new ConcurrentHashMap<>();
+    private final Map<String, PreparedStatement> updateChildNodeColumnPreparedStmts = new ConcurrentHashMap<>();
+    private final Map<String, PreparedStatement> deleteTimeSeriesChunksPreparedStmts = new ConcurrentHashMap<>();
+
+    /**
+     * @param packedDoubleChunksWrite if packed double chunks are written
+     * @param packedDoubleChunksRead if packed double chunks are read, the packed chunks table may not exist in schemas that have not been migrated
+     */
+    PreparedStatements(CassandraAppStorage storage, CassandraAppStorageConfig config, boolean packedDoubleChunksWrite, boolean packedDoubleChunksRead) {
+        this.config = Objects.requireNonNull(config);
+        session = storage.getSession();
+
+        selectNodeInfoPreparedStmt = session.prepare(selectFrom(CHILDREN_BY_NAME_AND_CLASS)
+            .distinct()
+            .columns(NAME, PSEUDO_CLASS, DESCRIPTION, CREATION_DATE, MODIFICATION_DATE, VERSION, MT, MD, MI, MB)
+            .whereColumn(ID).isEqualTo(bindMarker())
+            .build());
+
+        selectParentNodeIdPreparedStmt = session.prepare(selectFrom(CHILDREN_BY_NAME_AND_CLASS)
+            .distinct()
+            .column(PARENT_ID)
+            .whereColumn(ID).isEqualTo(bindMarker())
+            .build());
+
+        selectParentNodeIdAndConsistencyPreparedStmt = session.prepare(selectFrom(CHILDREN_BY_NAME_AND_CLASS)
+            .distinct()
+            .columns(PARENT_ID, CONSISTENT)
+            .whereColumn(ID).isEqualTo(bindMarker())
+            .build());
+
+        // the node index table may not exist in schemas that have not been migrated
+        selectNodesByPseudoClassPreparedStmt = Suppliers.memoize(() -> session.prepare(selectFrom(NODES_BY_PSEUDO_CLASS)
+            .column(ID)
+            .whereColumn(PSEUDO_CLASS).isEqualTo(bindMarker())
+            .whereColumn(BUCKET).isEqualTo(bindMarker())
+            .build()));
+
+        selectChildNodeIdsPreparedStmt = session.prepare(selectFrom(CHILDREN_BY_NAME_AND_CLASS)
+            .columns(CHILD_ID, CHILD_CONSISTENT)
+            .whereColumn(ID).isEqualTo(bindMarker())
+            .build());
+
+        selectChildNodesPreparedStmt = session.prepare(selectFrom(CHILDREN_BY_NAME_AND_CLASS)
+            .columns(CHILD_NAME, CHILD_PSEUDO_CLASS, CHILD_ID, CHILD_DESCRIPTION,
+                CHILD_CREATION_DATE, CHILD_MODIFICATION_DATE, CHILD_VERSION,
+                CMT, CMD, CMI, CMB, CHILD_CONSISTENT)
+            .whereColumn(ID).isEqualTo(bindMarker())
+            .build());
+
+        selectChildNodePreparedStmt = session.prepare(selectFrom(CHILDREN_BY_NAME_AND_CLASS)
+            .columns(CHILD_ID, CHILD_PSEUDO_CLASS, CHILD_DESCRIPTION,
+                CHILD_CREATION_DATE, CHILD_MODIFICATION_DATE, CHILD_VERSION,
+                CMT, CMD, CMI, CMB, CHILD_CONSISTENT)
+            .whereColumn(ID).isEqualTo(bindMarker())
+            .whereColumn(CHILD_NAME).isEqualTo(bindMarker())
+            .build());
+
+        selectBinaryDataChunkPreparedStmt = session.prepare(selectFrom(NODE_DATA)
+            .columns(CHUNK, CHUNKS_COUNT)
+            .whereColumn(ID).isEqualTo(bindMarker())
+            .whereColumn(NAME).isEqualTo(bindMarker())
+            .whereColumn(CHUNK_NUM).isEqualTo(bindMarker())
+            .build());
+
+        selectDataChunksNamePreparedStmt = session.prepare(selectFrom(NODE_DATA_NAMES)
+            .column(CHUNKS_NAME)
+            .whereColumn(ID).isEqualTo(bindMarker())
+            .whereColumn(NAME).isEqualTo(bindMarker())
+            .build());
+
+        countDataNamesPreparedStmt = session.prepare(selectFrom(NODE_DATA_NAMES)
+            .countAll()
+            .whereColumn(ID).isEqualTo(bindMarker())
+            .whereColumn(NAME).isEqualTo(bindMarker())
+            .build());
+
+        selectDataNamesPreparedStmt = session.prepare(selectFrom(NODE_DATA_NAMES)
+            .columns(NAME, CHUNKS_NAME)
+            .whereColumn(ID).isEqualTo(bindMarker())
+            .build());
+
+        selectDependenciesPreparedStmt = session.prepare(selectFrom(DEPENDENCIES)
+            .columns(TO_ID, NAME)
+            .whereColumn(FROM_ID).isEqualTo(bindMarker())
+            .build());
+
+        selectNamedDependenciesPreparedStmt = session.prepare(selectFrom(DEPENDENCIES)
+            .column(TO_ID)
+            .whereColumn(FROM_ID).isEqualTo(bindMarker())
+            .whereColumn(NAME).isEqualTo(bindMarker())
+            .build());
+
+        selectBackwardDependenciesPreparedStmt = session.prepare(selectFrom(BACKWARD_DEPENDENCIES)
+            .columns(FROM_ID, NAME)
+            .whereColumn(TO_ID).isEqualTo(bindMarker())
+            .build());
+
+        countTimeSeriesPreparedStmt = session.prepare(selectFrom(REGULAR_TIME_SERIES)
+            .countAll()
+            .whereColumn(ID).isEqualTo(bindMarker())
+            .whereColumn(TIME_SERIES_NAME).isEqualTo(bindMarker())
+            .build());
+
+        selectTimeSeriesNamesPreparedStmt = session.prepare(selectFrom(REGULAR_TIME_SERIES)
+            .column(TIME_SERIES_NAME)
+            .whereColumn(ID).isEqualTo(bindMarker())
+            .build());
+
+        selectTimeSeriesMetadataPreparedStmt = session.prepare(selectFrom(REGULAR_TIME_SERIES)
+            .columns(TIME_SERIES_NAME, DATA_TYPE, TIME_SERIES_TAGS, START, END, SPACING)
+            .whereColumn(ID).isEqualTo(bindMarker())
+            .whereColumn(TIME_SERIES_NAME).in(bindMarker())
+            .build());
+
+        selectTimeSeriesChunkTypesPreparedStmt = session.prepare(selectFrom(TIME_SERIES_DATA_CHUNK_TYPES)
+            .columns(TIME_SERIES_NAME, VERSION, CHUNK_TYPE)
+            .whereColumn(ID).isEqualTo(bindMarker())
+            .build());
+
+        selectTimeSeriesDataVersionsPreparedStmt = session.prepare(selectFrom(TIME_SERIES_DATA_CHUNK_TYPES)
+            .column(VERSION)
+            .whereColumn(ID).isEqualTo(bindMarker())
+            .build());
+
+        selectNamedTimeSeriesDataVersionsPreparedStmt = session.prepare(selectFrom(TIME_SERIES_DATA_CHUNK_TYPES)
+            .column(VERSION)
+            .whereColumn(ID).isEqualTo(bindMarker())
+            .whereColumn(TIME_SERIES_NAME).isEqualTo(bindMarker())
+            .build());
+
+        selectDoubleUncompressedChunks = ChunksQuery.prepare(session, selectFrom(DOUBLE_TIME_SERIES_DATA_UNCOMPRESSED_CHUNKS)
+            .columns(TIME_SERIES_NAME, OFFSET, VALUES));
+        selectDoubleCompressedChunks = ChunksQuery.prepare(session, selectFrom(DOUBLE_TIME_SERIES_DATA_COMPRESSED_CHUNKS)
+            .columns(TIME_SERIES_NAME, OFFSET, UNCOMPRESSED_LENGTH, STEP_VALUES, STEP_LENGTHS));
+        selectDoublePackedChunks = !packedDoubleChunksRead ? null : ChunksQuery.prepare(session, selectFrom(DOUBLE_TIME_SERIES_DATA_PACKED_CHUNKS)
+            .columns(TIME_SERIES_NAME, OFFSET, UNCOMPRESSED_LENGTH, ENCODING, VALUES, STEP_LENGTHS));
+        selectStringUncompressedChunks = ChunksQuery.prepare(session, selectFrom(STRING_TIME_SERIES_DATA_UNCOMPRESSED_CHUNKS)
+            .columns(TIME_SERIES_NAME, OFFSET, VALUES));
+        selectStringCompressedChunks = ChunksQuery.prepare(session, selectFrom(STRING_TIME_SERIES_DATA_COMPRESSED_CHUNKS)
+            .columns(TIME_SERIES_NAME, OFFSET, UNCOMPRESSED_LENGTH, STEP_VALUES, STEP_LENGTHS));
+
+        createTimeSeriesPreparedStmt = session.prepare(
             insertInto(REGULAR_TIME_SERIES)
                 .value(ID, bindMarker())
                 .value(TIME_SERIES_NAME, bindMarker())
@@ -36,7 +441,7 @@ class PreparedStatements {
                 .value(END, bindMarker())
                 .value(SPACING, bindMarker()).build());
 
-        insertTimeSeriesDataChunksPreparedStmt = storage.getSession().prepare(
+        insertTimeSeriesDataChunksPreparedStmt = session.prepare(
             insertInto(TIME_SERIES_DATA_CHUNK_TYPES)
                 .value(ID, bindMarker())
                 .value(TIME_SERIES_NAME, bindMarker())
@@ -45,7 +450,7 @@ class PreparedStatements {
                 .value(CHUNK_TYPE, bindMarker())
                 .build());
 
-        insertDoubleTimeSeriesDataCompressedChunksPreparedStmt = storage.getSession().prepare(
+        insertDoubleTimeSeriesDataCompressedChunksPreparedStmt = session.prepare(
             insertInto(DOUBLE_TIME_SERIES_DATA_COMPRESSED_CHUNKS)
                 .value(ID, bindMarker())
                 .value(TIME_SERIES_NAME, bindMarker())
@@ -57,7 +462,7 @@ class PreparedStatements {
                 .value(STEP_LENGTHS, bindMarker())
                 .build());
 
-        insertDoubleTimeSeriesDataUncompressedChunksPreparedStmt = storage.getSession().prepare(
+        insertDoubleTimeSeriesDataUncompressedChunksPreparedStmt = session.prepare(
             insertInto(DOUBLE_TIME_SERIES_DATA_UNCOMPRESSED_CHUNKS)
                 .value(ID, bindMarker())
                 .value(TIME_SERIES_NAME, bindMarker())
@@ -67,7 +472,21 @@ class PreparedStatements {
                 .value(VALUES, bindMarker())
                 .build());
 
-        insertStringTimeSeriesDataCompressedChunksPreparedStmt = storage.getSession().prepare(
+        // only prepared if used, as the packed chunks table may not exist in schemas that have not been migrated
+        insertDoubleTimeSeriesDataPackedChunksPreparedStmt = !packedDoubleChunksWrite ? null : session.prepare(
+            insertInto(DOUBLE_TIME_SERIES_DATA_PACKED_CHUNKS)
+                .value(ID, bindMarker())
+                .value(TIME_SERIES_NAME, bindMarker())
+                .value(VERSION, bindMarker())
+                .value(CHUNK_ID, bindMarker())
+                .value(OFFSET, bindMarker())
+                .value(UNCOMPRESSED_LENGTH, bindMarker())
+                .value(ENCODING, bindMarker())
+                .value(VALUES, bindMarker())
+                .value(STEP_LENGTHS, bindMarker())
+                .build());
+
+        insertStringTimeSeriesDataCompressedChunksPreparedStmt = session.prepare(
             insertInto(STRING_TIME_SERIES_DATA_COMPRESSED_CHUNKS)
                 .value(ID, bindMarker())
                 .value(TIME_SERIES_NAME, bindMarker())
@@ -79,7 +498,7 @@ class PreparedStatements {
                 .value(STEP_LENGTHS, bindMarker())
                 .build());
 
-        insertStringTimeSeriesDataUncompressedChunksPreparedStmt = storage.getSession().prepare(
+        insertStringTimeSeriesDataUncompressedChunksPreparedStmt = session.prepare(
             insertInto(STRING_TIME_SERIES_DATA_UNCOMPRESSED_CHUNKS)
                 .value(ID, bindMarker())
                 .value(TIME_SERIES_NAME, bindMarker())
@@ -88,6 +507,8 @@ class PreparedStatements {
                 .value(OFFSET, bindMarker())
                 .value(VALUES, bindMarker())
                 .build());
+
+        writeStatements = new WriteStatements(session);
     }
 
     PreparedStatement getCreateTimeSeriesPreparedStmt() {
@@ -106,6 +527,10 @@ class PreparedStatements {
         return insertDoubleTimeSeriesDataUncompressedChunksPreparedStmt;
     }
 
+    PreparedStatement getInsertDoubleTimeSeriesDataPackedChunksPreparedStmt() {
+        return Objects.requireNonNull(insertDoubleTimeSeriesDataPackedChunksPreparedStmt, "Packed double chunks are not enabled");
+    }
+
     PreparedStatement getInsertStringTimeSeriesDataCompressedChunksPreparedStmt() {
         return insertStringTimeSeriesDataCompressedChunksPreparedStmt;
     }
@@ -113,4 +538,318 @@ class PreparedStatements {
     PreparedStatement getInsertStringTimeSeriesDataUncompressedChunksPreparedStmt() {
         return insertStringTimeSeriesDataUncompressedChunksPreparedStmt;
     }
+
+    /**
+     * Apply the page size and the consistency level configured for the class of the statement.
+     */
+    Statement<?> configure(Statement<?> statement, StatementClass statementClass) {
+        Statement<?> configured = statement;
+        OptionalInt pageSize = config.getPageSize(statementClass);
+        if (pageSize.isPresent()) {
+            configured = configured.setPageSize(pageSize.getAsInt());
+        }
+        Optional<DefaultConsistencyLevel> consistencyLevel = config.getConsistencyLevel(statementClass);
+        if (consistencyLevel.isPresent()) {
+            configured = configured.setConsistencyLevel(consistencyLevel.get());
+        }
+        return configured;
+    }
+
+    private BoundStatement configure(BoundStatement statement, StatementClass statementClass) {
+        return (BoundStatement) configure((Statement<?>) statement, statementClass);
+    }
+
+    private BoundStatement bind(StatementClass statementClass, PreparedStatement statement, Object... values) {
+        return configure(statement.bind(values), statementClass);
+    }
+
+    /**
+     * Select a static column of a node, statements are prepared on first use of each column.
+     */
+    BoundStatement selectNodeColumn(String column, UUID nodeUuid) {
+        PreparedStatement statement = selectNodeColumnPreparedStmts.computeIfAbsent(column, c -> session.prepare(selectFrom(CHILDREN_BY_NAME_AND_CLASS)
+            .distinct()
+            .column(c)
+            .whereColumn(ID).isEqualTo(bindMarker())
+            .build()));
+        return bind(StatementClass.NODE_READ, statement, nodeUuid);
+    }
+
+    BoundStatement selectDataChunksName(UUID nodeUuid, String name) {
+        return bind(StatementClass.NODE_READ, selectDataChunksNamePreparedStmt, nodeUuid, name);
+    }
+
+    BoundStatement selectTimeSeriesMetadata(UUID nodeUuid, List<String> timeSeriesNames) {
+        return bind(StatementClass.TIME_SERIES_READ, selectTimeSeriesMetadataPreparedStmt, nodeUuid, timeSeriesNames);
+    }
+
+    /**
+     * Select names, versions and types of all the time series chunks of a node.
+     */
+    BoundStatement selectTimeSeriesChunkTypes(UUID nodeUuid) {
+        return bind(StatementClass.TIME_SERIES_READ, selectTimeSeriesChunkTypesPreparedStmt, nodeUuid);
+    }
+
+    BoundStatement selectNodeInfo(UUID nodeUuid) {
+        return bind(StatementClass.NODE_READ, selectNodeInfoPreparedStmt, nodeUuid);
+    }
+
+    BoundStatement selectParentNodeId(UUID nodeUuid) {
+        return bind(StatementClass.NODE_READ, selectParentNodeIdPreparedStmt, nodeUuid);
+    }
+
+    BoundStatement selectParentNodeIdAndConsistency(UUID nodeUuid) {
+        return bind(StatementClass.NODE_READ, selectParentNodeIdAndConsistencyPreparedStmt, nodeUuid);
+    }
+
+    BoundStatement selectNodesByPseudoClass(String pseudoClass, int bucket) {
+        return bind(StatementClass.NODE_READ, selectNodesByPseudoClassPreparedStmt.get(), pseudoClass, bucket);
+    }
+
+    BoundStatement selectChildNodeIds(UUID nodeUuid) {
+        return bind(StatementClass.NODE_READ, selectChildNodeIdsPreparedStmt, nodeUuid);
+    }
+
+    BoundStatement selectChildNodes(UUID nodeUuid) {
+        return bind(StatementClass.NODE_READ, selectChildNodesPreparedStmt, nodeUuid);
+    }
+
+    BoundStatement selectChildNode(UUID nodeUuid, String name) {
+        return bind(StatementClass.NODE_READ, selectChildNodePreparedStmt, nodeUuid, name);
+    }
+
+    BoundStatement selectBinaryDataChunk(UUID nodeUuid, String name, int chunkNum) {
+        return bind(StatementClass.BINARY_DATA_READ, selectBinaryDataChunkPreparedStmt, nodeUuid, name, chunkNum);
+    }
+
+    BoundStatement countDataNames(UUID nodeUuid, String name) {
+        return bind(StatementClass.NODE_READ, countDataNamesPreparedStmt, nodeUuid, name);
+    }
+
+    BoundStatement selectDataNames(UUID nodeUuid) {
+        return bind(StatementClass.NODE_READ, selectDataNamesPreparedStmt, nodeUuid);
+    }
+
+    /**
+     * Select target node ids and names of the dependencies of a node.
+     */
+    BoundStatement selectDependencies(UUID nodeUuid) {
+        return bind(StatementClass.NODE_READ, selectDependenciesPreparedStmt, nodeUuid);
+    }
+
+    BoundStatement selectDependencies(UUID nodeUuid, String name) {
+        return bind(StatementClass.NODE_READ, selectNamedDependenciesPreparedStmt, nodeUuid, name);
+    }
+
+    /**
+     * Select source node ids and names of the backward dependencies of a node.
+     */
+    BoundStatement selectBackwardDependencies(UUID nodeUuid) {
+        return bind(StatementClass.NODE_READ, selectBackwardDependenciesPreparedStmt, nodeUuid);
+    }
+
+    BoundStatement countTimeSeries(UUID nodeUuid, String timeSeriesName) {
+        return bind(StatementClass.TIME_SERIES_READ, countTimeSeriesPreparedStmt, nodeUuid, timeSeriesName);
+    }
+
+    BoundStatement selectTimeSeriesNames(UUID nodeUuid) {
+        return bind(StatementClass.TIME_SERIES_READ, selectTimeSeriesNamesPreparedStmt, nodeUuid);
+    }
+
+    BoundStatement selectTimeSeriesDataVersions(UUID nodeUuid) {
+        return bind(StatementClass.TIME_SERIES_READ, selectTimeSeriesDataVersionsPreparedStmt, nodeUuid);
+    }
+
+    BoundStatement selectTimeSeriesDataVersions(UUID nodeUuid, String timeSeriesName) {
+        return bind(StatementClass.TIME_SERIES_READ, selectNamedTimeSeriesDataVersionsPreparedStmt, nodeUuid, timeSeriesName);
+    }
+
+    BoundStatement selectDoubleUncompressedChunks(UUID nodeUuid, String timeSeriesName, int version, TimeSeriesWindow window) {
+        return configure(selectDoubleUncompressedChunks.bind(nodeUuid, timeSeriesName, version, window), StatementClass.TIME_SERIES_READ);
+    }
+
+    BoundStatement selectDoubleCompressedChunks(UUID nodeUuid, String timeSeriesName, int version, TimeSeriesWindow window) {
+        return configure(selectDoubleCompressedChunks.bind(nodeUuid, timeSeriesName, version, window), StatementClass.TIME_SERIES_READ);
+    }
+
+    BoundStatement selectDoublePackedChunks(UUID nodeUuid, String timeSeriesName, int version, TimeSeriesWindow window) {
+        Objects.requireNonNull(selectDoublePackedChunks, "Packed double chunks table is not available");
+        return configure(selectDoublePackedChunks.bind(nodeUuid, timeSeriesName, version, window), StatementClass.TIME_SERIES_READ);
+    }
+
+    BoundStatement selectStringUncompressedChunks(UUID nodeUuid, String timeSeriesName, int version, TimeSeriesWindow window) {
+        return configure(selectStringUncompressedChunks.bind(nodeUuid, timeSeriesName, version, window), StatementClass.TIME_SERIES_READ);
+    }
+
+    BoundStatement selectStringCompressedChunks(UUID nodeUuid, String timeSeriesName, int version, TimeSeriesWindow window) {
+        return configure(selectStringCompressedChunks.bind(nodeUuid, timeSeriesName, version, window), StatementClass.TIME_SERIES_READ);
+    }
+
+    private BoundStatement write(PreparedStatement statement, Object... values) {
+        return bind(StatementClass.WRITE, statement, values);
+    }
+
+    /**
+     * Insert the root node id of the file system, only applied if it does not exist yet.
+     */
+    BoundStatement insertRootNode(String fileSystemName) {
+        return write(writeStatements.insertRootNodePreparedStmt, fileSystemName);
+    }
+
+    /**
+     * Insert the static columns of a node, which is not consistent yet.
+     */
+    BoundStatement insertNode(UUID nodeUuid, UUID parentNodeUuid, NodeInfo nodeInfo) {
+        NodeGenericMetadata metadata = nodeInfo.getGenericMetadata();
+        return write(writeStatements.insertNodePreparedStmt, nodeUuid, nodeInfo.getName(), parentNodeUuid, nodeInfo.getPseudoClass(), nodeInfo.getDescription(), false,
+            Instant.ofEpochMilli(nodeInfo.getCreationTime()), Instant.ofEpochMilli(nodeInfo.getModificationTime()), nodeInfo.getVersion(),
+            metadata.getStrings(), metadata.getDoubles(), metadata.getInts(), metadata.getBooleans());
+    }
+
+    /**
+     * Insert the row of a child in its parent node partition.
+     *
+     * @param consistent consistency of the child, left unchanged if {@code null}
+     */
+    BoundStatement insertChildNode(UUID parentNodeUuid, String childName, UUID childNodeUuid, NodeInfo childNodeInfo, Boolean consistent) {
+        NodeGenericMetadata metadata = childNodeInfo.getGenericMetadata();
+        BoundStatement statement = write(writeStatements.insertChildNodePreparedStmt, parentNodeUuid, childName, childNodeUuid, childNodeInfo.getPseudoClass(),
+            childNodeInfo.getDescription(), Instant.ofEpochMilli(childNodeInfo.getCreationTime()), Instant.ofEpochMilli(childNodeInfo.getModificationTime()),
+            childNodeInfo.getVersion(), metadata.getStrings(), metadata.getDoubles(), metadata.getInts(), metadata.getBooleans(), consistent);
+        return consistent != null ? statement : statement.unset(CHILD_CONSISTENT);
+    }
+
+    /**
+     * Bucket of a node in the node index, which spreads the nodes of a pseudo-class over several partitions.
+     */
+    static int getNodeIndexBucket(UUID nodeUuid) {
+        return Math.floorMod(nodeUuid.hashCode(), NODE_INDEX_BUCKET_COUNT);
+    }
+
+    BoundStatement insertNodeIndex(String pseudoClass, UUID nodeUuid) {
+        return write(writeStatements.insertNodeIndexPreparedStmt.get(), pseudoClass, getNodeIndexBucket(nodeUuid), nodeUuid);
+    }
+
+    BoundStatement deleteNodeIndex(String pseudoClass, UUID nodeUuid) {
+        return write(writeStatements.deleteNodeIndexPreparedStmt.get(), pseudoClass, getNodeIndexBucket(nodeUuid), nodeUuid);
+    }
+
+    BoundStatement updateNodeMetadata(UUID nodeUuid, NodeGenericMetadata metadata) {
+        return write(writeStatements.updateNodeMetadataPreparedStmt, metadata.getStrings(), metadata.getDoubles(), metadata.getInts(), metadata.getBooleans(), nodeUuid);
+    }
+
+    BoundStatement updateChildNodeMetadata(UUID parentNodeUuid, String childName, String childPseudoClass, NodeGenericMetadata metadata) {
+        return write(writeStatements.updateChildNodeMetadataPreparedStmt, metadata.getStrings(), metadata.getDoubles(), metadata.getInts(), metadata.getBooleans(),
+            parentNodeUuid, childName, childPseudoClass);
+    }
+
+    /**
+     * Update a static column of a node, statements are prepared on first use of each column.
+     */
+    BoundStatement updateNodeColumn(String column, UUID nodeUuid, Object value) {
+        PreparedStatement statement = updateNodeColumnPreparedStmts.computeIfAbsent(column, c -> session.prepare(update(CHILDREN_BY_NAME_AND_CLASS)
+            .setColumn(c, bindMarker())
+            .whereColumn(ID).isEqualTo(bindMarker())
+            .build()));
+        return write(statement, value, nodeUuid);
+    }
+
+    /**
+     * Update a column of the row of a child in its parent node partition, statements are prepared on first use of
+     * each column.
+     */
+    BoundStatement updateChildNodeColumn(String column, UUID parentNodeUuid, String childName, String childPseudoClass, Object value) {
+        PreparedStatement statement = updateChildNodeColumnPreparedStmts.computeIfAbsent(column, c -> session.prepare(update(CHILDREN_BY_NAME_AND_CLASS)
+            .setColumn(c, bindMarker())
+            .whereColumn(ID).isEqualTo(bindMarker())
+            .whereColumn(CHILD_NAME).isEqualTo(bindMarker())
+            .whereColumn(CHILD_PSEUDO_CLASS).isEqualTo(bindMarker())
+            .build()));
+        return write(statement, value, parentNodeUuid, childName, childPseudoClass);
+    }
+
+    /**
+     * Delete the whole partition of a node: its static columns and the rows of its children.
+     */
+    BoundStatement deleteNode(UUID nodeUuid) {
+        return write(writeStatements.deleteNodePreparedStmt, nodeUuid);
+    }
+
+    BoundStatement deleteChildNode(UUID parentNodeUuid, String childName) {
+        return write(writeStatements.deleteChildNodePreparedStmt, parentNodeUuid, childName);
+    }
+
+    BoundStatement deleteChildNode(UUID parentNodeUuid, String childName, String childPseudoClass) {
+        return write(writeStatements.deleteChildNodeOfClassPreparedStmt, parentNodeUuid, childName, childPseudoClass);
+    }
+
+    BoundStatement insertBinaryDataChunk(UUID nodeUuid, String name, int chunkNum, ByteBuffer chunk) {
+        return write(writeStatements.insertBinaryDataChunkPreparedStmt, nodeUuid, name, chunkNum, chunkNum + 1, chunk);
+    }
+
+    BoundStatement insertDataName(UUID nodeUuid, String name, String chunksName) {
+        return write(writeStatements.insertDataNamePreparedStmt, nodeUuid, name, chunksName);
+    }
+
+    BoundStatement deleteBinaryData(UUID nodeUuid, String name) {
+        return write(writeStatements.deleteBinaryDataPreparedStmt, nodeUuid, name);
+    }
+
+    BoundStatement deleteDataName(UUID nodeUuid, String name) {
+        return write(writeStatements.deleteDataNamePreparedStmt, nodeUuid, name);
+    }
+
+    BoundStatement insertDependency(UUID nodeUuid, String name, UUID toNodeUuid, UUID dependencyUuid) {
+        return write(writeStatements.insertDependencyPreparedStmt, nodeUuid, name, toNodeUuid, dependencyUuid);
+    }
+
+    BoundStatement insertBackwardDependency(UUID toNodeUuid, String name, UUID nodeUuid) {
+        return write(writeStatements.insertBackwardDependencyPreparedStmt, toNodeUuid, name, nodeUuid);
+    }
+
+    BoundStatement deleteDependency(UUID nodeUuid, String name, UUID toNodeUuid) {
+        return write(writeStatements.deleteDependencyPreparedStmt, nodeUuid, name, toNodeUuid);
+    }
+
+    /**
+     * Delete all the dependencies of a node.
+     */
+    BoundStatement deleteDependencies(UUID nodeUuid) {
+        return write(writeStatements.deleteDependenciesPreparedStmt, nodeUuid);
+    }
+
+    BoundStatement deleteBackwardDependency(UUID toNodeUuid, String name, UUID nodeUuid) {
+        return write(writeStatements.deleteBackwardDependencyPreparedStmt, toNodeUuid, name, nodeUuid);
+    }
+
+    /**
+     * Delete all the backward dependencies of several nodes.
+     */
+    BoundStatement deleteBackwardDependencies(List<UUID> toNodeUuids) {
+        return write(writeStatements.deleteBackwardDependenciesPreparedStmt, toNodeUuids);
+    }
+
+    /**
+     * Delete the metadata of all the time series of a node.
+     */
+    BoundStatement deleteTimeSeries(UUID nodeUuid) {
+        return write(writeStatements.deleteTimeSeriesPreparedStmt, nodeUuid);
+    }
+
+    BoundStatement deleteTimeSeriesChunkTypes(UUID nodeUuid) {
+        return write(writeStatements.deleteTimeSeriesChunkTypesPreparedStmt, nodeUuid);
+    }
+
+    /**
+     * Delete the chunks of a version of a time series from a chunks table, statements are prepared on first use of
+     * each table, as the packed chunks table may not exist in schemas that have not been migrated.
+     */
+    BoundStatement deleteTimeSeriesChunks(String table, UUID nodeUuid, String timeSeriesName, int version) {
+        PreparedStatement statement = deleteTimeSeriesChunksPreparedStmts.computeIfAbsent(table, t -> session.prepare(deleteFrom(t)
+            .whereColumn(ID).isEqualTo(bindMarker())
+            .whereColumn(TIME_SERIES_NAME).isEqualTo(bindMarker())
+            .whereColumn(VERSION).isEqualTo(bindMarker())
+            .build()));
+        return write(statement, nodeUuid, timeSeriesName, version);
+    }
 }
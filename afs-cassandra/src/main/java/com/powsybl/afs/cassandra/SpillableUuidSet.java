@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.cassandra;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnel;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A set of UUIDs which does not need to fit in memory, used to check the references of a whole keyspace.
+ * <p>
+ * Ids are buffered in memory up to a threshold, then sorted and spilled to a temporary file. Lookups first go through
+ * a Bloom filter, so that most of the absent ids are rejected without reading the spilled runs, which are binary searched
+ * with positional reads otherwise. The runs are not memory-mapped, as a mapping cannot be released before being garbage
+ * collected: their files are closed and deleted when the set is closed. The set is not thread-safe.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+final class SpillableUuidSet implements Closeable {
+
+    private static final Funnel<UUID> UUID_FUNNEL = (uuid, sink) -> sink.putLong(uuid.getMostSignificantBits())
+        .putLong(uuid.getLeastSignificantBits());
+
+    private static final double BLOOM_FILTER_FPP = 0.01;
+
+    private static final int ID_BYTES = 2 * Long.BYTES;
+
+    private final BloomFilter<UUID> bloomFilter;
+
+    private final UUID[] buffer;
+
+    private int bufferSize = 0;
+
+    private boolean bufferSorted = true;
+
+    private final List<Run> runs = new ArrayList<>();
+
+    private long size = 0;
+
+    /**
+     * A sorted run of ids spilled to disk, as (most significant bits, least significant bits) pairs of longs.
+     */
+    private record Run(Path file, FileChannel channel, long count, ByteBuffer id) {
+
+        Run(Path file, FileChannel channel, long count) {
+            this(file, channel, count, ByteBuffer.allocate(ID_BYTES));
+        }
+
+        boolean contains(UUID uuid) {
+            long low = 0;
+            long high = count - 1;
+            while (low <= high) {
+                long mid = (low + high) >>> 1;
+                read(mid);
+                int c = compare(id.getLong(0), id.getLong(Long.BYTES), uuid);
+                if (c < 0) {
+                    low = mid + 1;
+                } else if (c > 0) {
+                    high = mid - 1;
+                } else {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void read(long index) {
+            id.clear();
+            try {
+                while (id.hasRemaining()) {
+                    if (channel.read(id, index * ID_BYTES + id.position()) < 0) {
+                        throw new EOFException("Unexpected end of " + file);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private static int compare(long mostSigBits, long leastSigBits, UUID uuid) {
+            // same order as UUID.compareTo
+            int c = Long.compare(mostSigBits, uuid.getMostSignificantBits());
+            return c != 0 ? c : Long.compare(leastSigBits, uuid.getLeastSignificantBits());
+        }
+    }
+
+    /**
+     * @param expectedSize expected number of ids, used to size the Bloom filter
+     * @param maxInMemory number of ids kept in memory before spilling them to disk
+     */
+    SpillableUuidSet(long expectedSize, int maxInMemory) {
+        if (maxInMemory < 1) {
+            throw new IllegalArgumentException("Invalid max in memory " + maxInMemory);
+        }
+        bloomFilter = BloomFilter.create(UUID_FUNNEL, Math.max(expectedSize, 1), BLOOM_FILTER_FPP);
+        buffer = new UUID[maxInMemory];
+    }
+
+    /**
+     * Add an id. Ids are not deduplicated, the set is meant to be filled from a scan of distinct ids, then queried.
+     */
+    void add(UUID uuid) {
+        if (bufferSize == buffer.length) {
+            spill();
+        }
+        buffer[bufferSize++] = uuid;
+        bufferSorted = false;
+        bloomFilter.put(uuid);
+        size++;
+    }
+
+    boolean contains(UUID uuid) {
+        if (!bloomFilter.mightContain(uuid)) {
+            return false;
+        }
+        if (!bufferSorted) {
+            Arrays.sort(buffer, 0, bufferSize);
+            bufferSorted = true;
+        }
+        if (Arrays.binarySearch(buffer, 0, bufferSize, uuid) >= 0) {
+            return true;
+        }
+        for (Run run : runs) {
+            if (run.contains(uuid)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Number of added ids.
+     */
+    long size() {
+        return size;
+    }
+
+    int getSpilledRunCount() {
+        return runs.size();
+    }
+
+    List<Path> getSpilledFiles() {
+        return runs.stream().map(Run::file).toList();
+    }
+
+    private void spill() {
+        Arrays.sort(buffer, 0, bufferSize);
+        try {
+            Path file = Files.createTempFile("afs-ids-", ".bin");
+            try (DataOutputStream os = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+                for (int i = 0; i < bufferSize; i++) {
+                    os.writeLong(buffer[i].getMostSignificantBits());
+                    os.writeLong(buffer[i].getLeastSignificantBits());
+                }
+            }
+            runs.add(new Run(file, FileChannel.open(file, StandardOpenOption.READ), bufferSize));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        Arrays.fill(buffer, 0, bufferSize, null);
+        bufferSize = 0;
+        bufferSorted = true;
+    }
+
+    @Override
+    public void close() {
+        try {
+            for (Run run : runs) {
+                run.channel().close();
+                Files.deleteIfExists(run.file());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            runs.clear();
+        }
+    }
+}
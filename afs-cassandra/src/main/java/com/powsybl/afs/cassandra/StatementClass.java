@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.cassandra;
+
+/**
+ * Classes of statements executed by the Cassandra storage, which can be given their own page size and consistency level.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+public enum StatementClass {
+    /**
+     * Reads of nodes, children, dependencies and data names.
+     */
+    NODE_READ("node-read"),
+
+    /**
+     * Reads of binary data chunks.
+     */
+    BINARY_DATA_READ("binary-data-read"),
+
+    /**
+     * Reads of time series metadata and data chunks.
+     */
+    TIME_SERIES_READ("time-series-read"),
+
+    /**
+     * All the writes.
+     */
+    WRITE("write");
+
+    private final String propertyPrefix;
+
+    StatementClass(String propertyPrefix) {
+        this.propertyPrefix = propertyPrefix;
+    }
+
+    /**
+     * Prefix of the configuration properties of this class of statements.
+     */
+    public String getPropertyPrefix() {
+        return propertyPrefix;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.cassandra;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.metadata.TokenMap;
+import com.datastax.oss.driver.api.core.metadata.token.TokenRange;
+import com.datastax.oss.driver.api.querybuilder.select.Select;
+import com.powsybl.afs.storage.check.FileSystemCheckProgressListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.bindMarker;
+
+/**
+ * Full scan of a table, split into token ranges which are queried in parallel and paged.
+ * <p>
+ * Each range is read by the replicas owning it, so that the scan is spread over the cluster instead of going through
+ * a single coordinator, and rows are streamed to the handler instead of being materialized.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+final class TokenRangeScan {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TokenRangeScan.class);
+
+    /**
+     * Number of token ranges per query in flight, so that slow ranges do not leave the other slots idle.
+     */
+    private static final int RANGES_PER_SLOT = 4;
+
+    private final CqlSession session;
+
+    private final int concurrency;
+
+    private final FileSystemCheckProgressListener progressListener;
+
+    TokenRangeScan(CqlSession session, int concurrency, FileSystemCheckProgressListener progressListener) {
+        this.session = Objects.requireNonNull(session);
+        this.concurrency = concurrency;
+        this.progressListener = Objects.requireNonNull(progressListener);
+    }
+
+    /**
+     * Scan all the rows selected by {@code select}, which must not have any where clause.
+     *
+     * @param type the check type, for progress reporting
+     * @param partitionKey the partition key columns of the table
+     */
+    void scan(String type, Select select, List<String> partitionKey, Consumer<Row> rowHandler) {
+        List<Statement<?>> statements = createStatements(select, partitionKey);
+        int total = statements.size();
+        long logStep = Math.max(1, total / 10);
+        AtomicLong done = new AtomicLong();
+        ParallelQueries queries = new ParallelQueries(session::executeAsync, concurrency);
+        List<CompletableFuture<Void>> progressNotifications = new ArrayList<>(total);
+        for (Statement<?> statement : statements) {
+            progressNotifications.add(queries.submit(statement, rowHandler).thenRun(() -> {
+                long rangeCount = done.incrementAndGet();
+                if (rangeCount % logStep == 0 || rangeCount == total) {
+                    LOGGER.info("Check {}: {}/{} token ranges scanned", type, rangeCount, total);
+                }
+                progressListener.onProgress(type, rangeCount, total);
+            }));
+        }
+        queries.join();
+        CompletableFuture.allOf(progressNotifications.toArray(new CompletableFuture[0])).join();
+    }
+
+    private List<Statement<?>> createStatements(Select select, List<String> partitionKey) {
+        Optional<TokenMap> tokenMap = session.getMetadata().getTokenMap();
+        if (tokenMap.isEmpty()) {
+            // token metadata is disabled, fall back to a single scan
+            return List.of(select.build());
+        }
+        Set<TokenRange> ranges = tokenMap.get().getTokenRanges();
+        int splits = Math.max(1, concurrency * RANGES_PER_SLOT / Math.max(1, ranges.size()));
+        PreparedStatement between = session.prepare(select.whereToken(partitionKey).isGreaterThan(bindMarker())
+            .whereToken(partitionKey).isLessThanOrEqualTo(bindMarker())
+            .build());
+        PreparedStatement after = session.prepare(select.whereToken(partitionKey).isGreaterThan(bindMarker()).build());
+        List<Statement<?>> statements = new ArrayList<>();
+        for (TokenRange range : ranges) {
+            if (range.isFullRing()) {
+                return List.of(select.build());
+            }
+            for (TokenRange split : range.splitEvenly(splits)) {
+                for (TokenRange part : split.unwrap()) {
+                    if (part.getStart().compareTo(part.getEnd()) < 0) {
+                        statements.add(between.bind().setToken(0, part.getStart()).setToken(1, part.getEnd()));
+                    } else {
+                        // range ending at the minimum token, that is at the end of the ring
+                        statements.add(after.bind().setToken(0, part.getStart()));
+                    }
+                }
+            }
+        }
+        return statements;
+    }
+}
@@ -9,6 +9,7 @@ package com.powsybl.afs.cassandra;
 
 import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.DefaultConsistencyLevel;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import com.datastax.oss.driver.api.core.metadata.schema.TableMetadata;
 import com.datastax.oss.driver.api.core.uuid.Uuids;
@@ -36,6 +37,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.insertInto;
 import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.literal;
@@ -96,8 +98,13 @@ class CassandraAppStorageTest extends AbstractAppStorageTest {
 
     @Override
     protected AppStorage createStorage(String fileSystemName) {
+        // small pages so that paging of the prepared statements is exercised
+        CassandraAppStorageConfig config = new CassandraAppStorageConfig()
+            .setPageSize(StatementClass.NODE_READ, 2)
+            .setPageSize(StatementClass.TIME_SERIES_READ, 2)
+            .setConsistencyLevel(StatementClass.WRITE, DefaultConsistencyLevel.ONE);
         return new CassandraAppStorage(fileSystemName, () -> new CassandraTestContext(cassandraSession),
-            new CassandraAppStorageConfig(), new InMemoryEventsBus());
+            config, new InMemoryEventsBus());
     }
 
     /**
@@ -153,6 +160,12 @@ class CassandraAppStorageTest extends AbstractAppStorageTest {
             new TimeSeriesIssue().testNullString(cassandraAppStorage);
             clear();
 
+            try (AppStorage packedStorage = new CassandraAppStorage("cassandra-tests", () -> new CassandraTestContext(cassandraSession),
+                new CassandraAppStorageConfig().setDoubleChunkEncoding(DoubleChunkEncoding.XOR), new InMemoryEventsBus())) {
+                new TimeSeriesIssue().testPackedDoubleChunks(packedStorage, cassandraAppStorage);
+            }
+            clear();
+
         }
     }
 
@@ -172,8 +185,10 @@ class CassandraAppStorageTest extends AbstractAppStorageTest {
         assertThat(cassandraAppStorage.getDataNames(orphanDataId)).containsOnly("blob");
         assertAfsNodeNotFound(cassandraAppStorage, orphanDataId);
 
+        AtomicBoolean scanCompleted = new AtomicBoolean();
         FileSystemCheckOptions repairOption = new FileSystemCheckOptionsBuilder()
             .addCheckTypes(CassandraAppStorage.ORPHAN_DATA)
+            .setProgressListener((type, done, total) -> scanCompleted.compareAndSet(false, done == total))
             .repair().build();
         List<FileSystemCheckIssue> issues = cassandraAppStorage.checkFileSystem(repairOption);
         assertEquals(1, issues.stream()
@@ -182,6 +197,7 @@ class CassandraAppStorageTest extends AbstractAppStorageTest {
             .filter(issue -> issue.getNodeName().equals("N/A"))
             .count()
         );
+        assertTrue(scanCompleted.get());
 
         assertTrue(cassandraAppStorage.dataExists(rootFolderInfo.getId(), "should_exist"));
         assertFalse(cassandraAppStorage.dataExists(orphanDataId, "blob"));
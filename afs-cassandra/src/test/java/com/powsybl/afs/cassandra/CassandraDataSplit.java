@@ -11,6 +11,7 @@ import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.google.common.io.ByteStreams;
+import com.powsybl.afs.storage.GzipMembersInputStream;
 import com.powsybl.afs.storage.InMemoryEventsBus;
 import com.powsybl.afs.storage.NodeGenericMetadata;
 import com.powsybl.afs.storage.NodeInfo;
@@ -53,6 +54,21 @@ public class CassandraDataSplit {
         assertEquals("aaaaaaaaaabbbbbbbbbbcccccccccc", new String(ByteStreams.toByteArray(is), StandardCharsets.UTF_8));
         is.close();
 
+        // written chunks are not visible until the stream is closed
+        String firstChunksName = appStorage.getDataChunksName(UUID.fromString(nodeInfo.getId()), "a").orElseThrow();
+        OutputStream os2 = appStorage.writeBinaryData(nodeInfo.getId(), "a");
+        os2.write("yyyyyyyyyyyyyyyyyyyy".getBytes(StandardCharsets.UTF_8));
+        try (InputStream is1 = appStorage.readBinaryData(nodeInfo.getId(), "a").orElseThrow()) {
+            assertEquals("aaaaaaaaaabbbbbbbbbbcccccccccc", new String(ByteStreams.toByteArray(is1), StandardCharsets.UTF_8));
+        }
+        os2.close();
+        assertNotEquals(firstChunksName, appStorage.getDataChunksName(UUID.fromString(nodeInfo.getId()), "a").orElseThrow());
+        assertNull(cassandraSession.execute(selectFrom(NODE_DATA)
+                .column(CHUNK)
+                .whereColumn(ID).isEqualTo(literal(UUID.fromString(nodeInfo.getId())))
+                .whereColumn(NAME).isEqualTo(literal(firstChunksName))
+                .build()).one());
+
         try (OutputStream os = appStorage.writeBinaryData(nodeInfo.getId(), "a")) {
             byte[] bytes = "xaaaaaaaaa".getBytes(StandardCharsets.UTF_8);
             for (int i = 0; i < bytes.length; i++) {
@@ -85,10 +101,17 @@ public class CassandraDataSplit {
         assertEquals("aaaaaaaaaabbbbbbbbbbccccccccccdddddddddd", new String(ByteStreams.toByteArray(is3), StandardCharsets.UTF_8));
         is3.close();
 
+        // chunks transferred as stored form a multi members gzip stream
+        try (InputStream gzipped = appStorage.readGzippedBinaryData(nodeInfo.getId(), "a").orElseThrow();
+             InputStream is4 = new GzipMembersInputStream(gzipped)) {
+            assertEquals("aaaaaaaaaabbbbbbbbbbccccccccccdddddddddd", new String(ByteStreams.toByteArray(is4), StandardCharsets.UTF_8));
+        }
+        assertFalse(appStorage.readGzippedBinaryData(nodeInfo.getId(), "b").isPresent());
+
         ResultSet resultSet = cassandraSession.execute(selectFrom(NODE_DATA)
                 .column(CHUNKS_COUNT)
                 .whereColumn(ID).isEqualTo(literal(UUID.fromString(nodeInfo.getId())))
-                .whereColumn(NAME).isEqualTo(literal("a"))
+                .whereColumn(NAME).isEqualTo(literal(appStorage.getDataChunksName(UUID.fromString(nodeInfo.getId()), "a").orElseThrow()))
                 .build());
         Row firstRow = resultSet.one();
         assertNotNull(firstRow);
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.cassandra;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+class PackedDoublesTest {
+
+    private static final double[] VALUES = {0d, 1d, 1d, 1.5d, -2.25d, Double.NaN, Double.MAX_VALUE, Double.MIN_VALUE, -0d, 1e-300, 230.1d, 230.2d, 230.2d};
+
+    @Test
+    void rawTest() {
+        ByteBuffer buffer = PackedDoubles.encode(VALUES, DoubleChunkEncoding.RAW);
+        assertEquals(VALUES.length * Double.BYTES, buffer.remaining());
+        assertEquals(1d, buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN).getDouble(Double.BYTES));
+        assertArrayEquals(VALUES, PackedDoubles.decode(buffer, DoubleChunkEncoding.RAW, VALUES.length));
+    }
+
+    @Test
+    void xorTest() {
+        ByteBuffer buffer = PackedDoubles.encode(VALUES, DoubleChunkEncoding.XOR);
+        assertArrayEquals(VALUES, PackedDoubles.decode(buffer, DoubleChunkEncoding.XOR, VALUES.length));
+        // decoding does not consume the buffer
+        assertArrayEquals(VALUES, PackedDoubles.decode(buffer, DoubleChunkEncoding.XOR, VALUES.length));
+
+        // repeated values are stored on one byte
+        double[] constant = new double[100];
+        Arrays.fill(constant, 50.5d);
+        assertTrue(PackedDoubles.encode(constant, DoubleChunkEncoding.XOR).remaining() < 200);
+
+        assertEquals(0, PackedDoubles.decode(PackedDoubles.encode(new double[0], DoubleChunkEncoding.XOR), DoubleChunkEncoding.XOR, 0).length);
+    }
+
+    @Test
+    void invalidTest() {
+        ByteBuffer raw = PackedDoubles.encode(VALUES, DoubleChunkEncoding.RAW);
+        assertThrows(CassandraAfsException.class, () -> PackedDoubles.decode(raw, DoubleChunkEncoding.RAW, VALUES.length + 1));
+        ByteBuffer xor = PackedDoubles.encode(VALUES, DoubleChunkEncoding.XOR);
+        assertThrows(CassandraAfsException.class, () -> PackedDoubles.decode(xor, DoubleChunkEncoding.XOR, VALUES.length + 1));
+        assertThrows(CassandraAfsException.class, () -> PackedDoubles.decode(xor, DoubleChunkEncoding.XOR, VALUES.length - 1));
+        assertThrows(IllegalArgumentException.class, () -> PackedDoubles.encode(VALUES, DoubleChunkEncoding.LIST));
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.cassandra;
+
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+class ParallelQueriesTest {
+
+    private static AsyncResultSet page(List<Row> rows, CompletableFuture<AsyncResultSet> nextPage) {
+        AsyncResultSet resultSet = mock(AsyncResultSet.class);
+        when(resultSet.currentPage()).thenReturn(rows);
+        when(resultSet.hasMorePages()).thenReturn(nextPage != null);
+        when(resultSet.fetchNextPage()).thenReturn(nextPage);
+        return resultSet;
+    }
+
+    @Test
+    void pagesAreMergedTest() {
+        Row row1 = mock(Row.class);
+        Row row2 = mock(Row.class);
+        Row row3 = mock(Row.class);
+        AsyncResultSet lastPage = page(List.of(row2), null);
+        AsyncResultSet firstPage = page(List.of(row1), CompletableFuture.completedFuture(lastPage));
+        AsyncResultSet otherPage = page(List.of(row3), null);
+        SimpleStatement statement1 = SimpleStatement.newInstance("SELECT 1");
+        SimpleStatement statement2 = SimpleStatement.newInstance("SELECT 2");
+
+        ParallelQueries queries = new ParallelQueries(statement -> CompletableFuture.completedFuture(statement == statement1 ? firstPage : otherPage), 1);
+        List<Row> rows = new ArrayList<>();
+        queries.submit(statement1, rows::add);
+        queries.submit(statement2, rows::add);
+        queries.join();
+        assertEquals(List.of(row1, row2, row3), rows);
+    }
+
+    @Test
+    void concurrencyIsBoundedTest() {
+        List<CompletableFuture<AsyncResultSet>> inFlight = new ArrayList<>();
+        ParallelQueries queries = new ParallelQueries(statement -> {
+            CompletableFuture<AsyncResultSet> result = new CompletableFuture<>();
+            inFlight.add(result);
+            return result;
+        }, 2);
+
+        List<CompletableFuture<Void>> submitted = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            submitted.add(queries.submit(SimpleStatement.newInstance("SELECT " + i), row -> { }));
+        }
+        // the third query is queued, submitting does not block
+        assertEquals(2, inFlight.size());
+        assertFalse(queries.completion().isDone());
+
+        // and started as soon as a slot is released
+        inFlight.get(0).complete(page(List.of(), null));
+        assertTrue(submitted.get(0).isDone());
+        assertEquals(3, inFlight.size());
+        inFlight.get(1).complete(page(List.of(), null));
+        inFlight.get(2).complete(page(List.of(), null));
+        assertTrue(queries.completion().isDone());
+        queries.join();
+    }
+
+    @Test
+    void executorFailureIsReportedTest() {
+        ParallelQueries queries = new ParallelQueries(statement -> {
+            throw new CassandraAfsException("No session");
+        }, 1);
+        CompletableFuture<Void> first = queries.submit(SimpleStatement.newInstance("SELECT 1"), row -> { });
+        CompletableFuture<Void> second = queries.submit(SimpleStatement.newInstance("SELECT 2"), row -> { });
+        assertTrue(first.isCompletedExceptionally());
+        // the slot of the failed query is released
+        assertTrue(second.isCompletedExceptionally());
+        assertEquals("No session", assertThrows(CassandraAfsException.class, queries::join).getMessage());
+    }
+
+    @Test
+    void failureIsRethrownTest() {
+        CassandraAfsException failure = new CassandraAfsException("Query failed");
+        ParallelQueries queries = new ParallelQueries(statement -> CompletableFuture.failedFuture(failure), 4);
+        Statement<?> statement = SimpleStatement.newInstance("SELECT 1");
+        queries.submit(statement, row -> { });
+        queries.submit(statement, row -> { });
+        assertSame(failure, assertThrows(CassandraAfsException.class, queries::join));
+        assertTrue(assertThrows(IllegalArgumentException.class, () -> new ParallelQueries(s -> null, 0)).getMessage().contains("0"));
+    }
+}
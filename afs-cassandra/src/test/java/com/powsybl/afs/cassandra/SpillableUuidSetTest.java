@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.cassandra;
+
+import com.datastax.oss.driver.api.core.uuid.Uuids;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+class SpillableUuidSetTest {
+
+    @Test
+    void spillTest() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            ids.add(Uuids.timeBased());
+        }
+        List<Path> spilledFiles;
+        try (SpillableUuidSet set = new SpillableUuidSet(100, 64)) {
+            ids.forEach(set::add);
+            assertEquals(1000, set.size());
+            assertEquals(15, set.getSpilledRunCount());
+            // ids in the spilled runs and in memory are all found
+            ids.forEach(id -> assertTrue(set.contains(id)));
+            for (int i = 0; i < 1000; i++) {
+                assertFalse(set.contains(UUID.randomUUID()));
+            }
+            spilledFiles = set.getSpilledFiles();
+            spilledFiles.forEach(file -> assertTrue(Files.exists(file)));
+        }
+        // spilled runs are deleted at closing
+        spilledFiles.forEach(file -> assertFalse(Files.exists(file)));
+    }
+
+    @Test
+    void invalidTest() {
+        assertThrows(IllegalArgumentException.class, () -> new SpillableUuidSet(10, 0));
+    }
+}
@@ -10,6 +10,7 @@ package com.powsybl.afs.cassandra;
 import com.google.common.collect.Sets;
 import com.powsybl.afs.storage.AppStorage;
 import com.powsybl.afs.storage.NodeInfo;
+import com.powsybl.timeseries.CompressedDoubleDataChunk;
 import com.powsybl.timeseries.CompressedStringDataChunk;
 import com.powsybl.timeseries.UncompressedDoubleDataChunk;
 import com.powsybl.timeseries.UncompressedStringDataChunk;
@@ -42,4 +43,23 @@ public class TimeSeriesIssue {
                 new CompressedStringDataChunk(0, 2, new String[]{"a", ""}, new int[]{1, 1}))),
                 storage.getStringTimeSeriesData(rootNodeId.getId(), Sets.newHashSet("ts1"), 0));
     }
+
+    public void testPackedDoubleChunks(AppStorage storage, AppStorage legacyStorage) {
+        NodeInfo rootNodeId = storage.createRootNodeIfNotExists("test", "test");
+        // chunks written in the historical format have to be read along with the packed ones
+        legacyStorage.addDoubleTimeSeriesData(rootNodeId.getId(), 0, "ts1", Collections.singletonList(new UncompressedDoubleDataChunk(0, new double[]{1d, 2d})));
+        legacyStorage.flush();
+        storage.addDoubleTimeSeriesData(rootNodeId.getId(), 0, "ts1", Arrays.asList(new UncompressedDoubleDataChunk(2, new double[]{3d, Double.NaN, 4.5d}),
+                new CompressedDoubleDataChunk(5, 4, new double[]{1.1d, 1.2d}, new int[]{3, 1})));
+        storage.flush();
+        assertEquals(Collections.singletonMap("ts1", Arrays.asList(new UncompressedDoubleDataChunk(0, new double[]{1d, 2d}),
+                new UncompressedDoubleDataChunk(2, new double[]{3d, Double.NaN, 4.5d}),
+                new CompressedDoubleDataChunk(5, 4, new double[]{1.1d, 1.2d}, new int[]{3, 1}))),
+                storage.getDoubleTimeSeriesData(rootNodeId.getId(), Sets.newHashSet("ts1"), 0));
+        assertEquals(3, legacyStorage.getDoubleTimeSeriesData(rootNodeId.getId(), Sets.newHashSet("ts1"), 0).get("ts1").size());
+
+        storage.clearTimeSeries(rootNodeId.getId());
+        storage.flush();
+        assertTrue(storage.getDoubleTimeSeriesData(rootNodeId.getId(), Sets.newHashSet("ts1"), 0).isEmpty());
+    }
 }
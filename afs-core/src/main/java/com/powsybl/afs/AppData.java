@@ -197,6 +197,21 @@ public class AppData implements AutoCloseable {
         return fileSystems.get(name);
     }
 
+    /**
+     * Searches the nodes of all the file systems whose name, description or script content contain the words of a
+     * query, at most {@code limit} nodes per file system.
+     *
+     * @see AppFileSystem#search(String, int)
+     */
+    public List<AbstractNodeBase> search(String query, int limit) {
+        Objects.requireNonNull(query);
+        List<AbstractNodeBase> nodes = new ArrayList<>();
+        for (AppFileSystem fileSystem : getFileSystems()) {
+            nodes.addAll(fileSystem.search(query, limit));
+        }
+        return nodes;
+    }
+
     private void closeFileSystems() {
         if (fileSystems != null) {
             fileSystems.values().forEach(AppFileSystem::close);
@@ -14,6 +14,8 @@ import com.powsybl.afs.storage.NodeInfo;
 import com.powsybl.afs.storage.check.FileSystemCheckIssue;
 import com.powsybl.afs.storage.check.FileSystemCheckOptions;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -52,18 +54,35 @@ public class AppFileSystem implements AutoCloseable {
 
     private final TaskMonitor taskMonitor;
 
+    private final NodeSearchIndex searchIndex;
+
     private AppData data;
 
     public AppFileSystem(String name, boolean remotelyAccessible, AppStorage storage) {
-        this(name, remotelyAccessible, storage, new LocalTaskMonitor());
+        this(name, remotelyAccessible, storage, LocalTaskMonitor.createWithNotificationThreads());
     }
 
     public AppFileSystem(String name, boolean remotelyAccessible, AppStorage storage, TaskMonitor taskMonitor) {
+        this(name, remotelyAccessible, storage, taskMonitor, null);
+    }
+
+    /**
+     * @param searchIndexFile the file the search index is saved to, or {@code null} to build it again at each opening
+     */
+    public AppFileSystem(String name, boolean remotelyAccessible, AppStorage storage, TaskMonitor taskMonitor, Path searchIndexFile) {
         this.name = Objects.requireNonNull(name);
         this.remotelyAccessible = remotelyAccessible;
         this.storage = Objects.requireNonNull(storage);
         this.taskMonitor = Objects.requireNonNull(taskMonitor);
-        rootNodeInfo = Suppliers.memoize(() -> storage.createRootNodeIfNotExists(name, Folder.PSEUDO_CLASS));
+        rootNodeInfo = Suppliers.memoize(() -> {
+            NodeInfo info = storage.createRootNodeIfNotExists(name, Folder.PSEUDO_CLASS);
+            // started once the file system is used, as building the index before would create the root node
+            getSearchIndex().ifPresent(NodeSearchIndex::buildInBackground);
+            return info;
+        });
+        // remote storages forward the searches to the index of the server
+        searchIndex = storage.isRemote() ? null
+            : new NodeSearchIndex(storage, () -> rootNodeInfo.get().getId(), NodeSearchIndex.DEFAULT_TEXT_DATA_NAMES, searchIndexFile);
     }
 
     public String getName() {
@@ -246,8 +265,41 @@ public class AppFileSystem implements AutoCloseable {
         return storage.checkFileSystem(options);
     }
 
+    /**
+     * The search index of the nodes, empty if the storage is remote.
+     */
+    public Optional<NodeSearchIndex> getSearchIndex() {
+        return Optional.ofNullable(searchIndex);
+    }
+
+    /**
+     * Searches the infos of the nodes whose name, description or script content contain the words of a query, with
+     * the index of this file system, or with the one of the server if the storage is remote.
+     *
+     * @see NodeSearchIndex#search(String, int)
+     */
+    public List<NodeInfo> searchNodes(String query, int limit) {
+        return searchIndex != null ? searchIndex.search(query, limit) : storage.searchNodes(query, limit);
+    }
+
+    /**
+     * Searches the nodes whose name, description or script content contain the words of a query.
+     *
+     * @see #searchNodes(String, int)
+     */
+    public List<AbstractNodeBase> search(String query, int limit) {
+        List<AbstractNodeBase> nodes = new ArrayList<>();
+        for (NodeInfo nodeInfo : searchNodes(query, limit)) {
+            nodes.add(fetchNode(nodeInfo.getId()));
+        }
+        return nodes;
+    }
+
     @Override
     public void close() {
+        if (searchIndex != null) {
+            searchIndex.close();
+        }
         storage.close();
         taskMonitor.close();
     }
@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Task monitor which limits the rate of the message updates of each task, for computations logging many lines per
+ * second through a {@link TaskMonitorLogger}.
+ * <p>
+ * A message update is sent to the underlying monitor right away if the previous one of the task was sent more than
+ * {@code interval} ago. Otherwise only the latest message of the task is kept, and sent once the interval has elapsed,
+ * along with the pending messages of the other tasks in a single {@link TaskMonitor#updateTaskMessages} call. The
+ * pending message of a task is always sent before the task is stopped.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+public class CoalescingTaskMonitor implements TaskMonitor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CoalescingTaskMonitor.class);
+
+    /**
+     * Messages of a task, guarded by its lock. The lock is also held while the messages of the task are sent, so that a
+     * message of the task is never overwritten by a previous one, without blocking the other tasks.
+     */
+    private static final class TaskMessages {
+
+        private final Lock lock = new ReentrantLock();
+
+        private long lastSendTime;
+
+        private String pendingMessage;
+
+        private volatile boolean pending = false;
+
+        private TaskMessages(long lastSendTime) {
+            this.lastSendTime = lastSendTime;
+        }
+    }
+
+    private final TaskMonitor delegate;
+
+    private final long intervalNanos;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final Map<UUID, TaskMessages> messages = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+
+    private final AtomicLong receivedMessageCount = new AtomicLong();
+
+    private final AtomicLong sentMessageCount = new AtomicLong();
+
+    public CoalescingTaskMonitor(TaskMonitor delegate, Duration interval) {
+        this.delegate = Objects.requireNonNull(delegate);
+        Objects.requireNonNull(interval);
+        if (interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException("Invalid interval: " + interval);
+        }
+        intervalNanos = interval.toNanos();
+        scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+            .setNameFormat("afs-task-messages-%d")
+            .setDaemon(true)
+            .build());
+    }
+
+    public TaskMonitor getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Number of message updates received by this monitor.
+     */
+    public long getReceivedMessageCount() {
+        return receivedMessageCount.get();
+    }
+
+    /**
+     * Number of message updates sent to the underlying monitor, the other ones having been overwritten by a later
+     * message of the same task.
+     */
+    public long getSentMessageCount() {
+        return sentMessageCount.get();
+    }
+
+    @Override
+    public Task startTask(ProjectFile projectFile) {
+        return delegate.startTask(projectFile);
+    }
+
+    @Override
+    public Task startTask(String name, Project project) {
+        return delegate.startTask(name, project);
+    }
+
+    @Override
+    public void updateTaskMessage(UUID id, String message) {
+        Objects.requireNonNull(id);
+        receivedMessageCount.incrementAndGet();
+        long now = System.nanoTime();
+        TaskMessages taskMessages = messages.computeIfAbsent(id, k -> new TaskMessages(now - intervalNanos));
+        taskMessages.lock.lock();
+        try {
+            if (!taskMessages.pending && now - taskMessages.lastSendTime >= intervalNanos) {
+                delegate.updateTaskMessage(id, message);
+                sentMessageCount.incrementAndGet();
+                taskMessages.lastSendTime = now;
+                return;
+            }
+            taskMessages.pendingMessage = message;
+            taskMessages.pending = true;
+        } finally {
+            taskMessages.lock.unlock();
+        }
+        scheduleFlush();
+    }
+
+    @Override
+    public void updateTaskMessages(Map<UUID, String> messages) {
+        messages.forEach(this::updateTaskMessage);
+    }
+
+    private void scheduleFlush() {
+        if (flushScheduled.compareAndSet(false, true)) {
+            scheduler.schedule(() -> CompletableFuture.runAsync(this::flush, scheduler)
+                .whenComplete((r, e) -> {
+                    if (e != null) {
+                        LOGGER.warn("Failed to send task messages", e);
+                    }
+                    flushScheduled.set(false);
+                    if (messages.values().stream().anyMatch(taskMessages -> taskMessages.pending)) {
+                        scheduleFlush();
+                    }
+                }), intervalNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Sends, in a single call, the pending messages whose task sent its previous message more than an interval ago.
+     * Only the locks of these tasks are held during the call, and a task currently sending a message is left for the
+     * next flush instead of being waited for.
+     */
+    private void flush() {
+        long now = System.nanoTime();
+        Map<UUID, String> dueMessages = new HashMap<>();
+        List<TaskMessages> lockedTaskMessages = new ArrayList<>();
+        try {
+            messages.forEach((id, taskMessages) -> {
+                if (taskMessages.pending && taskMessages.lock.tryLock()) {
+                    if (taskMessages.pending && now - taskMessages.lastSendTime >= intervalNanos) {
+                        lockedTaskMessages.add(taskMessages);
+                        dueMessages.put(id, taskMessages.pendingMessage);
+                        taskMessages.pending = false;
+                        taskMessages.pendingMessage = null;
+                        taskMessages.lastSendTime = now;
+                    } else {
+                        taskMessages.lock.unlock();
+                    }
+                }
+            });
+            if (!dueMessages.isEmpty()) {
+                delegate.updateTaskMessages(dueMessages);
+                sentMessageCount.addAndGet(dueMessages.size());
+            }
+        } finally {
+            lockedTaskMessages.forEach(taskMessages -> taskMessages.lock.unlock());
+        }
+    }
+
+    @Override
+    public void stopTask(UUID id) {
+        Objects.requireNonNull(id);
+        TaskMessages taskMessages = messages.remove(id);
+        if (taskMessages != null) {
+            taskMessages.lock.lock();
+            try {
+                if (taskMessages.pending) {
+                    // the final message is sent before the task is stopped
+                    delegate.updateTaskMessage(id, taskMessages.pendingMessage);
+                    sentMessageCount.incrementAndGet();
+                    taskMessages.pending = false;
+                }
+            } finally {
+                taskMessages.lock.unlock();
+            }
+        }
+        delegate.stopTask(id);
+    }
+
+    @Override
+    public Snapshot takeSnapshot(String projectId) {
+        return delegate.takeSnapshot(projectId);
+    }
+
+    @Override
+    public boolean cancelTaskComputation(UUID id) {
+        return delegate.cancelTaskComputation(id);
+    }
+
+    @Override
+    public void addListener(TaskListener listener) {
+        delegate.addListener(listener);
+    }
+
+    @Override
+    public void removeListener(TaskListener listener) {
+        delegate.removeListener(listener);
+    }
+
+    @Override
+    public void updateTaskFuture(UUID taskId, Future<?> future) throws NotACancellableTaskMonitor {
+        delegate.updateTaskFuture(taskId, future);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        Map<UUID, String> pendingMessages = new HashMap<>();
+        List<TaskMessages> lockedTaskMessages = new ArrayList<>();
+        try {
+            // flushes only try to lock tasks, so waiting for each of them cannot deadlock
+            messages.forEach((id, taskMessages) -> {
+                taskMessages.lock.lock();
+                lockedTaskMessages.add(taskMessages);
+                if (taskMessages.pending) {
+                    pendingMessages.put(id, taskMessages.pendingMessage);
+                    taskMessages.pending = false;
+                }
+            });
+            messages.clear();
+            if (!pendingMessages.isEmpty()) {
+                delegate.updateTaskMessages(pendingMessages);
+                sentMessageCount.addAndGet(pendingMessages.size());
+            }
+        } finally {
+            lockedTaskMessages.forEach(taskMessages -> taskMessages.lock.unlock());
+        }
+        delegate.close();
+    }
+}
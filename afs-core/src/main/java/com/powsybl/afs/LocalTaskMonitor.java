@@ -6,28 +6,100 @@
  */
 package com.powsybl.afs;
 
+import com.google.common.util.concurrent.MoreExecutors;
+
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
+ * Task monitor of the tasks running in this JVM.
+ * <p>
+ * Tasks are kept in a concurrent registry indexed by project, so that tasks of different projects, or different tasks
+ * of a project, are updated without waiting for each other. Listeners are notified through their own queue, on the
+ * executor given at construction: a slow listener only delays its own events, and never the tasks. Events of a task
+ * are received by each listener in revision order. By default, listeners are notified by the thread updating the task,
+ * so that a slow listener delays the tasks: file systems use {@link #createWithNotificationThreads()} instead.
+ *
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
  */
 public class LocalTaskMonitor implements TaskMonitor {
 
     private static final String TASK_NOT_FOUND = "Task '%s' not found";
-    private final Map<UUID, Task> tasks = new HashMap<>();
-    private final Map<UUID, Future> tasksFuture = new HashMap<>();
-    private final Lock lock = new ReentrantLock();
-    private final List<TaskListener> listeners = new ArrayList<>();
-    private long revision = 0L;
+
+    private static final class TaskEntry {
+
+        private final Task task;
+
+        private volatile Future<?> future;
+
+        // guarded by the entry
+        private boolean stopped = false;
+
+        private TaskEntry(Task task) {
+            this.task = task;
+        }
+    }
+
+    private static final class ListenerQueue {
+
+        private final TaskListener listener;
+
+        private final Executor executor;
+
+        private ListenerQueue(TaskListener listener, Executor executor) {
+            this.listener = listener;
+            this.executor = executor;
+        }
+
+        private void notify(TaskEvent event, String projectId) {
+            if (listener.getProjectId() == null || listener.getProjectId().equals(projectId)) {
+                executor.execute(() -> listener.onEvent(event));
+            }
+        }
+    }
+
+    private final Map<UUID, TaskEntry> tasks = new ConcurrentHashMap<>();
+    private final Map<String, Set<UUID>> tasksByProject = new ConcurrentHashMap<>();
+    private final List<ListenerQueue> listeners = new CopyOnWriteArrayList<>();
+    private final AtomicLong revision = new AtomicLong();
+    private final Executor notificationExecutor;
+    private final ExecutorService ownedExecutor;
+
+    public LocalTaskMonitor() {
+        this(MoreExecutors.directExecutor());
+    }
+
+    /**
+     * @param notificationExecutor the executor notifying the listeners
+     */
+    public LocalTaskMonitor(Executor notificationExecutor) {
+        this(notificationExecutor, null);
+    }
+
+    private LocalTaskMonitor(Executor notificationExecutor, ExecutorService ownedExecutor) {
+        this.notificationExecutor = Objects.requireNonNull(notificationExecutor);
+        this.ownedExecutor = ownedExecutor;
+    }
+
+    /**
+     * Task monitor notifying its listeners on virtual threads, which are stopped when the monitor is closed, after the
+     * pending events have been delivered.
+     */
+    public static LocalTaskMonitor createWithNotificationThreads() {
+        ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("afs-task-listener-", 0).factory());
+        return new LocalTaskMonitor(executor, executor);
+    }
 
     @Override
     public Task startTask(ProjectFile projectFile) {
@@ -45,59 +117,96 @@ public class LocalTaskMonitor implements TaskMonitor {
         Objects.requireNonNull(name);
         Objects.requireNonNull(project);
 
-        lock.lock();
-        try {
-            revision++;
-            Task task = new Task(name, null, revision, project.getId(), nodeId);
-            tasks.put(task.getId(), task);
+        Task task = new Task(name, null, 0L, project.getId(), nodeId);
+        TaskEntry entry = new TaskEntry(task);
+        synchronized (entry) {
+            // the task is registered before its revision is taken, so that a snapshot whose revision is greater than or
+            // equal to the start event always contains the task, the entry lock making snapshots wait for the revision
+            tasksByProject.compute(task.getProjectId(), (projectId, ids) -> {
+                Set<UUID> projectTasks = ids != null ? ids : ConcurrentHashMap.newKeySet();
+                projectTasks.add(task.getId());
+                return projectTasks;
+            });
+            tasks.put(task.getId(), entry);
+            long taskRevision = revision.incrementAndGet();
+            task.setRevision(taskRevision);
 
             // notification
-            notifyListeners(new StartTaskEvent(task.getId(), revision, name, nodeId), task.getProjectId());
+            notifyListeners(new StartTaskEvent(task.getId(), taskRevision, name, nodeId), task.getProjectId());
+        }
+        return task;
+    }
 
-            return task;
-        } finally {
-            lock.unlock();
+    private TaskEntry getEntry(UUID id) {
+        TaskEntry entry = tasks.get(id);
+        if (entry == null) {
+            throw new IllegalArgumentException(String.format(TASK_NOT_FOUND, id));
+        }
+        return entry;
+    }
+
+    /**
+     * Must be called with the lock of the entry held, so that no event follows the stop event.
+     */
+    private static void checkNotStopped(TaskEntry entry) {
+        if (entry.stopped) {
+            throw new IllegalArgumentException(String.format(TASK_NOT_FOUND, entry.task.getId()));
         }
     }
 
     @Override
     public void stopTask(UUID id) {
         Objects.requireNonNull(id);
-        lock.lock();
-        try {
-            Task task = tasks.remove(id);
-            if (task == null) {
-                throw new IllegalArgumentException(String.format(TASK_NOT_FOUND, id));
-            }
-            revision++;
-
-            // remove optional related future
-            tasksFuture.remove(id);
+        TaskEntry entry = getEntry(id);
+        Task task = entry.task;
+        synchronized (entry) {
+            checkNotStopped(entry);
+            entry.stopped = true;
+            tasks.remove(id);
+            tasksByProject.computeIfPresent(task.getProjectId(), (projectId, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+            long taskRevision = revision.incrementAndGet();
 
             // notification
-            notifyListeners(new StopTaskEvent(id, revision), task.getProjectId());
-        } finally {
-            lock.unlock();
+            notifyListeners(new StopTaskEvent(id, taskRevision), task.getProjectId());
         }
     }
 
+    /**
+     * The revision of the snapshot is read before the tasks, so that an event missing from the snapshot always has a
+     * greater revision.
+     */
     @Override
     public Snapshot takeSnapshot(String projectId) {
-        lock.lock();
-        try {
-            return new Snapshot(tasks.values().stream()
-                .filter(task -> projectId == null || task.getProjectId().equals(projectId))
-                .map(Task::new).collect(Collectors.toList()),
-                revision);
-        } finally {
-            lock.unlock();
+        long snapshotRevision = revision.get();
+        List<Task> snapshotTasks = new ArrayList<>();
+        if (projectId == null) {
+            tasks.values().forEach(entry -> snapshotTasks.add(copy(entry)));
+        } else {
+            for (UUID id : tasksByProject.getOrDefault(projectId, Set.of())) {
+                TaskEntry entry = tasks.get(id);
+                if (entry != null) {
+                    snapshotTasks.add(copy(entry));
+                }
+            }
+        }
+        return new Snapshot(snapshotTasks, snapshotRevision);
+    }
+
+    private static Task copy(TaskEntry entry) {
+        synchronized (entry) {
+            return new Task(entry.task);
         }
     }
 
     @Override
     public boolean cancelTaskComputation(UUID id) {
-        if (tasksFuture.containsKey(id)) {
-            return tasksFuture.get(id).cancel(true);
+        TaskEntry entry = tasks.get(id);
+        Future<?> future = entry != null ? entry.future : null;
+        if (future != null) {
+            return future.cancel(true);
         }
         return false;
     }
@@ -105,76 +214,58 @@ public class LocalTaskMonitor implements TaskMonitor {
     @Override
     public void updateTaskMessage(UUID id, String message) {
         Objects.requireNonNull(id);
-        lock.lock();
-        try {
-            Task task = tasks.get(id);
-            if (task == null) {
-                throw new IllegalArgumentException(String.format(TASK_NOT_FOUND, id));
-            }
-            revision++;
+        TaskEntry entry = getEntry(id);
+        Task task = entry.task;
+        synchronized (entry) {
+            checkNotStopped(entry);
+            long taskRevision = revision.incrementAndGet();
             task.setMessage(message);
-            task.setRevision(revision);
+            task.setRevision(taskRevision);
 
             // notification
-            notifyListeners(new UpdateTaskMessageEvent(id, revision, message), task.getProjectId());
-        } finally {
-            lock.unlock();
+            notifyListeners(new UpdateTaskMessageEvent(id, taskRevision, message), task.getProjectId());
         }
     }
 
     private void notifyListeners(TaskEvent event, String projectId) {
-        for (TaskListener listener : listeners) {
-            if (listener.getProjectId() == null || listener.getProjectId().equals(projectId)) {
-                listener.onEvent(event);
-            }
+        for (ListenerQueue queue : listeners) {
+            queue.notify(event, projectId);
         }
     }
 
     @Override
     public void addListener(TaskListener listener) {
         Objects.requireNonNull(listener);
-        lock.lock();
-        try {
-            listeners.add(listener);
-        } finally {
-            lock.unlock();
-        }
+        listeners.add(new ListenerQueue(listener, MoreExecutors.newSequentialExecutor(notificationExecutor)));
     }
 
     @Override
     public void removeListener(TaskListener listener) {
         Objects.requireNonNull(listener);
-        lock.lock();
-        try {
-            listeners.remove(listener);
-        } finally {
-            lock.unlock();
-        }
+        listeners.removeIf(queue -> queue.listener.equals(listener));
     }
 
     @Override
     public void updateTaskFuture(UUID taskId, Future<?> future) {
         Objects.requireNonNull(taskId);
-        lock.lock();
-        try {
-            Task task = tasks.get(taskId);
-            if (task == null) {
-                throw new IllegalArgumentException(String.format(TASK_NOT_FOUND, taskId));
-            }
-            tasksFuture.put(taskId, future);
+        TaskEntry entry = getEntry(taskId);
+        Task task = entry.task;
+        synchronized (entry) {
+            checkNotStopped(entry);
+            entry.future = future;
             task.setCancellable(future != null);
-            revision++;
-            task.setRevision(revision);
+            long taskRevision = revision.incrementAndGet();
+            task.setRevision(taskRevision);
 
             // notification
-            notifyListeners(new TaskCancellableStatusChangeEvent(taskId, revision, task.isCancellable()), task.getProjectId());
-        } finally {
-            lock.unlock();
+            notifyListeners(new TaskCancellableStatusChangeEvent(taskId, taskRevision, task.isCancellable()), task.getProjectId());
         }
     }
 
     @Override
     public void close() {
-        // nothing to clean
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
     }
 }
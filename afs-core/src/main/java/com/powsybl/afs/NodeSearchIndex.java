@@ -0,0 +1,606 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs;
+
+import com.powsybl.afs.storage.AbstractAppStorage;
+import com.powsybl.afs.storage.AppStorage;
+import com.powsybl.afs.storage.EventsBus;
+import com.powsybl.afs.storage.NodeInfo;
+import com.powsybl.afs.storage.events.AppStorageListener;
+import com.powsybl.afs.storage.events.NodeConsistent;
+import com.powsybl.afs.storage.events.NodeCreated;
+import com.powsybl.afs.storage.events.NodeDataRemoved;
+import com.powsybl.afs.storage.events.NodeDataUpdated;
+import com.powsybl.afs.storage.events.NodeDescriptionUpdated;
+import com.powsybl.afs.storage.events.NodeEvent;
+import com.powsybl.afs.storage.events.NodeEventList;
+import com.powsybl.afs.storage.events.NodeNameUpdated;
+import com.powsybl.afs.storage.events.NodeRemoved;
+import com.powsybl.commons.PowsyblException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Inverted index of the words of the names, descriptions and text data of the nodes of an {@link AppStorage}, used to
+ * search nodes by their content.
+ * <p>
+ * The index is built by walking the tree, in the background once {@link #buildInBackground()} is called or else at the
+ * first search, and then kept up to date from the node events of the storage: the nodes of the events are only marked
+ * as modified, and indexed again at the next search. Events received before the index is built are ignored, as the walk
+ * sees their changes. The events bus may be shared with other file systems: nodes which cannot be read from the storage
+ * are considered as removed. The storage is never read while holding the lock of the index, so that the searches only
+ * wait for the first build. If a file is given, the index is saved to it at closing, and loaded at construction instead
+ * of being built again.
+ * <p>
+ * A query is a list of words, a node matches if each of them is the prefix of one of its words. Nodes are returned by
+ * decreasing number of words matched by their name, then by name. They are ranked from the indexed data, so that only
+ * the best ranked ones are read from the storage to check that they still exist and are consistent.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+public class NodeSearchIndex implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(NodeSearchIndex.class);
+
+    /**
+     * Data of the script nodes.
+     */
+    public static final Set<String> DEFAULT_TEXT_DATA_NAMES = Set.of("scriptContent");
+
+    private static final int MAX_TEXT_LENGTH = 1024 * 1024;
+
+    private static final int MAX_WORD_LENGTH = 64;
+
+    private static final String FILE_HEADER = "afs-search-index-v2";
+
+    private static final char SEPARATOR = '\t';
+
+    private static final String NODE_LINE = "N";
+
+    private static final String MODIFIED_NODE_LINE = "M";
+
+    /**
+     * Nodes without text data: local folders have no data at all.
+     */
+    private static final Set<String> FOLDER_PSEUDO_CLASSES = Set.of(Folder.PSEUDO_CLASS, Project.PSEUDO_CLASS, ProjectFolder.PSEUDO_CLASS);
+
+    /**
+     * @param name name of the node, without tabulations and line breaks so that it can be saved
+     */
+    private record IndexedNode(String name, Set<String> nameWords, Set<String> words) {
+    }
+
+    /**
+     * Indexed nodes and their words.
+     */
+    private record Index(Map<String, IndexedNode> nodes, TreeMap<String, Set<String>> nodeIdsByWord) {
+
+        private Index() {
+            this(new HashMap<>(), new TreeMap<>());
+        }
+
+        private void add(String nodeId, IndexedNode node) {
+            remove(nodeId);
+            nodes.put(nodeId, node);
+            for (String word : node.words()) {
+                nodeIdsByWord.computeIfAbsent(word, w -> new HashSet<>()).add(nodeId);
+            }
+        }
+
+        private void remove(String nodeId) {
+            IndexedNode node = nodes.remove(nodeId);
+            if (node != null) {
+                for (String word : node.words()) {
+                    Set<String> nodeIds = nodeIdsByWord.get(word);
+                    nodeIds.remove(nodeId);
+                    if (nodeIds.isEmpty()) {
+                        nodeIdsByWord.remove(word);
+                    }
+                }
+            }
+        }
+    }
+
+    private final AppStorage storage;
+
+    private final Supplier<String> rootNodeId;
+
+    private final Set<String> textDataNames;
+
+    private final Path file;
+
+    // guarded by this, null until built
+    private Index index;
+
+    private final Set<String> modifiedNodeIds = ConcurrentHashMap.newKeySet();
+
+    // set once a build has started, the events being ignored before
+    private volatile boolean tracking = false;
+
+    // guarded by this, set while the tree is walked to build the index again
+    private boolean rebuilding = false;
+
+    // guarded by this, the modified nodes indexed during a walk, to be indexed again in the new index
+    private final Set<String> indexedWhileRebuilding = new HashSet<>();
+
+    // held while the tree is walked, so that only one build runs at a time
+    private final Object buildLock = new Object();
+
+    // held while the modified nodes are indexed, so that an older state of a node is not indexed after a newer one
+    private final Lock indexingLock = new ReentrantLock();
+
+    // guarded by this, the thread of the background build if started
+    private Thread buildThread;
+
+    private volatile boolean closed = false;
+
+    // kept as a field as the events bus only keeps weak references to its listeners
+    private final AppStorageListener listener = this::onEvents;
+
+    /**
+     * @param rootNodeId the id of the node the index is built from
+     * @param textDataNames the data of the nodes which are indexed as UTF-8 texts
+     * @param file the file the index is saved to, or {@code null} to keep it in memory
+     */
+    public NodeSearchIndex(AppStorage storage, Supplier<String> rootNodeId, Set<String> textDataNames, Path file) {
+        this.storage = Objects.requireNonNull(storage);
+        this.rootNodeId = Objects.requireNonNull(rootNodeId);
+        this.textDataNames = Set.copyOf(textDataNames);
+        this.file = file;
+        EventsBus eventsBus = storage.getEventsBus();
+        if (eventsBus != null) {
+            eventsBus.addListener(listener);
+        }
+        if (file != null && Files.exists(file)) {
+            load();
+        }
+    }
+
+    private void onEvents(NodeEventList eventList) {
+        if (!tracking || !AbstractAppStorage.APPSTORAGE_NODE_TOPIC.equals(eventList.getTopic())) {
+            return;
+        }
+        for (NodeEvent event : eventList.getEvents()) {
+            if (event instanceof NodeCreated || event instanceof NodeConsistent || event instanceof NodeNameUpdated
+                    || event instanceof NodeDescriptionUpdated || event instanceof NodeRemoved
+                    || event instanceof NodeDataUpdated dataUpdated && textDataNames.contains(dataUpdated.getDataName())
+                    || event instanceof NodeDataRemoved dataRemoved && textDataNames.contains(dataRemoved.getDataName())) {
+                modifiedNodeIds.add(event.getId());
+            }
+        }
+    }
+
+    /**
+     * Splits a text into lower case words made of letters and digits.
+     */
+    static void addWords(CharSequence text, Set<String> words) {
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start == -1) {
+                start = i;
+            } else if (!wordChar && start != -1) {
+                if (i - start <= MAX_WORD_LENGTH) {
+                    words.add(text.subSequence(start, i).toString().toLowerCase(Locale.ROOT));
+                }
+                start = -1;
+            }
+        }
+    }
+
+    static Set<String> getWords(CharSequence text) {
+        Set<String> words = new LinkedHashSet<>();
+        addWords(text, words);
+        return words;
+    }
+
+    private void readText(String nodeId, String dataName, Set<String> words) {
+        Optional<InputStream> is = storage.readBinaryData(nodeId, dataName);
+        if (is.isEmpty()) {
+            return;
+        }
+        StringBuilder text = new StringBuilder();
+        try (Reader reader = new InputStreamReader(is.get(), StandardCharsets.UTF_8)) {
+            char[] buffer = new char[8192];
+            int length;
+            while (text.length() < MAX_TEXT_LENGTH && (length = reader.read(buffer, 0, Math.min(buffer.length, MAX_TEXT_LENGTH - text.length()))) != -1) {
+                text.append(buffer, 0, length);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        addWords(text, words);
+    }
+
+    /**
+     * Reads the words of a node, empty if the node cannot be read anymore.
+     */
+    private Optional<IndexedNode> createIndexedNode(NodeInfo nodeInfo) {
+        String nodeId = nodeInfo.getId();
+        Set<String> nameWords = getWords(nodeInfo.getName());
+        Set<String> words = new HashSet<>(nameWords);
+        addWords(nodeInfo.getDescription(), words);
+        try {
+            if (!textDataNames.isEmpty() && !FOLDER_PSEUDO_CLASSES.contains(nodeInfo.getPseudoClass())) {
+                Set<String> dataNames = storage.getDataNames(nodeId);
+                for (String dataName : textDataNames) {
+                    if (dataNames.contains(dataName)) {
+                        readText(nodeId, dataName, words);
+                    }
+                }
+            }
+        } catch (PowsyblException | UncheckedIOException e) {
+            LOGGER.debug("Cannot read the data of node '{}': {}", nodeId, e.toString());
+            return Optional.empty();
+        }
+        return Optional.of(new IndexedNode(nodeInfo.getName().replaceAll("[\\t\\r\\n]", " "), nameWords, words));
+    }
+
+    /**
+     * Reads a node, empty if it does not exist, for instance if removed or if it belongs to another file system.
+     */
+    private Optional<NodeInfo> getNodeInfo(String nodeId) {
+        try {
+            return Optional.of(storage.getNodeInfo(nodeId));
+        } catch (PowsyblException | UncheckedIOException e) {
+            LOGGER.trace("Cannot read node '{}': {}", nodeId, e.toString());
+            return Optional.empty();
+        }
+    }
+
+    private boolean isConsistent(String nodeId) {
+        try {
+            return storage.isConsistent(nodeId);
+        } catch (PowsyblException | UncheckedIOException e) {
+            return false;
+        }
+    }
+
+    private void indexModifiedNodes() {
+        // skipped if another search is indexing them, the search then uses the index as it is
+        if (modifiedNodeIds.isEmpty() || !indexingLock.tryLock()) {
+            return;
+        }
+        try {
+            Map<String, Optional<IndexedNode>> nodes = new HashMap<>();
+            for (String nodeId : new ArrayList<>(modifiedNodeIds)) {
+                modifiedNodeIds.remove(nodeId);
+                nodes.put(nodeId, getNodeInfo(nodeId).flatMap(this::createIndexedNode));
+            }
+            synchronized (this) {
+                for (Map.Entry<String, Optional<IndexedNode>> e : nodes.entrySet()) {
+                    if (rebuilding) {
+                        indexedWhileRebuilding.add(e.getKey());
+                    }
+                    e.getValue().ifPresentOrElse(node -> index.add(e.getKey(), node), () -> index.remove(e.getKey()));
+                }
+            }
+        } finally {
+            indexingLock.unlock();
+        }
+    }
+
+    /**
+     * Builds the index again from the nodes of the storage. The searches run during the walk use the previous index,
+     * if any.
+     */
+    public void rebuild() {
+        synchronized (buildLock) {
+            synchronized (this) {
+                tracking = true;
+                rebuilding = true;
+                // the nodes modified during the walk are indexed again at the next search
+                modifiedNodeIds.clear();
+            }
+            Index newIndex = new Index();
+            boolean walked = false;
+            try {
+                walked = walk(newIndex);
+            } finally {
+                synchronized (this) {
+                    rebuilding = false;
+                    if (walked) {
+                        index = newIndex;
+                    }
+                    // walked before being indexed again in the previous index
+                    modifiedNodeIds.addAll(indexedWhileRebuilding);
+                    indexedWhileRebuilding.clear();
+                }
+            }
+            if (walked) {
+                LOGGER.info("Search index of file system '{}' built with {} nodes", storage.getFileSystemName(), newIndex.nodes().size());
+            }
+        }
+    }
+
+    /**
+     * @return {@code false} if the walk has been stopped by the closing of the index
+     */
+    private boolean walk(Index newIndex) {
+        NodeInfo rootNodeInfo = storage.getNodeInfo(rootNodeId.get());
+        createIndexedNode(rootNodeInfo).ifPresent(node -> newIndex.add(rootNodeInfo.getId(), node));
+        Deque<String> nodeIds = new ArrayDeque<>();
+        nodeIds.add(rootNodeInfo.getId());
+        while (!nodeIds.isEmpty()) {
+            if (closed) {
+                return false;
+            }
+            for (NodeInfo childNodeInfo : getChildNodes(nodeIds.poll())) {
+                createIndexedNode(childNodeInfo).ifPresent(node -> newIndex.add(childNodeInfo.getId(), node));
+                nodeIds.add(childNodeInfo.getId());
+            }
+        }
+        return true;
+    }
+
+    private List<NodeInfo> getChildNodes(String nodeId) {
+        try {
+            return storage.getChildNodes(nodeId);
+        } catch (PowsyblException | UncheckedIOException e) {
+            // for instance a local folder which cannot be listed
+            LOGGER.debug("Cannot list the children of node '{}': {}", nodeId, e.toString());
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Starts building the index in a background thread, if not built yet, so that the first search does not wait for
+     * the whole walk.
+     */
+    public synchronized void buildInBackground() {
+        if (index == null && buildThread == null && !closed) {
+            buildThread = Thread.ofVirtual()
+                    .name("afs-search-index-" + storage.getFileSystemName())
+                    .uncaughtExceptionHandler((thread, e) -> LOGGER.warn("Cannot build the search index of file system '{}': {}",
+                            storage.getFileSystemName(), e.toString()))
+                    .start(this::buildIfNeeded);
+        }
+    }
+
+    private synchronized boolean isBuilt() {
+        return index != null;
+    }
+
+    private void buildIfNeeded() {
+        if (!isBuilt()) {
+            synchronized (buildLock) {
+                if (!isBuilt()) {
+                    rebuild();
+                }
+            }
+        }
+    }
+
+    private Set<String> getNodeIds(String queryWord) {
+        SortedMap<String, Set<String>> matchingWords = index.nodeIdsByWord().subMap(queryWord, queryWord + Character.MAX_VALUE);
+        if (matchingWords.size() == 1) {
+            return matchingWords.values().iterator().next();
+        }
+        Set<String> nodeIds = new HashSet<>();
+        matchingWords.values().forEach(nodeIds::addAll);
+        return nodeIds;
+    }
+
+    private static int getNameScore(IndexedNode node, Set<String> queryWords) {
+        int score = 0;
+        for (String queryWord : queryWords) {
+            if (node.nameWords().stream().anyMatch(word -> word.startsWith(queryWord))) {
+                score++;
+            }
+        }
+        return score;
+    }
+
+    /**
+     * @param query words, each one must be the prefix of a word of the nodes
+     * @param limit maximum number of nodes returned
+     * @return the consistent nodes matching the query
+     */
+    public List<NodeInfo> search(String query, int limit) {
+        Objects.requireNonNull(query);
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Invalid search limit " + limit);
+        }
+        buildIfNeeded();
+        return searchBuilt(query, limit);
+    }
+
+    private List<NodeInfo> searchBuilt(String query, int limit) {
+        indexModifiedNodes();
+        Set<String> queryWords = getWords(query);
+        if (queryWords.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<NodeInfo> nodeInfos = new ArrayList<>();
+        List<String> removedNodeIds = new ArrayList<>();
+        for (String nodeId : rank(queryWords)) {
+            // descendants of a removed node have no event, they are removed when found
+            Optional<NodeInfo> nodeInfo = getNodeInfo(nodeId);
+            if (nodeInfo.isEmpty()) {
+                removedNodeIds.add(nodeId);
+            } else if (isConsistent(nodeId)) {
+                nodeInfos.add(nodeInfo.get());
+                if (nodeInfos.size() == limit) {
+                    break;
+                }
+            }
+        }
+        if (!removedNodeIds.isEmpty()) {
+            synchronized (this) {
+                removedNodeIds.forEach(index::remove);
+            }
+        }
+        return nodeInfos;
+    }
+
+    /**
+     * Ranks the nodes matching all the query words from the indexed data, so that only the returned nodes and the
+     * removed or inconsistent ones ranked before them are read from the storage.
+     */
+    private synchronized List<String> rank(Set<String> queryWords) {
+        Set<String> candidateNodeIds = null;
+        for (String queryWord : queryWords) {
+            Set<String> nodeIds = getNodeIds(queryWord);
+            if (candidateNodeIds == null) {
+                candidateNodeIds = new HashSet<>(nodeIds);
+            } else {
+                candidateNodeIds.retainAll(nodeIds);
+            }
+            if (candidateNodeIds.isEmpty()) {
+                return Collections.emptyList();
+            }
+        }
+        Map<String, Integer> scores = new HashMap<>();
+        for (String nodeId : candidateNodeIds) {
+            scores.put(nodeId, getNameScore(index.nodes().get(nodeId), queryWords));
+        }
+        List<String> rankedNodeIds = new ArrayList<>(candidateNodeIds);
+        rankedNodeIds.sort(Comparator.<String>comparingInt(nodeId -> -scores.get(nodeId))
+                .thenComparing(nodeId -> index.nodes().get(nodeId).name())
+                .thenComparing(Comparator.naturalOrder()));
+        return rankedNodeIds;
+    }
+
+    /**
+     * Number of indexed nodes, or {@code -1} if the index has not been built yet.
+     */
+    public synchronized int size() {
+        return index != null ? index.nodes().size() : -1;
+    }
+
+    int getModifiedNodeCount() {
+        return modifiedNodeIds.size();
+    }
+
+    private static String join(Set<String> words) {
+        return String.join(" ", words);
+    }
+
+    private static Set<String> split(String words) {
+        return words.isEmpty() ? new HashSet<>() : new HashSet<>(List.of(words.split(" ")));
+    }
+
+    private void load() {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            Index loadedIndex = new Index();
+            if (!FILE_HEADER.equals(reader.readLine())) {
+                LOGGER.warn("Invalid search index file '{}', the index will be built again", file);
+            } else {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String[] tokens = line.split(String.valueOf(SEPARATOR), -1);
+                    if (tokens.length == 5 && NODE_LINE.equals(tokens[0])) {
+                        Set<String> nameWords = split(tokens[3]);
+                        Set<String> words = split(tokens[4]);
+                        words.addAll(nameWords);
+                        loadedIndex.add(tokens[1], new IndexedNode(tokens[2], nameWords, words));
+                    } else if (tokens.length == 2 && MODIFIED_NODE_LINE.equals(tokens[0])) {
+                        modifiedNodeIds.add(tokens[1]);
+                    }
+                }
+                index = loadedIndex;
+                tracking = true;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        // the file is only valid until the storage is modified, it is written again at closing
+        try {
+            Files.delete(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void save() throws IOException {
+        Path tmpFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(tmpFile, StandardCharsets.UTF_8)) {
+            writer.write(FILE_HEADER);
+            writer.newLine();
+            for (Map.Entry<String, IndexedNode> e : index.nodes().entrySet()) {
+                Set<String> otherWords = new LinkedHashSet<>(e.getValue().words());
+                otherWords.removeAll(e.getValue().nameWords());
+                writer.write(NODE_LINE + SEPARATOR + e.getKey() + SEPARATOR + e.getValue().name() + SEPARATOR + join(e.getValue().nameWords())
+                        + SEPARATOR + join(otherWords));
+                writer.newLine();
+            }
+            for (String nodeId : modifiedNodeIds) {
+                writer.write(MODIFIED_NODE_LINE + SEPARATOR + nodeId);
+                writer.newLine();
+            }
+        }
+        Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @Override
+    public void close() {
+        Thread thread;
+        synchronized (this) {
+            closed = true;
+            thread = buildThread;
+        }
+        if (thread != null) {
+            // the walk stops at the next node
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (this) {
+            closeIndex();
+        }
+    }
+
+    private void closeIndex() {
+        EventsBus eventsBus = storage.getEventsBus();
+        if (eventsBus != null) {
+            eventsBus.removeListener(listener);
+        }
+        if (file != null && index != null) {
+            try {
+                save();
+            } catch (IOException e) {
+                // the index is built again at the next search
+                LOGGER.warn("Cannot save search index '{}': {}", file, e.toString());
+            }
+        }
+    }
+}
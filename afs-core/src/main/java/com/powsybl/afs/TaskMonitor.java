@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.Future;
@@ -222,6 +223,15 @@ public interface TaskMonitor extends AutoCloseable {
      */
     void updateTaskMessage(UUID id, String message);
 
+    /**
+     * Update the display status of several tasks at once
+     *
+     * @param messages new status message of each task, by task id
+     */
+    default void updateTaskMessages(Map<UUID, String> messages) {
+        messages.forEach(this::updateTaskMessage);
+    }
+
     /**
      * Return the complete state of tasks related to a project
      *
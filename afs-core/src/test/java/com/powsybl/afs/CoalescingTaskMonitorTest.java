@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+/**
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+class CoalescingTaskMonitorTest {
+
+    @Test
+    void stopTest() {
+        TaskMonitor delegate = Mockito.mock(TaskMonitor.class);
+        UUID id = UUID.randomUUID();
+        try (CoalescingTaskMonitor monitor = new CoalescingTaskMonitor(delegate, Duration.ofHours(1))) {
+            for (int i = 0; i < 1000; i++) {
+                monitor.updateTaskMessage(id, "line " + i);
+            }
+            // only the first message is sent, the other ones are overwritten by the latest one
+            verify(delegate).updateTaskMessage(id, "line 0");
+            verify(delegate, never()).updateTaskMessage(id, "line 1");
+            assertEquals(1000, monitor.getReceivedMessageCount());
+            assertEquals(1, monitor.getSentMessageCount());
+
+            // the final message is sent before the task is stopped
+            monitor.stopTask(id);
+            InOrder inOrder = inOrder(delegate);
+            inOrder.verify(delegate).updateTaskMessage(id, "line 999");
+            inOrder.verify(delegate).stopTask(id);
+            assertEquals(2, monitor.getSentMessageCount());
+        }
+        verify(delegate, never()).updateTaskMessages(anyMap());
+        verify(delegate).close();
+    }
+
+    @Test
+    void flushTest() {
+        TaskMonitor delegate = Mockito.mock(TaskMonitor.class);
+        UUID id1 = UUID.randomUUID();
+        UUID id2 = UUID.randomUUID();
+        try (CoalescingTaskMonitor monitor = new CoalescingTaskMonitor(delegate, Duration.ofMillis(200))) {
+            monitor.updateTaskMessages(Map.of(id1, "a1", id2, "b1"));
+            monitor.updateTaskMessage(id1, "a2");
+            monitor.updateTaskMessage(id2, "b2");
+            monitor.updateTaskMessage(id1, "a3");
+
+            // latest messages of both tasks are sent in a single call
+            verify(delegate, timeout(5000)).updateTaskMessages(Map.of(id1, "a3", id2, "b2"));
+            verify(delegate, never()).updateTaskMessage(id1, "a2");
+            assertEquals(5, monitor.getReceivedMessageCount());
+            assertEquals(4, monitor.getSentMessageCount());
+        }
+    }
+
+    @Test
+    void concurrentTasksTest() throws InterruptedException, ExecutionException, TimeoutException {
+        TaskMonitor delegate = Mockito.mock(TaskMonitor.class);
+        UUID id1 = UUID.randomUUID();
+        UUID id2 = UUID.randomUUID();
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch unblock = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            sending.countDown();
+            assertTrue(unblock.await(10, TimeUnit.SECONDS));
+            return null;
+        }).when(delegate).updateTaskMessage(id1, "a1");
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (CoalescingTaskMonitor monitor = new CoalescingTaskMonitor(delegate, Duration.ofHours(1))) {
+            Future<?> future = executor.submit(() -> monitor.updateTaskMessage(id1, "a1"));
+            assertTrue(sending.await(10, TimeUnit.SECONDS));
+
+            // a slow message of a task does not delay the messages of the other tasks
+            monitor.updateTaskMessage(id2, "b1");
+            verify(delegate).updateTaskMessage(id2, "b1");
+
+            unblock.countDown();
+            future.get(10, TimeUnit.SECONDS);
+            assertEquals(2, monitor.getSentMessageCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void closeTest() {
+        TaskMonitor delegate = Mockito.mock(TaskMonitor.class);
+        UUID id = UUID.randomUUID();
+        CoalescingTaskMonitor monitor = new CoalescingTaskMonitor(delegate, Duration.ofHours(1));
+        monitor.updateTaskMessage(id, "first");
+        monitor.updateTaskMessage(id, "last");
+        monitor.close();
+        InOrder inOrder = inOrder(delegate);
+        inOrder.verify(delegate).updateTaskMessages(Map.of(id, "last"));
+        inOrder.verify(delegate).close();
+    }
+
+    @Test
+    void delegationTest() throws TaskMonitor.NotACancellableTaskMonitor {
+        TaskMonitor delegate = Mockito.mock(TaskMonitor.class);
+        UUID id = UUID.randomUUID();
+        try (CoalescingTaskMonitor monitor = new CoalescingTaskMonitor(delegate, Duration.ofSeconds(1))) {
+            assertEquals(delegate, monitor.getDelegate());
+            monitor.takeSnapshot("project");
+            verify(delegate).takeSnapshot("project");
+            monitor.cancelTaskComputation(id);
+            verify(delegate).cancelTaskComputation(id);
+            monitor.updateTaskFuture(id, null);
+            verify(delegate).updateTaskFuture(id, null);
+            monitor.startTask("task", null);
+            verify(delegate).startTask("task", null);
+            monitor.addListener(null);
+            verify(delegate).addListener(any());
+        }
+        assertThrows(IllegalArgumentException.class, () -> new CoalescingTaskMonitor(delegate, Duration.ZERO));
+    }
+}
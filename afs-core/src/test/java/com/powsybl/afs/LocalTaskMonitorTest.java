@@ -18,14 +18,24 @@ import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -324,4 +334,182 @@ class LocalTaskMonitorTest extends AbstractProjectFileTest {
             assertEquals("Task '00000000-0000-0000-0000-000000000000' not found", exception.getMessage());
         }
     }
+
+    @Test
+    void asyncNotificationTest() throws InterruptedException {
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try (TaskMonitor monitor = new LocalTaskMonitor(executor)) {
+            // a listener blocked on its first event
+            CountDownLatch unblock = new CountDownLatch(1);
+            List<TaskEvent> slowEvents = new CopyOnWriteArrayList<>();
+            monitor.addListener(new TaskListener() {
+                @Override
+                public String getProjectId() {
+                    return null;
+                }
+
+                @Override
+                public void onEvent(TaskEvent event) {
+                    try {
+                        unblock.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    slowEvents.add(event);
+                }
+            });
+            List<TaskEvent> fastEvents = new CopyOnWriteArrayList<>();
+            CountDownLatch fastStopped = new CountDownLatch(1);
+            monitor.addListener(new TaskListener() {
+                @Override
+                public String getProjectId() {
+                    return test.getId();
+                }
+
+                @Override
+                public void onEvent(TaskEvent event) {
+                    fastEvents.add(event);
+                    if (event instanceof StopTaskEvent) {
+                        fastStopped.countDown();
+                    }
+                }
+            });
+
+            // neither the task nor the other listener wait for the blocked listener
+            TaskMonitor.Task task = monitor.startTask(foo);
+            for (int i = 0; i < 10; i++) {
+                monitor.updateTaskMessage(task.getId(), "message " + i);
+            }
+            monitor.stopTask(task.getId());
+            assertTrue(fastStopped.await(10, TimeUnit.SECONDS));
+            assertEquals(12, fastEvents.size());
+            assertTrue(slowEvents.isEmpty());
+
+            // events are received in revision order
+            unblock.countDown();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+            assertEquals(fastEvents, slowEvents);
+            for (int i = 0; i < fastEvents.size(); i++) {
+                assertEquals(i + 1L, fastEvents.get(i).getRevision());
+            }
+        }
+    }
+
+    @Test
+    void notificationThreadsTest() throws InterruptedException {
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        CountDownLatch stopped = new CountDownLatch(1);
+        try (TaskMonitor monitor = LocalTaskMonitor.createWithNotificationThreads()) {
+            monitor.addListener(new TaskListener() {
+                @Override
+                public String getProjectId() {
+                    return test.getId();
+                }
+
+                @Override
+                public void onEvent(TaskEvent event) {
+                    threads.add(Thread.currentThread());
+                    if (event instanceof StopTaskEvent) {
+                        stopped.countDown();
+                    }
+                }
+            });
+            TaskMonitor.Task task = monitor.startTask(foo);
+            monitor.stopTask(task.getId());
+            assertTrue(stopped.await(10, TimeUnit.SECONDS));
+        }
+        assertEquals(2, threads.size());
+        assertTrue(threads.stream().allMatch(Thread::isVirtual));
+        assertTrue(threads.stream().noneMatch(thread -> thread == Thread.currentThread()));
+    }
+
+    @Test
+    void concurrentTasksTest() throws InterruptedException, ExecutionException {
+        Project other = afs.getRootFolder().createProject("other");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try (TaskMonitor monitor = new LocalTaskMonitor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                Project project = i % 2 == 0 ? test : other;
+                futures.add(executor.submit(() -> {
+                    TaskMonitor.Task task = monitor.startTask("task", project);
+                    for (int j = 0; j < 10; j++) {
+                        monitor.updateTaskMessage(task.getId(), "message " + j);
+                    }
+                    return task;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            assertEquals(1100L, monitor.takeSnapshot(null).getRevision());
+            assertEquals(100, monitor.takeSnapshot(null).getTasks().size());
+            TaskMonitor.Snapshot snapshot = monitor.takeSnapshot(other.getId());
+            assertEquals(50, snapshot.getTasks().size());
+            assertTrue(snapshot.getTasks().stream().allMatch(task -> task.getProjectId().equals(other.getId()) && "message 9".equals(task.getMessage())));
+
+            // a stopped task can neither be updated nor cancelled
+            UUID taskId = snapshot.getTasks().get(0).getId();
+            monitor.stopTask(taskId);
+            assertEquals(49, monitor.takeSnapshot(other.getId()).getTasks().size());
+            assertThrows(IllegalArgumentException.class, () -> monitor.updateTaskMessage(taskId, "stopped"));
+            assertThat(monitor.cancelTaskComputation(taskId)).isFalse();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void concurrentSnapshotTest() throws InterruptedException, ExecutionException {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try (LocalTaskMonitor monitor = new LocalTaskMonitor()) {
+            Map<UUID, Long> startRevisions = new ConcurrentHashMap<>();
+            monitor.addListener(new TaskListener() {
+                @Override
+                public String getProjectId() {
+                    return null;
+                }
+
+                @Override
+                public void onEvent(TaskEvent event) {
+                    if (event instanceof StartTaskEvent startEvent) {
+                        startRevisions.put(startEvent.getTaskId(), startEvent.getRevision());
+                    }
+                }
+            });
+            AtomicBoolean starting = new AtomicBoolean(true);
+            Future<List<TaskMonitor.Snapshot>> snapshots = executor.submit(() -> {
+                List<TaskMonitor.Snapshot> taken = new ArrayList<>();
+                while (starting.get()) {
+                    taken.add(monitor.takeSnapshot(null));
+                }
+                return taken;
+            });
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 7; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 200; j++) {
+                        monitor.startTask("task", test);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            starting.set(false);
+
+            // a task started at a revision covered by a snapshot is in the snapshot, or its start event would be lost
+            for (TaskMonitor.Snapshot snapshot : snapshots.get()) {
+                Set<UUID> snapshotTaskIds = snapshot.getTasks().stream().map(TaskMonitor.Task::getId).collect(Collectors.toSet());
+                startRevisions.forEach((taskId, startRevision) -> {
+                    if (startRevision <= snapshot.getRevision()) {
+                        assertTrue(snapshotTaskIds.contains(taskId));
+                    }
+                });
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
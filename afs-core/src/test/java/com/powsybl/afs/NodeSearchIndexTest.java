@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs;
+
+import com.powsybl.afs.mapdb.storage.MapDbAppStorage;
+import com.powsybl.afs.storage.AbstractAppStorage;
+import com.powsybl.afs.storage.AppStorage;
+import com.powsybl.afs.storage.InMemoryEventsBus;
+import com.powsybl.afs.storage.NodeGenericMetadata;
+import com.powsybl.afs.storage.NodeInfo;
+import com.powsybl.afs.storage.events.NodeCreated;
+import com.powsybl.afs.storage.events.NodeNameUpdated;
+import com.powsybl.computation.ComputationManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+class NodeSearchIndexTest {
+
+    @TempDir
+    Path tmpDir;
+
+    private AppStorage storage;
+
+    private NodeInfo rootNodeInfo;
+
+    @BeforeEach
+    void setUp() {
+        storage = MapDbAppStorage.createMem("mem", new InMemoryEventsBus());
+        rootNodeInfo = storage.createRootNodeIfNotExists("mem", Folder.PSEUDO_CLASS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        storage.close();
+    }
+
+    private NodeInfo createNode(String parentNodeId, String name, String description) {
+        NodeInfo nodeInfo = storage.createNode(parentNodeId, name, "foo", description, 0, new NodeGenericMetadata());
+        storage.setConsistent(nodeInfo.getId());
+        storage.flush();
+        return nodeInfo;
+    }
+
+    private void writeScript(String nodeId, String content) {
+        try (OutputStream os = storage.writeBinaryData(nodeId, "scriptContent")) {
+            os.write(content.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        storage.flush();
+    }
+
+    private NodeSearchIndex createIndex(Path file) {
+        return new NodeSearchIndex(storage, rootNodeInfo::getId, NodeSearchIndex.DEFAULT_TEXT_DATA_NAMES, file);
+    }
+
+    private static List<String> ids(List<NodeInfo> nodeInfos) {
+        return nodeInfos.stream().map(NodeInfo::getId).toList();
+    }
+
+    @Test
+    void wordsTest() {
+        assertEquals(Set.of("load", "flow", "2026", "élan"), NodeSearchIndex.getWords("Load-flow_2026 (ÉLAN)"));
+        assertTrue(NodeSearchIndex.getWords(" -- ").isEmpty());
+        assertTrue(NodeSearchIndex.getWords("a".repeat(65)).isEmpty());
+    }
+
+    @Test
+    void searchTest() {
+        NodeInfo folder = createNode(rootNodeInfo.getId(), "studies", "winter studies");
+        NodeInfo study = createNode(folder.getId(), "peak load", "");
+        NodeInfo script = createNode(folder.getId(), "contingencies", "list of the peak contingencies");
+        writeScript(script.getId(), "network.getLine('LINE1').terminal1.disconnect()");
+
+        try (NodeSearchIndex index = createIndex(null)) {
+            assertEquals(-1, index.size());
+            // name matches come first, words are prefixes
+            assertEquals(List.of(study.getId(), script.getId()), ids(index.search("PEAK", 10)));
+            assertEquals(4, index.size());
+            assertEquals(List.of(study.getId()), ids(index.search("peak", 1)));
+            assertEquals(List.of(folder.getId()), ids(index.search("wint stud", 10)));
+            assertEquals(List.of(script.getId()), ids(index.search("line1 disconnect", 10)));
+            assertTrue(index.search("peak winter", 10).isEmpty());
+            assertTrue(index.search("?", 10).isEmpty());
+            assertThrows(IllegalArgumentException.class, () -> index.search("peak", 0));
+
+            // the index is updated from the events of the storage
+            storage.renameNode(study.getId(), "base case");
+            storage.setDescription(folder.getId(), "summer studies");
+            writeScript(script.getId(), "network.getLine('LINE2').terminal1.disconnect()");
+            storage.flush();
+            assertEquals(List.of(script.getId()), ids(index.search("peak", 10)));
+            assertEquals(List.of(folder.getId()), ids(index.search("summer", 10)));
+            assertTrue(index.search("winter", 10).isEmpty());
+            assertEquals(List.of(script.getId()), ids(index.search("line2", 10)));
+            assertTrue(index.search("line1", 10).isEmpty());
+            NodeInfo other = createNode(folder.getId(), "other case", "");
+            assertEquals(List.of(study.getId(), other.getId()), ids(index.search("case", 10)));
+
+            // inconsistent nodes are not returned
+            storage.createNode(folder.getId(), "inconsistent case", "foo", "", 0, new NodeGenericMetadata());
+            storage.flush();
+            assertEquals(2, index.search("case", 10).size());
+
+            // descendants of removed nodes are removed too
+            storage.deleteNode(folder.getId());
+            storage.flush();
+            assertTrue(index.search("case", 10).isEmpty());
+            assertTrue(index.search("disconnect", 10).isEmpty());
+            assertEquals(1, index.size());
+        }
+    }
+
+    @Test
+    void eventsBeforeBuildTest() {
+        NodeInfo study = createNode(rootNodeInfo.getId(), "peak load", "");
+        try (NodeSearchIndex index = createIndex(null)) {
+            // not kept until the index is built, the walk sees the changes
+            storage.renameNode(study.getId(), "base case");
+            storage.flush();
+            assertEquals(0, index.getModifiedNodeCount());
+            assertEquals(List.of(study.getId()), ids(index.search("base", 10)));
+
+            storage.renameNode(study.getId(), "peak load");
+            storage.flush();
+            assertEquals(1, index.getModifiedNodeCount());
+            assertEquals(List.of(study.getId()), ids(index.search("peak", 10)));
+            assertEquals(0, index.getModifiedNodeCount());
+        }
+    }
+
+    @Test
+    void foreignEventsTest() {
+        NodeInfo study = createNode(rootNodeInfo.getId(), "peak load", "");
+        try (NodeSearchIndex index = createIndex(null)) {
+            assertEquals(List.of(study.getId()), ids(index.search("peak", 10)));
+
+            // events of the other file systems sharing the bus, whose ids are not valid in this storage
+            storage.getEventsBus().pushEvent(new NodeCreated("%2Fcases%2Fpeak.xiidm", "%2Fcases"), AbstractAppStorage.APPSTORAGE_NODE_TOPIC);
+            storage.getEventsBus().pushEvent(new NodeNameUpdated(UUID.randomUUID().toString(), "peak"), AbstractAppStorage.APPSTORAGE_NODE_TOPIC);
+            storage.getEventsBus().flush();
+            assertEquals(List.of(study.getId()), ids(index.search("peak", 10)));
+            assertEquals(0, index.getModifiedNodeCount());
+        }
+    }
+
+    @Test
+    void buildInBackgroundTest() {
+        NodeInfo study = createNode(rootNodeInfo.getId(), "peak load", "");
+        try (NodeSearchIndex index = createIndex(null)) {
+            index.buildInBackground();
+            // the search waits for the background build
+            assertEquals(List.of(study.getId()), ids(index.search("peak", 10)));
+            assertEquals(2, index.size());
+        }
+    }
+
+    @Test
+    void limitTest() {
+        List<String> caseIds = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            caseIds.add(createNode(rootNodeInfo.getId(), "case " + (char) ('a' + i), "").getId());
+        }
+        AppStorage spiedStorage = Mockito.spy(storage);
+        try (NodeSearchIndex index = new NodeSearchIndex(spiedStorage, rootNodeInfo::getId, NodeSearchIndex.DEFAULT_TEXT_DATA_NAMES, null)) {
+            index.rebuild();
+            Mockito.clearInvocations(spiedStorage);
+
+            // only the returned nodes are read from the storage
+            assertEquals(caseIds.subList(0, 2), ids(index.search("case", 2)));
+            Mockito.verify(spiedStorage, Mockito.times(2)).getNodeInfo(Mockito.anyString());
+            Mockito.verify(spiedStorage, Mockito.times(2)).isConsistent(Mockito.anyString());
+        }
+    }
+
+    @Test
+    void persistenceTest() throws IOException {
+        Path file = tmpDir.resolve("search");
+        NodeInfo study = createNode(rootNodeInfo.getId(), "peak load", "");
+        try (NodeSearchIndex index = createIndex(file)) {
+            // not saved if not built
+            assertEquals(-1, index.size());
+        }
+        assertFalse(Files.exists(file));
+
+        try (NodeSearchIndex index = createIndex(file)) {
+            assertEquals(List.of(study.getId()), ids(index.search("peak", 10)));
+            // modified but not indexed yet
+            storage.renameNode(study.getId(), "base case");
+            storage.flush();
+        }
+        assertTrue(Files.exists(file));
+
+        try (NodeSearchIndex index = createIndex(file)) {
+            // loaded, the file is written again at closing
+            assertEquals(2, index.size());
+            assertFalse(Files.exists(file));
+            assertTrue(index.search("peak", 10).isEmpty());
+            assertEquals(List.of(study.getId()), ids(index.search("base", 10)));
+        }
+
+        Files.writeString(file, "other content");
+        try (NodeSearchIndex index = createIndex(file)) {
+            assertEquals(-1, index.size());
+            assertEquals(List.of(study.getId()), ids(index.search("case", 10)));
+        }
+    }
+
+    @Test
+    void appDataSearchTest() {
+        NodeInfo study = createNode(rootNodeInfo.getId(), "peak load", "");
+        AppFileSystem afs = new AppFileSystem("mem", false, storage);
+        ComputationManager computationManager = Mockito.mock(ComputationManager.class);
+        AppData appData = new AppData(computationManager, computationManager, List.of(cm -> List.of(afs)), List.of(), List.of(), List.of());
+        List<AbstractNodeBase> nodes = appData.search("peak", 10);
+        assertEquals(1, nodes.size());
+        assertEquals(study.getId(), nodes.get(0).getId());
+        assertInstanceOf(UnknownFile.class, nodes.get(0));
+    }
+}
@@ -7,16 +7,23 @@
  */
 package com.powsybl.afs.ext.base;
 
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.powsybl.afs.ProjectDependency;
 import com.powsybl.afs.ProjectFile;
 import com.powsybl.afs.ProjectFileCreationContext;
+import com.powsybl.afs.ProjectNode;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.NetworkListener;
 import com.powsybl.scripting.groovy.GroovyScriptExtension;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * @author Nicolas Rol {@literal <nicolas.rol at rte-france.com>}
@@ -63,4 +70,40 @@ public abstract class AbstractProjectCase extends ProjectFile implements Project
     public void invalidateNetworkCache() {
         findService(NetworkCacheService.class).invalidateCache(this);
     }
+
+    /**
+     * Get a version of the network of this case, which changes as soon as this case or one of its direct
+     * or indirect dependencies (base case, scripts...) is modified, or a dependency is added or removed.
+     */
+    public String getNetworkVersion() {
+        Hasher hasher = Hashing.sha256().newHasher();
+        putVersion(this, hasher, new HashSet<>());
+        return hasher.hash().toString();
+    }
+
+    private static void putVersion(ProjectNode node, Hasher hasher, Set<String> visitedIds) {
+        hasher.putString(node.getId(), StandardCharsets.UTF_8)
+            .putLong(node.getModificationDate().toInstant().toEpochMilli());
+        if (visitedIds.add(node.getId()) && node instanceof ProjectFile projectFile) {
+            for (ProjectDependency<ProjectNode> dependency : projectFile.getDependencies(false)) {
+                hasher.putString(dependency.getName(), StandardCharsets.UTF_8);
+                putVersion(dependency.getProjectNode(), hasher, visitedIds);
+            }
+        }
+    }
+
+    /**
+     * Get the IDs of this case and of all its direct or indirect dependencies.
+     */
+    public Set<String> getDeepDependencyIds() {
+        Set<String> ids = new HashSet<>();
+        collectDependencyIds(this, ids);
+        return ids;
+    }
+
+    private static void collectDependencyIds(ProjectNode node, Set<String> ids) {
+        if (ids.add(node.getId()) && node instanceof ProjectFile projectFile) {
+            projectFile.getDependencies(false).forEach(dependency -> collectDependencyIds(dependency.getProjectNode(), ids));
+        }
+    }
 }
@@ -6,24 +6,41 @@
  */
 package com.powsybl.afs.ext.base;
 
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.powsybl.afs.AfsException;
 import com.powsybl.afs.ProjectFile;
 import com.powsybl.commons.datasource.ReadOnlyDataSource;
+import com.powsybl.commons.exceptions.UncheckedInterruptedException;
+import com.powsybl.commons.io.TreeDataFormat;
 import com.powsybl.iidm.network.Importer;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.NetworkFactory;
 import com.powsybl.iidm.network.NetworkListener;
+import com.powsybl.iidm.serde.NetworkSerDe;
 import com.powsybl.scripting.groovy.GroovyScriptExtension;
 import groovy.json.JsonOutput;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
@@ -34,19 +51,85 @@ public class LocalNetworkCacheService implements NetworkCacheService {
 
     private final ScriptCache<ProjectFile, Network, ProjectCaseListener> cache;
 
+    /**
+     * Tasks of the network loadings in progress, by project file ID.
+     */
+    private final Map<String, UUID> loadingTasks = new ConcurrentHashMap<>();
+
+    /**
+     * Compiled query scripts, by hash of their type and content.
+     */
+    private final Cache<HashCode, ScriptUtils.CompiledScript> compiledScripts = CacheBuilder.newBuilder()
+        .maximumSize(100)
+        .expireAfterAccess(1, TimeUnit.HOURS)
+        .<HashCode, ScriptUtils.CompiledScript>removalListener(notification -> notification.getValue().close())
+        .build();
+
+    /**
+     * JSON results of the queries, including the ones in progress so that identical concurrent queries are run only once.
+     */
+    private final Cache<QueryKey, CompletableFuture<String>> queryResults = CacheBuilder.newBuilder()
+        .maximumSize(1000)
+        .expireAfterAccess(1, TimeUnit.HOURS)
+        .build();
+
+    /**
+     * Version of the cached networks, computed once when they are loaded.
+     */
+    private final Cache<Network, String> networkVersions = CacheBuilder.newBuilder()
+        .weakKeys()
+        .build();
+
+    /**
+     * Bounds the number of queries run concurrently by the calling threads: as queries do not modify the network, they
+     * can run concurrently on the same network.
+     */
+    private final Semaphore querySlots;
+
+    /**
+     * Query results are memoized per network version, script and set of extensions and context objects.
+     */
+    private record QueryKey(ScriptCache.Key scope, String networkVersion, HashCode scriptHash) {
+    }
+
     public LocalNetworkCacheService() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param maxConcurrentQueries maximum number of network queries run concurrently
+     */
+    public LocalNetworkCacheService(int maxConcurrentQueries) {
+        if (maxConcurrentQueries <= 0) {
+            throw new IllegalArgumentException("Invalid maximum number of concurrent queries: " + maxConcurrentQueries);
+        }
+        querySlots = new Semaphore(maxConcurrentQueries);
         cache = new ScriptCache<>(50, 1, (projectFile, extensions, contextObjects) -> {
             UUID taskId = projectFile.startTask();
+            loadingTasks.put(projectFile.getId(), taskId);
             try {
                 projectFile.createLogger(taskId).log("Loading network...");
-                return loadNetworkFromProjectCase((ProjectCase) projectFile, extensions, contextObjects);
+                // taken before loading, so that a change made meanwhile is seen as a new version
+                String networkVersion = projectFile instanceof AbstractProjectCase abstractProjectCase ? abstractProjectCase.getNetworkVersion() : null;
+                ScriptResult<Network> network = loadNetworkFromProjectCase((ProjectCase) projectFile, extensions, contextObjects);
+                if (networkVersion != null && network.getValue() != null) {
+                    networkVersions.put(network.getValue(), networkVersion);
+                }
+                return network;
             } finally {
+                loadingTasks.remove(projectFile.getId(), taskId);
                 projectFile.stopTask(taskId);
             }
         }, (result, listeners) -> {
             for (ProjectCaseListener listener : listeners) {
                 listener.networkUpdated();
             }
+        }, projectFile -> {
+            // report waiting requests in the task of the loading in progress
+            UUID taskId = loadingTasks.get(projectFile.getId());
+            if (taskId != null) {
+                projectFile.createLogger(taskId).log("Waiting for network loading in progress...");
+            }
         });
     }
 
@@ -72,11 +155,42 @@ public class LocalNetworkCacheService implements NetworkCacheService {
         }
     }
 
-    private static ScriptResult<Network> loadNetworkFromVirtualCase(VirtualCase virtualCase, List<NetworkListener> listeners,
-                                                                    Iterable<GroovyScriptExtension> extensions, Map<Class<?>, Object> contextObjects) {
-        ProjectCase baseCase = (ProjectCase) virtualCase.getCase().orElseThrow(() -> new AfsException("Case link is dead"));
+    /**
+     * Copy a network so that it can be modified without altering the cached one.
+     */
+    private static ScriptResult<Network> copyNetwork(ScriptResult<Network> result) {
+        if (result.getError() != null) {
+            return result;
+        }
+        Network copy = NetworkSerDe.copy(result.getValue(), NetworkFactory.findDefault(), TreeDataFormat.BIN);
+        return new ScriptResult<>(copy, result.getOutput(), null);
+    }
 
-        ScriptResult<Network> network = loadNetworkFromProjectCase(baseCase, listeners, extensions, contextObjects);
+    private ScriptResult<Network> getCachedNetwork(ProjectFile projectCase, Iterable<GroovyScriptExtension> extensions,
+                                                   Map<Class<?>, Object> contextObjects) {
+        if (projectCase instanceof ImportedCase) {
+            // the network of an imported case does not depend on script extensions
+            return cache.get(projectCase);
+        } else if (projectCase instanceof VirtualCase) {
+            return cache.get(projectCase, extensions, contextObjects);
+        } else {
+            throw new AfsException("ProjectCase implementation " + projectCase.getClass().getName() + " not supported");
+        }
+    }
+
+    private ScriptResult<Network> loadNetworkFromVirtualCase(VirtualCase virtualCase, List<NetworkListener> listeners,
+                                                             Iterable<GroovyScriptExtension> extensions, Map<Class<?>, Object> contextObjects) {
+        ProjectFile baseCase = virtualCase.getCase().orElseThrow(() -> new AfsException("Case link is dead"));
+
+        ScriptResult<Network> network;
+        if (listeners.isEmpty()) {
+            // derive the network from a copy of the cached base case network, so that the base case is
+            // imported only once whatever the number of virtual cases built on it
+            network = copyNetwork(getCachedNetwork(baseCase, extensions, contextObjects));
+        } else {
+            // listeners have to be notified of the changes made by all the scripts, so the whole chain is loaded
+            network = loadNetworkFromProjectCase((ProjectCase) baseCase, listeners, extensions, contextObjects);
+        }
 
         if (network.getError() != null) {
             return network;
@@ -89,13 +203,13 @@ public class LocalNetworkCacheService implements NetworkCacheService {
         return applyScript(network.getValue(), network.getOutput(), script, extensions, contextObjects);
     }
 
-    private static ScriptResult<Network> loadNetworkFromProjectCase(ProjectCase projectCase,
-                                                                    Iterable<GroovyScriptExtension> extensions, Map<Class<?>, Object> contextObjects) {
+    private ScriptResult<Network> loadNetworkFromProjectCase(ProjectCase projectCase,
+                                                             Iterable<GroovyScriptExtension> extensions, Map<Class<?>, Object> contextObjects) {
         return loadNetworkFromProjectCase(projectCase, Collections.emptyList(), extensions, contextObjects);
     }
 
-    private static ScriptResult<Network> loadNetworkFromProjectCase(ProjectCase projectCase, List<NetworkListener> listeners,
-                                                                    Iterable<GroovyScriptExtension> extensions, Map<Class<?>, Object> contextObjects) {
+    private ScriptResult<Network> loadNetworkFromProjectCase(ProjectCase projectCase, List<NetworkListener> listeners,
+                                                             Iterable<GroovyScriptExtension> extensions, Map<Class<?>, Object> contextObjects) {
         if (projectCase instanceof ImportedCase importedCase) {
             return loadNetworkFromImportedCase(importedCase, listeners);
         } else if (projectCase instanceof VirtualCase virtualCase) {
@@ -117,8 +231,60 @@ public class LocalNetworkCacheService implements NetworkCacheService {
         Objects.requireNonNull(scriptType);
         Objects.requireNonNull(scriptContent);
 
+        HashCode scriptHash = Hashing.sha256().newHasher()
+            .putString(scriptType.name(), StandardCharsets.UTF_8)
+            .putString(scriptContent, StandardCharsets.UTF_8)
+            .hash();
         Network network = getNetwork(projectCase);
-        ScriptResult<Object> result = ScriptUtils.runScript(network, ScriptType.GROOVY, scriptContent, extensions, contextObjects);
+        Supplier<String> query = () -> runQuery(projectCase, network, scriptType, scriptContent, scriptHash, extensions, contextObjects);
+
+        // results can only be reused if the version of the network is known
+        String networkVersion = networkVersions.getIfPresent(network);
+        CompletableFuture<String> result;
+        if (networkVersion != null) {
+            QueryKey key = new QueryKey(ScriptCache.Key.of(projectCase, extensions, contextObjects), networkVersion, scriptHash);
+            CompletableFuture<String> newResult = new CompletableFuture<>();
+            result = queryResults.asMap().putIfAbsent(key, newResult);
+            if (result == null) {
+                // the first caller runs the query, the other ones wait for its result
+                result = newResult.completeAsync(query, Runnable::run);
+                // failed queries are not memoized
+                if (result.isCompletedExceptionally()) {
+                    queryResults.asMap().remove(key, result);
+                }
+            }
+        } else {
+            result = new CompletableFuture<String>().completeAsync(query, Runnable::run);
+        }
+
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new UncheckedExecutionException(e.getCause());
+        }
+    }
+
+    private <T extends ProjectFile & ProjectCase> String runQuery(T projectCase, Network network, ScriptType scriptType, String scriptContent, HashCode scriptHash,
+                                                                  Iterable<GroovyScriptExtension> extensions, Map<Class<?>, Object> contextObjects) {
+        ScriptUtils.CompiledScript compiledScript;
+        try {
+            compiledScript = compiledScripts.get(scriptHash, () -> ScriptUtils.compileScript(scriptType, scriptContent));
+        } catch (ExecutionException e) {
+            throw new UncheckedExecutionException(e.getCause());
+        }
+        ScriptResult<Object> result;
+        try {
+            querySlots.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UncheckedInterruptedException(e);
+        }
+        try {
+            result = ScriptUtils.runScript(network, compiledScript, extensions, contextObjects);
+        } finally {
+            querySlots.release();
+        }
         if (result.getError() != null) {
             throw new ScriptException(projectCase, result.getError());
         }
@@ -132,7 +298,7 @@ public class LocalNetworkCacheService implements NetworkCacheService {
 
     @Override
     public <T extends ProjectFile & ProjectCase> Network getNetwork(T projectCase, Iterable<GroovyScriptExtension> extensions, Map<Class<?>, Object> contextObjects) {
-        return cache.get(projectCase, extensions, contextObjects).getValueOrThrowIfError(projectCase);
+        return getCachedNetwork(projectCase, extensions, contextObjects).getValueOrThrowIfError(projectCase);
     }
 
     @Override
@@ -143,18 +309,24 @@ public class LocalNetworkCacheService implements NetworkCacheService {
     @Override
     public <T extends ProjectFile & ProjectCase> Network getNetwork(T projectCase, List<NetworkListener> listeners,
                                                                     Iterable<GroovyScriptExtension> extensions, Map<Class<?>, Object> contextObjects) {
+        Objects.requireNonNull(listeners);
+        if (listeners.isEmpty()) {
+            return getNetwork(projectCase, extensions, contextObjects);
+        }
+        // listeners have to be notified of the changes made while loading, so the network cannot be shared
         ScriptResult<Network> network = loadNetworkFromProjectCase(projectCase, listeners, extensions, contextObjects);
         return network.getValueOrThrowIfError(projectCase);
     }
 
     @Override
     public <T extends ProjectFile & ProjectCase> String getOutput(T projectCase, Iterable<GroovyScriptExtension> extensions, Map<Class<?>, Object> contextObjects) {
-        return cache.get(projectCase, extensions, contextObjects).getOutput();
+        return getCachedNetwork(projectCase, extensions, contextObjects).getOutput();
     }
 
     @Override
     public <T extends ProjectFile & ProjectCase> void invalidateCache(T projectCase) {
         cache.invalidate(projectCase);
+        queryResults.asMap().keySet().removeIf(key -> key.scope().projectFileId().equals(projectCase.getId()));
     }
 
     @Override
@@ -6,8 +6,10 @@
  */
 package com.powsybl.afs.ext.base;
 
+import com.google.common.base.Throwables;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ExecutionError;
 import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.powsybl.afs.ProjectFile;
 import com.powsybl.commons.util.WeakListenerList;
@@ -17,36 +19,78 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 /**
+ * Cache of script results, indexed by project file, script extensions and context objects.
+ * <p>
+ * Loadings are single-flight: when several threads request the same entry while it is being loaded,
+ * only the first one runs the loader, the other ones wait for its result. Failures of the loader are rethrown as they
+ * are.
+ *
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
  */
 public class ScriptCache<F extends ProjectFile, V, L> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ScriptCache.class);
 
-    private final Cache<String, ScriptResult<V>> cache;
+    /**
+     * Cache key: a project file and the set of extensions and context objects its script has been run with.
+     * Extensions are compared by class, context objects are compared using their {@code equals} method.
+     */
+    record Key(String projectFileId, Set<String> extensions, Map<Class<?>, Object> contextObjects) {
+
+        static Key of(ProjectFile projectFile, Iterable<GroovyScriptExtension> extensions, Map<Class<?>, Object> contextObjects) {
+            Objects.requireNonNull(extensions);
+            Objects.requireNonNull(contextObjects);
+            Set<String> extensionNames = new TreeSet<>();
+            extensions.forEach(extension -> extensionNames.add(extension.getClass().getName()));
+            // context objects may be null
+            return new Key(projectFile.getId(), Collections.unmodifiableSet(extensionNames), Collections.unmodifiableMap(new HashMap<>(contextObjects)));
+        }
+    }
+
+    private final Cache<Key, ScriptResult<V>> cache;
+
+    /**
+     * Keys being loaded, only used to report the requests waiting for them.
+     */
+    private final Set<Key> loadingKeys = ConcurrentHashMap.newKeySet();
 
     private final Map<String, WeakListenerList<L>> listeners = new ConcurrentHashMap<>();
 
     private final TriFunction<F, Iterable<GroovyScriptExtension>, Map<Class<?>, Object>, ScriptResult<V>> loader;
 
+    private final Consumer<F> waitingNotifier;
+
     public ScriptCache(int maximumSize, int hoursExpiration, TriFunction<F, Iterable<GroovyScriptExtension>, Map<Class<?>, Object>, ScriptResult<V>> loader,
                        BiConsumer<ScriptResult<V>, List<L>> notifier) {
+        this(maximumSize, hoursExpiration, loader, notifier, projectFile -> { });
+    }
+
+    /**
+     * @param waitingNotifier called when a thread starts waiting for a loading already in progress in another thread
+     */
+    public ScriptCache(int maximumSize, int hoursExpiration, TriFunction<F, Iterable<GroovyScriptExtension>, Map<Class<?>, Object>, ScriptResult<V>> loader,
+                       BiConsumer<ScriptResult<V>, List<L>> notifier, Consumer<F> waitingNotifier) {
         this.loader = Objects.requireNonNull(loader);
+        this.waitingNotifier = Objects.requireNonNull(waitingNotifier);
         Objects.requireNonNull(notifier);
         cache = CacheBuilder.newBuilder()
             .maximumSize(maximumSize)
             .expireAfterAccess(hoursExpiration, TimeUnit.HOURS)
             .removalListener(notification -> {
-                String projectFileId = (String) notification.getKey();
+                String projectFileId = ((Key) notification.getKey()).projectFileId();
 
                 LOGGER.info("Project file {} cache removed ({})", projectFileId, notification.getCause());
 
@@ -62,16 +106,39 @@ public class ScriptCache<F extends ProjectFile, V, L> {
 
     public ScriptResult<V> get(F projectFile, Iterable<GroovyScriptExtension> extensions, Map<Class<?>, Object> contextObjects) {
         Objects.requireNonNull(projectFile);
+        Key key = Key.of(projectFile, extensions, contextObjects);
+
+        ScriptResult<V> result = cache.getIfPresent(key);
+        if (result != null) {
+            return result;
+        }
+
+        if (loadingKeys.contains(key)) {
+            LOGGER.info("Waiting for project file {} loading in progress", projectFile.getId());
+            waitingNotifier.accept(projectFile);
+        }
         try {
-            return cache.get(projectFile.getId(), () -> loader.apply(projectFile, extensions, contextObjects));
-        } catch (ExecutionException e) {
-            throw new UncheckedExecutionException(e);
+            // the cache loads an entry once, concurrent requests of the entry wait for this loading
+            return cache.get(key, () -> {
+                loadingKeys.add(key);
+                try {
+                    return loader.apply(projectFile, extensions, contextObjects);
+                } finally {
+                    loadingKeys.remove(key);
+                }
+            });
+        } catch (ExecutionException | UncheckedExecutionException | ExecutionError e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new UncheckedExecutionException(e.getCause());
         }
     }
 
     public void invalidate(F projectFile) {
         Objects.requireNonNull(projectFile);
-        cache.invalidate(projectFile.getId());
+        String projectFileId = projectFile.getId();
+        cache.invalidateAll(cache.asMap().keySet().stream()
+            .filter(key -> key.projectFileId().equals(projectFileId))
+            .toList());
     }
 
     private WeakListenerList<L> getListeners(String projectFileId) {
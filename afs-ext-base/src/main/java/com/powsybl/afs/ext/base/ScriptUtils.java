@@ -10,18 +10,25 @@ import com.powsybl.afs.AfsException;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.scripting.groovy.GroovyScriptExtension;
 import groovy.lang.Binding;
+import groovy.lang.GroovyClassLoader;
+import groovy.lang.GroovyCodeSource;
 import groovy.lang.GroovyShell;
 import groovy.lang.MissingMethodException;
 import groovy.lang.MissingPropertyException;
+import groovy.lang.Script;
 import org.codehaus.groovy.control.CompilerConfiguration;
 import org.codehaus.groovy.control.MultipleCompilationErrorsException;
+import org.codehaus.groovy.runtime.InvokerHelper;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.UncheckedIOException;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 
 /**
  *
@@ -31,10 +38,36 @@ public final class ScriptUtils {
 
     private static final String SCRIPT_FILE_NAME = "test";
 
+    /**
+     * A compiled script class, or the error which prevented the script from being compiled. The class loader of the
+     * script, which also loads its closures, is kept open until the compiled script is closed.
+     */
+    public record CompiledScript(Class<? extends Script> scriptClass, ScriptError error, GroovyClassLoader classLoader) implements Closeable {
+
+        @Override
+        public void close() {
+            if (classLoader != null) {
+                try {
+                    classLoader.close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+    }
+
     private ScriptUtils() {
     }
 
     private static ScriptResult<Object> runGroovyScript(Network network, Reader reader, Iterable<GroovyScriptExtension> extensions, Map<Class<?>, Object> contextObjects) {
+        return runGroovyScript(network, extensions, contextObjects, binding -> {
+            GroovyShell shell = new GroovyShell(binding, new CompilerConfiguration());
+            return shell.evaluate(reader, SCRIPT_FILE_NAME);
+        });
+    }
+
+    private static ScriptResult<Object> runGroovyScript(Network network, Iterable<GroovyScriptExtension> extensions, Map<Class<?>, Object> contextObjects,
+                                                        Function<Binding, Object> evaluator) {
         String output = "";
         ScriptError error = null;
         Object value = null;
@@ -47,9 +80,7 @@ public final class ScriptUtils {
             // Bindings through extensions
             extensions.forEach(extension -> extension.load(binding, contextObjects));
 
-            CompilerConfiguration config = new CompilerConfiguration();
-            GroovyShell shell = new GroovyShell(binding, config);
-            value = shell.evaluate(reader, SCRIPT_FILE_NAME);
+            value = evaluator.apply(binding);
             outputWriter.flush();
             output = outputWriter.toString();
         } catch (MultipleCompilationErrorsException e) {
@@ -62,6 +93,36 @@ public final class ScriptUtils {
         return new ScriptResult<>(value, output, error);
     }
 
+    /**
+     * Compile a groovy script, so that it can be run several times without being parsed again.
+     * Each script is compiled by its own class loader, so that it can be unloaded once no longer used.
+     *
+     * @return the compiled script class, or the compilation error, to be closed once no longer used
+     */
+    public static CompiledScript compileScript(ScriptType scriptType, String scriptContent) {
+        if (scriptType != ScriptType.GROOVY) {
+            throw new AfsException("Script type " + scriptType + " not supported");
+        }
+        GroovyClassLoader classLoader = new GroovyClassLoader(ScriptUtils.class.getClassLoader(), new CompilerConfiguration());
+        try {
+            Class<?> scriptClass = classLoader.parseClass(new GroovyCodeSource(scriptContent, SCRIPT_FILE_NAME, GroovyShell.DEFAULT_CODE_BASE));
+            return new CompiledScript(scriptClass.asSubclass(Script.class), null, classLoader);
+        } catch (MultipleCompilationErrorsException e) {
+            return new CompiledScript(null, ScriptError.fromGroovyException(e), classLoader);
+        }
+    }
+
+    /**
+     * Run a script previously compiled by {@link #compileScript(ScriptType, String)}.
+     */
+    public static ScriptResult<Object> runScript(Network network, CompiledScript compiledScript, Iterable<GroovyScriptExtension> extensions, Map<Class<?>, Object> contextObjects) {
+        Objects.requireNonNull(compiledScript);
+        if (compiledScript.error() != null) {
+            return new ScriptResult<>(null, "", compiledScript.error());
+        }
+        return runGroovyScript(network, extensions, contextObjects, binding -> InvokerHelper.createScript(compiledScript.scriptClass(), binding).run());
+    }
+
     public static ScriptResult<Object> runScript(Network network, ScriptType scriptType, String scriptContent, Iterable<GroovyScriptExtension> extensions, Map<Class<?>, Object> contextObjects) {
         try (Reader reader = new StringReader(scriptContent)) {
             if (scriptType == ScriptType.GROOVY) {
@@ -48,6 +48,7 @@ import java.util.List;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -197,6 +198,17 @@ class ImportedCaseTest extends AbstractProjectFileTest {
 
         // test network query
         assertEquals("[\"s1\"]", importedCase.queryNetwork(ScriptType.GROOVY, "network.substations.collect { it.id }"));
+
+        // query results are reused as long as the network does not change
+        String query = "network.substations.collect { it.id + '-' + UUID.randomUUID() }";
+        String result = importedCase.queryNetwork(ScriptType.GROOVY, query);
+        assertEquals(result, importedCase.queryNetwork(ScriptType.GROOVY, query));
+        importedCase.invalidateNetworkCache();
+        assertNotEquals(result, importedCase.queryNetwork(ScriptType.GROOVY, query));
+
+        // script errors are reported at each call
+        assertThrows(ScriptException.class, () -> importedCase.queryNetwork(ScriptType.GROOVY, "network.unknownProperty"));
+        assertThrows(ScriptException.class, () -> importedCase.queryNetwork(ScriptType.GROOVY, "network.substations.collect {"));
     }
 
     @Test
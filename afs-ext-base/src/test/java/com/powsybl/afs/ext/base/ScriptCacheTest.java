@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.ext.base;
+
+import com.powsybl.afs.AfsException;
+import com.powsybl.afs.ProjectFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+class ScriptCacheTest {
+
+    private ProjectFile projectFile;
+
+    @BeforeEach
+    void setUp() {
+        projectFile = mock(ProjectFile.class);
+        when(projectFile.getId()).thenReturn("file");
+    }
+
+    @Test
+    void singleFlightTest() throws Exception {
+        AtomicInteger loadCount = new AtomicInteger();
+        AtomicInteger waitCount = new AtomicInteger();
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch waiting = new CountDownLatch(1);
+        ScriptCache<ProjectFile, String, Object> cache = new ScriptCache<>(10, 1, (file, extensions, contextObjects) -> {
+            loadCount.incrementAndGet();
+            loadStarted.countDown();
+            try {
+                assertTrue(waiting.await(10, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return ScriptResult.of("value");
+        }, (result, listeners) -> { }, file -> {
+            waitCount.incrementAndGet();
+            waiting.countDown();
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<ScriptResult<String>> first = executor.submit(() -> cache.get(projectFile));
+            assertTrue(loadStarted.await(10, TimeUnit.SECONDS));
+            Future<ScriptResult<String>> second = executor.submit(() -> cache.get(projectFile));
+            assertSame(first.get(10, TimeUnit.SECONDS), second.get(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, loadCount.get());
+        assertEquals(1, waitCount.get());
+    }
+
+    @Test
+    void contextObjectsAreInKeyTest() {
+        AtomicInteger loadCount = new AtomicInteger();
+        ScriptCache<ProjectFile, Integer, Object> cache = new ScriptCache<>(10, 1,
+            (file, extensions, contextObjects) -> ScriptResult.of(loadCount.incrementAndGet()), (result, listeners) -> { });
+
+        assertEquals(1, cache.get(projectFile).getValue());
+        assertEquals(1, cache.get(projectFile, Collections.emptyList(), Collections.emptyMap()).getValue());
+        assertEquals(2, cache.get(projectFile, List.of(), Map.of(String.class, "context")).getValue());
+        assertEquals(2, cache.get(projectFile, List.of(), Map.of(String.class, "context")).getValue());
+
+        // invalidation removes all the entries of the project file
+        cache.invalidate(projectFile);
+        assertEquals(3, cache.get(projectFile).getValue());
+        assertEquals(4, cache.get(projectFile, List.of(), Map.of(String.class, "context")).getValue());
+    }
+
+    @Test
+    void loaderFailureTest() {
+        ScriptCache<ProjectFile, String, Object> cache = new ScriptCache<>(10, 1, (file, extensions, contextObjects) -> {
+            throw new AfsException("Loading failed");
+        }, (result, listeners) -> { });
+
+        // the failure of the loader is not wrapped
+        AfsException e = assertThrows(AfsException.class, () -> cache.get(projectFile));
+        assertEquals("Loading failed", e.getMessage());
+    }
+
+    @Test
+    void nullContextObjectTest() {
+        AtomicInteger loadCount = new AtomicInteger();
+        ScriptCache<ProjectFile, Integer, Object> cache = new ScriptCache<>(10, 1,
+            (file, extensions, contextObjects) -> ScriptResult.of(loadCount.incrementAndGet()), (result, listeners) -> { });
+
+        Map<Class<?>, Object> contextObjects = new HashMap<>();
+        contextObjects.put(String.class, null);
+        assertEquals(1, cache.get(projectFile, List.of(), contextObjects).getValue());
+        assertEquals(1, cache.get(projectFile, List.of(), contextObjects).getValue());
+    }
+}
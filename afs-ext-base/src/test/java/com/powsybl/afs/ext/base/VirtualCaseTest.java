@@ -38,6 +38,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -328,6 +330,41 @@ class VirtualCaseTest extends AbstractProjectFileTest {
             .onUpdate(network.getSubstation("s1"), "tso", null, "TSO", "tso_new");
     }
 
+    @Test
+    void virtualCasesShareBaseNetworkTest() {
+        ModificationScript script1 = folder.fileBuilder(ModificationScriptBuilder.class)
+            .withName("script1")
+            .withType(ScriptType.GROOVY)
+            .withContent("network.getSubstation('s1').setTso('tso1')")
+            .build();
+        ModificationScript script2 = folder.fileBuilder(ModificationScriptBuilder.class)
+            .withName("script2")
+            .withType(ScriptType.GROOVY)
+            .withContent("network.getSubstation('s1').setTso('tso2')")
+            .build();
+        VirtualCase virtualCase1 = folder.fileBuilder(VirtualCaseBuilder.class)
+            .withName("network1")
+            .withCase(importedCase)
+            .withScript(script1)
+            .build();
+        VirtualCase virtualCase2 = folder.fileBuilder(VirtualCaseBuilder.class)
+            .withName("network2")
+            .withCase(importedCase)
+            .withScript(script2)
+            .build();
+
+        // Virtual case networks are copies of the cached base network, which is left unchanged by the scripts
+        Network baseNetwork = importedCase.getNetwork();
+        Network network1 = virtualCase1.getNetwork();
+        Network network2 = virtualCase2.getNetwork();
+        assertNotSame(baseNetwork, network1);
+        assertNotSame(network1, network2);
+        assertEquals("tso1", network1.getSubstation("s1").getTso());
+        assertEquals("tso2", network2.getSubstation("s1").getTso());
+        assertEquals("TSO", baseNetwork.getSubstation("s1").getTso());
+        assertSame(baseNetwork, importedCase.getNetwork());
+    }
+
     @Test
     void outputWithCustomCommand() {
         // GIVEN
@@ -348,7 +385,7 @@ class VirtualCaseTest extends AbstractProjectFileTest {
         virtualCase.invalidate();
         Network actualNetwork = virtualCase.getNetwork(extensions, contextObjects);
         String output = virtualCase.getOutput(extensions, contextObjects);
-        String outputNoExtensionFromCache = virtualCase.getOutput();
+        String outputNoExtension = virtualCase.getOutput();
         virtualCase.invalidate();
         String outputAfterInvalidate = virtualCase.getOutput(extensions, contextObjects);
         virtualCase.invalidate();
@@ -358,7 +395,7 @@ class VirtualCaseTest extends AbstractProjectFileTest {
         assertNotNull(actualNetwork);
         assertNotNull(output);
         assertEquals("log from customOut", output);
-        assertEquals("log from customOut", outputNoExtensionFromCache);
+        assertEquals("", outputNoExtension);
         assertEquals("log from customOut", outputAfterInvalidate);
         assertEquals("", outputAfterInvalidateNoExtension);
     }
@@ -405,7 +442,7 @@ class VirtualCaseTest extends AbstractProjectFileTest {
         assertEquals(2, virtualCaseParent.getDependencies().size());
         assertNotNull(virtualCaseParent.getNetwork(extensions, contextObjects));
         assertFalse(virtualCaseParent.mandatoryDependenciesAreMissing());
-        assertEquals("HELLO", virtualCaseParent.getOutput());
+        assertEquals("HELLO", virtualCaseParent.getOutput(extensions, contextObjects));
 
         // Checks on the child virtual case
         assertEquals("network3", virtualCaseChild.getName());
@@ -414,7 +451,7 @@ class VirtualCaseTest extends AbstractProjectFileTest {
         assertEquals(2, virtualCaseChild.getDependencies().size());
         assertNotNull(virtualCaseChild.getNetwork(extensions, contextObjects));
         assertFalse(virtualCaseChild.mandatoryDependenciesAreMissing());
-        assertEquals("HELLO-WORLD", virtualCaseChild.getOutput());
+        assertEquals("HELLO-WORLD", virtualCaseChild.getOutput(extensions, contextObjects));
     }
 
 }
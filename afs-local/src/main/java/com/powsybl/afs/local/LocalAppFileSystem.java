@@ -10,6 +10,7 @@ import com.powsybl.afs.AppFileSystem;
 import com.powsybl.afs.local.storage.LocalAppStorage;
 import com.powsybl.afs.local.storage.LocalFileScanner;
 import com.powsybl.afs.local.storage.LocalFolderScanner;
+import com.powsybl.afs.storage.EventsBus;
 import com.powsybl.commons.util.ServiceLoaderCache;
 import com.powsybl.computation.ComputationManager;
 
@@ -34,4 +35,11 @@ public class LocalAppFileSystem extends AppFileSystem {
                 config.isRemotelyAccessible(),
                 new LocalAppStorage(config.getRootDir(), config.getDriveName(), fileScanners, folderScanners, computationManager));
     }
+
+    public LocalAppFileSystem(LocalAppFileSystemConfig config, List<LocalFileScanner> fileScanners,
+                              List<LocalFolderScanner> folderScanners, ComputationManager computationManager, EventsBus eventsBus) {
+        super(config.getDriveName(),
+                config.isRemotelyAccessible(),
+                new LocalAppStorage(config.getRootDir(), config.getDriveName(), fileScanners, folderScanners, computationManager, eventsBus));
+    }
 }
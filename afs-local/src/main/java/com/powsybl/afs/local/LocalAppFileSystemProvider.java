@@ -46,7 +46,7 @@ public class LocalAppFileSystemProvider implements AppFileSystemProvider {
     public List<AppFileSystem> getFileSystems(AppFileSystemProviderContext context) {
         Objects.requireNonNull(context);
         return configs.stream()
-                .map(config -> new LocalAppFileSystem(config, fileScanners, folderScanners, context.getComputationManager()))
+                .map(config -> new LocalAppFileSystem(config, fileScanners, folderScanners, context.getComputationManager(), context.getEventsBus()))
                 .collect(Collectors.toList());
     }
 }
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.local.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Format of the case files detected by a {@link LocalCaseScanner}, keyed by path, size and modification time, so that
+ * importers are only asked again about new or modified files.
+ * <p>
+ * If a file is given, entries are appended to it as they are detected, and loaded at construction, so that the cache
+ * survives restarts. The file is rewritten at loading if it contains too many outdated entries. Entries detected
+ * concurrently are appended in a single write. The file is kept open until the cache is closed.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+class CaseFormatCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CaseFormatCache.class);
+
+    private static final char SEPARATOR = '\t';
+
+    /**
+     * Detected format of a file, an empty format meaning that the file is not a case.
+     */
+    record Entry(long size, long lastModifiedTime, String format) {
+    }
+
+    private final Map<Path, Entry> entries = new ConcurrentHashMap<>();
+
+    private final Path file;
+
+    private final Queue<String> pendingLines = new ConcurrentLinkedQueue<>();
+
+    // held by the thread appending the pending lines to the file
+    private final Lock writeLock = new ReentrantLock();
+
+    // opened at first write and kept open until closed
+    private BufferedWriter writer;
+
+    CaseFormatCache() {
+        this(null);
+    }
+
+    /**
+     * @param file the file the cache is persisted to, or {@code null} to keep it in memory
+     */
+    CaseFormatCache(Path file) {
+        this.file = file;
+        if (file != null) {
+            load();
+        }
+    }
+
+    private void load() {
+        int lineCount = 0;
+        if (Files.exists(file)) {
+            List<String> lines;
+            try {
+                lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            for (String line : lines) {
+                parse(line);
+            }
+            lineCount = lines.size();
+        }
+        if (lineCount > 2 * entries.size()) {
+            compact();
+        }
+    }
+
+    private void parse(String line) {
+        String[] tokens = line.split(String.valueOf(SEPARATOR), 4);
+        if (tokens.length == 4) {
+            try {
+                entries.put(file.getFileSystem().getPath(tokens[3]), new Entry(Long.parseLong(tokens[0]), Long.parseLong(tokens[1]), tokens[2]));
+            } catch (NumberFormatException e) {
+                LOGGER.warn("Invalid case format cache line '{}'", line);
+            }
+        }
+    }
+
+    private static String format(Path path, Entry entry) {
+        return entry.size() + String.valueOf(SEPARATOR) + entry.lastModifiedTime() + SEPARATOR + entry.format() + SEPARATOR + path;
+    }
+
+    private void compact() {
+        try {
+            Path tmpFile = file.resolveSibling(file.getFileName() + ".tmp");
+            try (BufferedWriter compactWriter = Files.newBufferedWriter(tmpFile, StandardCharsets.UTF_8)) {
+                for (Map.Entry<Path, Entry> e : entries.entrySet()) {
+                    compactWriter.write(format(e.getKey(), e.getValue()));
+                    compactWriter.newLine();
+                }
+            }
+            Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return the format of the file if it has not changed since it was detected, an empty string if it is not a case
+     */
+    Optional<String> getFormat(Path path, long size, long lastModifiedTime) {
+        Objects.requireNonNull(path);
+        Entry entry = entries.get(path);
+        if (entry != null && entry.size() == size && entry.lastModifiedTime() == lastModifiedTime) {
+            return Optional.of(entry.format());
+        }
+        return Optional.empty();
+    }
+
+    void putFormat(Path path, long size, long lastModifiedTime, String format) {
+        Objects.requireNonNull(path);
+        Objects.requireNonNull(format);
+        Entry entry = new Entry(size, lastModifiedTime, format);
+        if (entry.equals(entries.put(path, entry)) || file == null) {
+            return;
+        }
+        String pathString = path.toString();
+        if (pathString.indexOf('\n') != -1 || pathString.indexOf('\r') != -1) {
+            // cannot be persisted
+            return;
+        }
+        pendingLines.add(format(path, entry));
+        // the lines added while another thread is writing are written by it, or by this thread once it is done
+        while (!pendingLines.isEmpty() && writeLock.tryLock()) {
+            try {
+                writePendingLines();
+            } finally {
+                writeLock.unlock();
+            }
+        }
+    }
+
+    private void writePendingLines() {
+        try {
+            if (writer == null) {
+                writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            String line;
+            while ((line = pendingLines.poll()) != null) {
+                writer.write(line);
+                writer.newLine();
+            }
+            writer.flush();
+        } catch (IOException e) {
+            // the cache is only an optimization
+            pendingLines.clear();
+            LOGGER.warn("Cannot write case format cache '{}': {}", file, e.toString());
+        }
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Closes the file, which is opened again by the next write.
+     */
+    void close() {
+        writeLock.lock();
+        try {
+            if (writer != null) {
+                writer.close();
+                writer = null;
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Cannot close case format cache '{}': {}", file, e.toString());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+}
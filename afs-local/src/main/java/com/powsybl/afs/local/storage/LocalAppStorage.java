@@ -6,10 +6,17 @@
  */
 package com.powsybl.afs.local.storage;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.Striped;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.powsybl.afs.AfsException;
 import com.powsybl.afs.Folder;
 import com.powsybl.afs.storage.*;
+import com.powsybl.afs.storage.events.NodeCreated;
+import com.powsybl.afs.storage.events.NodeRemoved;
+import com.powsybl.commons.datasource.DataSourceUtil;
 import com.powsybl.commons.exceptions.UncheckedUnsupportedEncodingException;
 import com.powsybl.computation.ComputationManager;
 import com.powsybl.timeseries.DoubleDataChunk;
@@ -24,8 +31,16 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
@@ -33,6 +48,9 @@ import java.util.stream.Collectors;
 public class LocalAppStorage extends AbstractAppStorage {
 
     private static final int DEFAULT_VERSION = 0;
+    private static final int MAX_NODE_CACHE_SIZE = 200_000;
+    private static final int MAX_FOLDER_CACHE_SIZE = 10_000;
+    private static final int SCAN_THREAD_COUNT = Math.max(2, Math.min(8, Runtime.getRuntime().availableProcessors()));
     public static final String METHOD_NOT_IMPLEMENTED = "Method not implemented";
     public static final String FOLDER_IS_EMPTY = "Folder is empty";
 
@@ -46,12 +64,52 @@ public class LocalAppStorage extends AbstractAppStorage {
 
     private final ComputationManager computationManager;
 
-    private final Map<Path, LocalFile> fileCache = new HashMap<>();
+    private final Cache<Path, Optional<LocalFile>> fileCache = CacheBuilder.newBuilder()
+            .maximumSize(MAX_NODE_CACHE_SIZE)
+            .build();
 
-    private final Map<Path, LocalFolder> folderCache = new HashMap<>();
+    private final Cache<Path, Optional<LocalFolder>> folderCache = CacheBuilder.newBuilder()
+            .maximumSize(MAX_NODE_CACHE_SIZE)
+            .build();
+
+    /**
+     * Local node child paths of a watched folder, kept up to date by the watcher, and the modification time of the
+     * folder when it was last listed: changes made by other hosts on network file systems are not always notified, so
+     * the entries of a folder modified since are listed again.
+     */
+    private static final class ChildPaths {
+
+        private final Set<Path> paths;
+
+        // written with the folder lock held
+        private volatile FileTime modifiedTime;
+
+        private ChildPaths(Set<Path> paths, FileTime modifiedTime) {
+            this.paths = paths;
+            this.modifiedTime = modifiedTime;
+        }
+    }
+
+    private final Cache<Path, ChildPaths> childPathsCache;
+
+    // guards the listing of a folder and the processing of its changes
+    private final Striped<Lock> folderLocks = Striped.lock(64);
+
+    private final LocalFolderWatcher watcher;
+
+    // scans the entries of a folder in parallel, so that a cold listing is not bound to the file scanners
+    private final ThreadPoolExecutor scanExecutor;
 
     public LocalAppStorage(Path rootDir, String fileSystemName, List<LocalFileScanner> fileScanners,
                            List<LocalFolderScanner> folderScanners, ComputationManager computationManager) {
+        this(rootDir, fileSystemName, fileScanners, folderScanners, computationManager, new InMemoryEventsBus());
+    }
+
+    /**
+     * @param eventsBus the bus receiving the events of the files and folders created or removed on disk
+     */
+    public LocalAppStorage(Path rootDir, String fileSystemName, List<LocalFileScanner> fileScanners,
+                           List<LocalFolderScanner> folderScanners, ComputationManager computationManager, EventsBus eventsBus) {
         this.rootDir = Objects.requireNonNull(rootDir);
         this.fileSystemName = Objects.requireNonNull(fileSystemName);
         this.fileScanners = Objects.requireNonNull(fileScanners);
@@ -60,13 +118,40 @@ public class LocalAppStorage extends AbstractAppStorage {
                 .add(new DefaultLocalFolderScanner())
                 .build();
         this.computationManager = Objects.requireNonNull(computationManager);
+        this.eventsBus = Objects.requireNonNull(eventsBus);
+        watcher = LocalFolderWatcher.create(rootDir.getFileSystem(), fileSystemName, new LocalFolderWatcher.Listener() {
+            @Override
+            public void onChange(Path dir, Set<Path> childPaths) {
+                updateChildPaths(dir, childPaths);
+            }
+
+            @Override
+            public void onReset(Path dir) {
+                resetChildPaths(dir);
+            }
+        });
+        childPathsCache = CacheBuilder.newBuilder()
+                .maximumSize(MAX_FOLDER_CACHE_SIZE)
+                .<Path, ChildPaths>removalListener(notification -> {
+                    if (notification.wasEvicted() && watcher != null) {
+                        watcher.unwatch(notification.getKey());
+                    }
+                })
+                .build();
+        scanExecutor = new ThreadPoolExecutor(SCAN_THREAD_COUNT, SCAN_THREAD_COUNT, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                new ThreadFactoryBuilder()
+                        .setNameFormat("afs-local-scan-" + fileSystemName.replace("%", "%%") + "-%d")
+                        .setDaemon(true)
+                        .build());
+        scanExecutor.allowCoreThreadTimeOut(true);
     }
 
     private LocalFile scanFile(Path path, boolean useCache) {
         LocalFile file = null;
         if (Files.isReadable(path)) {
-            if (useCache && fileCache.containsKey(path)) {
-                file = fileCache.get(path);
+            Optional<LocalFile> cachedFile = useCache ? fileCache.getIfPresent(path) : null;
+            if (cachedFile != null) {
+                file = cachedFile.orElse(null);
             } else {
                 LocalFileScannerContext context = new LocalFileScannerContext(computationManager);
                 for (LocalFileScanner fileScanner : fileScanners) {
@@ -75,7 +160,7 @@ public class LocalAppStorage extends AbstractAppStorage {
                         break;
                     }
                 }
-                fileCache.put(path, file);
+                fileCache.put(path, Optional.ofNullable(file));
             }
         }
         return file;
@@ -84,8 +169,9 @@ public class LocalAppStorage extends AbstractAppStorage {
     private LocalFolder scanFolder(Path path, boolean useCache) {
         LocalFolder folder = null;
         if (Files.isReadable(path)) {
-            if (useCache && folderCache.containsKey(path)) {
-                folder = folderCache.get(path);
+            Optional<LocalFolder> cachedFolder = useCache ? folderCache.getIfPresent(path) : null;
+            if (cachedFolder != null) {
+                folder = cachedFolder.orElse(null);
             } else {
                 LocalFolderScannerContext context = new LocalFolderScannerContext(rootDir, fileSystemName, computationManager);
                 for (LocalFolderScanner folderScanner : folderScanners) {
@@ -94,12 +180,197 @@ public class LocalAppStorage extends AbstractAppStorage {
                         break;
                     }
                 }
-                folderCache.put(path, folder);
+                folderCache.put(path, Optional.ofNullable(folder));
             }
         }
         return folder;
     }
 
+    /**
+     * Local node child paths of a folder. Those of a folder of the file system are kept in cache while it is watched,
+     * the other ones are scanned again at each call.
+     */
+    private Collection<Path> getChildPaths(Path path, LocalFolder folder) {
+        if (watcher == null || !(folder instanceof DefaultLocalFolder)) {
+            return filterLocalNodes(folder.getChildPaths(), false);
+        }
+        ChildPaths childPaths = getCachedChildPaths(path);
+        if (childPaths != null) {
+            return childPaths.paths;
+        }
+        Lock lock = folderLocks.get(path);
+        lock.lock();
+        try {
+            childPaths = childPathsCache.getIfPresent(path);
+            if (childPaths == null) {
+                // watched and dated before being listed, so that no change is missed
+                boolean watched = watcher.watch(path);
+                FileTime modifiedTime = getModifiedTime(path);
+                Set<Path> paths = Collections.synchronizedSet(new LinkedHashSet<>(filterLocalNodes(folder.getChildPaths(), watched)));
+                if (!watched) {
+                    return paths;
+                }
+                childPaths = new ChildPaths(paths, modifiedTime);
+                childPathsCache.put(path, childPaths);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return childPaths.paths;
+    }
+
+    private static FileTime getModifiedTime(Path path) {
+        try {
+            return Files.getLastModifiedTime(path);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Cached child paths of a folder, revalidated with the modification time of the folder.
+     */
+    private ChildPaths getCachedChildPaths(Path path) {
+        ChildPaths childPaths = childPathsCache.getIfPresent(path);
+        if (childPaths == null) {
+            return null;
+        }
+        FileTime modifiedTime = getModifiedTime(path);
+        if (Objects.equals(modifiedTime, childPaths.modifiedTime)) {
+            return childPaths;
+        }
+        Lock lock = folderLocks.get(path);
+        lock.lock();
+        try {
+            if (!Objects.equals(modifiedTime, childPaths.modifiedTime)) {
+                revalidateChildPaths(path, childPaths, modifiedTime);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return childPathsCache.getIfPresent(path);
+    }
+
+    /**
+     * Lists again a watched folder modified since its last listing, and processes the entries created or removed
+     * meanwhile as changes notified by the watcher. Must be called with the lock of the folder held.
+     */
+    private void revalidateChildPaths(Path dir, ChildPaths childPaths, FileTime modifiedTime) {
+        if (childPathsCache.getIfPresent(dir) != childPaths) {
+            return;
+        }
+        LocalFolder folder = scanFolder(dir, false);
+        if (folder == null) {
+            // the removal of the folder is notified by its parent
+            childPathsCache.invalidate(dir);
+            return;
+        }
+        childPaths.modifiedTime = modifiedTime;
+        List<Path> entries = folder.getChildPaths();
+        Set<Path> changedPaths = new LinkedHashSet<>();
+        Set<Path> entrySet = new HashSet<>(entries);
+        synchronized (childPaths.paths) {
+            childPaths.paths.stream().filter(path -> !entrySet.contains(path)).forEach(changedPaths::add);
+        }
+        entries.stream().filter(path -> !childPaths.paths.contains(path) && isLocalNode(path, true)).forEach(changedPaths::add);
+        if (!changedPaths.isEmpty()) {
+            updateChildPaths(dir, changedPaths);
+        }
+    }
+
+    private void invalidate(Path path) {
+        fileCache.invalidate(path);
+        Optional<LocalFolder> folder = folderCache.getIfPresent(path);
+        folderCache.invalidate(path);
+        if (folder != null && folder.isPresent() && !Files.exists(path)) {
+            // a removed folder also removes its content
+            fileCache.asMap().keySet().removeIf(p -> p.startsWith(path));
+            folderCache.asMap().keySet().removeIf(p -> p.startsWith(path));
+            childPathsCache.asMap().keySet().removeIf(p -> p.startsWith(path));
+        }
+    }
+
+    /**
+     * Entries of a folder with the same base name as one of the given paths, which may be scanned differently once
+     * these paths changed: a file can be a case because of another file with the same base name.
+     */
+    private static Set<Path> getSiblingPaths(Path dir, Set<Path> paths) {
+        Set<String> baseNames = paths.stream()
+                .map(path -> DataSourceUtil.getBaseName(path.getFileName().toString()))
+                .collect(Collectors.toSet());
+        try (Stream<Path> entries = Files.list(dir)) {
+            return entries.filter(entry -> baseNames.contains(DataSourceUtil.getBaseName(entry.getFileName().toString())))
+                    .collect(Collectors.toSet());
+        } catch (IOException e) {
+            // removed folder, notified by its parent
+            return Collections.emptySet();
+        }
+    }
+
+    /**
+     * Scans again the changed entries of a watched folder and their siblings, and pushes the events of the nodes
+     * created or removed.
+     */
+    private void updateChildPaths(Path dir, Set<Path> changedPaths) {
+        Lock lock = folderLocks.get(dir);
+        lock.lock();
+        try {
+            ChildPaths cachedChildPaths = childPathsCache.getIfPresent(dir);
+            Set<Path> childPaths = cachedChildPaths != null ? cachedChildPaths.paths : null;
+            Set<Path> pathsToScan = new LinkedHashSet<>(changedPaths);
+            if (childPaths != null) {
+                pathsToScan.addAll(getSiblingPaths(dir, changedPaths));
+            }
+            for (Path changedPath : pathsToScan) {
+                invalidate(changedPath);
+                if (childPaths != null) {
+                    boolean wasLocalNode = childPaths.contains(changedPath);
+                    boolean localNode = isLocalNode(changedPath, true);
+                    if (localNode && !wasLocalNode) {
+                        childPaths.add(changedPath);
+                        pushEvent(new NodeCreated(pathToNodeId(changedPath), pathToNodeId(dir)), APPSTORAGE_NODE_TOPIC);
+                    } else if (!localNode && wasLocalNode) {
+                        childPaths.remove(changedPath);
+                        pushEvent(new NodeRemoved(pathToNodeId(changedPath), pathToNodeId(dir)), APPSTORAGE_NODE_TOPIC);
+                    }
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        eventsBus.flush();
+    }
+
+    /**
+     * Lists again a watched folder whose changes have been lost, and pushes the events of the nodes created or removed.
+     */
+    private void resetChildPaths(Path dir) {
+        Lock lock = folderLocks.get(dir);
+        lock.lock();
+        try {
+            ChildPaths childPaths = childPathsCache.getIfPresent(dir);
+            if (childPaths == null) {
+                return;
+            }
+            FileTime modifiedTime = getModifiedTime(dir);
+            LocalFolder folder = scanFolder(dir, false);
+            if (folder == null || !watcher.watch(dir)) {
+                // listed again at next call, the removal of the folder is notified by its parent
+                childPathsCache.invalidate(dir);
+                return;
+            }
+            childPaths.modifiedTime = modifiedTime;
+            Set<Path> changedPaths;
+            synchronized (childPaths.paths) {
+                changedPaths = new LinkedHashSet<>(childPaths.paths);
+            }
+            changedPaths.addAll(folder.getChildPaths());
+            updateChildPaths(dir, changedPaths);
+        } finally {
+            lock.unlock();
+        }
+    }
+
     @Override
     public String getFileSystemName() {
         return fileSystemName;
@@ -208,8 +479,38 @@ public class LocalAppStorage extends AbstractAppStorage {
         throw new AfsException(METHOD_NOT_IMPLEMENTED);
     }
 
-    private boolean isLocalNode(Path path) {
-        return scanFolder(path, false) != null || scanFile(path, false) != null;
+    private boolean isLocalNode(Path path, boolean useCache) {
+        return scanFolder(path, useCache) != null || scanFile(path, useCache) != null;
+    }
+
+    /**
+     * Local node paths among some paths, in the same order, the paths being scanned in parallel.
+     */
+    private List<Path> filterLocalNodes(List<Path> paths, boolean useCache) {
+        if (paths.size() < 2) {
+            return paths.stream().filter(path -> isLocalNode(path, useCache)).toList();
+        }
+        List<CompletableFuture<Boolean>> futures = paths.stream()
+                .map(path -> CompletableFuture.supplyAsync(() -> isLocalNode(path, useCache), scanExecutor))
+                .toList();
+        List<Path> localNodePaths = new ArrayList<>();
+        try {
+            for (int i = 0; i < paths.size(); i++) {
+                if (Boolean.TRUE.equals(futures.get(i).join())) {
+                    localNodePaths.add(paths.get(i));
+                }
+            }
+        } catch (CompletionException e) {
+            futures.forEach(future -> future.cancel(false));
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+        return localNodePaths;
     }
 
     @Override
@@ -217,8 +518,12 @@ public class LocalAppStorage extends AbstractAppStorage {
         Path path = nodeIdToPath(nodeId);
         LocalFolder folder = scanFolder(path, false);
         if (folder != null) {
-            return folder.getChildPaths().stream()
-                    .filter(this::isLocalNode)
+            Collection<Path> childPaths = getChildPaths(path, folder);
+            List<Path> childPathsCopy;
+            synchronized (childPaths) {
+                childPathsCopy = new ArrayList<>(childPaths);
+            }
+            return childPathsCopy.stream()
                     .map(this::getNodeInfo)
                     .collect(Collectors.toList());
         } else {
@@ -233,7 +538,8 @@ public class LocalAppStorage extends AbstractAppStorage {
         LocalFolder folder = scanFolder(path, false);
         if (folder != null) {
             Optional<Path> childPath = folder.getChildPath(name);
-            if (childPath.isPresent() && isLocalNode(childPath.get())) {
+            ChildPaths childPaths = getCachedChildPaths(path);
+            if (childPath.isPresent() && (childPaths != null ? childPaths.paths.contains(childPath.get()) : isLocalNode(childPath.get(), false))) {
                 return childPath.map(this::getNodeInfo);
             }
         }
@@ -418,6 +724,10 @@ public class LocalAppStorage extends AbstractAppStorage {
 
     @Override
     public void close() {
-        // nothing to close
+        scanExecutor.shutdownNow();
+        if (watcher != null) {
+            watcher.close();
+        }
+        fileScanners.forEach(LocalFileScanner::close);
     }
 }
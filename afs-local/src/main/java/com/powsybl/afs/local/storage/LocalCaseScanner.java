@@ -7,15 +7,25 @@
 package com.powsybl.afs.local.storage;
 
 import com.google.auto.service.AutoService;
+import com.powsybl.commons.config.PlatformConfig;
 import com.powsybl.commons.datasource.DataSource;
 import com.powsybl.commons.datasource.ReadOnlyDataSource;
 import com.powsybl.iidm.network.*;
 
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
+ * Scans the files that can be imported as a network. The detected format of each file is kept in a cache, until the
+ * size or the modification time of the file changes, so that importers are only probed for new or modified files.
+ * As a case may be detected from the other files with the same base name, a file cached as a case is still checked by
+ * the importer of its format, but a file cached as not being a case is not probed again when such a file is added.
+ * This cache is persisted to the file set by the {@code case-format-cache} property of the {@code local-app-file-system}
+ * module, if any.
  *
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
  */
@@ -26,25 +36,72 @@ public class LocalCaseScanner implements LocalFileScanner {
 
     private final ImportersLoader importersLoader;
 
+    private final CaseFormatCache formatCache;
+
     public LocalCaseScanner() {
-        this(ImportConfig.load(), new ImportersServiceLoader());
+        this(ImportConfig.load(), new ImportersServiceLoader(), PlatformConfig.defaultConfig().getOptionalModuleConfig("local-app-file-system")
+                .flatMap(moduleConfig -> moduleConfig.getOptionalPathProperty("case-format-cache"))
+                .orElse(null));
     }
 
     public LocalCaseScanner(ImportConfig importConfig, ImportersLoader importersLoader) {
+        this(importConfig, importersLoader, null);
+    }
+
+    /**
+     * @param formatCacheFile the file the detected formats are persisted to, or {@code null} to keep them in memory
+     */
+    public LocalCaseScanner(ImportConfig importConfig, ImportersLoader importersLoader, Path formatCacheFile) {
         this.importConfig = Objects.requireNonNull(importConfig);
         this.importersLoader = Objects.requireNonNull(importersLoader);
+        this.formatCache = new CaseFormatCache(formatCacheFile);
     }
 
     @Override
     public LocalFile scanFile(Path path, LocalFileScannerContext context) {
-        if (Files.isRegularFile(path)) {
-            ReadOnlyDataSource dataSource = DataSource.fromPath(path);
-            for (Importer importer : Importer.list(importersLoader, context.getComputationManager(), importConfig)) {
-                if (importer.exists(dataSource)) {
-                    return new LocalCase(path, importer);
-                }
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException e) {
+            return null;
+        }
+        if (!attributes.isRegularFile()) {
+            return null;
+        }
+        long size = attributes.size();
+        long lastModifiedTime = attributes.lastModifiedTime().toMillis();
+        Optional<String> cachedFormat = formatCache.getFormat(path, size, lastModifiedTime);
+        if (cachedFormat.isPresent()) {
+            if (cachedFormat.get().isEmpty()) {
+                return null;
+            }
+            Importer importer = Importer.find(importersLoader, cachedFormat.get(), context.getComputationManager(), importConfig);
+            if (importer != null && importer.exists(DataSource.fromPath(path))) {
+                return new LocalCase(path, importer);
+            }
+            // the importer of this format is not available anymore, or the files it detected the case from are gone
+        }
+        Importer importer = findImporter(path, context);
+        formatCache.putFormat(path, size, lastModifiedTime, importer != null ? importer.getFormat() : "");
+        return importer != null ? new LocalCase(path, importer) : null;
+    }
+
+    private Importer findImporter(Path path, LocalFileScannerContext context) {
+        ReadOnlyDataSource dataSource = DataSource.fromPath(path);
+        for (Importer importer : Importer.list(importersLoader, context.getComputationManager(), importConfig)) {
+            if (importer.exists(dataSource)) {
+                return importer;
             }
         }
         return null;
     }
+
+    @Override
+    public void close() {
+        formatCache.close();
+    }
+
+    int getCachedFormatCount() {
+        return formatCache.size();
+    }
 }
@@ -9,10 +9,18 @@ package com.powsybl.afs.local.storage;
 import java.nio.file.Path;
 
 /**
+ * The entries of a folder are scanned in parallel, so a scanner may be called concurrently for different paths.
  *
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
  */
 public interface LocalFileScanner {
 
     LocalFile scanFile(Path path, LocalFileScannerContext context);
+
+    /**
+     * Releases the resources of the scanner when a storage using it is closed. As a scanner may be shared by several
+     * storages, it must still be usable afterwards.
+     */
+    default void close() {
+    }
 }
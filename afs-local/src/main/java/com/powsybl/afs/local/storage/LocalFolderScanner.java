@@ -9,6 +9,7 @@ package com.powsybl.afs.local.storage;
 import java.nio.file.Path;
 
 /**
+ * The entries of a folder are scanned in parallel, so a scanner may be called concurrently for different paths.
  *
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
  */
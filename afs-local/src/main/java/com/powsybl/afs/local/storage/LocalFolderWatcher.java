@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.local.storage;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystem;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Watches the entries of the directories listed by a {@link LocalAppStorage}, so that it does not scan them again
+ * until they change.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+final class LocalFolderWatcher implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LocalFolderWatcher.class);
+
+    interface Listener {
+
+        /**
+         * Called when some entries of a directory have been created, modified or deleted.
+         */
+        void onChange(Path dir, Set<Path> childPaths);
+
+        /**
+         * Called when some changes of a directory have been lost, or when it is not watched anymore.
+         */
+        void onReset(Path dir);
+    }
+
+    private final WatchService watchService;
+
+    private final Listener listener;
+
+    private final Map<Path, WatchKey> keys = new ConcurrentHashMap<>();
+
+    private final ExecutorService executor;
+
+    /**
+     * @return a watcher, or {@code null} if the file system does not support watching
+     */
+    static LocalFolderWatcher create(FileSystem fileSystem, String name, Listener listener) {
+        WatchService watchService;
+        try {
+            watchService = fileSystem.newWatchService();
+        } catch (IOException | UnsupportedOperationException e) {
+            LOGGER.warn("Local folders of '{}' cannot be watched, they will be scanned at each listing: {}", name, e.toString());
+            return null;
+        }
+        return new LocalFolderWatcher(watchService, name, listener);
+    }
+
+    private LocalFolderWatcher(WatchService watchService, String name, Listener listener) {
+        this.watchService = Objects.requireNonNull(watchService);
+        this.listener = Objects.requireNonNull(listener);
+        executor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+            .setNameFormat("afs-local-watch-" + name.replace("%", "%%") + "-%d")
+            .setDaemon(true)
+            .build());
+        executor.execute(this::run);
+    }
+
+    /**
+     * @return {@code true} if the directory is watched
+     */
+    boolean watch(Path dir) {
+        try {
+            keys.computeIfAbsent(dir, d -> {
+                try {
+                    return d.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            return true;
+        } catch (UncheckedIOException | ClosedWatchServiceException e) {
+            // for instance when the maximum number of watched directories is reached
+            LOGGER.warn("Local folder '{}' cannot be watched: {}", dir, e.toString());
+            return false;
+        }
+    }
+
+    void unwatch(Path dir) {
+        WatchKey key = keys.remove(dir);
+        if (key != null) {
+            key.cancel();
+        }
+    }
+
+    private void run() {
+        while (true) {
+            WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (ClosedWatchServiceException e) {
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            Path dir = (Path) key.watchable();
+            try {
+                process(dir, key);
+            } catch (Exception e) {
+                // a failing scanner does not stop the watch
+                LOGGER.error("Failed to process changes of local folder '{}'", dir, e);
+            }
+        }
+    }
+
+    /**
+     * The key is always reset, so that the next changes are received, and the folder is listed again if its changes
+     * could not be processed.
+     */
+    private void process(Path dir, WatchKey key) {
+        boolean overflow = false;
+        Set<Path> childPaths = new LinkedHashSet<>();
+        boolean valid;
+        try {
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                    overflow = true;
+                } else {
+                    childPaths.add(dir.resolve((Path) event.context()));
+                }
+            }
+        } finally {
+            valid = key.reset();
+            if (!valid) {
+                keys.remove(dir, key);
+            }
+        }
+        boolean processed = false;
+        try {
+            if (!overflow && valid) {
+                if (!childPaths.isEmpty()) {
+                    listener.onChange(dir, childPaths);
+                }
+                processed = true;
+            }
+        } finally {
+            if (!processed) {
+                listener.onReset(dir);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.local;
+
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
+import com.powsybl.afs.ext.base.TestImporter;
+import com.powsybl.afs.local.storage.LocalCaseScanner;
+import com.powsybl.afs.storage.NodeInfo;
+import com.powsybl.computation.ComputationManager;
+import com.powsybl.iidm.network.ImportConfig;
+import com.powsybl.iidm.network.ImportersLoaderList;
+import com.powsybl.iidm.network.Network;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+class LocalAppFileSystemTest {
+
+    private FileSystem fileSystem;
+
+    private LocalAppFileSystem appFileSystem;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        fileSystem = Jimfs.newFileSystem(Configuration.unix());
+        Path rootDir = fileSystem.getPath("/cases");
+        Files.createDirectories(rootDir.resolve("winter studies"));
+        Files.createFile(rootDir.resolve("winter studies").resolve("peak.tst"));
+        Files.createFile(rootDir.resolve("base.tst"));
+        LocalAppFileSystemConfig config = new LocalAppFileSystemConfig("drive", false, rootDir);
+        appFileSystem = new LocalAppFileSystem(config,
+                Collections.singletonList(new LocalCaseScanner(new ImportConfig(), new ImportersLoaderList(new TestImporter(mock(Network.class))))),
+                Collections.emptyList(), mock(ComputationManager.class));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        appFileSystem.close();
+        fileSystem.close();
+    }
+
+    @Test
+    void searchTest() {
+        assertEquals(List.of("%2Fcases%2Fwinter+studies"), appFileSystem.searchNodes("winter", 10).stream().map(NodeInfo::getId).toList());
+        assertEquals(List.of("%2Fcases%2Fwinter+studies%2Fpeak.tst"), appFileSystem.searchNodes("peak", 10).stream().map(NodeInfo::getId).toList());
+        assertEquals(List.of("%2Fcases%2Fbase.tst"), appFileSystem.searchNodes("base", 10).stream().map(NodeInfo::getId).toList());
+        assertTrue(appFileSystem.searchNodes("summer", 10).isEmpty());
+    }
+}
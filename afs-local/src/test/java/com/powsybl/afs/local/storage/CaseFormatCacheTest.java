@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.local.storage;
+
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+class CaseFormatCacheTest {
+
+    private FileSystem fileSystem;
+
+    private Path cacheFile;
+
+    @BeforeEach
+    void setUp() {
+        fileSystem = Jimfs.newFileSystem(Configuration.unix());
+        cacheFile = fileSystem.getPath("/case-formats");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        fileSystem.close();
+    }
+
+    @Test
+    void test() {
+        Path path = fileSystem.getPath("/cases/a b.tst");
+        CaseFormatCache cache = new CaseFormatCache(cacheFile);
+        assertEquals(Optional.empty(), cache.getFormat(path, 10, 1000));
+        cache.putFormat(path, 10, 1000, "TEST");
+        cache.putFormat(fileSystem.getPath("/cases/b.txt"), 5, 1000, "");
+        assertEquals(Optional.of("TEST"), cache.getFormat(path, 10, 1000));
+        assertEquals(Optional.of(""), cache.getFormat(fileSystem.getPath("/cases/b.txt"), 5, 1000));
+
+        // modified file
+        assertEquals(Optional.empty(), cache.getFormat(path, 11, 1000));
+        assertEquals(Optional.empty(), cache.getFormat(path, 10, 2000));
+
+        // reloaded from the file, closed and reopened by the next write
+        cache.close();
+        cache.putFormat(fileSystem.getPath("/cases/c.txt"), 5, 1000, "");
+        CaseFormatCache cache2 = new CaseFormatCache(cacheFile);
+        assertEquals(3, cache2.size());
+        assertEquals(Optional.of("TEST"), cache2.getFormat(path, 10, 1000));
+        assertEquals(Optional.of(""), cache2.getFormat(fileSystem.getPath("/cases/b.txt"), 5, 1000));
+
+        // in memory
+        CaseFormatCache cache3 = new CaseFormatCache();
+        cache3.putFormat(path, 10, 1000, "TEST");
+        assertEquals(Optional.of("TEST"), cache3.getFormat(path, 10, 1000));
+    }
+
+    @Test
+    void compactionTest() throws Exception {
+        Path path = fileSystem.getPath("/cases/a.tst");
+        CaseFormatCache cache = new CaseFormatCache(cacheFile);
+        for (int i = 0; i < 10; i++) {
+            cache.putFormat(path, 10, i, "TEST");
+        }
+        Files.writeString(cacheFile, "invalid line\n", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        assertEquals(11, Files.readAllLines(cacheFile).size());
+
+        // outdated and invalid lines are removed at loading
+        CaseFormatCache cache2 = new CaseFormatCache(cacheFile);
+        assertEquals(Optional.of("TEST"), cache2.getFormat(path, 10, 9));
+        assertEquals(Optional.empty(), cache2.getFormat(path, 10, 8));
+        assertEquals(1, Files.readAllLines(cacheFile).size());
+    }
+}
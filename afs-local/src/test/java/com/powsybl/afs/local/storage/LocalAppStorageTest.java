@@ -8,13 +8,20 @@ package com.powsybl.afs.local.storage;
 
 import com.google.common.jimfs.Configuration;
 import com.google.common.jimfs.Jimfs;
+import com.google.common.jimfs.WatchServiceConfiguration;
 import com.powsybl.afs.AfsException;
 import com.powsybl.afs.Folder;
 import com.powsybl.afs.ext.base.Case;
 import com.powsybl.afs.ext.base.TestImporter;
 import com.powsybl.afs.storage.AppStorageDataSource;
+import com.powsybl.afs.storage.EventsBus;
+import com.powsybl.afs.storage.InMemoryEventsBus;
 import com.powsybl.afs.storage.NodeGenericMetadata;
 import com.powsybl.afs.storage.NodeInfo;
+import com.powsybl.afs.storage.events.AppStorageListener;
+import com.powsybl.afs.storage.events.NodeCreated;
+import com.powsybl.afs.storage.events.NodeEvent;
+import com.powsybl.afs.storage.events.NodeRemoved;
 import com.powsybl.commons.datasource.DataSource;
 import com.powsybl.computation.ComputationManager;
 import com.powsybl.iidm.network.ImportConfig;
@@ -33,8 +40,13 @@ import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static com.powsybl.afs.local.storage.LocalAppStorage.METHOD_NOT_IMPLEMENTED;
@@ -296,4 +308,88 @@ class LocalAppStorageTest {
         AfsException exception = assertThrows(AfsException.class, () -> storage.removeDependency("any", "any", "any"));
         assertEquals(METHOD_NOT_IMPLEMENTED, exception.getMessage());
     }
+
+    /**
+     * Next event which is not one of the ignored ones.
+     */
+    private static NodeEvent pollEvent(BlockingQueue<NodeEvent> events, Set<NodeEvent> ignoredEvents) throws InterruptedException {
+        NodeEvent event;
+        do {
+            event = events.poll(5, TimeUnit.SECONDS);
+        } while (event != null && ignoredEvents.contains(event));
+        return event;
+    }
+
+    @Test
+    void watchTest() throws Exception {
+        Configuration configuration = Configuration.unix().toBuilder()
+            .setWatchServiceConfiguration(WatchServiceConfiguration.polling(10, TimeUnit.MILLISECONDS))
+            .build();
+        try (FileSystem watchedFileSystem = Jimfs.newFileSystem(configuration)) {
+            Path rootDir = watchedFileSystem.getPath("/cases");
+            Files.createDirectories(rootDir);
+            Files.createFile(rootDir.resolve("n.tst"));
+
+            BlockingQueue<NodeEvent> events = new LinkedBlockingQueue<>();
+            AppStorageListener listener = eventList -> events.addAll(eventList.getEvents());
+            EventsBus eventsBus = new InMemoryEventsBus();
+            eventsBus.addListener(listener);
+            List<LocalFileScanner> fileExtensions
+                = Collections.singletonList(new LocalCaseScanner(new ImportConfig(), new ImportersLoaderList(new TestImporter(mock(Network.class)))));
+            try (LocalAppStorage watchedStorage = new LocalAppStorage(rootDir, "mem", fileExtensions, Collections.emptyList(), mock(ComputationManager.class), eventsBus)) {
+                String rootId = watchedStorage.createRootNodeIfNotExists("mem", Folder.PSEUDO_CLASS).getId();
+                assertEquals(List.of("%2Fcases%2Fn.tst"), watchedStorage.getChildNodes(rootId).stream().map(NodeInfo::getId).toList());
+
+                // changes on disk are notified, and seen by the next listing
+                Files.createFile(rootDir.resolve("n2.tst"));
+                assertEquals(new NodeCreated("%2Fcases%2Fn2.tst", rootId), events.poll(5, TimeUnit.SECONDS));
+                assertEquals(List.of("%2Fcases%2Fn.tst", "%2Fcases%2Fn2.tst"), watchedStorage.getChildNodes(rootId).stream().map(NodeInfo::getId).toList());
+                assertTrue(watchedStorage.getChildNode(rootId, "n2.tst").isPresent());
+
+                // files which are not cases are ignored: n.txt is only a case while n.tst exists, depending on
+                // whether both changes are seen at once, it is created and removed along with n.tst, or never seen
+                Files.createFile(rootDir.resolve("n.txt"));
+                Files.delete(rootDir.resolve("n.tst"));
+                Set<NodeEvent> siblingEvents = Set.of(new NodeCreated("%2Fcases%2Fn.txt", rootId), new NodeRemoved("%2Fcases%2Fn.txt", rootId));
+                assertEquals(new NodeRemoved("%2Fcases%2Fn.tst", rootId), pollEvent(events, siblingEvents));
+                assertEquals(List.of("%2Fcases%2Fn2.tst"), watchedStorage.getChildNodes(rootId).stream().map(NodeInfo::getId).toList());
+                assertTrue(watchedStorage.getChildNode(rootId, "n.tst").isEmpty());
+                assertTrue(watchedStorage.getChildNode(rootId, "n.txt").isEmpty());
+
+                Files.createDirectory(rootDir.resolve("folder"));
+                assertEquals(new NodeCreated("%2Fcases%2Ffolder", rootId), pollEvent(events, siblingEvents));
+            }
+        }
+    }
+
+    @Test
+    void unnotifiedChangeTest() throws Exception {
+        // changes are never notified, as changes made by another host on a network file system
+        Configuration configuration = Configuration.unix().toBuilder()
+            .setWatchServiceConfiguration(WatchServiceConfiguration.polling(1, TimeUnit.HOURS))
+            .build();
+        try (FileSystem watchedFileSystem = Jimfs.newFileSystem(configuration)) {
+            Path rootDir = watchedFileSystem.getPath("/cases");
+            Files.createDirectories(rootDir);
+            Files.createFile(rootDir.resolve("n.tst"));
+
+            BlockingQueue<NodeEvent> events = new LinkedBlockingQueue<>();
+            EventsBus eventsBus = new InMemoryEventsBus();
+            eventsBus.addListener(eventList -> events.addAll(eventList.getEvents()));
+            List<LocalFileScanner> fileExtensions
+                = Collections.singletonList(new LocalCaseScanner(new ImportConfig(), new ImportersLoaderList(new TestImporter(mock(Network.class)))));
+            try (LocalAppStorage watchedStorage = new LocalAppStorage(rootDir, "mem", fileExtensions, Collections.emptyList(), mock(ComputationManager.class), eventsBus)) {
+                String rootId = watchedStorage.createRootNodeIfNotExists("mem", Folder.PSEUDO_CLASS).getId();
+                assertEquals(List.of("%2Fcases%2Fn.tst"), watchedStorage.getChildNodes(rootId).stream().map(NodeInfo::getId).toList());
+
+                // the folder has been modified since it was listed, so it is listed again
+                Thread.sleep(10);
+                Files.createFile(rootDir.resolve("n2.tst"));
+                Files.delete(rootDir.resolve("n.tst"));
+                assertTrue(watchedStorage.getChildNode(rootId, "n2.tst").isPresent());
+                assertEquals(List.of("%2Fcases%2Fn2.tst"), watchedStorage.getChildNodes(rootId).stream().map(NodeInfo::getId).toList());
+                assertEquals(Set.of(new NodeCreated("%2Fcases%2Fn2.tst", rootId), new NodeRemoved("%2Fcases%2Fn.tst", rootId)), new HashSet<>(events));
+            }
+        }
+    }
 }
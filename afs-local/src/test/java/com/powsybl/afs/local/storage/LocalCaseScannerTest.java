@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.local.storage;
+
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
+import com.powsybl.afs.ext.base.TestImporter;
+import com.powsybl.computation.ComputationManager;
+import com.powsybl.iidm.network.ImportConfig;
+import com.powsybl.iidm.network.ImportersLoaderList;
+import com.powsybl.iidm.network.Network;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+class LocalCaseScannerTest {
+
+    private FileSystem fileSystem;
+
+    private Path caseFile;
+
+    private Path otherFile;
+
+    private Path cacheFile;
+
+    private TestImporter importer;
+
+    private LocalFileScannerContext context;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        fileSystem = Jimfs.newFileSystem(Configuration.unix());
+        Path rootDir = fileSystem.getPath("/cases");
+        Files.createDirectories(rootDir);
+        caseFile = Files.createFile(rootDir.resolve("n.tst"));
+        otherFile = Files.createFile(rootDir.resolve("m.txt"));
+        cacheFile = fileSystem.getPath("/case-formats");
+        importer = spy(new TestImporter(mock(Network.class)));
+        context = new LocalFileScannerContext(mock(ComputationManager.class));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        fileSystem.close();
+    }
+
+    private LocalCaseScanner createScanner() {
+        return new LocalCaseScanner(new ImportConfig(), new ImportersLoaderList(importer), cacheFile);
+    }
+
+    @Test
+    void test() throws Exception {
+        LocalCaseScanner scanner = createScanner();
+        assertInstanceOf(LocalCase.class, scanner.scanFile(caseFile, context));
+        assertNull(scanner.scanFile(otherFile, context));
+        assertNull(scanner.scanFile(caseFile.getParent(), context));
+        verify(importer, times(2)).exists(any());
+        assertEquals(2, scanner.getCachedFormatCount());
+
+        // importer not probed again for unchanged files, only the case is checked by the importer of its format
+        assertInstanceOf(LocalCase.class, scanner.scanFile(caseFile, context));
+        assertNull(scanner.scanFile(otherFile, context));
+        verify(importer, times(3)).exists(any());
+
+        // nor after a restart
+        LocalCaseScanner scanner2 = createScanner();
+        assertInstanceOf(LocalCase.class, scanner2.scanFile(caseFile, context));
+        assertNull(scanner2.scanFile(otherFile, context));
+        verify(importer, times(4)).exists(any());
+
+        // but probed again for a modified file
+        Files.setLastModifiedTime(otherFile, FileTime.fromMillis(Files.getLastModifiedTime(otherFile).toMillis() + 1000));
+        assertNull(scanner2.scanFile(otherFile, context));
+        verify(importer, times(5)).exists(any());
+    }
+
+    @Test
+    void siblingTest() throws Exception {
+        // a file is a case as long as a file with the same base name can be imported
+        Path siblingFile = Files.createFile(caseFile.resolveSibling("n.txt"));
+        LocalCaseScanner scanner = createScanner();
+        assertInstanceOf(LocalCase.class, scanner.scanFile(siblingFile, context));
+        assertInstanceOf(LocalCase.class, scanner.scanFile(siblingFile, context));
+        verify(importer, times(2)).exists(any());
+
+        Files.delete(caseFile);
+        assertNull(scanner.scanFile(siblingFile, context));
+        assertNull(createScanner().scanFile(siblingFile, context));
+
+        // but not detected again as a case when the sibling comes back, until the file is modified
+        Files.createFile(caseFile);
+        assertNull(scanner.scanFile(siblingFile, context));
+        scanner.close();
+    }
+}
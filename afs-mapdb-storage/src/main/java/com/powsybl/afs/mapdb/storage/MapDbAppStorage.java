@@ -14,6 +14,8 @@ import com.powsybl.afs.storage.EventsBus;
 import com.powsybl.afs.storage.NodeDependency;
 import com.powsybl.afs.storage.NodeGenericMetadata;
 import com.powsybl.afs.storage.NodeInfo;
+import com.powsybl.afs.storage.NodeQuery;
+import com.powsybl.afs.storage.TimeSeriesWindow;
 import com.powsybl.afs.storage.events.*;
 import com.powsybl.timeseries.AbstractPoint;
 import com.powsybl.timeseries.DataChunk;
@@ -27,6 +29,7 @@ import org.mapdb.Atomic;
 import org.mapdb.DB;
 import org.mapdb.DBMaker;
 import org.mapdb.Serializer;
+import org.mapdb.serializer.SerializerArrayTuple;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -42,12 +45,15 @@ import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -75,6 +81,9 @@ public class MapDbAppStorage extends AbstractAppStorage {
     private final ConcurrentMap<UUID, List<NamedLink>> dependencyNodesMap;
     private final ConcurrentMap<NamedLink, List<UUID>> dependencyNodesByNameMap;
     private final ConcurrentMap<UUID, List<UUID>> backwardDependencyNodesMap;
+    // (pseudo-class, node id) and (metadata name, metadata value, node id) of the nodes, for the node queries
+    private final NavigableSet<Object[]> nodesByPseudoClassSet;
+    private final NavigableSet<Object[]> nodesByStringMetadataSet;
 
     protected MapDbAppStorage(String fileSystemName, Supplier<DB> db, EventsBus eventsBus) {
         this.fileSystemName = Objects.requireNonNull(fileSystemName);
@@ -143,6 +152,23 @@ public class MapDbAppStorage extends AbstractAppStorage {
             .hashMap("backwardDependencyNodes", UuidSerializer.INSTANCE, UuidListSerializer.INSTANCE)
             .createOrOpen();
 
+        boolean indexed = this.db.exists("nodesByPseudoClass");
+
+        nodesByPseudoClassSet = (NavigableSet<Object[]>) this.db
+            .treeSet("nodesByPseudoClass")
+            .serializer(new SerializerArrayTuple(Serializer.STRING, UuidSerializer.INSTANCE))
+            .createOrOpen();
+
+        nodesByStringMetadataSet = (NavigableSet<Object[]>) this.db
+            .treeSet("nodesByStringMetadata")
+            .serializer(new SerializerArrayTuple(Serializer.STRING, Serializer.STRING, UuidSerializer.INSTANCE))
+            .createOrOpen();
+
+        // index the nodes of a storage created before the node queries
+        if (!indexed) {
+            nodeInfoMap.forEach(this::index);
+        }
+
         this.eventsBus = Objects.requireNonNull(eventsBus);
     }
 
@@ -238,6 +264,24 @@ public class MapDbAppStorage extends AbstractAppStorage {
         return removed;
     }
 
+    private void index(UUID nodeUuid, NodeInfo nodeInfo) {
+        nodesByPseudoClassSet.add(new Object[] {nodeInfo.getPseudoClass(), nodeUuid});
+        indexStringMetadata(nodeUuid, nodeInfo.getGenericMetadata().getStrings());
+    }
+
+    private void indexStringMetadata(UUID nodeUuid, Map<String, String> stringMetadata) {
+        stringMetadata.forEach((name, value) -> nodesByStringMetadataSet.add(new Object[] {name, value, nodeUuid}));
+    }
+
+    private void unindex(UUID nodeUuid, NodeInfo nodeInfo) {
+        nodesByPseudoClassSet.remove(new Object[] {nodeInfo.getPseudoClass(), nodeUuid});
+        unindexStringMetadata(nodeUuid, nodeInfo.getGenericMetadata().getStrings());
+    }
+
+    private void unindexStringMetadata(UUID nodeUuid, Map<String, String> stringMetadata) {
+        stringMetadata.forEach((name, value) -> nodesByStringMetadataSet.remove(new Object[] {name, value, nodeUuid}));
+    }
+
     static UUID checkNodeId(String nodeId) {
         try {
             return UUID.fromString(nodeId);
@@ -386,6 +430,69 @@ public class MapDbAppStorage extends AbstractAppStorage {
         return Collections.emptyList();
     }
 
+    /**
+     * Ids of the nodes which may match the query, from the most selective index, or {@code null} if the query cannot
+     * use any index.
+     */
+    private Set<Object[]> getCandidateNodes(NodeQuery query) {
+        Set<Object[]> candidates = null;
+        for (Map.Entry<String, String> e : query.getMetadata().getStrings().entrySet()) {
+            Set<Object[]> metadataCandidates = nodesByStringMetadataSet.subSet(new Object[] {e.getKey(), e.getValue()}, true,
+                new Object[] {e.getKey(), e.getValue(), null}, true);
+            if (candidates == null || metadataCandidates.size() < candidates.size()) {
+                candidates = metadataCandidates;
+            }
+        }
+        if (query.getPseudoClass() != null) {
+            Set<Object[]> pseudoClassCandidates = nodesByPseudoClassSet.subSet(new Object[] {query.getPseudoClass()}, true,
+                new Object[] {query.getPseudoClass(), null}, true);
+            if (candidates == null || pseudoClassCandidates.size() < candidates.size()) {
+                candidates = pseudoClassCandidates;
+            }
+        }
+        return candidates;
+    }
+
+    private boolean isConsistentDescendant(UUID nodeUuid, UUID ancestorUuid) {
+        if (!isConsistent(nodeUuid.toString())) {
+            return false;
+        }
+        UUID parentNodeUuid = parentNodeMap.get(nodeUuid);
+        while (parentNodeUuid != null) {
+            if (parentNodeUuid.equals(ancestorUuid)) {
+                return true;
+            }
+            if (!isConsistent(parentNodeUuid.toString())) {
+                return false;
+            }
+            parentNodeUuid = parentNodeMap.get(parentNodeUuid);
+        }
+        return false;
+    }
+
+    @Override
+    public List<NodeInfo> findNodes(String nodeId, NodeQuery query) {
+        UUID nodeUuid = checkNodeId(nodeId);
+        Objects.requireNonNull(query);
+        checkNodeExists(nodeUuid);
+        Set<Object[]> candidates = getCandidateNodes(query);
+        if (candidates == null) {
+            return query.walk(this, nodeId);
+        }
+        List<NodeInfo> nodes = new ArrayList<>();
+        for (Object[] candidate : candidates) {
+            UUID candidateUuid = (UUID) candidate[candidate.length - 1];
+            NodeInfo nodeInfo = nodeInfoMap.get(candidateUuid);
+            if (nodeInfo != null && query.matches(nodeInfo) && isConsistentDescendant(candidateUuid, nodeUuid)) {
+                nodes.add(nodeInfo);
+                if (nodes.size() >= query.getLimit()) {
+                    break;
+                }
+            }
+        }
+        return nodes;
+    }
+
     @Override
     public Optional<NodeInfo> getChildNode(String parentString, String name) {
         UUID parentNodeUuid = checkNodeId(parentString);
@@ -447,6 +554,7 @@ public class MapDbAppStorage extends AbstractAppStorage {
         long creationTime = ZonedDateTime.now().toInstant().toEpochMilli();
         NodeInfo nodeInfo = new NodeInfo(nodeUuid.toString(), name, nodePseudoClass, description, creationTime, creationTime, version, genericMetadata);
         nodeInfoMap.put(nodeUuid, nodeInfo);
+        index(nodeUuid, nodeInfo);
         dataNamesMap.put(nodeUuid, Collections.emptySet());
         childNodesMap.put(nodeUuid, new ArrayList<>());
         if (parentNodeUuid != null) {
@@ -465,6 +573,7 @@ public class MapDbAppStorage extends AbstractAppStorage {
     public void setMetadata(String nodeId, NodeGenericMetadata metadata) {
         UUID nodeUuid = checkNodeId(nodeId);
         NodeInfo nodeInfo = getNodeInfo(nodeId);
+        unindexStringMetadata(nodeUuid, nodeInfo.getGenericMetadata().getStrings());
         nodeInfo.getGenericMetadata().getDoubles().clear();
         nodeInfo.getGenericMetadata().getStrings().clear();
         nodeInfo.getGenericMetadata().getInts().clear();
@@ -476,6 +585,7 @@ public class MapDbAppStorage extends AbstractAppStorage {
             nodeInfo.getGenericMetadata().getBooleans().putAll(metadata.getBooleans());
         }
         nodeInfoMap.put(nodeUuid, nodeInfo);
+        indexStringMetadata(nodeUuid, nodeInfo.getGenericMetadata().getStrings());
         pushEvent(new NodeMetadataUpdated(nodeUuid.toString(), metadata), APPSTORAGE_NODE_TOPIC);
     }
 
@@ -518,6 +628,7 @@ public class MapDbAppStorage extends AbstractAppStorage {
             deleteNode(childNodeUuid);
         }
         NodeInfo nodeInfo = nodeInfoMap.remove(nodeUuid);
+        unindex(nodeUuid, nodeInfo);
         nodeConsistencyMap.remove(nodeUuid);
         Set<String> removedData = dataNamesMap.remove(nodeUuid);
         removedData.forEach(dataName -> {
@@ -566,6 +677,15 @@ public class MapDbAppStorage extends AbstractAppStorage {
         return Optional.ofNullable(value).map(ByteArrayInputStream::new);
     }
 
+    @Override
+    public OptionalLong getBinaryDataLength(String nodeId, String name) {
+        UUID nodeUuid = checkNodeId(nodeId);
+        Objects.requireNonNull(name);
+        checkNodeExists(nodeUuid);
+        byte[] value = dataMap.get(new NamedLink(nodeUuid, name));
+        return value != null ? OptionalLong.of(value.length) : OptionalLong.empty();
+    }
+
     @Override
     public OutputStream writeBinaryData(String nodeId, String name) {
         UUID nodeUuid = checkNodeId(nodeId);
@@ -689,7 +809,8 @@ public class MapDbAppStorage extends AbstractAppStorage {
 
     private <P extends AbstractPoint, C extends DataChunk<P, C>> List<C> getChunks(UUID nodeId, int version, String timeSeriesName,
                                                                                    TimeSeriesMetadata metadata,
-                                                                                   ConcurrentMap<TimeSeriesChunkKey, C> map) {
+                                                                                   ConcurrentMap<TimeSeriesChunkKey, C> map,
+                                                                                   TimeSeriesWindow window, UnaryOperator<C> slicer) {
         TimeSeriesKey key = new TimeSeriesKey(nodeId, version, timeSeriesName);
         Integer lastChunkNum = timeSeriesLastChunkMap.get(key);
         if (lastChunkNum == null) {
@@ -704,13 +825,26 @@ public class MapDbAppStorage extends AbstractAppStorage {
             if (chunk.getDataType() != metadata.getDataType()) {
                 throw new IllegalStateException("Bad chunk data type");
             }
-            chunks.add(chunk);
+            if (window == null) {
+                chunks.add(chunk);
+            } else if (window.overlaps(chunk.getOffset(), chunk.getLength())) {
+                chunks.add(slicer.apply(chunk));
+            }
         }
         return chunks;
     }
 
     private <P extends AbstractPoint, C extends DataChunk<P, C>> Map<String, List<C>> getTimeSeriesData(
         String nodeId, Set<String> timeSeriesNames, int version, ConcurrentMap<TimeSeriesChunkKey, C> map) {
+        return getTimeSeriesData(nodeId, timeSeriesNames, version, map, null, UnaryOperator.identity());
+    }
+
+    /**
+     * @param window if not null, only the chunks overlapping the window are kept, sliced by {@code slicer}
+     */
+    private <P extends AbstractPoint, C extends DataChunk<P, C>> Map<String, List<C>> getTimeSeriesData(
+        String nodeId, Set<String> timeSeriesNames, int version, ConcurrentMap<TimeSeriesChunkKey, C> map,
+        TimeSeriesWindow window, UnaryOperator<C> slicer) {
         UUID nodeUuid = checkNodeId(nodeId);
         Objects.requireNonNull(timeSeriesNames);
         checkConsistency(nodeUuid);
@@ -722,8 +856,10 @@ public class MapDbAppStorage extends AbstractAppStorage {
             if (metadata != null &&
                 (metadata.getDataType() == TimeSeriesDataType.DOUBLE && map == doubleTimeSeriesChunksMap
                     || metadata.getDataType() == TimeSeriesDataType.STRING && map == stringTimeSeriesChunksMap)) {
-                List<C> chunks = getChunks(nodeUuid, version, timeSeriesName, metadata, map);
-                timeSeriesData.put(timeSeriesName, chunks);
+                List<C> chunks = getChunks(nodeUuid, version, timeSeriesName, metadata, map, window, slicer);
+                if (window == null || !chunks.isEmpty()) {
+                    timeSeriesData.put(timeSeriesName, chunks);
+                }
             }
         }
         return timeSeriesData;
@@ -768,6 +904,12 @@ public class MapDbAppStorage extends AbstractAppStorage {
         return getTimeSeriesData(nodeId, timeSeriesNames, version, doubleTimeSeriesChunksMap);
     }
 
+    @Override
+    public Map<String, List<DoubleDataChunk>> getDoubleTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version, TimeSeriesWindow window) {
+        Objects.requireNonNull(window);
+        return getTimeSeriesData(nodeId, timeSeriesNames, version, doubleTimeSeriesChunksMap, window, window::slice);
+    }
+
     @Override
     public void addDoubleTimeSeriesData(String nodeId, int version, String timeSeriesName, List<DoubleDataChunk> chunks) {
         addTimeSeriesData(nodeId, version, timeSeriesName, chunks, doubleTimeSeriesChunksMap);
@@ -779,6 +921,12 @@ public class MapDbAppStorage extends AbstractAppStorage {
         return getTimeSeriesData(nodeId, timeSeriesNames, version, stringTimeSeriesChunksMap);
     }
 
+    @Override
+    public Map<String, List<StringDataChunk>> getStringTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version, TimeSeriesWindow window) {
+        Objects.requireNonNull(window);
+        return getTimeSeriesData(nodeId, timeSeriesNames, version, stringTimeSeriesChunksMap, window, window::slice);
+    }
+
     @Override
     public void addStringTimeSeriesData(String nodeId, int version, String timeSeriesName, List<StringDataChunk> chunks) {
         addTimeSeriesData(nodeId, version, timeSeriesName, chunks, stringTimeSeriesChunksMap);
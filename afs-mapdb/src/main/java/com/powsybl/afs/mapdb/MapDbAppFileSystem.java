@@ -7,8 +7,11 @@
 package com.powsybl.afs.mapdb;
 
 import com.powsybl.afs.AppFileSystem;
+import com.powsybl.afs.LocalTaskMonitor;
 import com.powsybl.afs.mapdb.storage.MapDbAppStorage;
 
+import java.nio.file.Path;
+
 /**
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
  */
@@ -17,4 +20,11 @@ public class MapDbAppFileSystem extends AppFileSystem {
     public MapDbAppFileSystem(String driveName, boolean remotelyAccessible, MapDbAppStorage storage) {
         super(driveName, remotelyAccessible, storage);
     }
+
+    /**
+     * @param searchIndexFile the file the search index is saved to, or {@code null} to build it again at each opening
+     */
+    public MapDbAppFileSystem(String driveName, boolean remotelyAccessible, MapDbAppStorage storage, Path searchIndexFile) {
+        super(driveName, remotelyAccessible, storage, LocalTaskMonitor.createWithNotificationThreads(), searchIndexFile);
+    }
 }
@@ -44,7 +44,9 @@ public class MapDbAppFileSystemProvider implements AppFileSystemProvider {
         return configs.stream()
                 .map(config -> {
                     MapDbAppStorage storage = storageProvider.apply(config.getDriveName(), config.getDbFile(), context.getEventsBus());
-                    return new MapDbAppFileSystem(config.getDriveName(), config.isRemotelyAccessible(), storage);
+                    // the search index is saved next to the database
+                    Path searchIndexFile = config.getDbFile().resolveSibling(config.getDbFile().getFileName() + ".search");
+                    return new MapDbAppFileSystem(config.getDriveName(), config.isRemotelyAccessible(), storage, searchIndexFile);
                 })
                 .collect(Collectors.toList());
     }
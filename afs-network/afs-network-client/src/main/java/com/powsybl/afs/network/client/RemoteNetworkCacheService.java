@@ -6,36 +6,53 @@
  */
 package com.powsybl.afs.network.client;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.powsybl.afs.AfsException;
 import com.powsybl.afs.ProjectFile;
+import com.powsybl.afs.ext.base.AbstractProjectCase;
 import com.powsybl.afs.ext.base.NetworkCacheService;
 import com.powsybl.afs.ext.base.ProjectCase;
 import com.powsybl.afs.ext.base.ProjectCaseListener;
 import com.powsybl.afs.ext.base.ScriptType;
+import com.powsybl.afs.storage.events.AppStorageListener;
+import com.powsybl.afs.storage.events.NodeEvent;
+import com.powsybl.afs.storage.events.NodeEventList;
 import com.powsybl.afs.ws.client.utils.ClientUtils;
 import com.powsybl.afs.ws.client.utils.RemoteServiceConfig;
+import com.powsybl.afs.ws.utils.NetworkMediaTypes;
+import com.powsybl.commons.io.TreeDataFormat;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.NetworkListener;
+import com.powsybl.iidm.serde.ImportOptions;
 import com.powsybl.iidm.serde.NetworkSerDe;
 import com.powsybl.scripting.groovy.GroovyScriptExtension;
 import jakarta.ws.rs.client.Client;
 import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.client.Invocation;
 import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.EntityTag;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.net.URI;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
 
 import static com.powsybl.afs.ws.client.utils.ClientUtils.checkOk;
 import static com.powsybl.afs.ws.client.utils.ClientUtils.readEntityIfOk;
@@ -49,11 +66,26 @@ class RemoteNetworkCacheService implements NetworkCacheService {
     private static final String FILE_SYSTEM_NAME = "fileSystemName";
     private static final String NODE_ID = "nodeId";
     private static final String NODE_PATH = "fileSystems/{fileSystemName}/nodes/{nodeId}";
+    private static final String XML_FALLBACK = MediaType.APPLICATION_XML + ";q=0.9";
+    private static final int BUFFER_SIZE = 64 * 1024;
 
     private final Supplier<Optional<RemoteServiceConfig>> configSupplier;
 
     private final String token;
 
+    /**
+     * Downloaded networks with their version, only used if enabled in configuration. The serialized network is kept, as
+     * received from the server, so that each caller reads its own copy.
+     */
+    private volatile Cache<String, CachedNetwork> networkCache;
+
+    private final Set<String> listenedFileSystems = ConcurrentHashMap.newKeySet();
+
+    private final AppStorageListener invalidationListener = this::invalidateCachedNetworks;
+
+    private record CachedNetwork(EntityTag entityTag, byte[] data, boolean gzip, boolean binary, Set<String> dependencyIds) {
+    }
+
     RemoteNetworkCacheService(Supplier<Optional<RemoteServiceConfig>> configSupplier, String token) {
         this.configSupplier = Objects.requireNonNull(configSupplier);
         this.token = token;
@@ -94,22 +126,99 @@ class RemoteNetworkCacheService implements NetworkCacheService {
         LOGGER.info("getNetwork(fileSystemName={}, nodeId={})", projectCase.getFileSystem().getName(),
             projectCase.getId());
 
+        RemoteServiceConfig config = getConfig();
+        String[] acceptedTypes = config.isBinaryNetworkTransferEnabled()
+            ? new String[] {NetworkMediaTypes.APPLICATION_IIDM_BINARY, XML_FALLBACK}
+            : new String[] {MediaType.APPLICATION_XML};
+        Cache<String, CachedNetwork> cache = getNetworkCache(config);
+        String cacheKey = projectCase.getFileSystem().getName() + "/" + projectCase.getId();
+        CachedNetwork cachedNetwork = cache != null ? cache.getIfPresent(cacheKey) : null;
+
         try (Client client = ClientUtils.createClient()) {
-            WebTarget webTarget = createWebTarget(client, getConfig().getRestUri());
+            WebTarget webTarget = createWebTarget(client, config.getRestUri());
 
-            try (Response response = webTarget.path(NODE_PATH)
+            Invocation.Builder request = webTarget.path(NODE_PATH)
                 .resolveTemplate(FILE_SYSTEM_NAME, projectCase.getFileSystem().getName())
                 .resolveTemplate(NODE_ID, projectCase.getId())
-                .request(MediaType.APPLICATION_XML)
-                .header(HttpHeaders.AUTHORIZATION, token)
-                .get(); InputStream is = readEntityIfOk(response, InputStream.class)) {
-                return NetworkSerDe.read(is);
+                .request(acceptedTypes)
+                .header(HttpHeaders.AUTHORIZATION, token);
+            if (config.isNetworkCompressionEnabled()) {
+                request = request.header(HttpHeaders.ACCEPT_ENCODING, NetworkMediaTypes.GZIP_ENCODING);
+            }
+            if (cachedNetwork != null) {
+                request = request.header(HttpHeaders.IF_NONE_MATCH, cachedNetwork.entityTag().toString());
+            }
+            try (Response response = request.get()) {
+                if (cachedNetwork != null && response.getStatus() == Response.Status.NOT_MODIFIED.getStatusCode()) {
+                    LOGGER.info("Network of node {} is up to date in cache", projectCase.getId());
+                    return readNetwork(new ByteArrayInputStream(cachedNetwork.data()), cachedNetwork.gzip(), cachedNetwork.binary());
+                }
+                boolean gzip = NetworkMediaTypes.GZIP_ENCODING.equals(response.getHeaderString(HttpHeaders.CONTENT_ENCODING));
+                MediaType mediaType = response.getMediaType();
+                boolean binary = mediaType != null && mediaType.isCompatible(NetworkMediaTypes.APPLICATION_IIDM_BINARY_TYPE) && !mediaType.isWildcardSubtype();
+                EntityTag entityTag = response.getEntityTag();
+                try (InputStream is = readEntityIfOk(response, InputStream.class)) {
+                    if (cache == null || entityTag == null) {
+                        return readNetwork(is, gzip, binary);
+                    }
+                    byte[] data = is.readAllBytes();
+                    listenToEvents(projectCase);
+                    cache.put(cacheKey, new CachedNetwork(entityTag, data, gzip, binary, getDependencyIds(projectCase)));
+                    return readNetwork(new ByteArrayInputStream(data), gzip, binary);
+                }
             } catch (IOException e) {
                 throw new UncheckedIOException(e);
             }
         }
     }
 
+    private synchronized Cache<String, CachedNetwork> getNetworkCache(RemoteServiceConfig config) {
+        if (networkCache == null && config.getNetworkCacheSize() > 0) {
+            networkCache = CacheBuilder.newBuilder()
+                .maximumSize(config.getNetworkCacheSize())
+                .build();
+        }
+        return networkCache;
+    }
+
+    /**
+     * Listen to the events of the file system of the case, to be notified of the changes invalidating cached networks.
+     */
+    private <T extends ProjectFile & ProjectCase> void listenToEvents(T projectCase) {
+        if (listenedFileSystems.add(projectCase.getFileSystem().getName())) {
+            projectCase.getFileSystem().getEventBus().addListener(invalidationListener);
+        }
+    }
+
+    private void invalidateCachedNetworks(NodeEventList eventList) {
+        Cache<String, CachedNetwork> cache = networkCache;
+        if (cache == null) {
+            return;
+        }
+        for (NodeEvent event : eventList.getEvents()) {
+            cache.asMap().values().removeIf(cachedNetwork -> cachedNetwork.dependencyIds().contains(event.getId()));
+        }
+    }
+
+    private static <T extends ProjectFile & ProjectCase> Set<String> getDependencyIds(T projectCase) {
+        Set<String> ids = new HashSet<>();
+        ids.add(projectCase.getId());
+        if (projectCase instanceof AbstractProjectCase abstractProjectCase) {
+            ids.addAll(abstractProjectCase.getDeepDependencyIds());
+        }
+        return ids;
+    }
+
+    /**
+     * Decode the network according to the format and the encoding chosen by the server.
+     */
+    private static Network readNetwork(InputStream is, boolean gzip, boolean binary) throws IOException {
+        InputStream decoded = gzip ? new GZIPInputStream(is, BUFFER_SIZE) : new BufferedInputStream(is, BUFFER_SIZE);
+        LOGGER.debug("Reading network from {} stream", binary ? "binary" : "XML");
+        ImportOptions options = new ImportOptions().setFormat(binary ? TreeDataFormat.BIN : TreeDataFormat.XML);
+        return NetworkSerDe.read(decoded, options, null);
+    }
+
     @Override
     public <T extends ProjectFile & ProjectCase> String queryNetwork(T projectCase, ScriptType scriptType, String scriptContent) {
         Objects.requireNonNull(projectCase);
@@ -147,6 +256,11 @@ class RemoteNetworkCacheService implements NetworkCacheService {
         LOGGER.info("invalidateCache(fileSystemName={}, nodeId={})",
             projectCase.getFileSystem().getName(), projectCase.getId());
 
+        Cache<String, CachedNetwork> cache = networkCache;
+        if (cache != null) {
+            cache.invalidate(projectCase.getFileSystem().getName() + "/" + projectCase.getId());
+        }
+
         try (Client client = ClientUtils.createClient()) {
             WebTarget webTarget = createWebTarget(client, getConfig().getRestUri());
 
@@ -13,14 +13,22 @@ import com.powsybl.afs.AfsException;
 import com.powsybl.afs.AppFileSystem;
 import com.powsybl.afs.ext.base.AbstractProjectCase;
 import com.powsybl.afs.ext.base.ScriptType;
+import com.powsybl.afs.storage.InMemoryEventsBus;
+import com.powsybl.afs.storage.events.NodeDataUpdated;
 import com.powsybl.afs.ws.client.utils.ClientUtils;
 import com.powsybl.afs.ws.client.utils.RemoteServiceConfig;
+import com.powsybl.afs.ws.utils.NetworkMediaTypes;
+import com.powsybl.commons.io.TreeDataFormat;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.Substation;
 import com.powsybl.iidm.network.test.NetworkTest1Factory;
+import com.powsybl.iidm.serde.ExportOptions;
+import com.powsybl.iidm.serde.NetworkSerDe;
 import jakarta.ws.rs.client.Client;
 import jakarta.ws.rs.client.Invocation;
 import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import org.apache.commons.lang3.StringUtils;
@@ -33,6 +41,8 @@ import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
@@ -42,15 +52,20 @@ import java.nio.file.Path;
 import java.util.Collections;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.Set;
 import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -143,6 +158,90 @@ class RemoteNetworkCacheServiceTest {
         assertEquals(StringUtils.EMPTY, networkCacheService.getOutput(projectCase));
     }
 
+    @Test
+    void getBinaryCompressedNetworkTest() throws IOException {
+        // Configuration
+        when(configSupplier.get()).thenReturn(Optional.of(remoteServiceConfig));
+        when(remoteServiceConfig.getRestUri()).thenReturn(URI.create("http://localhost:8080"));
+        when(remoteServiceConfig.isBinaryNetworkTransferEnabled()).thenReturn(true);
+        when(remoteServiceConfig.isNetworkCompressionEnabled()).thenReturn(true);
+        when(projectCase.getFileSystem()).thenReturn(appFileSystem);
+        when(appFileSystem.getName()).thenReturn("test-app");
+        when(projectCase.getId()).thenReturn("node-123");
+
+        // Binary and gzipped network, as sent by the server
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOutput = new GZIPOutputStream(bytes)) {
+            NetworkSerDe.write(network, new ExportOptions().setFormat(TreeDataFormat.BIN), gzipOutput);
+        }
+
+        // Call the tested method
+        Network result;
+        try (MockedStatic<ClientUtils> mockedClientUtils = mockStatic(ClientUtils.class, Mockito.CALLS_REAL_METHODS);
+             Response response = Response.ok(new ByteArrayInputStream(bytes.toByteArray()), NetworkMediaTypes.APPLICATION_IIDM_BINARY_TYPE)
+                 .header(HttpHeaders.CONTENT_ENCODING, NetworkMediaTypes.GZIP_ENCODING)
+                 .build()) {
+            mockedClientUtils.when(ClientUtils::createClient).thenReturn(client);
+            when(client.target(any(URI.class))).thenReturn(webTarget);
+            when(webTarget.path(anyString())).thenReturn(webTarget);
+            when(webTarget.resolveTemplate(anyString(), any())).thenReturn(webTarget);
+            when(webTarget.request(NetworkMediaTypes.APPLICATION_IIDM_BINARY, MediaType.APPLICATION_XML + ";q=0.9")).thenReturn(builder);
+            when(builder.header(anyString(), anyString())).thenReturn(builder);
+            when(builder.get()).thenReturn(response);
+
+            result = networkCacheService.getNetwork(projectCase);
+        }
+
+        // Checks
+        verify(builder).header(HttpHeaders.ACCEPT_ENCODING, NetworkMediaTypes.GZIP_ENCODING);
+        assertNotNull(result);
+        assertEquals(network.getId(), result.getId());
+        network.getVoltageLevels().forEach(voltageLevel -> assertNotNull(result.getVoltageLevel(voltageLevel.getId())));
+    }
+
+    @Test
+    void getCachedNetworkTest() throws IOException {
+        // Configuration
+        InMemoryEventsBus eventsBus = new InMemoryEventsBus();
+        when(configSupplier.get()).thenReturn(Optional.of(remoteServiceConfig));
+        when(remoteServiceConfig.getRestUri()).thenReturn(URI.create("http://localhost:8080"));
+        when(remoteServiceConfig.getNetworkCacheSize()).thenReturn(10);
+        when(projectCase.getFileSystem()).thenReturn(appFileSystem);
+        when(appFileSystem.getName()).thenReturn("test-app");
+        when(appFileSystem.getEventBus()).thenReturn(eventsBus);
+        when(projectCase.getId()).thenReturn("node-123");
+        when(projectCase.getDeepDependencyIds()).thenReturn(Set.of("dependency-456"));
+
+        EntityTag entityTag = new EntityTag("version", true);
+        try (MockedStatic<ClientUtils> mockedClientUtils = mockStatic(ClientUtils.class, Mockito.CALLS_REAL_METHODS);
+             InputStream inputStream = Files.newInputStream(networkPath);
+             InputStream inputStream2 = Files.newInputStream(networkPath);
+             Response response = Response.ok(inputStream).tag(entityTag).build();
+             Response notModified = Response.notModified(entityTag).build();
+             Response response2 = Response.ok(inputStream2).tag(entityTag).build()) {
+            mockedClientUtils.when(ClientUtils::createClient).thenReturn(client);
+            when(client.target(any(URI.class))).thenReturn(webTarget);
+            when(webTarget.path(anyString())).thenReturn(webTarget);
+            when(webTarget.resolveTemplate(anyString(), any())).thenReturn(webTarget);
+            when(webTarget.request(MediaType.APPLICATION_XML)).thenReturn(builder);
+            when(builder.header(anyString(), anyString())).thenReturn(builder);
+            when(builder.get()).thenReturn(response, notModified, response2);
+
+            // First call downloads the network, second one is revalidated with the server and gets its own copy
+            Network result = networkCacheService.getNetwork(projectCase);
+            Network cachedResult = networkCacheService.getNetwork(projectCase);
+            assertNotSame(result, cachedResult);
+            assertEquals(result.getId(), cachedResult.getId());
+            verify(builder).header(HttpHeaders.IF_NONE_MATCH, entityTag.toString());
+
+            // A change of a dependency drops the cached network
+            eventsBus.pushEvent(new NodeDataUpdated("dependency-456", "data"), "topic");
+            eventsBus.flush();
+            assertNotSame(result, networkCacheService.getNetwork(projectCase));
+            verify(builder, times(1)).header(HttpHeaders.IF_NONE_MATCH, entityTag.toString());
+        }
+    }
+
     @Test
     void queryNetworkTest() {
         // Configuration
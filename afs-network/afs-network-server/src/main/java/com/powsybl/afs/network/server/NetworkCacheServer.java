@@ -7,20 +7,30 @@
 package com.powsybl.afs.network.server;
 
 import com.powsybl.afs.ProjectFile;
+import com.powsybl.afs.ext.base.AbstractProjectCase;
 import com.powsybl.afs.ext.base.ProjectCase;
 import com.powsybl.afs.ext.base.ScriptType;
 import com.powsybl.afs.ws.server.utils.AppDataBean;
 import com.powsybl.afs.ws.server.utils.JwtTokenNeeded;
+import com.powsybl.afs.ws.utils.NetworkMediaTypes;
+import com.powsybl.commons.io.TreeDataFormat;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.serde.ExportOptions;
 import com.powsybl.iidm.serde.NetworkSerDe;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.StreamingOutput;
 
+import java.util.zip.GZIPOutputStream;
+
 /**
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
  */
@@ -30,18 +40,69 @@ import jakarta.ws.rs.core.StreamingOutput;
 @JwtTokenNeeded
 public class NetworkCacheServer {
 
+    private static final int BUFFER_SIZE = 64 * 1024;
+
     @Inject
     private AppDataBean appDataBean;
 
+    /**
+     * Return true if the client prefers the binary IIDM format to XML.
+     */
+    private static boolean isBinaryAccepted(HttpHeaders headers) {
+        for (MediaType mediaType : headers.getAcceptableMediaTypes()) {
+            if (mediaType.isWildcardType() || mediaType.isWildcardSubtype()) {
+                return false;
+            }
+            if (mediaType.isCompatible(NetworkMediaTypes.APPLICATION_IIDM_BINARY_TYPE)) {
+                return true;
+            }
+            if (mediaType.isCompatible(MediaType.APPLICATION_XML_TYPE)) {
+                return false;
+            }
+        }
+        return false;
+    }
+
     @GET
-    @Produces(MediaType.APPLICATION_XML)
+    @Produces({MediaType.APPLICATION_XML, NetworkMediaTypes.APPLICATION_IIDM_BINARY})
     @Path("fileSystems/{fileSystemName}/nodes/{nodeId}")
     public Response getNetwork(@PathParam("fileSystemName") String fileSystemName,
-                               @PathParam("nodeId") String nodeId) {
-        Network network = appDataBean.getProjectFile(fileSystemName, nodeId, ProjectFile.class, ProjectCase.class)
-                .getNetwork();
-        StreamingOutput streamingOutput = output -> NetworkSerDe.write(network, output);
-        return Response.ok(streamingOutput).build();
+                               @PathParam("nodeId") String nodeId,
+                               @Context HttpHeaders headers,
+                               @Context Request request) {
+        ProjectCase projectCase = appDataBean.getProjectFile(fileSystemName, nodeId, ProjectFile.class, ProjectCase.class);
+
+        // the network is not sent again if the client already has the current version
+        EntityTag entityTag = null;
+        if (projectCase instanceof AbstractProjectCase abstractProjectCase) {
+            entityTag = new EntityTag(abstractProjectCase.getNetworkVersion(), true);
+            Response.ResponseBuilder notModified = request.evaluatePreconditions(entityTag);
+            if (notModified != null) {
+                return notModified.build();
+            }
+        }
+
+        Network network = projectCase.getNetwork();
+        boolean binary = isBinaryAccepted(headers);
+        boolean gzip = NetworkMediaTypes.isGzipAccepted(headers.getHeaderString(HttpHeaders.ACCEPT_ENCODING));
+        ExportOptions options = new ExportOptions().setFormat(binary ? TreeDataFormat.BIN : TreeDataFormat.XML);
+        StreamingOutput streamingOutput = output -> {
+            if (gzip) {
+                GZIPOutputStream gzipOutput = new GZIPOutputStream(output, BUFFER_SIZE);
+                NetworkSerDe.write(network, options, gzipOutput);
+                gzipOutput.finish();
+            } else {
+                NetworkSerDe.write(network, options, output);
+            }
+        };
+        Response.ResponseBuilder builder = Response.ok(streamingOutput, binary ? NetworkMediaTypes.APPLICATION_IIDM_BINARY_TYPE : MediaType.APPLICATION_XML_TYPE);
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, NetworkMediaTypes.GZIP_ENCODING);
+        }
+        if (entityTag != null) {
+            builder.tag(entityTag);
+        }
+        return builder.build();
     }
 
     @POST
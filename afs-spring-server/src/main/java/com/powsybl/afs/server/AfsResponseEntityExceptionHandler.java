@@ -19,6 +19,8 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import java.util.concurrent.RejectedExecutionException;
+
 /**
  * @author Nicolas Rol {@literal <nicolas.rol at rte-france.com>}
  */
@@ -49,4 +51,9 @@ public class AfsResponseEntityExceptionHandler extends ResponseEntityExceptionHa
     public ResponseEntity<Object> handleOtherAfsException(AfsException e) {
         return new ResponseEntity<>(new ExceptionDetail(e.getClass().getCanonicalName(), e.getMessage()), HttpStatus.BAD_REQUEST);
     }
+
+    @ExceptionHandler({RejectedExecutionException.class})
+    public ResponseEntity<Object> handleRejectedExecutionException(RejectedExecutionException e) {
+        return new ResponseEntity<>(new ExceptionDetail(e.getClass().getCanonicalName(), e.getMessage()), HttpStatus.SERVICE_UNAVAILABLE);
+    }
 }
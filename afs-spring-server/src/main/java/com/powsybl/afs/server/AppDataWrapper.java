@@ -10,6 +10,7 @@ import com.powsybl.afs.AppData;
 import com.powsybl.afs.AppFileSystem;
 import com.powsybl.afs.storage.AfsFileSystemNotFoundException;
 import com.powsybl.afs.storage.AppStorage;
+import com.powsybl.afs.storage.AsyncAppStorage;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -25,9 +26,12 @@ public class AppDataWrapper {
 
     private final AppData appData;
 
+    private final ServerExecutors executors;
+
     @Autowired
-    public AppDataWrapper(AppData appData) {
+    public AppDataWrapper(AppData appData, ServerExecutors executors) {
         this.appData = appData;
+        this.executors = executors;
     }
 
     public AppData getAppData() {
@@ -42,6 +46,13 @@ public class AppDataWrapper {
         return storage;
     }
 
+    /**
+     * Gets an asynchronous view of the storage of a file system.
+     */
+    public AsyncAppStorage getAsyncStorage(String fileSystemName) {
+        return getStorage(fileSystemName).async(executors.getStorageExecutor());
+    }
+
     public AppFileSystem getFileSystem(String name) {
         Objects.requireNonNull(appData);
         Objects.requireNonNull(name);
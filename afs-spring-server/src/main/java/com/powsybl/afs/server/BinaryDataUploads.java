@@ -0,0 +1,345 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.server;
+
+import com.powsybl.afs.AfsException;
+import com.powsybl.afs.storage.AppStorage;
+import jakarta.annotation.PreDestroy;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Binary data uploaded in several parts, which may be sent concurrently and sent again when a transfer fails.
+ * <p>
+ * Parts are staged in a directory and are only written to the storage, in order, when the upload is committed: an
+ * aborted or expired upload leaves no trace in the storage. Whether the previous binary data of the node remains
+ * readable until the write is complete depends on the storage: Cassandra and MapDB storages only make the new data
+ * visible once it has been fully written. If writing the parts to the storage fails, they are kept and the upload can
+ * be committed again. Uploads which are neither committed nor aborted expire after 24 hours, or the duration given by
+ * the {@value #EXPIRATION_PROPERTY} property.
+ * <p>
+ * The state of an upload is only kept in its directory, so that the requests of an upload can be handled by several
+ * servers sharing the directory given by the {@value #DIRECTORY_PROPERTY} property. Without this property, parts are
+ * staged in a temporary directory of the server, and all the requests of an upload must be routed to the same server.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+@Component
+public class BinaryDataUploads {
+
+    public static final String EXPIRATION_PROPERTY = "powsybl.afs.server.upload-expiration";
+
+    public static final String DIRECTORY_PROPERTY = "powsybl.afs.server.upload-directory";
+
+    /**
+     * Parts are numbered from 0, so that a 10000 parts upload of 8 MB parts allows binary data of about 80 GB.
+     */
+    public static final int MAX_PARTS = 10000;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BinaryDataUploads.class);
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private static final String UPLOAD_FILE = "upload.properties";
+
+    /**
+     * Created when the upload starts to be committed, parts cannot be sent and the upload cannot be committed or aborted
+     * while it exists.
+     */
+    private static final String COMMIT_LOCK_FILE = "commit.lock";
+
+    private static final String FILE_SYSTEM_NAME = "fileSystemName";
+    private static final String NODE_ID = "nodeId";
+    private static final String NAME = "name";
+    private static final String CREATION_TIME = "creationTime";
+
+    private record Upload(String fileSystemName, String nodeId, String name, Path directory) {
+
+        private boolean isFor(String fileSystemName, String nodeId, String name) {
+            return this.fileSystemName.equals(fileSystemName) && this.nodeId.equals(nodeId) && this.name.equals(name);
+        }
+
+        private Path getPart(int partNumber) {
+            return directory.resolve("part-" + partNumber);
+        }
+
+        private Path getCommitLock() {
+            return directory.resolve(COMMIT_LOCK_FILE);
+        }
+    }
+
+    private final Path directory;
+
+    private final boolean temporary;
+
+    private final Duration expiration;
+
+    @Autowired
+    public BinaryDataUploads(@Value("${" + DIRECTORY_PROPERTY + ":}") String directory,
+                             @Value("${" + EXPIRATION_PROPERTY + ":PT24H}") Duration expiration) throws IOException {
+        this(directory.isEmpty() ? Files.createTempDirectory("afs-uploads") : Files.createDirectories(Path.of(directory)),
+            directory.isEmpty(), expiration);
+    }
+
+    BinaryDataUploads(Path directory, Duration expiration) {
+        this(directory, false, expiration);
+    }
+
+    private BinaryDataUploads(Path directory, boolean temporary, Duration expiration) {
+        this.directory = Objects.requireNonNull(directory);
+        this.temporary = temporary;
+        this.expiration = Objects.requireNonNull(expiration);
+    }
+
+    /**
+     * Starts the upload of a binary data, and returns its ID.
+     */
+    public String initiate(String fileSystemName, String nodeId, String name) {
+        Objects.requireNonNull(fileSystemName);
+        Objects.requireNonNull(nodeId);
+        Objects.requireNonNull(name);
+        removeExpiredUploads();
+        String uploadId = UUID.randomUUID().toString();
+        Properties properties = new Properties();
+        properties.setProperty(FILE_SYSTEM_NAME, fileSystemName);
+        properties.setProperty(NODE_ID, nodeId);
+        properties.setProperty(NAME, name);
+        properties.setProperty(CREATION_TIME, Instant.now().toString());
+        try {
+            Path uploadDirectory = Files.createDirectory(directory.resolve(uploadId));
+            try (Writer writer = Files.newBufferedWriter(uploadDirectory.resolve(UPLOAD_FILE), StandardCharsets.UTF_8)) {
+                properties.store(writer, null);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        LOGGER.debug("Upload {} of {}/{}/{} initiated", uploadId, fileSystemName, nodeId, name);
+        return uploadId;
+    }
+
+    /**
+     * Stores a part of an upload, replacing the part previously sent with the same number if any.
+     */
+    public void writePart(String fileSystemName, String nodeId, String name, String uploadId, int partNumber, InputStream is) throws IOException {
+        Upload upload = getUncommittedUpload(fileSystemName, nodeId, name, uploadId);
+        if (partNumber < 0 || partNumber >= MAX_PARTS) {
+            throw new AfsException("Invalid part number " + partNumber + ", it must be between 0 and " + (MAX_PARTS - 1));
+        }
+        // a part sent again may be written concurrently to a previous attempt, each attempt is written aside and
+        // then moved, so that the part is always complete
+        Path tmpPart = Files.createTempFile(upload.directory(), "part-" + partNumber + "-", ".tmp");
+        try {
+            try (OutputStream os = Files.newOutputStream(tmpPart)) {
+                IOUtils.copyLarge(is, os, new byte[COPY_BUFFER_SIZE]);
+            }
+            Files.move(tmpPart, upload.getPart(partNumber), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmpPart);
+        }
+    }
+
+    /**
+     * Writes the {@code partCount} first parts of an upload, in order, as the binary data of the node, and ends the
+     * upload. If the write fails, the parts are kept so that the upload can be committed again.
+     */
+    public void commit(AppStorage storage, String fileSystemName, String nodeId, String name, String uploadId, int partCount) throws IOException {
+        Objects.requireNonNull(storage);
+        Upload upload = getUncommittedUpload(fileSystemName, nodeId, name, uploadId);
+        if (partCount < 0 || partCount > MAX_PARTS) {
+            throw new AfsException("Invalid part count " + partCount);
+        }
+        for (int partNumber = 0; partNumber < partCount; partNumber++) {
+            if (!Files.exists(upload.getPart(partNumber))) {
+                throw new AfsException("Part " + partNumber + " of upload " + uploadId + " is missing");
+            }
+        }
+        lock(upload, uploadId);
+        boolean written = false;
+        try {
+            write(storage, upload, partCount);
+            written = true;
+        } finally {
+            if (written) {
+                delete(upload);
+            } else {
+                Files.deleteIfExists(upload.getCommitLock());
+                LOGGER.warn("Upload {} of {}/{}/{} could not be committed, its parts are kept", uploadId, fileSystemName, nodeId, name);
+            }
+        }
+        LOGGER.debug("Upload {} of {}/{}/{} committed, {} parts", uploadId, fileSystemName, nodeId, name, partCount);
+    }
+
+    private static void write(AppStorage storage, Upload upload, int partCount) throws IOException {
+        OutputStream os = storage.writeBinaryData(upload.nodeId(), upload.name());
+        if (os == null) {
+            return;
+        }
+        // closing the stream is what makes the data visible for the storages which write it progressively, so it is
+        // only closed once all the parts are copied: a failed copy must not replace the binary data with a part of it
+        byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        for (int partNumber = 0; partNumber < partCount; partNumber++) {
+            try (InputStream is = Files.newInputStream(upload.getPart(partNumber))) {
+                IOUtils.copyLarge(is, os, buffer);
+            }
+        }
+        os.close();
+    }
+
+    /**
+     * Ends an upload without writing it to the storage.
+     */
+    public void abort(String fileSystemName, String nodeId, String name, String uploadId) {
+        Upload upload = getUncommittedUpload(fileSystemName, nodeId, name, uploadId);
+        lock(upload, uploadId);
+        delete(upload);
+        LOGGER.debug("Upload {} of {}/{}/{} aborted", uploadId, fileSystemName, nodeId, name);
+    }
+
+    /**
+     * Takes the commit lock of an upload, so that only one commit or abort of an upload may run at a time, whichever
+     * server handles it.
+     */
+    private static void lock(Upload upload, String uploadId) {
+        try {
+            Files.createFile(upload.getCommitLock());
+        } catch (FileAlreadyExistsException e) {
+            throw new AfsException("Upload " + uploadId + " is being committed");
+        } catch (NoSuchFileException e) {
+            throw new AfsException("Upload " + uploadId + " not found");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    int getUploadCount() {
+        try (Stream<Path> uploadDirectories = Files.list(directory)) {
+            return (int) uploadDirectories.filter(Files::isDirectory).count();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Properties readProperties(Path uploadDirectory) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(uploadDirectory.resolve(UPLOAD_FILE), StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        return properties;
+    }
+
+    private Upload getUpload(String fileSystemName, String nodeId, String name, String uploadId) {
+        Objects.requireNonNull(uploadId);
+        // the ID is checked to be a UUID, so that it cannot designate another directory
+        if (!isUuid(uploadId)) {
+            throw new AfsException("Upload " + uploadId + " not found");
+        }
+        Path uploadDirectory = directory.resolve(uploadId);
+        Properties properties;
+        try {
+            properties = readProperties(uploadDirectory);
+        } catch (NoSuchFileException e) {
+            throw new AfsException("Upload " + uploadId + " not found");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        Upload upload = new Upload(properties.getProperty(FILE_SYSTEM_NAME), properties.getProperty(NODE_ID),
+            properties.getProperty(NAME), uploadDirectory);
+        if (!upload.isFor(fileSystemName, nodeId, name)) {
+            throw new AfsException("Upload " + uploadId + " not found");
+        }
+        return upload;
+    }
+
+    private static boolean isUuid(String uploadId) {
+        try {
+            return UUID.fromString(uploadId).toString().equals(uploadId);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private Upload getUncommittedUpload(String fileSystemName, String nodeId, String name, String uploadId) {
+        Upload upload = getUpload(fileSystemName, nodeId, name, uploadId);
+        if (Files.exists(upload.getCommitLock())) {
+            throw new AfsException("Upload " + uploadId + " is being committed");
+        }
+        return upload;
+    }
+
+    /**
+     * Removes the uploads created more than the expiration duration ago, unless they are being committed. A commit
+     * lock older than the expiration duration is left by a server which stopped during the commit and is ignored.
+     */
+    private void removeExpiredUploads() {
+        Instant expirationTime = Instant.now().minus(expiration);
+        try (Stream<Path> uploadDirectories = Files.list(directory)) {
+            uploadDirectories.filter(Files::isDirectory)
+                .filter(uploadDirectory -> isExpired(uploadDirectory, expirationTime))
+                .forEach(uploadDirectory -> {
+                    LOGGER.warn("Upload {} expired", uploadDirectory.getFileName());
+                    FileUtils.deleteQuietly(uploadDirectory.toFile());
+                });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean isExpired(Path uploadDirectory, Instant expirationTime) {
+        try {
+            Path commitLock = uploadDirectory.resolve(COMMIT_LOCK_FILE);
+            if (Files.exists(commitLock) && Files.getLastModifiedTime(commitLock).toInstant().isAfter(expirationTime)) {
+                return false;
+            }
+            String creationTime = readProperties(uploadDirectory).getProperty(CREATION_TIME);
+            return creationTime == null || Instant.parse(creationTime).isBefore(expirationTime);
+        } catch (NoSuchFileException e) {
+            // being initiated or removed
+            return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void delete(Upload upload) {
+        FileUtils.deleteQuietly(upload.directory().toFile());
+    }
+
+    /**
+     * Removes the staging directory if it is a temporary one, a shared directory being left to the other servers.
+     */
+    @PreDestroy
+    public void close() {
+        if (temporary) {
+            FileUtils.deleteQuietly(directory.toFile());
+        }
+    }
+}
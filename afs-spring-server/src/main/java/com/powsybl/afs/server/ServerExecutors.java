@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.server;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executors of the server threads which may block on storage or network I/O.
+ * <p>
+ * In virtual threads mode, enabled by the {@value #VIRTUAL_THREADS_PROPERTY} property, these threads are virtual
+ * threads, so that a burst of slow requests or slow websocket clients does not exhaust a pool of platform threads:
+ * <ul>
+ *     <li>the threads running the storage operations of asynchronous endpoints,</li>
+ *     <li>the threads of Spring MVC asynchronous processing, which write {@code StreamingResponseBody} responses,</li>
+ *     <li>the threads sending events to websocket clients.</li>
+ * </ul>
+ * The property defaults to {@code spring.threads.virtual.enabled}, which also switches the Tomcat request threads to
+ * virtual threads.
+ * <p>
+ * Otherwise, platform threads are pooled: the storage operations run on at most {@value #STORAGE_THREADS_PROPERTY}
+ * threads, with at most {@value #STORAGE_QUEUE_SIZE_PROPERTY} waiting operations beyond which they are rejected, and
+ * events are sent to websocket clients by at most {@value #WEBSOCKET_THREADS_PROPERTY} threads.
+ * <p>
+ * In both modes, a websocket session has at most {@value #WEBSOCKET_QUEUE_SIZE_PROPERTY} messages waiting to be sent:
+ * further messages are rejected, so that a slow client cannot make them pile up on the server.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+@Configuration
+public class ServerExecutors implements WebMvcConfigurer {
+
+    public static final String VIRTUAL_THREADS_PROPERTY = "powsybl.afs.server.virtual-threads";
+
+    public static final String STORAGE_THREADS_PROPERTY = "powsybl.afs.server.storage-threads";
+
+    public static final String STORAGE_QUEUE_SIZE_PROPERTY = "powsybl.afs.server.storage-queue-size";
+
+    public static final String WEBSOCKET_THREADS_PROPERTY = "powsybl.afs.server.websocket-threads";
+
+    public static final String WEBSOCKET_QUEUE_SIZE_PROPERTY = "powsybl.afs.server.websocket-queue-size";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ServerExecutors.class);
+
+    private final boolean virtualThreads;
+
+    private final ExecutorService storageExecutor;
+
+    private final ExecutorService webSocketSendExecutor;
+
+    private final int webSocketQueueSize;
+
+    public ServerExecutors(@Value("${" + VIRTUAL_THREADS_PROPERTY + ":${spring.threads.virtual.enabled:false}}") boolean virtualThreads,
+                           @Value("${" + STORAGE_THREADS_PROPERTY + ":200}") int storageThreads,
+                           @Value("${" + STORAGE_QUEUE_SIZE_PROPERTY + ":1000}") int storageQueueSize,
+                           @Value("${" + WEBSOCKET_THREADS_PROPERTY + ":16}") int webSocketThreads,
+                           @Value("${" + WEBSOCKET_QUEUE_SIZE_PROPERTY + ":1000}") int webSocketQueueSize) {
+        if (storageThreads <= 0 || storageQueueSize <= 0 || webSocketThreads <= 0 || webSocketQueueSize <= 0) {
+            throw new IllegalArgumentException("Thread counts and queue sizes must be positive");
+        }
+        this.virtualThreads = virtualThreads;
+        this.webSocketQueueSize = webSocketQueueSize;
+        if (virtualThreads) {
+            storageExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("afs-storage-", 0).factory());
+            webSocketSendExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("afs-websocket-", 0).factory());
+        } else {
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(storageThreads, storageThreads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(storageQueueSize), platformThreadFactory("afs-storage-%d"));
+            pool.allowCoreThreadTimeOut(true);
+            storageExecutor = pool;
+            // each session submits at most one task at a time, so the queue is bounded by the number of sessions
+            webSocketSendExecutor = Executors.newFixedThreadPool(webSocketThreads, platformThreadFactory("afs-websocket-%d"));
+        }
+        LOGGER.info("AFS server running in {} threads mode", virtualThreads ? "virtual" : "platform");
+    }
+
+    private static ThreadFactory platformThreadFactory(String nameFormat) {
+        return new ThreadFactoryBuilder()
+            .setNameFormat(nameFormat)
+            .setDaemon(true)
+            .build();
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Runs the operations that storages cannot run asynchronously, so that they do not hold servlet threads.
+     * In platform threads mode, operations are rejected with a {@link RejectedExecutionException} when the executor
+     * is saturated.
+     */
+    public Executor getStorageExecutor() {
+        return storageExecutor;
+    }
+
+    /**
+     * Creates the executor sending the messages of a websocket session, which runs them one at a time and in
+     * submission order. It throws a {@link RejectedExecutionException} when too many messages are waiting, in which
+     * case the session should be closed.
+     */
+    public Executor createWebSocketSender() {
+        return new BoundedSender(MoreExecutors.newSequentialExecutor(webSocketSendExecutor), webSocketQueueSize);
+    }
+
+    private static final class BoundedSender implements Executor {
+
+        private final Executor delegate;
+
+        private final int maxPending;
+
+        private final AtomicInteger pending = new AtomicInteger();
+
+        private BoundedSender(Executor delegate, int maxPending) {
+            this.delegate = delegate;
+            this.maxPending = maxPending;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            if (pending.incrementAndGet() > maxPending) {
+                pending.decrementAndGet();
+                throw new RejectedExecutionException("More than " + maxPending + " messages waiting to be sent");
+            }
+            try {
+                delegate.execute(() -> {
+                    try {
+                        command.run();
+                    } finally {
+                        pending.decrementAndGet();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                pending.decrementAndGet();
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor mvcExecutor = new SimpleAsyncTaskExecutor("afs-mvc-");
+            mvcExecutor.setVirtualThreads(true);
+            configurer.setTaskExecutor(mvcExecutor);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        storageExecutor.shutdown();
+        webSocketSendExecutor.shutdown();
+    }
+}
@@ -12,12 +12,19 @@ import com.powsybl.afs.AppFileSystem;
 import com.powsybl.afs.Project;
 import com.powsybl.afs.ProjectFile;
 import com.powsybl.afs.TaskMonitor;
+import com.powsybl.afs.server.io.ByteRange;
+import com.powsybl.afs.server.io.EntityTags;
+import com.powsybl.afs.server.io.GzipFilter;
 import com.powsybl.afs.storage.AfsNodeNotFoundException;
 import com.powsybl.afs.storage.AfsStorageException;
 import com.powsybl.afs.storage.AppStorage;
+import com.powsybl.afs.storage.AsyncAppStorage;
 import com.powsybl.afs.storage.NodeDependency;
 import com.powsybl.afs.storage.NodeGenericMetadata;
 import com.powsybl.afs.storage.NodeInfo;
+import com.powsybl.afs.storage.NodeInfoBinaryCodec;
+import com.powsybl.afs.storage.NodeQuery;
+import com.powsybl.afs.storage.TimeSeriesWindow;
 import com.powsybl.afs.storage.buffer.DoubleTimeSeriesChunksAddition;
 import com.powsybl.afs.storage.buffer.StorageChange;
 import com.powsybl.afs.storage.buffer.StorageChangeSet;
@@ -34,6 +41,7 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import org.apache.commons.io.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -49,21 +57,29 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
 import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.SequenceInputStream;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 
 @RestController
 @RequestMapping(value = "/rest/afs/" + StorageServer.API_VERSION)
@@ -73,17 +89,26 @@ public class StorageServer {
 
     public static final String API_VERSION = "v1";
     private static final Logger LOGGER = LoggerFactory.getLogger(StorageServer.class);
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Maximum size of the binary data sent with an entity tag, as it has to be read before being sent.
+     */
+    static final int MAX_TAGGED_DATA_SIZE = 1024 * 1024;
+
     private final AppDataWrapper appDataWrapper;
+    private final BinaryDataUploads binaryDataUploads;
 
     @Autowired
-    public StorageServer(AppDataWrapper appDataWrapper) {
+    public StorageServer(AppDataWrapper appDataWrapper, BinaryDataUploads binaryDataUploads) {
         this.appDataWrapper = appDataWrapper;
+        this.binaryDataUploads = binaryDataUploads;
     }
 
     private static StreamingResponseBody copyToBodyAndClose(InputStream inputStream) {
         return outputStream -> {
             try (InputStream toClose = inputStream) {
-                IOUtils.copy(toClose, outputStream);
+                IOUtils.copyLarge(toClose, outputStream, new byte[COPY_BUFFER_SIZE]);
             }
         };
     }
@@ -100,12 +125,49 @@ public class StorageServer {
         return ResponseEntity.ok(body);
     }
 
+    private static <T> ResponseEntity<T> notModified(String tag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(tag).build();
+    }
+
+    /**
+     * @return a response without body if the client already has the content, identified by its entity tag
+     */
+    private static <T> ResponseEntity<T> okIfNoneMatch(T body, String tag, String ifNoneMatch) {
+        if (EntityTags.matches(ifNoneMatch, tag)) {
+            return notModified(tag);
+        }
+        return ResponseEntity.ok().eTag(tag).body(body);
+    }
+
     private static <T> ResponseEntity<T> okIfPresent(Optional<T> body) {
         return body
             .map(StorageServer::ok)
             .orElseGet(StorageServer::noContent);
     }
 
+    private static <T> ResponseEntity<T> okGzip(T body) {
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+            .body(body);
+    }
+
+    /**
+     * Send the response when the storage operation completes, the servlet thread being released meanwhile. The request
+     * fails with a service unavailable error if the operation does not complete within the async request timeout
+     * configured by {@code spring.mvc.async.request-timeout}.
+     */
+    private static <T> DeferredResult<ResponseEntity<T>> deferred(CompletionStage<ResponseEntity<T>> response) {
+        DeferredResult<ResponseEntity<T>> result = new DeferredResult<>();
+        response.whenComplete((entity, error) -> {
+            if (error != null) {
+                result.setErrorResult(error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+            } else {
+                result.setResult(entity);
+            }
+        });
+        return result;
+    }
+
     private static void logInfo(String message, Object... params) {
         if (LOGGER.isInfoEnabled()) {
             Object[] objects = Arrays.stream(params)
@@ -215,11 +277,10 @@ public class StorageServer {
         @ApiResponse(responseCode = "200", description = ""),
         @ApiResponse(responseCode = "404", description = ""),
         @ApiResponse(responseCode = "500", description = "Error")})
-    public ResponseEntity<String> isWritable(@Parameter(description = "File system name") @PathVariable("fileSystemName") String fileSystemName,
-                                             @Parameter(description = "Node ID") @PathVariable("nodeId") String nodeId) {
-        AppStorage storage = appDataWrapper.getStorage(fileSystemName);
-        boolean writable = storage.isWritable(nodeId);
-        return ok(Boolean.toString(writable));
+    public DeferredResult<ResponseEntity<String>> isWritable(@Parameter(description = "File system name") @PathVariable("fileSystemName") String fileSystemName,
+                                                             @Parameter(description = "Node ID") @PathVariable("nodeId") String nodeId) {
+        AsyncAppStorage storage = appDataWrapper.getAsyncStorage(fileSystemName);
+        return deferred(storage.isWritable(nodeId).thenApply(writable -> ok(Boolean.toString(writable))));
     }
 
     @GetMapping(value = "fileSystems/{fileSystemName}/nodes/{nodeId}/consistent", produces = MediaType.TEXT_PLAIN_VALUE)
@@ -228,11 +289,10 @@ public class StorageServer {
         @ApiResponse(responseCode = "200", description = ""),
         @ApiResponse(responseCode = "404", description = ""),
         @ApiResponse(responseCode = "500", description = "Error")})
-    public ResponseEntity<String> isConsistent(@Parameter(description = "File system name") @PathVariable("fileSystemName") String fileSystemName,
-                                               @Parameter(description = "Node ID") @PathVariable("nodeId") String nodeId) {
-        AppStorage storage = appDataWrapper.getStorage(fileSystemName);
-        boolean consistent = storage.isConsistent(nodeId);
-        return ok(Boolean.toString(consistent));
+    public DeferredResult<ResponseEntity<String>> isConsistent(@Parameter(description = "File system name") @PathVariable("fileSystemName") String fileSystemName,
+                                                               @Parameter(description = "Node ID") @PathVariable("nodeId") String nodeId) {
+        AsyncAppStorage storage = appDataWrapper.getAsyncStorage(fileSystemName);
+        return deferred(storage.isConsistent(nodeId).thenApply(consistent -> ok(Boolean.toString(consistent))));
     }
 
     @GetMapping(value = "fileSystems/{fileSystemName}/nodes/{nodeId}/parent", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -241,39 +301,65 @@ public class StorageServer {
         @ApiResponse(responseCode = "200", description = "Returns the parent node"),
         @ApiResponse(responseCode = "404", description = "No parent node for nodeId"),
         @ApiResponse(responseCode = "500", description = "Error")})
-    public ResponseEntity<NodeInfo> getParentNode(@Parameter(description = "File system name") @PathVariable("fileSystemName") String fileSystemName,
-                                                  @Parameter(description = "Node ID") @PathVariable("nodeId") String nodeId) {
-        AppStorage storage = appDataWrapper.getStorage(fileSystemName);
-        return okIfPresent(storage.getParentNode(nodeId));
+    public DeferredResult<ResponseEntity<NodeInfo>> getParentNode(@Parameter(description = "File system name") @PathVariable("fileSystemName") String fileSystemName,
+                                                                  @Parameter(description = "Node ID") @PathVariable("nodeId") String nodeId) {
+        AsyncAppStorage storage = appDataWrapper.getAsyncStorage(fileSystemName);
+        return deferred(storage.getParentNode(nodeId).thenApply(StorageServer::okIfPresent));
     }
 
     @GetMapping(value = "fileSystems/{fileSystemName}/nodes/{nodeId}", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "", responses = {
         @ApiResponse(content = @Content(schema = @Schema(implementation = InputStream.class))),
         @ApiResponse(responseCode = "200", description = "The info related to the node"),
+        @ApiResponse(responseCode = "304", description = "The node info matches the entity tag of the request"),
         @ApiResponse(responseCode = "404", description = ""),
         @ApiResponse(responseCode = "500", description = "Error")})
-    public ResponseEntity<NodeInfo> getNodeInfo(@Parameter(description = "File system name") @PathVariable("fileSystemName") String fileSystemName,
-                                                @Parameter(description = "Node ID") @PathVariable("nodeId") String nodeId) {
-        AppStorage storage = appDataWrapper.getStorage(fileSystemName);
-        NodeInfo nodeInfo = storage.getNodeInfo(nodeId);
-        return ok(nodeInfo);
+    public DeferredResult<ResponseEntity<NodeInfo>> getNodeInfo(@Parameter(description = "File system name") @PathVariable("fileSystemName") String fileSystemName,
+                                                                @Parameter(description = "Node ID") @PathVariable("nodeId") String nodeId,
+                                                                @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        AsyncAppStorage storage = appDataWrapper.getAsyncStorage(fileSystemName);
+        return deferred(storage.getNodeInfo(nodeId).thenApply(nodeInfo -> okIfNoneMatch(nodeInfo, EntityTags.of(nodeInfo), ifNoneMatch)));
     }
 
-    @GetMapping(value = "fileSystems/{fileSystemName}/nodes/{nodeId}/children", produces = MediaType.APPLICATION_JSON_VALUE)
+    @GetMapping(value = "fileSystems/{fileSystemName}/nodes/{nodeId}/children", produces = {MediaType.APPLICATION_JSON_VALUE, NodeInfoBinaryCodec.MEDIA_TYPE})
     @Operation(summary = "Get child nodes", responses = {
         @ApiResponse(content = @Content(schema = @Schema(implementation = List.class))),
         @ApiResponse(responseCode = "200", description = "The list of child nodes"),
+        @ApiResponse(responseCode = "304", description = "The child nodes match the entity tag of the request"),
         @ApiResponse(responseCode = "404", description = "There are no child nodes"),
         @ApiResponse(responseCode = "500", description = "Error")})
-    public ResponseEntity<List<NodeInfo>> getChildNodes(@Parameter(description = "File system name") @PathVariable("fileSystemName") String fileSystemName,
-                                                        @Parameter(description = "Node ID") @PathVariable("nodeId") String nodeId) {
+    public DeferredResult<ResponseEntity<List<NodeInfo>>> getChildNodes(@Parameter(description = "File system name") @PathVariable("fileSystemName") String fileSystemName,
+                                                                        @Parameter(description = "Node ID") @PathVariable("nodeId") String nodeId,
+                                                                        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        AsyncAppStorage storage = appDataWrapper.getAsyncStorage(fileSystemName);
+        return deferred(storage.getChildNodes(nodeId).thenApply(childNodes -> okIfNoneMatch(childNodes, EntityTags.of(childNodes), ifNoneMatch)));
+    }
+
+    @PostMapping(value = "fileSystems/{fileSystemName}/nodes/{nodeId}/find", produces = {MediaType.APPLICATION_JSON_VALUE, NodeInfoBinaryCodec.MEDIA_TYPE}, consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Find the descendant nodes matching a query", responses = {
+        @ApiResponse(content = @Content(schema = @Schema(implementation = List.class))),
+        @ApiResponse(responseCode = "200", description = "The list of matching nodes"),
+        @ApiResponse(responseCode = "500", description = "Error")})
+    public ResponseEntity<List<NodeInfo>> findNodes(@Parameter(description = "File system name") @PathVariable("fileSystemName") String fileSystemName,
+                                                    @Parameter(description = "Node ID") @PathVariable("nodeId") String nodeId,
+                                                    @Parameter(description = "Node query") @RequestBody NodeQuery query) {
         AppStorage storage = appDataWrapper.getStorage(fileSystemName);
-        List<NodeInfo> childNodes = storage.getChildNodes(nodeId);
-        return ok(childNodes);
+        return ok(storage.findNodes(nodeId, query));
     }
 
-    @GetMapping(value = "fileSystems/{fileSystemName}/inconsistentChildNodes", produces = MediaType.APPLICATION_JSON_VALUE)
+    @GetMapping(value = "fileSystems/{fileSystemName}/search", produces = {MediaType.APPLICATION_JSON_VALUE, NodeInfoBinaryCodec.MEDIA_TYPE})
+    @Operation(summary = "Search the nodes whose name, description or script content contain the words of a query", responses = {
+        @ApiResponse(content = @Content(schema = @Schema(implementation = List.class))),
+        @ApiResponse(responseCode = "200", description = "The list of matching nodes"),
+        @ApiResponse(responseCode = "500", description = "Error")})
+    public ResponseEntity<List<NodeInfo>> searchNodes(@Parameter(description = "File system name") @PathVariable("fileSystemName") String fileSystemName,
+                                                      @Parameter(description = "Words to search") @RequestParam("query") String query,
+                                                      @Parameter(description = "Maximum number of nodes") @RequestParam(value = "limit", defaultValue = "100") int limit) {
+        AppFileSystem fileSystem = appDataWrapper.getFileSystem(fileSystemName);
+        return ok(fileSystem.searchNodes(query, limit));
+    }
+
+    @GetMapping(value = "fileSystems/{fileSystemName}/inconsistentChildNodes", produces = {MediaType.APPLICATION_JSON_VALUE, NodeInfoBinaryCodec.MEDIA_TYPE})
     @Operation(summary = "Get inconsistent child nodes", responses = {
         @ApiResponse(content = @Content(schema = @Schema(implementation = List.class))),
         @ApiResponse(responseCode = "200", description = "The list of inconsistent chid nodes"),
@@ -323,13 +409,11 @@ public class StorageServer {
         @ApiResponse(responseCode = "200", description = "Returns the child node"),
         @ApiResponse(responseCode = "404", description = "No child node for nodeId"),
         @ApiResponse(responseCode = "500", description = "Error")})
-    public ResponseEntity<NodeInfo> getChildNode(@Parameter(description = "File system name") @PathVariable("fileSystemName") String fileSystemName,
-                                                 @Parameter(description = "Node ID") @PathVariable("nodeId") String nodeId,
-                                                 @Parameter(description = "Child Name") @PathVariable("childName") String childName) {
-        AppStorage storage = appDataWrapper.getStorage(fileSystemName);
-        return storage.getChildNode(nodeId, childName)
-            .map(StorageServer::ok)
-            .orElseGet(StorageServer::noContent);
+    public DeferredResult<ResponseEntity<NodeInfo>> getChildNode(@Parameter(description = "File system name") @PathVariable("fileSystemName") String fileSystemName,
+                                                                 @Parameter(description = "Node ID") @PathVariable("nodeId") String nodeId,
+                                                                 @Parameter(description = "Child Name") @PathVariable("childName") String childName) {
+        AsyncAppStorage storage = appDataWrapper.getAsyncStorage(fileSystemName);
+        return deferred(storage.getChildNode(nodeId, childName).thenApply(StorageServer::okIfPresent));
     }
 
     @PutMapping(value = "fileSystems/{fileSystemName}/nodes/{nodeId}/description", consumes = MediaType.TEXT_PLAIN_VALUE)
@@ -366,30 +450,28 @@ public class StorageServer {
         return ok();
     }
 
-    @GetMapping(value = "fileSystems/{fileSystemName}/nodes/{nodeId}/dependencies", produces = MediaType.APPLICATION_JSON_VALUE)
+    @GetMapping(value = "fileSystems/{fileSystemName}/nodes/{nodeId}/dependencies", produces = {MediaType.APPLICATION_JSON_VALUE, NodeInfoBinaryCodec.MEDIA_TYPE})
     @Operation(summary = "", responses = {
         @ApiResponse(content = @Content(schema = @Schema(implementation = Set.class))),
         @ApiResponse(responseCode = "200", description = ""),
         @ApiResponse(responseCode = "404", description = ""),
         @ApiResponse(responseCode = "500", description = "Error")})
-    public ResponseEntity<Set<NodeDependency>> getDependencies(@Parameter(description = "File system name") @PathVariable("fileSystemName") String fileSystemName,
-                                                               @Parameter(description = "Node ID") @PathVariable("nodeId") String nodeId) {
-        AppStorage storage = appDataWrapper.getStorage(fileSystemName);
-        Set<NodeDependency> dependencies = storage.getDependencies(nodeId);
-        return ok(dependencies);
+    public DeferredResult<ResponseEntity<Set<NodeDependency>>> getDependencies(@Parameter(description = "File system name") @PathVariable("fileSystemName") String fileSystemName,
+                                                                               @Parameter(description = "Node ID") @PathVariable("nodeId") String nodeId) {
+        AsyncAppStorage storage = appDataWrapper.getAsyncStorage(fileSystemName);
+        return deferred(storage.getDependencies(nodeId).thenApply(StorageServer::ok));
     }
 
-    @GetMapping(value = "fileSystems/{fileSystemName}/nodes/{nodeId}/backwardDependencies", produces = MediaType.APPLICATION_JSON_VALUE)
+    @GetMapping(value = "fileSystems/{fileSystemName}/nodes/{nodeId}/backwardDependencies", produces = {MediaType.APPLICATION_JSON_VALUE, NodeInfoBinaryCodec.MEDIA_TYPE})
     @Operation(summary = "", responses = {
         @ApiResponse(content = @Content(schema = @Schema(implementation = Set.class))),
         @ApiResponse(responseCode = "200", description = ""),
         @ApiResponse(responseCode = "404", description = ""),
         @ApiResponse(responseCode = "500", description = "Error")})
-    public ResponseEntity<Set<NodeInfo>> getBackwardDependencies(@Parameter(description = "File system name") @PathVariable("fileSystemName") String fileSystemName,
-                                                                 @Parameter(description = "Node ID") @PathVariable("nodeId") String nodeId) {
-        AppStorage storage = appDataWrapper.getStorage(fileSystemName);
-        Set<NodeInfo> backwardDependencyNodes = storage.getBackwardDependencies(nodeId);
-        return ok(backwardDependencyNodes);
+    public DeferredResult<ResponseEntity<Set<NodeInfo>>> getBackwardDependencies(@Parameter(description = "File system name") @PathVariable("fileSystemName") String fileSystemName,
+                                                                                 @Parameter(description = "Node ID") @PathVariable("nodeId") String nodeId) {
+        AsyncAppStorage storage = appDataWrapper.getAsyncStorage(fileSystemName);
+        return deferred(storage.getBackwardDependencies(nodeId).thenApply(StorageServer::ok));
     }
 
     @PutMapping(value = "fileSystems/{fileSystemName}/nodes/{nodeId}/data/{name}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
@@ -409,17 +491,72 @@ public class StorageServer {
         }
     }
 
+    @PostMapping(value = "fileSystems/{fileSystemName}/nodes/{nodeId}/data/{name}/uploads", produces = MediaType.TEXT_PLAIN_VALUE)
+    @Operation(summary = "Start the upload of a binary data in several parts", responses = {
+        @ApiResponse(responseCode = "200", description = "The upload ID"),
+        @ApiResponse(responseCode = "404", description = ""),
+        @ApiResponse(responseCode = "500", description = "Error")})
+    public ResponseEntity<String> initiateBinaryDataUpload(@Parameter(description = "File system name") @PathVariable("fileSystemName") String fileSystemName,
+                                                           @Parameter(description = "Node ID") @PathVariable("nodeId") String nodeId,
+                                                           @Parameter(description = "Name") @PathVariable("name") String name) {
+        // fails early if the file system does not exist
+        appDataWrapper.getStorage(fileSystemName);
+        return ok(binaryDataUploads.initiate(fileSystemName, nodeId, name));
+    }
+
+    @PutMapping(value = "fileSystems/{fileSystemName}/nodes/{nodeId}/data/{name}/uploads/{uploadId}/parts/{partNumber}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    @Operation(summary = "Send a part of a binary data upload, replacing the part previously sent with the same number", responses = {
+        @ApiResponse(responseCode = "200", description = ""),
+        @ApiResponse(responseCode = "400", description = "Unknown upload or invalid part number"),
+        @ApiResponse(responseCode = "500", description = "Error")})
+    public ResponseEntity<String> writeBinaryDataPart(@Parameter(description = "File system name") @PathVariable("fileSystemName") String fileSystemName,
+                                                      @Parameter(description = "Node ID") @PathVariable("nodeId") String nodeId,
+                                                      @Parameter(description = "Name") @PathVariable("name") String name,
+                                                      @Parameter(description = "Upload ID") @PathVariable("uploadId") String uploadId,
+                                                      @Parameter(description = "Part number, from 0") @PathVariable("partNumber") int partNumber,
+                                                      @Parameter(description = "Binary Data") InputStream is) throws IOException {
+        binaryDataUploads.writePart(fileSystemName, nodeId, name, uploadId, partNumber, is);
+        return ok();
+    }
+
+    @PostMapping(value = "fileSystems/{fileSystemName}/nodes/{nodeId}/data/{name}/uploads/{uploadId}")
+    @Operation(summary = "Write the parts of a binary data upload to the storage and end the upload", responses = {
+        @ApiResponse(responseCode = "200", description = ""),
+        @ApiResponse(responseCode = "400", description = "Unknown upload or missing part"),
+        @ApiResponse(responseCode = "500", description = "Error")})
+    public ResponseEntity<String> commitBinaryDataUpload(@Parameter(description = "File system name") @PathVariable("fileSystemName") String fileSystemName,
+                                                         @Parameter(description = "Node ID") @PathVariable("nodeId") String nodeId,
+                                                         @Parameter(description = "Name") @PathVariable("name") String name,
+                                                         @Parameter(description = "Upload ID") @PathVariable("uploadId") String uploadId,
+                                                         @Parameter(description = "Number of parts") @RequestParam("partCount") int partCount) throws IOException {
+        AppStorage storage = appDataWrapper.getStorage(fileSystemName);
+        binaryDataUploads.commit(storage, fileSystemName, nodeId, name, uploadId, partCount);
+        return ok();
+    }
+
+    @DeleteMapping(value = "fileSystems/{fileSystemName}/nodes/{nodeId}/data/{name}/uploads/{uploadId}")
+    @Operation(summary = "End a binary data upload without writing it to the storage", responses = {
+        @ApiResponse(responseCode = "200", description = ""),
+        @ApiResponse(responseCode = "400", description = "Unknown upload"),
+        @ApiResponse(responseCode = "500", description = "Error")})
+    public ResponseEntity<String> abortBinaryDataUpload(@Parameter(description = "File system name") @PathVariable("fileSystemName") String fileSystemName,
+                                                        @Parameter(description = "Node ID") @PathVariable("nodeId") String nodeId,
+                                                        @Parameter(description = "Name") @PathVariable("name") String name,
+                                                        @Parameter(description = "Upload ID") @PathVariable("uploadId") String uploadId) {
+        binaryDataUploads.abort(fileSystemName, nodeId, name, uploadId);
+        return ok();
+    }
+
     @GetMapping(value = "fileSystems/{fileSystemName}/nodes/{nodeId}/data", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "", responses = {
         @ApiResponse(content = @Content(schema = @Schema(implementation = Set.class))),
         @ApiResponse(responseCode = "200", description = ""),
         @ApiResponse(responseCode = "404", description = ""),
         @ApiResponse(responseCode = "500", description = "Error")})
-    public ResponseEntity<Set<String>> getDataNames(@Parameter(description = "File system name") @PathVariable("fileSystemName") String fileSystemName,
-                                                    @Parameter(description = "Node ID") @PathVariable("nodeId") String nodeId) {
-        AppStorage storage = appDataWrapper.getStorage(fileSystemName);
-        Set<String> dataNames = storage.getDataNames(nodeId);
-        return ok(dataNames);
+    public DeferredResult<ResponseEntity<Set<String>>> getDataNames(@Parameter(description = "File system name") @PathVariable("fileSystemName") String fileSystemName,
+                                                                    @Parameter(description = "Node ID") @PathVariable("nodeId") String nodeId) {
+        AsyncAppStorage storage = appDataWrapper.getAsyncStorage(fileSystemName);
+        return deferred(storage.getDataNames(nodeId).thenApply(StorageServer::ok));
     }
 
     @PutMapping(value = "fileSystems/{fileSystemName}/nodes/{nodeId}/dependencies/{name}/{toNodeId}", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -435,18 +572,17 @@ public class StorageServer {
         return ok();
     }
 
-    @GetMapping(value = "fileSystems/{fileSystemName}/nodes/{nodeId}/dependencies/{name}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @GetMapping(value = "fileSystems/{fileSystemName}/nodes/{nodeId}/dependencies/{name}", produces = {MediaType.APPLICATION_JSON_VALUE, NodeInfoBinaryCodec.MEDIA_TYPE})
     @Operation(summary = "", responses = {
         @ApiResponse(content = @Content(schema = @Schema(implementation = Set.class))),
         @ApiResponse(responseCode = "200", description = ""),
         @ApiResponse(responseCode = "404", description = "Node not found"),
         @ApiResponse(responseCode = "500", description = "Error")})
-    public ResponseEntity<Set<NodeInfo>> getDependencies(@Parameter(description = "File system name") @PathVariable("fileSystemName") String fileSystemName,
-                                                         @Parameter(description = "Node ID") @PathVariable("nodeId") String nodeId,
-                                                         @Parameter(description = "Name") @PathVariable("name") String name) {
-        AppStorage storage = appDataWrapper.getStorage(fileSystemName);
-        Set<NodeInfo> dependencies = storage.getDependencies(nodeId, name);
-        return ok(dependencies);
+    public DeferredResult<ResponseEntity<Set<NodeInfo>>> getDependencies(@Parameter(description = "File system name") @PathVariable("fileSystemName") String fileSystemName,
+                                                                         @Parameter(description = "Node ID") @PathVariable("nodeId") String nodeId,
+                                                                         @Parameter(description = "Name") @PathVariable("name") String name) {
+        AsyncAppStorage storage = appDataWrapper.getAsyncStorage(fileSystemName);
+        return deferred(storage.getDependencies(nodeId, name).thenApply(StorageServer::ok));
     }
 
     @DeleteMapping(value = "fileSystems/{fileSystemName}/nodes/{nodeId}/dependencies/{name}/{toNodeId}")
@@ -479,13 +615,114 @@ public class StorageServer {
     @Operation(summary = "", responses = {
         @ApiResponse(content = @Content(schema = @Schema(implementation = InputStream.class))),
         @ApiResponse(responseCode = "200", description = ""),
+        @ApiResponse(responseCode = "304", description = "The data matches the entity tag of the request"),
         @ApiResponse(responseCode = "404", description = ""),
         @ApiResponse(responseCode = "500", description = "Error")})
     public ResponseEntity<StreamingResponseBody> readBinaryAttribute(@Parameter(description = "File system name") @PathVariable("fileSystemName") String fileSystemName,
                                                                      @Parameter(description = "Node ID") @PathVariable("nodeId") String nodeId,
-                                                                     @Parameter(description = "Name") @PathVariable("name") String name) {
+                                                                     @Parameter(description = "Name") @PathVariable("name") String name,
+                                                                     @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                                                     @RequestHeader(value = HttpHeaders.RANGE, required = false) String rangeHeader,
+                                                                     @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                                     HttpServletRequest request) throws IOException {
         AppStorage storage = appDataWrapper.getStorage(fileSystemName);
-        return okIfPresent(storage.readBinaryData(nodeId, name).map(StorageServer::copyToBodyAndClose));
+        Optional<ByteRange> range = ByteRange.parse(rangeHeader);
+        if (range.isPresent()) {
+            // ranges of the storages which cannot seek in the data are ignored, the whole data is sent
+            OptionalLong length = storage.getBinaryDataLength(nodeId, name);
+            if (length.isPresent()) {
+                return readBinaryDataRange(storage, nodeId, name, range.get(), length.getAsLong());
+            }
+        }
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            Optional<InputStream> gzipped = storage.readGzippedBinaryData(nodeId, name);
+            if (gzipped.isPresent()) {
+                // sent as stored, the gzip filter must not compress it again
+                request.setAttribute(GzipFilter.PRECOMPRESSED_ATTRIBUTE, Boolean.TRUE);
+                return okTaggedIfSmall(gzipped.get(), ifNoneMatch, ResponseEntity.ok()
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING));
+            }
+        }
+        Optional<InputStream> data = storage.readBinaryData(nodeId, name);
+        if (data.isEmpty()) {
+            return noContent();
+        }
+        return okTaggedIfSmall(data.get(), ifNoneMatch, ResponseEntity.ok());
+    }
+
+    /**
+     * Small data is read in memory to be sent with an entity tag, so that clients can revalidate it. Larger data is
+     * streamed without tag.
+     */
+    private static ResponseEntity<StreamingResponseBody> okTaggedIfSmall(InputStream is, String ifNoneMatch, ResponseEntity.BodyBuilder builder) throws IOException {
+        ByteArrayOutputStream head = new ByteArrayOutputStream();
+        try {
+            IOUtils.copyLarge(is, head, 0, MAX_TAGGED_DATA_SIZE + 1L);
+        } catch (IOException e) {
+            is.close();
+            throw e;
+        }
+        if (head.size() > MAX_TAGGED_DATA_SIZE) {
+            return builder.body(copyToBodyAndClose(new SequenceInputStream(new ByteArrayInputStream(head.toByteArray()), is)));
+        }
+        is.close();
+        byte[] data = head.toByteArray();
+        String tag = EntityTags.of(data, data.length);
+        if (EntityTags.matches(ifNoneMatch, tag)) {
+            return notModified(tag);
+        }
+        return builder.eTag(tag).body(outputStream -> outputStream.write(data));
+    }
+
+    /**
+     * Sends a range of the uncompressed data of a storage which knows its length, by skipping in the data up to the
+     * start of the range.
+     */
+    private static ResponseEntity<StreamingResponseBody> readBinaryDataRange(AppStorage storage, String nodeId, String name, ByteRange range,
+                                                                             long length) {
+        if (!range.isSatisfiable(length)) {
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                .header(HttpHeaders.CONTENT_RANGE, "bytes */" + length)
+                .build();
+        }
+        long start = range.getStart(length);
+        long rangeLength = range.getEnd(length) - start + 1;
+        InputStream is = storage.readBinaryData(nodeId, name)
+            .orElseThrow(() -> new AfsStorageException("Data " + name + " of node " + nodeId + " removed while being read"));
+        StreamingResponseBody body = outputStream -> {
+            try (InputStream toClose = is) {
+                skip(toClose, start);
+                IOUtils.copyLarge(toClose, outputStream, 0, rangeLength, new byte[COPY_BUFFER_SIZE]);
+            }
+        };
+        return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+            .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+            .header(HttpHeaders.CONTENT_RANGE, range.toContentRange(length))
+            .contentLength(rangeLength)
+            .body(body);
+    }
+
+    /**
+     * Skips {@code n} bytes or up to the end of the stream, relying on {@link InputStream#skip(long)} so that streams
+     * over files or memory do not read the skipped bytes.
+     *
+     * @return the number of skipped bytes
+     */
+    private static long skip(InputStream is, long n) throws IOException {
+        long skipped = 0;
+        while (skipped < n) {
+            long s = is.skip(n - skipped);
+            if (s > 0) {
+                skipped += s;
+            } else if (is.read() != -1) {
+                // skip may return 0 before the end of the stream
+                skipped++;
+            } else {
+                break;
+            }
+        }
+        return skipped;
     }
 
     @GetMapping(value = "fileSystems/{fileSystemName}/nodes/{nodeId}/data/{name}", produces = MediaType.TEXT_PLAIN_VALUE)
@@ -494,12 +731,11 @@ public class StorageServer {
         @ApiResponse(responseCode = "200", description = ""),
         @ApiResponse(responseCode = "404", description = ""),
         @ApiResponse(responseCode = "500", description = "Error")})
-    public ResponseEntity<String> dataExists(@Parameter(description = "File system name") @PathVariable("fileSystemName") String fileSystemName,
-                                             @Parameter(description = "Node ID") @PathVariable("nodeId") String nodeId,
-                                             @Parameter(description = "Name") @PathVariable("name") String name) {
-        AppStorage storage = appDataWrapper.getStorage(fileSystemName);
-        boolean exists = storage.dataExists(nodeId, name);
-        return ok(Boolean.toString(exists));
+    public DeferredResult<ResponseEntity<String>> dataExists(@Parameter(description = "File system name") @PathVariable("fileSystemName") String fileSystemName,
+                                                             @Parameter(description = "Node ID") @PathVariable("nodeId") String nodeId,
+                                                             @Parameter(description = "Name") @PathVariable("name") String name) {
+        AsyncAppStorage storage = appDataWrapper.getAsyncStorage(fileSystemName);
+        return deferred(storage.dataExists(nodeId, name).thenApply(exists -> ok(Boolean.toString(exists))));
     }
 
     @DeleteMapping(value = "fileSystems/{fileSystemName}/nodes/{nodeId}/data/{name}", produces = MediaType.TEXT_PLAIN_VALUE)
@@ -535,14 +771,10 @@ public class StorageServer {
         @ApiResponse(responseCode = "200", description = ""),
         @ApiResponse(responseCode = "404", description = ""),
         @ApiResponse(responseCode = "500", description = "Error")})
-    public ResponseEntity<Set<String>> getTimeSeriesNames(@Parameter(description = "File system name") @PathVariable("fileSystemName") String fileSystemName,
-                                                          @Parameter(description = "Node ID") @PathVariable("nodeId") String nodeId) {
-        AppStorage storage = appDataWrapper.getStorage(fileSystemName);
-        Set<String> timeSeriesNames = storage.getTimeSeriesNames(nodeId);
-        return ResponseEntity.ok()
-            .header(HttpHeaders.CONTENT_ENCODING, "gzip")
-            .body(timeSeriesNames);
-
+    public DeferredResult<ResponseEntity<Set<String>>> getTimeSeriesNames(@Parameter(description = "File system name") @PathVariable("fileSystemName") String fileSystemName,
+                                                                          @Parameter(description = "Node ID") @PathVariable("nodeId") String nodeId) {
+        AsyncAppStorage storage = appDataWrapper.getAsyncStorage(fileSystemName);
+        return deferred(storage.getTimeSeriesNames(nodeId).thenApply(StorageServer::okGzip));
     }
 
     @GetMapping(value = "fileSystems/{fileSystemName}/nodes/{nodeId}/timeSeries/{timeSeriesName}", produces = MediaType.TEXT_PLAIN_VALUE)
@@ -551,12 +783,11 @@ public class StorageServer {
         @ApiResponse(responseCode = "200", description = ""),
         @ApiResponse(responseCode = "404", description = ""),
         @ApiResponse(responseCode = "500", description = "Error")})
-    public ResponseEntity<String> timeSeriesExists(@Parameter(description = "File system name") @PathVariable("fileSystemName") String fileSystemName,
-                                                   @Parameter(description = "Node ID") @PathVariable("nodeId") String nodeId,
-                                                   @Parameter(description = "Time series name") @PathVariable("timeSeriesName") String timeSeriesName) {
-        AppStorage storage = appDataWrapper.getStorage(fileSystemName);
-        boolean exists = storage.timeSeriesExists(nodeId, timeSeriesName);
-        return ok(Boolean.toString(exists));
+    public DeferredResult<ResponseEntity<String>> timeSeriesExists(@Parameter(description = "File system name") @PathVariable("fileSystemName") String fileSystemName,
+                                                                   @Parameter(description = "Node ID") @PathVariable("nodeId") String nodeId,
+                                                                   @Parameter(description = "Time series name") @PathVariable("timeSeriesName") String timeSeriesName) {
+        AsyncAppStorage storage = appDataWrapper.getAsyncStorage(fileSystemName);
+        return deferred(storage.timeSeriesExists(nodeId, timeSeriesName).thenApply(exists -> ok(Boolean.toString(exists))));
     }
 
     @PostMapping(value = "fileSystems/{fileSystemName}/nodes/{nodeId}/timeSeries/metadata", produces = MediaType.APPLICATION_JSON_VALUE, consumes = MediaType.APPLICATION_JSON_VALUE)
@@ -565,22 +796,18 @@ public class StorageServer {
         @ApiResponse(responseCode = "200", description = ""),
         @ApiResponse(responseCode = "404", description = ""),
         @ApiResponse(responseCode = "500", description = "Error")})
-    public ResponseEntity<List<TimeSeriesMetadata>> getTimeSeriesMetadata(@Parameter(description = "File system name") @PathVariable("fileSystemName") String fileSystemName,
-                                                                          @Parameter(description = "Node ID") @PathVariable("nodeId") String nodeId,
-                                                                          @Parameter(description = "Time series names") @RequestBody Set<String> timeSeriesNames) {
-        AppStorage storage = appDataWrapper.getStorage(fileSystemName);
-        List<TimeSeriesMetadata> metadataList = storage.getTimeSeriesMetadata(nodeId, timeSeriesNames);
-        return ResponseEntity.ok()
-            .header(HttpHeaders.CONTENT_ENCODING, "gzip")
-            .body(metadataList);
+    public DeferredResult<ResponseEntity<List<TimeSeriesMetadata>>> getTimeSeriesMetadata(@Parameter(description = "File system name") @PathVariable("fileSystemName") String fileSystemName,
+                                                                                          @Parameter(description = "Node ID") @PathVariable("nodeId") String nodeId,
+                                                                                          @Parameter(description = "Time series names") @RequestBody Set<String> timeSeriesNames) {
+        AsyncAppStorage storage = appDataWrapper.getAsyncStorage(fileSystemName);
+        return deferred(storage.getTimeSeriesMetadata(nodeId, timeSeriesNames).thenApply(StorageServer::okGzip));
     }
 
     @GetMapping(value = "fileSystems/{fileSystemName}/nodes/{nodeId}/timeSeries/versions", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Set<Integer>> getTimeSeriesDataVersions(@PathVariable("fileSystemName") String fileSystemName,
-                                                                  @PathVariable("nodeId") String nodeId) {
-        AppStorage storage = appDataWrapper.getStorage(fileSystemName);
-        Set<Integer> versions = storage.getTimeSeriesDataVersions(nodeId);
-        return ok(versions);
+    public DeferredResult<ResponseEntity<Set<Integer>>> getTimeSeriesDataVersions(@PathVariable("fileSystemName") String fileSystemName,
+                                                                                  @PathVariable("nodeId") String nodeId) {
+        AsyncAppStorage storage = appDataWrapper.getAsyncStorage(fileSystemName);
+        return deferred(storage.getTimeSeriesDataVersions(nodeId).thenApply(StorageServer::ok));
     }
 
     @GetMapping(value = "fileSystems/{fileSystemName}/nodes/{nodeId}/timeSeries/{timeSeriesName}/versions", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -589,12 +816,11 @@ public class StorageServer {
         @ApiResponse(responseCode = "200", description = ""),
         @ApiResponse(responseCode = "404", description = ""),
         @ApiResponse(responseCode = "500", description = "Error")})
-    public ResponseEntity<Set<Integer>> getTimeSeriesDataVersions(@Parameter(description = "File system name") @PathVariable("fileSystemName") String fileSystemName,
-                                                                  @Parameter(description = "Node ID") @PathVariable("nodeId") String nodeId,
-                                                                  @Parameter(description = "Time series name") @PathVariable("timeSeriesName") String timeSeriesName) {
-        AppStorage storage = appDataWrapper.getStorage(fileSystemName);
-        Set<Integer> versions = storage.getTimeSeriesDataVersions(nodeId, timeSeriesName);
-        return ok(versions);
+    public DeferredResult<ResponseEntity<Set<Integer>>> getTimeSeriesDataVersions(@Parameter(description = "File system name") @PathVariable("fileSystemName") String fileSystemName,
+                                                                                  @Parameter(description = "Node ID") @PathVariable("nodeId") String nodeId,
+                                                                                  @Parameter(description = "Time series name") @PathVariable("timeSeriesName") String timeSeriesName) {
+        AsyncAppStorage storage = appDataWrapper.getAsyncStorage(fileSystemName);
+        return deferred(storage.getTimeSeriesDataVersions(nodeId, timeSeriesName).thenApply(StorageServer::ok));
     }
 
     @PostMapping(value = "fileSystems/{fileSystemName}/nodes/{nodeId}/timeSeries/double/{version}", produces = MediaType.APPLICATION_JSON_VALUE, consumes = MediaType.APPLICATION_JSON_VALUE)
@@ -603,15 +829,17 @@ public class StorageServer {
         @ApiResponse(responseCode = "200", description = ""),
         @ApiResponse(responseCode = "404", description = ""),
         @ApiResponse(responseCode = "500", description = "Error")})
-    public ResponseEntity<Map<String, List<DoubleDataChunk>>> getDoubleTimeSeriesData(@PathVariable("fileSystemName") String fileSystemName,
-                                                                                      @PathVariable("nodeId") String nodeId,
-                                                                                      @PathVariable("version") int version,
-                                                                                      @RequestBody Set<String> timeSeriesNames) {
-        AppStorage storage = appDataWrapper.getStorage(fileSystemName);
-        Map<String, List<DoubleDataChunk>> timeSeriesData = storage.getDoubleTimeSeriesData(nodeId, timeSeriesNames, version);
-        return ResponseEntity.ok()
-            .header(HttpHeaders.CONTENT_ENCODING, "gzip")
-            .body(timeSeriesData);
+    public DeferredResult<ResponseEntity<Map<String, List<DoubleDataChunk>>>> getDoubleTimeSeriesData(@PathVariable("fileSystemName") String fileSystemName,
+                                                                                                      @PathVariable("nodeId") String nodeId,
+                                                                                                      @PathVariable("version") int version,
+                                                                                                      @RequestParam(value = "firstIndex", required = false) Integer firstIndex,
+                                                                                                      @RequestParam(value = "lastIndex", required = false) Integer lastIndex,
+                                                                                                      @RequestBody Set<String> timeSeriesNames) {
+        AsyncAppStorage storage = appDataWrapper.getAsyncStorage(fileSystemName);
+        TimeSeriesWindow window = createWindow(firstIndex, lastIndex);
+        CompletionStage<Map<String, List<DoubleDataChunk>>> timeSeriesData = window != null ? storage.getDoubleTimeSeriesData(nodeId, timeSeriesNames, version, window)
+            : storage.getDoubleTimeSeriesData(nodeId, timeSeriesNames, version);
+        return deferred(timeSeriesData.thenApply(StorageServer::okGzip));
     }
 
     @PostMapping(value = "fileSystems/{fileSystemName}/nodes/{nodeId}/timeSeries/string/{version}", produces = MediaType.APPLICATION_JSON_VALUE, consumes = MediaType.APPLICATION_JSON_VALUE)
@@ -620,15 +848,31 @@ public class StorageServer {
         @ApiResponse(responseCode = "200", description = ""),
         @ApiResponse(responseCode = "404", description = ""),
         @ApiResponse(responseCode = "500", description = "Error")})
-    public ResponseEntity<Map<String, List<StringDataChunk>>> getStringTimeSeriesData(@PathVariable("fileSystemName") String fileSystemName,
-                                                                                      @PathVariable("nodeId") String nodeId,
-                                                                                      @PathVariable("version") int version,
-                                                                                      @RequestBody Set<String> timeSeriesNames) {
-        AppStorage storage = appDataWrapper.getStorage(fileSystemName);
-        Map<String, List<StringDataChunk>> timeSeriesData = storage.getStringTimeSeriesData(nodeId, timeSeriesNames, version);
-        return ResponseEntity.ok()
-            .header(HttpHeaders.CONTENT_ENCODING, "gzip")
-            .body(timeSeriesData);
+    public DeferredResult<ResponseEntity<Map<String, List<StringDataChunk>>>> getStringTimeSeriesData(@PathVariable("fileSystemName") String fileSystemName,
+                                                                                                      @PathVariable("nodeId") String nodeId,
+                                                                                                      @PathVariable("version") int version,
+                                                                                                      @RequestParam(value = "firstIndex", required = false) Integer firstIndex,
+                                                                                                      @RequestParam(value = "lastIndex", required = false) Integer lastIndex,
+                                                                                                      @RequestBody Set<String> timeSeriesNames) {
+        AsyncAppStorage storage = appDataWrapper.getAsyncStorage(fileSystemName);
+        TimeSeriesWindow window = createWindow(firstIndex, lastIndex);
+        CompletionStage<Map<String, List<StringDataChunk>>> timeSeriesData = window != null ? storage.getStringTimeSeriesData(nodeId, timeSeriesNames, version, window)
+            : storage.getStringTimeSeriesData(nodeId, timeSeriesNames, version);
+        return deferred(timeSeriesData.thenApply(StorageServer::okGzip));
+    }
+
+    private static TimeSeriesWindow createWindow(Integer firstIndex, Integer lastIndex) {
+        if (firstIndex == null && lastIndex == null) {
+            return null;
+        }
+        if (firstIndex == null || lastIndex == null) {
+            throw new AfsException("Both firstIndex and lastIndex are required to define a window");
+        }
+        try {
+            return new TimeSeriesWindow(firstIndex, lastIndex);
+        } catch (IllegalArgumentException e) {
+            throw new AfsException(e.getMessage());
+        }
     }
 
     @DeleteMapping(value = "fileSystems/{fileSystemName}/nodes/{nodeId}/timeSeries")
@@ -700,6 +944,26 @@ public class StorageServer {
         return ok();
     }
 
+    @PostMapping(value = "fileSystems/{fileSystemName}/tasks", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Update the message of several tasks", responses = {
+        @ApiResponse(responseCode = "200", description = ""),
+        @ApiResponse(responseCode = "404", description = ""),
+        @ApiResponse(responseCode = "500", description = "Error")})
+    public ResponseEntity<String> updateTaskMessages(@PathVariable("fileSystemName") String fileSystemName,
+                                                     @RequestBody Map<UUID, String> messages) {
+        AppFileSystem fileSystem = appDataWrapper.getFileSystem(fileSystemName);
+        TaskMonitor taskMonitor = fileSystem.getTaskMonitor();
+        messages.forEach((taskId, message) -> {
+            try {
+                taskMonitor.updateTaskMessage(taskId, message);
+            } catch (IllegalArgumentException e) {
+                // the task has been stopped meanwhile, the other ones are still updated
+                LOGGER.warn("Cannot update message of task {}: {}", taskId, e.getMessage());
+            }
+        });
+        return ok();
+    }
+
     @DeleteMapping(value = "fileSystems/{fileSystemName}/tasks/{taskId}")
     public ResponseEntity<String> stopTask(@PathVariable("fileSystemName") String fileSystemName,
                                            @PathVariable("taskId") UUID taskId) {
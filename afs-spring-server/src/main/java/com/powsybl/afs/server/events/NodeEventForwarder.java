@@ -7,6 +7,7 @@
 package com.powsybl.afs.server.events;
 
 import com.fasterxml.jackson.databind.ObjectWriter;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.powsybl.afs.storage.events.AppStorageListener;
 import com.powsybl.afs.storage.events.NodeEventList;
 import com.powsybl.commons.json.JsonUtil;
@@ -14,6 +15,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * A listener which forwards events to a websocket client.
@@ -28,16 +34,37 @@ public class NodeEventForwarder implements AppStorageListener {
 
     private final WebSocketSession session;
 
+    private final Executor sender;
+
     NodeEventForwarder(WebSocketSession session) {
+        this(session, MoreExecutors.directExecutor());
+    }
+
+    /**
+     * @param sender the executor sending the events to the client, which must preserve their order. The session is
+     *               closed when it rejects events.
+     */
+    NodeEventForwarder(WebSocketSession session, Executor sender) {
         this.session = WebSocketUtils.concurrent(session);
+        this.sender = Objects.requireNonNull(sender);
     }
 
     @Override
     public void onEvents(NodeEventList eventList) {
+        try {
+            sender.execute(() -> send(eventList));
+        } catch (RejectedExecutionException e) {
+            WebSocketUtils.closeSlowSession(session, e.getMessage());
+        }
+    }
+
+    private void send(NodeEventList eventList) {
         if (session.isOpen()) {
             try {
                 String eventListEncode = NODE_EVENT_WRITER.writeValueAsString(eventList);
                 session.sendMessage(new TextMessage(eventListEncode));
+            } catch (SessionLimitExceededException e) {
+                WebSocketUtils.closeSlowSession(session, e.getMessage());
             } catch (Exception e) {
                 LOGGER.error("Failed to send events {} to {}:", eventList, session.getRemoteAddress(), e);
             }
@@ -6,11 +6,16 @@
  */
 package com.powsybl.afs.server.events;
 
-import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.powsybl.afs.server.AppDataWrapper;
 import com.powsybl.afs.storage.AppStorage;
+import com.powsybl.afs.storage.EventsBus;
 import com.powsybl.afs.storage.events.AppStorageListener;
+import com.powsybl.afs.storage.events.NodeEvent;
 import com.powsybl.afs.storage.events.NodeEventContainer;
+import com.powsybl.afs.storage.events.NodeEventListContainer;
 import com.powsybl.commons.json.JsonUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,6 +26,9 @@ import org.springframework.web.socket.handler.TextWebSocketHandler;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 /**
  * Web socket handler for node events :
@@ -28,6 +36,8 @@ import java.io.UncheckedIOException;
  *     <li>On connection, registers a listener to forward events to the client</li>
  *     <li>On receiving events from the client, forwards it to underlying event bus</li>
  * </ul>
+ * Clients send either a single event, or a list of events of a topic which are all pushed before the event bus is
+ * flushed, so that listeners are notified once per list.
  *
  * @author Sylvain Leclerc {@literal <sylvain.leclerc at rte-france.com>}
  */
@@ -35,15 +45,25 @@ public class NodeEventHandler extends TextWebSocketHandler {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(NodeEventHandler.class);
 
-    private static final ObjectReader NODE_EVENT_READER = JsonUtil.createObjectMapper()
-            .readerFor(NodeEventContainer.class);
+    private static final ObjectMapper OBJECT_MAPPER = JsonUtil.createObjectMapper();
+
+    private static final String NODE_EVENT_LIST = "nodeEventList";
 
     private final AppDataWrapper appDataWrapper;
     private final WebSocketContext webSocketContext;
+    private final Supplier<Executor> senderFactory;
 
     public NodeEventHandler(AppDataWrapper appDataWrapper, WebSocketContext webSocketContext) {
+        this(appDataWrapper, webSocketContext, MoreExecutors::directExecutor);
+    }
+
+    /**
+     * @param senderFactory creates, for each session, the executor sending the events to the client
+     */
+    public NodeEventHandler(AppDataWrapper appDataWrapper, WebSocketContext webSocketContext, Supplier<Executor> senderFactory) {
         this.appDataWrapper = appDataWrapper;
         this.webSocketContext = webSocketContext;
+        this.senderFactory = Objects.requireNonNull(senderFactory);
     }
 
     @Override
@@ -55,7 +75,7 @@ public class NodeEventHandler extends TextWebSocketHandler {
     }
 
     private void registerListener(WebSocketSession session) {
-        AppStorageListener eventForwarder = new NodeEventForwarder(session);
+        AppStorageListener eventForwarder = new NodeEventForwarder(session, senderFactory.get());
         appDataWrapper.getAppData().getEventsBus().addListener(eventForwarder);
         SessionAttributes.of(session).setListener(eventForwarder);
         webSocketContext.addSession(session);
@@ -71,10 +91,21 @@ public class NodeEventHandler extends TextWebSocketHandler {
 
     private void forwardEventsToBus(TextMessage message) {
         try {
-            NodeEventContainer container = NODE_EVENT_READER.readValue(message.getPayload());
-            AppStorage storage = appDataWrapper.getStorage(container.getFileSystemName());
-            storage.getEventsBus().pushEvent(container.getNodeEvent(), container.getTopic());
-            storage.getEventsBus().flush();
+            JsonNode payload = OBJECT_MAPPER.readTree(message.getPayload());
+            if (payload.has(NODE_EVENT_LIST)) {
+                NodeEventListContainer container = OBJECT_MAPPER.treeToValue(payload, NodeEventListContainer.class);
+                EventsBus eventsBus = appDataWrapper.getStorage(container.getFileSystemName()).getEventsBus();
+                String topic = container.getNodeEventList().getTopic();
+                for (NodeEvent event : container.getNodeEventList().getEvents()) {
+                    eventsBus.pushEvent(event, topic);
+                }
+                eventsBus.flush();
+            } else {
+                NodeEventContainer container = OBJECT_MAPPER.treeToValue(payload, NodeEventContainer.class);
+                AppStorage storage = appDataWrapper.getStorage(container.getFileSystemName());
+                storage.getEventsBus().pushEvent(container.getNodeEvent(), container.getTopic());
+                storage.getEventsBus().flush();
+            }
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
@@ -7,6 +7,7 @@
 package com.powsybl.afs.server.events;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.powsybl.afs.AppFileSystem;
 import com.powsybl.afs.TaskEvent;
 import com.powsybl.afs.TaskListener;
@@ -17,10 +18,15 @@ import org.slf4j.LoggerFactory;
 import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
 
 public class TaskEventHandler extends TextWebSocketHandler {
 
@@ -28,12 +34,21 @@ public class TaskEventHandler extends TextWebSocketHandler {
 
     private final AppDataWrapper appDataWrapper;
     private final WebSocketContext webSocketContext;
+    private final Supplier<Executor> senderFactory;
 
     private final ObjectMapper objectMapper = JsonUtil.createObjectMapper();
 
     public TaskEventHandler(AppDataWrapper appDataWrapper, WebSocketContext webSocketContext) {
+        this(appDataWrapper, webSocketContext, MoreExecutors::directExecutor);
+    }
+
+    /**
+     * @param senderFactory creates, for each session, the executor sending the events to the client
+     */
+    public TaskEventHandler(AppDataWrapper appDataWrapper, WebSocketContext webSocketContext, Supplier<Executor> senderFactory) {
         this.appDataWrapper = appDataWrapper;
         this.webSocketContext = webSocketContext;
+        this.senderFactory = Objects.requireNonNull(senderFactory);
     }
 
     @Override
@@ -49,6 +64,8 @@ public class TaskEventHandler extends TextWebSocketHandler {
 
             private final WebSocketSession internalSession = WebSocketUtils.concurrent(session);
 
+            private final Executor sender = senderFactory.get();
+
             @Override
             public String getProjectId() {
                 return projectId;
@@ -56,10 +73,20 @@ public class TaskEventHandler extends TextWebSocketHandler {
 
             @Override
             public void onEvent(TaskEvent event) {
+                try {
+                    sender.execute(() -> send(event));
+                } catch (RejectedExecutionException e) {
+                    WebSocketUtils.closeSlowSession(internalSession, e.getMessage());
+                }
+            }
+
+            private void send(TaskEvent event) {
                 if (internalSession.isOpen()) {
                     try {
                         String taskEventEncode = objectMapper.writeValueAsString(event);
                         internalSession.sendMessage(new TextMessage(taskEventEncode));
+                    } catch (SessionLimitExceededException e) {
+                        WebSocketUtils.closeSlowSession(internalSession, e.getMessage());
                     } catch (IOException e) {
                         throw new UncheckedIOException(e);
                     }
@@ -7,6 +7,7 @@
 package com.powsybl.afs.server.events;
 
 import com.powsybl.afs.server.AppDataWrapper;
+import com.powsybl.afs.server.ServerExecutors;
 import com.powsybl.afs.server.StorageServer;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -30,19 +31,24 @@ public class WebSocketServer implements WebSocketConfigurer {
 
     private final AppDataWrapper appDataWrapper;
     private final WebSocketContext webSocketContext;
+    private final ServerExecutors executors;
 
     @Autowired
     public WebSocketServer(AppDataWrapper appDataWrapper,
-                           WebSocketContext webSocketContext) {
+                           WebSocketContext webSocketContext,
+                           ServerExecutors executors) {
         this.appDataWrapper = Objects.requireNonNull(appDataWrapper);
         this.webSocketContext = Objects.requireNonNull(webSocketContext);
+        this.executors = Objects.requireNonNull(executors);
     }
 
     @Override
     public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
         registry
-            .addHandler(new NodeEventHandler(appDataWrapper, webSocketContext), "/messages/afs/" + StorageServer.API_VERSION + "/node_events/{fileSystemName}")
-            .addHandler(new TaskEventHandler(appDataWrapper, webSocketContext), "/messages/afs/" + StorageServer.API_VERSION + "/task_events/{fileSystemName}/{projectId}")
+            .addHandler(new NodeEventHandler(appDataWrapper, webSocketContext, executors::createWebSocketSender),
+                "/messages/afs/" + StorageServer.API_VERSION + "/node_events/{fileSystemName}")
+            .addHandler(new TaskEventHandler(appDataWrapper, webSocketContext, executors::createWebSocketSender),
+                "/messages/afs/" + StorageServer.API_VERSION + "/task_events/{fileSystemName}/{projectId}")
             .setAllowedOrigins("*")
             .addInterceptors(new UriTemplateHandshakeInterceptor());
     }
@@ -6,9 +6,14 @@
  */
 package com.powsybl.afs.server.events;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
 
+import java.io.IOException;
+
 /**
  * Utilities for web sockets.
  *
@@ -16,6 +21,8 @@ import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorato
  */
 public final class WebSocketUtils {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(WebSocketUtils.class);
+
     private WebSocketUtils() {
     }
 
@@ -28,4 +35,16 @@ public final class WebSocketUtils {
                 WebSocketConstants.SEND_BUFFER_SIZE,
                 ConcurrentWebSocketSessionDecorator.OverflowStrategy.DROP);
     }
+
+    /**
+     * Closes a session whose client does not read its messages fast enough, so that they stop piling up on the server.
+     */
+    public static void closeSlowSession(WebSocketSession session, String reason) {
+        LOGGER.warn("Closing websocket session '{}' of client {}: {}", session.getId(), session.getRemoteAddress(), reason);
+        try {
+            session.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to close websocket session '{}'", session.getId(), e);
+        }
+    }
 }
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.server.io;
+
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A single byte range of an HTTP {@code Range} header, either {@code bytes=first-}, {@code bytes=first-last} or
+ * {@code bytes=-suffixLength}.
+ * <p>
+ * Headers with several ranges or with another unit are not supported: they are ignored, as allowed by RFC 9110, and the
+ * whole content is sent.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+public final class ByteRange {
+
+    private static final Pattern RANGE_PATTERN = Pattern.compile("^bytes=(\\d*)-(\\d*)$");
+
+    private final Long first;
+
+    private final Long last;
+
+    private ByteRange(Long first, Long last) {
+        this.first = first;
+        this.last = last;
+    }
+
+    /**
+     * Parses a {@code Range} header, empty if the header is missing, invalid or not supported.
+     */
+    public static Optional<ByteRange> parse(String header) {
+        if (header == null) {
+            return Optional.empty();
+        }
+        Matcher matcher = RANGE_PATTERN.matcher(header.trim());
+        if (!matcher.matches() || matcher.group(1).isEmpty() && matcher.group(2).isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            Long first = matcher.group(1).isEmpty() ? null : Long.parseLong(matcher.group(1));
+            Long last = matcher.group(2).isEmpty() ? null : Long.parseLong(matcher.group(2));
+            if (first != null && last != null && last < first) {
+                return Optional.empty();
+            }
+            return Optional.of(new ByteRange(first, last));
+        } catch (NumberFormatException e) {
+            // too long to be a valid position
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * {@code true} if the range overlaps a content of {@code length} bytes.
+     */
+    public boolean isSatisfiable(long length) {
+        if (first == null) {
+            return last > 0 && length > 0;
+        }
+        return first < length;
+    }
+
+    /**
+     * The position of the first byte of the range in a content of {@code length} bytes.
+     */
+    public long getStart(long length) {
+        return first == null ? Math.max(0, length - last) : first;
+    }
+
+    /**
+     * The position of the last byte of the range, included, in a content of {@code length} bytes.
+     */
+    public long getEnd(long length) {
+        return first == null || last == null ? length - 1 : Math.min(last, length - 1);
+    }
+
+    /**
+     * The value of the {@code Content-Range} header of the response sending this range of a content of {@code length}
+     * bytes.
+     */
+    public String toContentRange(long length) {
+        return "bytes " + getStart(length) + "-" + getEnd(length) + "/" + length;
+    }
+
+    @Override
+    public String toString() {
+        return "bytes=" + (first != null ? first : "") + "-" + (last != null ? last : "");
+    }
+}
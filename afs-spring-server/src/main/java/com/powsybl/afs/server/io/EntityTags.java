@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.server.io;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.powsybl.afs.storage.NodeGenericMetadata;
+import com.powsybl.afs.storage.NodeInfo;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Entity tags of the responses of the storage server, so that clients can revalidate the responses they keep with a
+ * conditional request.
+ * <p>
+ * Tags are weak, as the same content may be sent in JSON or binary, compressed or not. They are derived from the
+ * content itself, node modification times not being updated by all the modifications of a node.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+public final class EntityTags {
+
+    private EntityTags() {
+    }
+
+    private static void putString(Hasher hasher, String value) {
+        hasher.putInt(value.length()).putString(value, StandardCharsets.UTF_8);
+    }
+
+    private static <T> void putMap(Hasher hasher, Map<String, T> map) {
+        hasher.putInt(map.size());
+        // metadata maps are hash maps, the order of their entries is not significant
+        for (Map.Entry<String, T> e : new TreeMap<>(map).entrySet()) {
+            putString(hasher, e.getKey());
+            putString(hasher, String.valueOf(e.getValue()));
+        }
+    }
+
+    private static void putNodeInfo(Hasher hasher, NodeInfo nodeInfo) {
+        putString(hasher, nodeInfo.getId());
+        putString(hasher, nodeInfo.getName());
+        putString(hasher, nodeInfo.getPseudoClass());
+        putString(hasher, nodeInfo.getDescription());
+        hasher.putLong(nodeInfo.getCreationTime())
+            .putLong(nodeInfo.getModificationTime())
+            .putInt(nodeInfo.getVersion());
+        NodeGenericMetadata metadata = nodeInfo.getGenericMetadata();
+        putMap(hasher, metadata.getStrings());
+        putMap(hasher, metadata.getDoubles());
+        putMap(hasher, metadata.getInts());
+        putMap(hasher, metadata.getBooleans());
+    }
+
+    private static String toTag(Hasher hasher) {
+        return "W/\"" + hasher.hash() + "\"";
+    }
+
+    public static String of(NodeInfo nodeInfo) {
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        putNodeInfo(hasher, nodeInfo);
+        return toTag(hasher);
+    }
+
+    public static String of(Collection<NodeInfo> nodeInfos) {
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        hasher.putInt(nodeInfos.size());
+        for (NodeInfo nodeInfo : nodeInfos) {
+            putNodeInfo(hasher, nodeInfo);
+        }
+        return toTag(hasher);
+    }
+
+    public static String of(byte[] data, int length) {
+        return toTag(Hashing.murmur3_128().newHasher().putBytes(data, 0, length));
+    }
+
+    /**
+     * Weak comparison of a tag with the value of an {@code If-None-Match} header.
+     */
+    public static boolean matches(String ifNoneMatch, String tag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String opaqueTag = tag.substring(2);
+        for (String requestedTag : ifNoneMatch.split(",")) {
+            String trimmedTag = requestedTag.trim();
+            if ("*".equals(trimmedTag) || trimmedTag.equals(tag) || trimmedTag.equals(opaqueTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -17,7 +17,8 @@ import java.io.IOException;
  * An http servlet filter which tries to handle automatic gzip compression and decompression:
  * <ul>
  *     <li>for POST request with gzip content-encoding, wrap the request to gunzip its content</li>
- *     <li>Wraps responses : responses with gzip content-encoding will get their output stream wrapped in a gzip output stream</li>
+ *     <li>Wraps responses : responses with gzip content-encoding will get their output stream wrapped in a gzip output stream,
+ *     unless the handler marked the content as already compressed with the {@link #PRECOMPRESSED_ATTRIBUTE} request attribute</li>
  * </ul>
  *
  * The wrapping of response does not work very well:
@@ -30,6 +31,11 @@ import java.io.IOException;
  */
 public class GzipFilter implements Filter {
 
+    /**
+     * Request attribute set by handlers which send content already gzip compressed, with a gzip content-encoding.
+     */
+    public static final String PRECOMPRESSED_ATTRIBUTE = GzipFilter.class.getName() + ".precompressed";
+
     @Override
     public final void doFilter(final ServletRequest servletRequest,
                                final ServletResponse servletResponse,
@@ -50,7 +56,7 @@ public class GzipFilter implements Filter {
         if (isGzipped) {
             request = new GzippedRequestWrapper((HttpServletRequest) servletRequest);
         }
-        GzippedResponseWrapper gzipResponse = new GzippedResponseWrapper(response);
+        GzippedResponseWrapper gzipResponse = new GzippedResponseWrapper(response, request);
         chain.doFilter(request, gzipResponse);
 
         //This seems necessary because otherwise spring does not close the output stream,
@@ -7,6 +7,7 @@
 package com.powsybl.afs.server.io;
 
 import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.ServletRequest;
 import jakarta.servlet.WriteListener;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpServletResponseWrapper;
@@ -19,17 +20,28 @@ import java.util.Objects;
 import java.util.zip.GZIPOutputStream;
 
 /**
- * Wraps a response to gzip its content if its content-encoding is set to "gzip".
+ * Wraps a response to gzip its content if its content-encoding is set to "gzip", and the content is not already
+ * compressed according to the {@link GzipFilter#PRECOMPRESSED_ATTRIBUTE} attribute of the request.
  *
  * @author Sylvain Leclerc {@literal <sylvain.leclerc at rte-france.com>}
  */
 public class GzippedResponseWrapper extends HttpServletResponseWrapper {
 
+    private final ServletRequest request;
     private ServletOutputStream servletOuput;
     private PrintWriter printerWriter;
 
     public GzippedResponseWrapper(HttpServletResponse response) {
+        this(response, null);
+    }
+
+    public GzippedResponseWrapper(HttpServletResponse response, ServletRequest request) {
         super(response);
+        this.request = request;
+    }
+
+    private boolean isPrecompressed() {
+        return request != null && Boolean.TRUE.equals(request.getAttribute(GzipFilter.PRECOMPRESSED_ATTRIBUTE));
     }
 
     /**
@@ -59,7 +71,7 @@ public class GzippedResponseWrapper extends HttpServletResponseWrapper {
     @Override
     public ServletOutputStream getOutputStream() throws IOException {
         if (servletOuput == null) {
-            if (super.getHeader(HttpHeaders.CONTENT_ENCODING) != null && super.getHeader(HttpHeaders.CONTENT_ENCODING).equals("gzip")) {
+            if ("gzip".equals(super.getHeader(HttpHeaders.CONTENT_ENCODING)) && !isPrecompressed()) {
                 servletOuput = new GzipResponseStream(getResponse().getOutputStream());
             } else {
                 servletOuput = getResponse().getOutputStream();
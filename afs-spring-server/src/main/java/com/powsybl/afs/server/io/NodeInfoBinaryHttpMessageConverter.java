@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.server.io;
+
+import com.powsybl.afs.storage.NodeDependency;
+import com.powsybl.afs.storage.NodeInfo;
+import com.powsybl.afs.storage.NodeInfoBinaryCodec;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Writes the lists and sets of {@link NodeInfo} and {@link NodeDependency} with the {@link NodeInfoBinaryCodec} binary
+ * format, for the clients accepting it.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+@Component
+public class NodeInfoBinaryHttpMessageConverter extends AbstractGenericHttpMessageConverter<Collection<?>> {
+
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(NodeInfoBinaryCodec.MEDIA_TYPE);
+
+    public NodeInfoBinaryHttpMessageConverter() {
+        super(MEDIA_TYPE);
+    }
+
+    private static Type getElementType(Type type) {
+        if (type instanceof ParameterizedType parameterizedType
+                && parameterizedType.getRawType() instanceof Class<?> rawType
+                && Collection.class.isAssignableFrom(rawType)
+                && parameterizedType.getActualTypeArguments().length == 1) {
+            return parameterizedType.getActualTypeArguments()[0];
+        }
+        return null;
+    }
+
+    private static boolean isNodeInfoCollection(Type type) {
+        Type elementType = getElementType(type);
+        return elementType == NodeInfo.class || elementType == NodeDependency.class;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return Collection.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return isNodeInfoCollection(type) && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        // the element type is needed
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return isNodeInfoCollection(type) && canWrite(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        // the element type is needed
+        return false;
+    }
+
+    @Override
+    public Collection<?> read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        List<?> elements = getElementType(type) == NodeDependency.class
+                ? NodeInfoBinaryCodec.readDependencies(inputMessage.getBody())
+                : NodeInfoBinaryCodec.read(inputMessage.getBody());
+        return ((ParameterizedType) type).getRawType() == Set.class ? new LinkedHashSet<>(elements) : elements;
+    }
+
+    @Override
+    protected Collection<?> readInternal(Class<? extends Collection<?>> clazz, HttpInputMessage inputMessage) throws IOException {
+        return NodeInfoBinaryCodec.read(inputMessage.getBody());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void writeInternal(Collection<?> elements, Type type, HttpOutputMessage outputMessage) throws IOException {
+        if (getElementType(type) == NodeDependency.class) {
+            NodeInfoBinaryCodec.writeDependencies((Collection<NodeDependency>) elements, outputMessage.getBody());
+        } else {
+            NodeInfoBinaryCodec.write((Collection<NodeInfo>) elements, outputMessage.getBody());
+        }
+    }
+}
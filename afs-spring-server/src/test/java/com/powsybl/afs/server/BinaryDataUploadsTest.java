@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.server;
+
+import com.powsybl.afs.AfsException;
+import com.powsybl.afs.storage.AppStorage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+class BinaryDataUploadsTest {
+
+    @TempDir
+    Path directory;
+
+    private static InputStream text(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void test() throws IOException {
+        BinaryDataUploads uploads = new BinaryDataUploads(directory, Duration.ofHours(1));
+        AppStorage storage = Mockito.mock(AppStorage.class);
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        when(storage.writeBinaryData("node", "blob")).thenReturn(data);
+
+        String uploadId = uploads.initiate("fs", "node", "blob");
+        uploads.writePart("fs", "node", "blob", uploadId, 1, text("world"));
+        uploads.writePart("fs", "node", "blob", uploadId, 0, text("hi "));
+        // a part sent again replaces the previous one
+        uploads.writePart("fs", "node", "blob", uploadId, 0, text("hello "));
+        assertThrows(AfsException.class, () -> uploads.writePart("fs", "node", "blob", uploadId, BinaryDataUploads.MAX_PARTS, text("")));
+        assertThrows(AfsException.class, () -> uploads.writePart("fs", "node", "other", uploadId, 2, text("")));
+
+        // nothing is written until all the parts are received
+        assertThrows(AfsException.class, () -> uploads.commit(storage, "fs", "node", "blob", uploadId, 3));
+        verify(storage, never()).writeBinaryData("node", "blob");
+        uploads.commit(storage, "fs", "node", "blob", uploadId, 2);
+        assertEquals("hello world", data.toString(StandardCharsets.UTF_8));
+        assertEquals(0, uploads.getUploadCount());
+        assertThrows(AfsException.class, () -> uploads.commit(storage, "fs", "node", "blob", uploadId, 2));
+
+        String abortedUploadId = uploads.initiate("fs", "node", "blob");
+        uploads.writePart("fs", "node", "blob", abortedUploadId, 0, text("aborted"));
+        uploads.abort("fs", "node", "blob", abortedUploadId);
+        assertFalse(Files.exists(directory.resolve(abortedUploadId)));
+        assertThrows(AfsException.class, () -> uploads.writePart("fs", "node", "blob", abortedUploadId, 0, text("")));
+    }
+
+    @Test
+    void commitFailureTest() throws IOException {
+        BinaryDataUploads uploads = new BinaryDataUploads(directory, Duration.ofHours(1));
+        AppStorage storage = Mockito.mock(AppStorage.class);
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        when(storage.writeBinaryData("node", "blob"))
+            .thenReturn(new FilterOutputStream(OutputStream.nullOutputStream()) {
+                @Override
+                public void close() throws IOException {
+                    throw new IOException("Storage unavailable");
+                }
+            })
+            .thenReturn(data);
+
+        String uploadId = uploads.initiate("fs", "node", "blob");
+        uploads.writePart("fs", "node", "blob", uploadId, 0, text("hello"));
+        assertThrows(IOException.class, () -> uploads.commit(storage, "fs", "node", "blob", uploadId, 1));
+        // the parts are kept, the upload can be committed again
+        assertEquals(1, uploads.getUploadCount());
+        uploads.commit(storage, "fs", "node", "blob", uploadId, 1);
+        assertEquals("hello", data.toString(StandardCharsets.UTF_8));
+        assertEquals(0, uploads.getUploadCount());
+    }
+
+    @Test
+    void copyFailureTest() throws IOException {
+        BinaryDataUploads uploads = new BinaryDataUploads(directory, Duration.ofHours(1));
+        AppStorage storage = Mockito.mock(AppStorage.class);
+        OutputStream os = Mockito.mock(OutputStream.class);
+        Mockito.doThrow(new IOException("Storage unavailable")).when(os).write(Mockito.any(byte[].class), Mockito.anyInt(), Mockito.anyInt());
+        when(storage.writeBinaryData("node", "blob")).thenReturn(os);
+
+        String uploadId = uploads.initiate("fs", "node", "blob");
+        uploads.writePart("fs", "node", "blob", uploadId, 0, text("hello"));
+        assertThrows(IOException.class, () -> uploads.commit(storage, "fs", "node", "blob", uploadId, 1));
+        // the stream is not closed, so that the partially written data does not replace the previous one
+        verify(os, never()).close();
+        assertEquals(1, uploads.getUploadCount());
+    }
+
+    @Test
+    void sharedDirectoryTest() throws IOException {
+        BinaryDataUploads uploads1 = new BinaryDataUploads(directory, Duration.ofHours(1));
+        BinaryDataUploads uploads2 = new BinaryDataUploads(directory, Duration.ofHours(1));
+        AppStorage storage = Mockito.mock(AppStorage.class);
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        when(storage.writeBinaryData("node", "blob")).thenReturn(data);
+
+        // the requests of an upload may be handled by any of the servers sharing the directory
+        String uploadId = uploads1.initiate("fs", "node", "blob");
+        uploads2.writePart("fs", "node", "blob", uploadId, 0, text("hello "));
+        uploads1.writePart("fs", "node", "blob", uploadId, 1, text("world"));
+        uploads2.commit(storage, "fs", "node", "blob", uploadId, 2);
+        assertEquals("hello world", data.toString(StandardCharsets.UTF_8));
+        assertEquals(0, uploads1.getUploadCount());
+        assertThrows(AfsException.class, () -> uploads1.abort("fs", "node", "blob", uploadId));
+
+        // a shared directory is not removed at close
+        uploads1.close();
+        assertTrue(Files.exists(directory));
+
+        // IDs which are not upload IDs are not resolved against the directory
+        assertThrows(AfsException.class, () -> uploads2.writePart("fs", "node", "blob", "../" + uploadId, 0, text("")));
+    }
+
+    @Test
+    void expirationTest() throws InterruptedException {
+        BinaryDataUploads uploads = new BinaryDataUploads(directory, Duration.ofMillis(1));
+        String uploadId = uploads.initiate("fs", "node", "blob");
+        Thread.sleep(10);
+        // expired uploads are removed when another one is initiated
+        uploads.initiate("fs", "node", "blob");
+        assertEquals(1, uploads.getUploadCount());
+        assertFalse(Files.exists(directory.resolve(uploadId)));
+    }
+}
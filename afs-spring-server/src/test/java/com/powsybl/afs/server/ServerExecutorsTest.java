@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.server;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+class ServerExecutorsTest {
+
+    private static List<Thread> sendInOrder(Executor sender) throws InterruptedException {
+        // messages of a session are sent in order, outside of the notifying thread
+        List<Integer> sent = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> senderThreads = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(1000);
+        for (int i = 0; i < 1000; i++) {
+            int message = i;
+            sender.execute(() -> {
+                sent.add(message);
+                senderThreads.add(Thread.currentThread());
+                done.countDown();
+            });
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(IntStream.range(0, 1000).boxed().toList(), sent);
+        assertFalse(senderThreads.contains(Thread.currentThread()));
+        return senderThreads;
+    }
+
+    @Test
+    void platformThreadsTest() throws InterruptedException {
+        ServerExecutors executors = new ServerExecutors(false, 2, 1, 2, 1000);
+        try {
+            assertFalse(executors.isVirtualThreads());
+            assertFalse(CompletableFuture.supplyAsync(() -> Thread.currentThread().isVirtual(), executors.getStorageExecutor()).join());
+
+            Executor sender = executors.createWebSocketSender();
+            assertTrue(sendInOrder(sender).stream().noneMatch(Thread::isVirtual));
+            assertNotSame(sender, executors.createWebSocketSender());
+        } finally {
+            executors.shutdown();
+        }
+    }
+
+    @Test
+    void storageSaturationTest() {
+        ServerExecutors executors = new ServerExecutors(false, 2, 1, 2, 1000);
+        try {
+            // storage operations are rejected once the threads are busy and the queue is full
+            CountDownLatch release = new CountDownLatch(1);
+            Runnable blocked = () -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            };
+            Executor storageExecutor = executors.getStorageExecutor();
+            storageExecutor.execute(blocked);
+            storageExecutor.execute(blocked);
+            storageExecutor.execute(blocked);
+            assertThrows(RejectedExecutionException.class, () -> storageExecutor.execute(blocked));
+            release.countDown();
+        } finally {
+            executors.shutdown();
+        }
+    }
+
+    @Test
+    void virtualThreadsTest() throws InterruptedException {
+        ServerExecutors executors = new ServerExecutors(true, 2, 1, 2, 1000);
+        try {
+            assertTrue(executors.isVirtualThreads());
+            assertTrue(CompletableFuture.supplyAsync(() -> Thread.currentThread().isVirtual(), executors.getStorageExecutor()).join());
+
+            Executor sender = executors.createWebSocketSender();
+            assertTrue(sendInOrder(sender).stream().allMatch(Thread::isVirtual));
+
+            // sessions have distinct senders
+            assertNotSame(sender, executors.createWebSocketSender());
+        } finally {
+            executors.shutdown();
+        }
+    }
+
+    @Test
+    void slowSessionTest() throws InterruptedException {
+        ServerExecutors executors = new ServerExecutors(false, 2, 1, 2, 3);
+        try {
+            // a session blocked on a send accepts a bounded number of waiting messages
+            Executor slowSender = executors.createWebSocketSender();
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(3);
+            for (int i = 0; i < 3; i++) {
+                slowSender.execute(() -> {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    done.countDown();
+                });
+            }
+            assertThrows(RejectedExecutionException.class, () -> slowSender.execute(done::countDown));
+
+            // other sessions are not affected
+            CountDownLatch other = new CountDownLatch(1);
+            executors.createWebSocketSender().execute(other::countDown);
+            assertTrue(other.await(10, TimeUnit.SECONDS));
+
+            // the session accepts messages again once they are sent
+            release.countDown();
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            CountDownLatch resumed = new CountDownLatch(1);
+            slowSender.execute(resumed::countDown);
+            assertTrue(resumed.await(10, TimeUnit.SECONDS));
+        } finally {
+            executors.shutdown();
+        }
+    }
+}
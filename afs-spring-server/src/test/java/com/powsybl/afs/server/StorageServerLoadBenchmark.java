@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.server;
+
+import com.powsybl.afs.AppData;
+import com.powsybl.afs.AppFileSystem;
+import com.powsybl.afs.AppFileSystemProvider;
+import com.powsybl.afs.LocalTaskMonitor;
+import com.powsybl.afs.mapdb.storage.MapDbAppStorage;
+import com.powsybl.afs.storage.AppStorage;
+import com.powsybl.afs.storage.EventsBus;
+import com.powsybl.afs.storage.ForwardingAppStorage;
+import com.powsybl.afs.storage.InMemoryEventsBus;
+import com.powsybl.afs.storage.NodeGenericMetadata;
+import com.powsybl.afs.storage.NodeInfo;
+import com.powsybl.computation.ComputationManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.mockito.Mockito;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Load benchmark of the server, in platform and virtual threads modes, on a storage which blocks for a while on each
+ * binary data read as a remote storage would. Many concurrent clients download a binary data, and the throughput and
+ * latency percentiles of each mode are logged.
+ * <p>
+ * Run with {@code mvn test -Dtest=StorageServerLoadBenchmark -Dafs.benchmark=true}.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+@EnabledIfSystemProperty(named = "afs.benchmark", matches = "true")
+class StorageServerLoadBenchmark {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StorageServerLoadBenchmark.class);
+
+    private static final String FS_NAME = "bench";
+    private static final int TOMCAT_MAX_THREADS = 50;
+    private static final long STORAGE_LATENCY_MS = 20;
+    private static final int CLIENTS = 400;
+    private static final int REQUESTS_PER_CLIENT = 25;
+    private static final byte[] DATA = new byte[16 * 1024];
+
+    @EnableAutoConfiguration
+    static class BenchmarkApplication {
+    }
+
+    /**
+     * A storage which waits before each binary data read.
+     */
+    private static final class SlowStorage extends ForwardingAppStorage {
+
+        SlowStorage(AppStorage storage) {
+            super(storage);
+        }
+
+        @Override
+        public Optional<InputStream> readBinaryData(String nodeId, String name) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(STORAGE_LATENCY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.readBinaryData(nodeId, name);
+        }
+    }
+
+    private record Result(double throughput, double p50, double p99, double max) {
+    }
+
+    private static AppData createAppData(AppStorage storage, EventsBus eventsBus) {
+        AppFileSystem fs = new AppFileSystem(FS_NAME, true, storage, new LocalTaskMonitor());
+        ComputationManager cm = Mockito.mock(ComputationManager.class);
+        List<AppFileSystemProvider> fsProviders = List.of(m -> List.of(fs));
+        return new AppData(cm, cm, fsProviders, eventsBus);
+    }
+
+    private static String createData(AppStorage storage) {
+        NodeInfo root = storage.createRootNodeIfNotExists(FS_NAME, "folder");
+        NodeInfo node = storage.createNode(root.getId(), "data", "data", "", 0, new NodeGenericMetadata());
+        storage.setConsistent(node.getId());
+        try (OutputStream os = storage.writeBinaryData(node.getId(), "blob")) {
+            os.write(DATA);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        storage.flush();
+        return node.getId();
+    }
+
+    private static Result run(boolean virtualThreads) throws Exception {
+        EventsBus eventsBus = new InMemoryEventsBus();
+        AppStorage storage = new SlowStorage(MapDbAppStorage.createMem("mem", eventsBus));
+        String nodeId = createData(storage);
+        AppData appData = createAppData(storage, eventsBus);
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BenchmarkApplication.class, StorageServer.class)
+                .initializers(ctx -> ((GenericApplicationContext) ctx).registerBean("benchmarkAppData", AppData.class, () -> appData, bd -> bd.setPrimary(true)))
+                .properties("server.port=0",
+                    "server.tomcat.threads.max=" + TOMCAT_MAX_THREADS,
+                    "spring.threads.virtual.enabled=" + virtualThreads,
+                    ServerExecutors.VIRTUAL_THREADS_PROPERTY + "=" + virtualThreads)
+                .run()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + "/rest/afs/" + StorageServer.API_VERSION + "/fileSystems/" + FS_NAME + "/nodes/" + nodeId + "/data/blob");
+            // warm up
+            load(uri, CLIENTS / 4, REQUESTS_PER_CLIENT / 5);
+            long start = System.nanoTime();
+            long[] latencies = load(uri, CLIENTS, REQUESTS_PER_CLIENT);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            Arrays.sort(latencies);
+            return new Result(latencies.length / seconds, percentileMs(latencies, 0.5), percentileMs(latencies, 0.99), percentileMs(latencies, 1));
+        }
+    }
+
+    private static double percentileMs(long[] sortedLatencies, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+        // in ms, rounded to 0.1 ms
+        return Math.round(sortedLatencies[Math.max(index, 0)] / 1e5) / 10.0;
+    }
+
+    private static long[] load(URI uri, int clients, int requestsPerClient) throws Exception {
+        long[] latencies = new long[clients * requestsPerClient];
+        try (ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).executor(clientExecutor).build()) {
+            HttpRequest request = HttpRequest.newBuilder(uri).header("Authorization", "").GET().build();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int c = 0; c < clients; c++) {
+                int offset = c * requestsPerClient;
+                futures.add(clientExecutor.submit(() -> {
+                    for (int r = 0; r < requestsPerClient; r++) {
+                        long requestStart = System.nanoTime();
+                        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                        latencies[offset + r] = System.nanoTime() - requestStart;
+                        assertEquals(200, response.statusCode());
+                        assertEquals(DATA.length, response.body().length);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        return latencies;
+    }
+
+    @Test
+    void benchmark() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+        LOGGER.info("{} clients, {} Tomcat threads, {} ms storage latency", CLIENTS, TOMCAT_MAX_THREADS, STORAGE_LATENCY_MS);
+        LOGGER.info("platform threads: {} req/s, p50 {} ms, p99 {} ms, max {} ms",
+            Math.round(platform.throughput()), platform.p50(), platform.p99(), platform.max());
+        LOGGER.info("virtual threads: {} req/s, p50 {} ms, p99 {} ms, max {} ms",
+            Math.round(virtual.throughput()), virtual.p50(), virtual.p99(), virtual.max());
+    }
+}
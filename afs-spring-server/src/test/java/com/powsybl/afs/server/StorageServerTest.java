@@ -23,9 +23,11 @@ import com.powsybl.afs.storage.EventsBus;
 import com.powsybl.afs.storage.InMemoryEventsBus;
 import com.powsybl.afs.storage.NodeGenericMetadata;
 import com.powsybl.afs.storage.NodeInfo;
+import com.powsybl.afs.storage.NodeInfoBinaryCodec;
 import com.powsybl.afs.storage.check.FileSystemCheckIssue;
 import com.powsybl.afs.storage.check.FileSystemCheckOptions;
 import com.powsybl.afs.storage.check.FileSystemCheckOptionsBuilder;
+import com.powsybl.afs.ws.storage.ChunkedUploadConfig;
 import com.powsybl.afs.ws.storage.RemoteAppStorage;
 import com.powsybl.afs.ws.storage.RemoteTaskMonitor;
 import com.powsybl.commons.exceptions.UncheckedUriSyntaxException;
@@ -45,19 +47,35 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.zip.GZIPOutputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.when;
 
@@ -150,6 +168,13 @@ class StorageServerTest extends AbstractAppStorageTest {
             assertThat(taskAfterUpdate.getId()).isEqualTo(task.getId());
             assertThat(taskAfterUpdate.getMessage()).isEqualTo("new Message");
 
+            // messages of unknown tasks do not prevent the other ones from being updated
+            taskMonitor.updateTaskMessages(Map.of(task.getId(), "batch Message", UUID.randomUUID(), "unknown task"));
+            assertThat(taskMonitor.takeSnapshot(project.getId()).getTasks().stream()
+                .filter(t -> t.getId().equals(task.getId()))
+                .map(TaskMonitor.Task::getMessage))
+                .containsExactly("batch Message");
+
             taskMonitor.stopTask(task.getId());
             TaskMonitor.Snapshot snapshotAfterStop = taskMonitor.takeSnapshot(project.getId());
             assertThat(snapshotAfterStop.getTasks().stream().anyMatch(t -> t.getId().equals(task.getId()))).isFalse();
@@ -211,4 +236,242 @@ class StorageServerTest extends AbstractAppStorageTest {
         Assertions.assertThat(storage.checkFileSystem(otherFsOptions))
             .isEmpty();
     }
+
+    private static byte[] gzip(byte[] content, int from, int to) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzos = new GZIPOutputStream(bos)) {
+            gzos.write(content, from, to - from);
+        }
+        return bos.toByteArray();
+    }
+
+    private HttpResponse<byte[]> getBinaryData(String nodeId, String header, String value) throws IOException, InterruptedException {
+        URI uri = URI.create(getRestUri() + "/rest/afs/" + StorageServer.API_VERSION + "/fileSystems/" + FS_TEST_NAME + "/nodes/" + nodeId + "/data/blob");
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            return client.send(HttpRequest.newBuilder(uri).header(header, value).GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+        }
+    }
+
+    @Test
+    void binaryDataTransferTest() throws IOException, InterruptedException {
+        NodeInfo root = storage.createRootNodeIfNotExists(storage.getFileSystemName(), Folder.PSEUDO_CLASS);
+        NodeInfo node = storage.createNode(root.getId(), "binary", "data", "", 0, new NodeGenericMetadata());
+        storage.setConsistent(node.getId());
+        byte[] content = "0123456789".repeat(10000).getBytes(StandardCharsets.UTF_8);
+        try (OutputStream os = storage.writeBinaryData(node.getId(), "blob")) {
+            os.write(content);
+        }
+        storage.flush();
+
+        // ranges of the uncompressed data
+        HttpResponse<byte[]> response = getBinaryData(node.getId(), "Range", "bytes=10-19");
+        assertEquals(206, response.statusCode());
+        assertEquals("bytes 10-19/100000", response.headers().firstValue("Content-Range").orElseThrow());
+        assertEquals("0123456789", new String(response.body(), StandardCharsets.UTF_8));
+        response = getBinaryData(node.getId(), "Range", "bytes=99995-");
+        assertEquals(206, response.statusCode());
+        assertEquals("56789", new String(response.body(), StandardCharsets.UTF_8));
+        response = getBinaryData(node.getId(), "Range", "bytes=-3");
+        assertEquals(206, response.statusCode());
+        assertEquals("bytes 99997-99999/100000", response.headers().firstValue("Content-Range").orElseThrow());
+        assertEquals("789", new String(response.body(), StandardCharsets.UTF_8));
+        response = getBinaryData(node.getId(), "Range", "bytes=100000-");
+        assertEquals(416, response.statusCode());
+        assertEquals("bytes */100000", response.headers().firstValue("Content-Range").orElseThrow());
+        // not supported ranges are ignored
+        response = getBinaryData(node.getId(), "Range", "bytes=0-1,5-6");
+        assertEquals(200, response.statusCode());
+        assertEquals(content.length, response.body().length);
+        // ranges are ignored if the storage does not know the length of the data
+        AppStorage backendStorage = appDataWrapper.getStorage(FS_TEST_NAME);
+        doReturn(OptionalLong.empty()).when(backendStorage).getBinaryDataLength(node.getId(), "blob");
+        response = getBinaryData(node.getId(), "Range", "bytes=10-19");
+        assertEquals(200, response.statusCode());
+        assertArrayEquals(content, response.body());
+
+        // data kept compressed by the storage is sent as stored, in several gzip members
+        ByteArrayOutputStream members = new ByteArrayOutputStream();
+        members.write(gzip(content, 0, 60000));
+        members.write(gzip(content, 60000, content.length));
+        byte[] gzipped = members.toByteArray();
+        doAnswer(invocation -> Optional.of(new ByteArrayInputStream(gzipped)))
+            .when(backendStorage).readGzippedBinaryData(node.getId(), "blob");
+        response = getBinaryData(node.getId(), "Accept-Encoding", "gzip");
+        assertEquals(200, response.statusCode());
+        assertEquals("gzip", response.headers().firstValue("Content-Encoding").orElseThrow());
+        assertArrayEquals(gzipped, response.body());
+        try (InputStream is = storage.readBinaryData(node.getId(), "blob").orElseThrow()) {
+            assertArrayEquals(content, is.readAllBytes());
+        }
+
+        // cleanup
+        storage.deleteNode(node.getId());
+        storage.flush();
+    }
+
+    @Test
+    void searchNodesTest() throws IOException, InterruptedException {
+        NodeInfo root = storage.createRootNodeIfNotExists(storage.getFileSystemName(), Folder.PSEUDO_CLASS);
+        NodeInfo node = storage.createNode(root.getId(), "searched script", "data", "", 0, new NodeGenericMetadata());
+        storage.setConsistent(node.getId());
+        try (OutputStream os = storage.writeBinaryData(node.getId(), "scriptContent")) {
+            os.write("network.getLine('LINE1').terminal1.disconnect()".getBytes(StandardCharsets.UTF_8));
+        }
+        storage.flush();
+
+        URI uri = URI.create(getRestUri() + "/rest/afs/" + StorageServer.API_VERSION + "/fileSystems/" + FS_TEST_NAME + "/search?query=line1+disconnect&limit=10");
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.ofString());
+            assertEquals(200, response.statusCode());
+            assertThat(response.body()).contains(node.getId());
+        }
+
+        // remote storages forward the search to the server
+        assertEquals(List.of(node.getId()), storage.searchNodes("line1 {disconnect}", 10).stream().map(NodeInfo::getId).toList());
+
+        // cleanup
+        storage.deleteNode(node.getId());
+        storage.flush();
+    }
+
+    @Test
+    void nodeInfoListNegotiationTest() throws IOException, InterruptedException {
+        NodeInfo root = storage.createRootNodeIfNotExists(storage.getFileSystemName(), Folder.PSEUDO_CLASS);
+        NodeInfo node = storage.createNode(root.getId(), "binary listing", "data", "", 0, new NodeGenericMetadata().setInt("i", 3));
+        storage.setConsistent(node.getId());
+        storage.flush();
+
+        URI uri = URI.create(getRestUri() + "/rest/afs/" + StorageServer.API_VERSION + "/fileSystems/" + FS_TEST_NAME + "/nodes/" + root.getId() + "/children");
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(uri).header("Accept", NodeInfoBinaryCodec.MEDIA_TYPE + ", application/json;q=0.9").GET().build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+            assertEquals(200, response.statusCode());
+            assertEquals(NodeInfoBinaryCodec.MEDIA_TYPE, response.headers().firstValue("Content-Type").orElseThrow());
+            List<NodeInfo> children = NodeInfoBinaryCodec.read(new ByteArrayInputStream(response.body()));
+            assertThat(children).anyMatch(c -> c.getId().equals(node.getId()) && c.getGenericMetadata().getInts().equals(Map.of("i", 3)));
+
+            // JSON is still the default
+            response = client.send(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+            assertEquals(200, response.statusCode());
+            assertThat(response.headers().firstValue("Content-Type").orElseThrow()).startsWith("application/json");
+        }
+
+        // dependencies are exchanged in the binary format too
+        storage.addDependency(root.getId(), "dep", node.getId());
+        storage.flush();
+        assertThat(storage.getDependencies(root.getId())).singleElement()
+            .matches(d -> "dep".equals(d.getName()) && d.getNodeInfo().getId().equals(node.getId()));
+        URI dependenciesUri = URI.create(getRestUri() + "/rest/afs/" + StorageServer.API_VERSION + "/fileSystems/" + FS_TEST_NAME + "/nodes/" + root.getId() + "/dependencies");
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(dependenciesUri).header("Accept", NodeInfoBinaryCodec.MEDIA_TYPE).GET().build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+            assertEquals(200, response.statusCode());
+            assertThat(NodeInfoBinaryCodec.readDependencies(new ByteArrayInputStream(response.body()))).singleElement()
+                .matches(d -> "dep".equals(d.getName()) && d.getNodeInfo().getId().equals(node.getId()));
+        }
+        storage.removeDependency(root.getId(), "dep", node.getId());
+        storage.flush();
+
+        // cleanup
+        storage.deleteNode(node.getId());
+        storage.flush();
+    }
+
+    @Test
+    void conditionalGetTest() throws IOException, InterruptedException {
+        NodeInfo root = storage.createRootNodeIfNotExists(storage.getFileSystemName(), Folder.PSEUDO_CLASS);
+        NodeInfo node = storage.createNode(root.getId(), "tagged", "data", "", 0, new NodeGenericMetadata().setString("s", "a"));
+        storage.setConsistent(node.getId());
+        try (OutputStream os = storage.writeBinaryData(node.getId(), "blob")) {
+            os.write("v1".getBytes(StandardCharsets.UTF_8));
+        }
+        storage.flush();
+
+        String nodeUri = getRestUri() + "/rest/afs/" + StorageServer.API_VERSION + "/fileSystems/" + FS_TEST_NAME + "/nodes/";
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            for (String path : List.of(node.getId(), root.getId() + "/children", node.getId() + "/data/blob")) {
+                URI uri = URI.create(nodeUri + path);
+                HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+                assertEquals(200, response.statusCode());
+                String tag = response.headers().firstValue("ETag").orElseThrow();
+                assertThat(tag).startsWith("W/\"");
+
+                response = client.send(HttpRequest.newBuilder(uri).header("If-None-Match", tag).GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+                assertEquals(304, response.statusCode());
+                assertEquals(0, response.body().length);
+                response = client.send(HttpRequest.newBuilder(uri).header("If-None-Match", "W/\"other\"").GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+                assertEquals(200, response.statusCode());
+            }
+        }
+
+        // the responses cached by the client are revalidated
+        assertEquals("a", storage.getNodeInfo(node.getId()).getGenericMetadata().getStrings().get("s"));
+        assertEquals("a", storage.getNodeInfo(node.getId()).getGenericMetadata().getStrings().get("s"));
+        storage.getNodeInfo(node.getId()).getGenericMetadata().setString("s", "modified locally");
+        assertEquals("a", storage.getNodeInfo(node.getId()).getGenericMetadata().getStrings().get("s"));
+        storage.setMetadata(node.getId(), new NodeGenericMetadata().setString("s", "b"));
+        storage.flush();
+        assertEquals("b", storage.getNodeInfo(node.getId()).getGenericMetadata().getStrings().get("s"));
+        for (String expected : List.of("v1", "v1")) {
+            try (InputStream is = storage.readBinaryData(node.getId(), "blob").orElseThrow()) {
+                assertEquals(expected, new String(is.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        try (OutputStream os = storage.writeBinaryData(node.getId(), "blob")) {
+            os.write("v2".getBytes(StandardCharsets.UTF_8));
+        }
+        try (InputStream is = storage.readBinaryData(node.getId(), "blob").orElseThrow()) {
+            assertEquals("v2", new String(is.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        assertThat(storage.getChildNodes(root.getId())).anyMatch(c -> c.getId().equals(node.getId()));
+        storage.renameNode(node.getId(), "tagged renamed");
+        storage.flush();
+        assertThat(storage.getChildNodes(root.getId())).anyMatch(c -> c.getName().equals("tagged renamed"));
+
+        // cleanup
+        storage.deleteNode(node.getId());
+        storage.flush();
+    }
+
+    @Test
+    void chunkedUploadTest() throws IOException, InterruptedException {
+        NodeInfo root = storage.createRootNodeIfNotExists(storage.getFileSystemName(), Folder.PSEUDO_CLASS);
+        NodeInfo node = storage.createNode(root.getId(), "chunked", "data", "", 0, new NodeGenericMetadata());
+        storage.setConsistent(node.getId());
+        storage.flush();
+        ((RemoteAppStorage) storage).setChunkedUploadConfig(new ChunkedUploadConfig().setPartSize(1000).setParallelism(3));
+        byte[] content = "0123456789".repeat(10000).getBytes(StandardCharsets.UTF_8);
+
+        // data is only visible once all the parts are sent and the upload is committed
+        try (OutputStream os = storage.writeBinaryData(node.getId(), "blob")) {
+            os.write(content, 0, 50000);
+            assertFalse(storage.dataExists(node.getId(), "blob"));
+            os.write(content, 50000, content.length - 50000);
+        }
+        try (InputStream is = storage.readBinaryData(node.getId(), "blob").orElseThrow()) {
+            assertArrayEquals(content, is.readAllBytes());
+        }
+
+        // data smaller than a part is sent in a single request
+        try (OutputStream os = storage.writeBinaryData(node.getId(), "small")) {
+            os.write(content, 0, 10);
+        }
+        try (InputStream is = storage.readBinaryData(node.getId(), "small").orElseThrow()) {
+            assertEquals("0123456789", new String(is.readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+        // parts of an unknown upload are rejected
+        URI uri = URI.create(getRestUri() + "/rest/afs/" + StorageServer.API_VERSION + "/fileSystems/" + FS_TEST_NAME + "/nodes/" + node.getId() + "/data/blob/uploads/unknown/parts/0");
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri)
+                    .header("Content-Type", "application/octet-stream")
+                    .PUT(HttpRequest.BodyPublishers.ofByteArray(content))
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            assertEquals(400, response.statusCode());
+        }
+
+        // cleanup
+        storage.deleteNode(node.getId());
+        storage.flush();
+    }
 }
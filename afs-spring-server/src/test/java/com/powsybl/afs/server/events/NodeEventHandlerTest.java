@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.server.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.afs.server.AppDataWrapper;
+import com.powsybl.afs.storage.AppStorage;
+import com.powsybl.afs.storage.EventsBus;
+import com.powsybl.afs.storage.events.NodeCreated;
+import com.powsybl.afs.storage.events.NodeEventContainer;
+import com.powsybl.afs.storage.events.NodeEventList;
+import com.powsybl.afs.storage.events.NodeEventListContainer;
+import com.powsybl.commons.json.JsonUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+
+/**
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+@ExtendWith(MockitoExtension.class)
+class NodeEventHandlerTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = JsonUtil.createObjectMapper();
+
+    @Mock
+    private AppDataWrapper appDataWrapper;
+
+    @Mock
+    private WebSocketContext webSocketContext;
+
+    @Mock
+    private WebSocketSession socketSession;
+
+    @Mock
+    private AppStorage storage;
+
+    @Mock
+    private EventsBus eventsBus;
+
+    @Test
+    void eventListTest() throws Exception {
+        Mockito.when(appDataWrapper.getStorage("fs")).thenReturn(storage);
+        Mockito.when(storage.getEventsBus()).thenReturn(eventsBus);
+        NodeEventHandler handler = new NodeEventHandler(appDataWrapper, webSocketContext);
+
+        NodeEventList events = new NodeEventList("topic", new NodeCreated("a", "root"), new NodeCreated("b", "root"));
+        handler.handleTextMessage(socketSession, new TextMessage(OBJECT_MAPPER.writeValueAsString(new NodeEventListContainer(events, "fs"))));
+
+        // all the events are pushed before the bus is flushed once
+        InOrder inOrder = Mockito.inOrder(eventsBus);
+        inOrder.verify(eventsBus).pushEvent(new NodeCreated("a", "root"), "topic");
+        inOrder.verify(eventsBus).pushEvent(new NodeCreated("b", "root"), "topic");
+        inOrder.verify(eventsBus).flush();
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Test
+    void singleEventTest() throws Exception {
+        Mockito.when(appDataWrapper.getStorage("fs")).thenReturn(storage);
+        Mockito.when(storage.getEventsBus()).thenReturn(eventsBus);
+        NodeEventHandler handler = new NodeEventHandler(appDataWrapper, webSocketContext);
+
+        // events sent one by one by older clients are still supported
+        handler.handleTextMessage(socketSession, new TextMessage(OBJECT_MAPPER.writeValueAsString(new NodeEventContainer(new NodeCreated("a", "root"), "fs", "topic"))));
+        InOrder inOrder = Mockito.inOrder(eventsBus);
+        inOrder.verify(eventsBus).pushEvent(new NodeCreated("a", "root"), "topic");
+        inOrder.verify(eventsBus).flush();
+        Mockito.verify(eventsBus, Mockito.times(1)).pushEvent(any(), anyString());
+    }
+
+    @Test
+    void slowSessionTest() throws Exception {
+        // a session whose sender is saturated is closed
+        NodeEventForwarder forwarder = new NodeEventForwarder(socketSession, command -> {
+            throw new RejectedExecutionException("Too many messages");
+        });
+        forwarder.onEvents(new NodeEventList("topic", new NodeCreated("a", "root")));
+        Mockito.verify(socketSession).close(CloseStatus.SESSION_NOT_RELIABLE);
+    }
+}
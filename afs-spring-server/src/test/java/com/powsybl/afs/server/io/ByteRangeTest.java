@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.server.io;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+class ByteRangeTest {
+
+    @Test
+    void parseTest() {
+        assertFalse(ByteRange.parse(null).isPresent());
+        assertFalse(ByteRange.parse("bytes=-").isPresent());
+        assertFalse(ByteRange.parse("bytes=5-2").isPresent());
+        assertFalse(ByteRange.parse("bytes=0-1,4-5").isPresent());
+        assertFalse(ByteRange.parse("items=0-1").isPresent());
+        assertFalse(ByteRange.parse("bytes=99999999999999999999-").isPresent());
+        assertEquals("bytes=2-5", ByteRange.parse("bytes=2-5").orElseThrow().toString());
+        assertEquals("bytes=2-", ByteRange.parse(" bytes=2- ").orElseThrow().toString());
+        assertEquals("bytes=-5", ByteRange.parse("bytes=-5").orElseThrow().toString());
+    }
+
+    @Test
+    void resolveTest() {
+        ByteRange range = ByteRange.parse("bytes=2-5").orElseThrow();
+        assertTrue(range.isSatisfiable(10));
+        assertEquals("bytes 2-5/10", range.toContentRange(10));
+        assertEquals("bytes 2-3/4", range.toContentRange(4));
+        assertFalse(range.isSatisfiable(2));
+
+        ByteRange openRange = ByteRange.parse("bytes=2-").orElseThrow();
+        assertTrue(openRange.isSatisfiable(3));
+        assertEquals(2, openRange.getStart(10));
+        assertEquals(9, openRange.getEnd(10));
+
+        ByteRange suffixRange = ByteRange.parse("bytes=-4").orElseThrow();
+        assertTrue(suffixRange.isSatisfiable(10));
+        assertEquals("bytes 6-9/10", suffixRange.toContentRange(10));
+        assertEquals("bytes 0-2/3", suffixRange.toContentRange(3));
+        assertFalse(suffixRange.isSatisfiable(0));
+        assertFalse(ByteRange.parse("bytes=-0").orElseThrow().isSatisfiable(10));
+    }
+}
@@ -16,6 +16,7 @@ import com.powsybl.timeseries.TimeSeriesMetadata;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.*;
+import java.util.concurrent.Executor;
 
 /**
  * A storage which maintains data for an application file system. This is a low level object,
@@ -92,6 +93,23 @@ public interface AppStorage extends AutoCloseable {
         return Collections.emptyList();
     }
 
+    /**
+     * Gets {@code NodeInfo} for the consistent descendants of the node with ID {@code nodeId} matching {@code query},
+     * at most {@link NodeQuery#getLimit()} of them. Storages able to do it use an index instead of walking the tree.
+     */
+    default List<NodeInfo> findNodes(String nodeId, NodeQuery query) {
+        return query.walk(this, nodeId);
+    }
+
+    /**
+     * Gets {@code NodeInfo} for the consistent nodes whose name, description or script content contain the words of
+     * {@code query}, at most {@code limit} of them. Only implemented by the remote storages, which forward the search
+     * to the index of the server: the file systems of the other storages index their nodes themselves.
+     */
+    default List<NodeInfo> searchNodes(String query, int limit) {
+        throw new PowsyblException("Not implemented");
+    }
+
     /**
      * Gets {@code NodeInfo} for child node with name {@code name} of the node with ID {@code nodeId}, empty if such a node does not exist or node is inconsistent.
      */
@@ -125,6 +143,30 @@ public interface AppStorage extends AutoCloseable {
      */
     Optional<InputStream> readBinaryData(String nodeId, String name);
 
+    /**
+     * Reads data associated to the node with ID {@code nodeId} as stored, if the storage keeps it gzip compressed, so
+     * that it can be transferred without being decompressed and compressed again. The content of the stream is one or
+     * several concatenated gzip members, which decompress to the content of {@link #readBinaryData(String, String)}.
+     * <p>
+     * Returns an empty optional if the data does not exist or if the storage does not keep it compressed.
+     */
+    default Optional<InputStream> readGzippedBinaryData(String nodeId, String name) {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the length in bytes of the data associated to the node with ID {@code nodeId}, if the storage gets it
+     * without going through the content of the data, and if skipping in the stream of
+     * {@link #readBinaryData(String, String)} does not go through the skipped bytes either, for instance because they
+     * do not have to be decompressed. Ranges of the data are only served to remote clients by the storages which
+     * implement it.
+     * <p>
+     * Returns an empty optional if the data does not exist or if its length is not known.
+     */
+    default OptionalLong getBinaryDataLength(String nodeId, String name) {
+        return OptionalLong.empty();
+    }
+
     /**
      * Returns an {@code OutputStream} to write data associated to the node with ID {@code nodeId}.
      * A node may have several data blobs associated to it, with different names.
@@ -181,6 +223,14 @@ public interface AppStorage extends AutoCloseable {
      */
     Map<String, List<DoubleDataChunk>> getDoubleTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version);
 
+    /**
+     * Gets data (double) for the time series with names {@code timeSeriesNames} associated with node with ID {@code nodeId},
+     * restricted to the points of {@code window}. Chunks crossing the bounds of the window are sliced.
+     */
+    default Map<String, List<DoubleDataChunk>> getDoubleTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version, TimeSeriesWindow window) {
+        return window.sliceDoubleChunks(getDoubleTimeSeriesData(nodeId, timeSeriesNames, version));
+    }
+
     /**
      * Adds data (double) to the time series with names {@code timeSeriesNames} associated with node with ID {@code nodeId}.
      */
@@ -191,6 +241,14 @@ public interface AppStorage extends AutoCloseable {
      */
     Map<String, List<StringDataChunk>> getStringTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version);
 
+    /**
+     * Gets data (string) for the time series with names {@code timeSeriesNames} associated with node with ID {@code nodeId},
+     * restricted to the points of {@code window}. Chunks crossing the bounds of the window are sliced.
+     */
+    default Map<String, List<StringDataChunk>> getStringTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version, TimeSeriesWindow window) {
+        return window.sliceStringChunks(getStringTimeSeriesData(nodeId, timeSeriesNames, version));
+    }
+
     /**
      * Adds data (string) to the time series with names {@code timeSeriesNames} associated with node with ID {@code nodeId}.
      */
@@ -262,6 +320,13 @@ public interface AppStorage extends AutoCloseable {
         return Collections.emptyList();
     }
 
+    /**
+     * Gets an asynchronous view of this storage. Operations the storage cannot run without blocking are run on {@code executor}.
+     */
+    default AsyncAppStorage async(Executor executor) {
+        return new ExecutorAsyncAppStorage(this, executor);
+    }
+
     default AfsNodeNotFoundException createNodeNotFoundException(UUID nodeUuid) {
         return new AfsNodeNotFoundException("Node " + nodeUuid + " not found");
     }
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.storage;
+
+import com.powsybl.afs.storage.check.FileSystemCheckIssue;
+import com.powsybl.afs.storage.check.FileSystemCheckOptions;
+import com.powsybl.timeseries.DoubleDataChunk;
+import com.powsybl.timeseries.StringDataChunk;
+import com.powsybl.timeseries.TimeSeriesMetadata;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Asynchronous view of an {@link AppStorage}: each method is the non blocking counterpart of the {@link AppStorage}
+ * method of the same name, and has the same semantics. Failures are reported through the returned stage, never thrown.
+ * <p>
+ * Writing binary data is not part of this view, the stream returned by {@link AppStorage#writeBinaryData(String, String)}
+ * being the blocking part of the operation. An asynchronous view of a storage is obtained with {@link AppStorage#async}.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+public interface AsyncAppStorage {
+
+    /**
+     * The underlying blocking storage.
+     */
+    AppStorage getStorage();
+
+    CompletionStage<NodeInfo> createRootNodeIfNotExists(String name, String nodePseudoClass);
+
+    CompletionStage<NodeInfo> createNode(String parentNodeId, String name, String nodePseudoClass, String description, int version, NodeGenericMetadata genericMetadata);
+
+    CompletionStage<Void> setMetadata(String nodeId, NodeGenericMetadata genericMetadata);
+
+    CompletionStage<Boolean> isWritable(String nodeId);
+
+    CompletionStage<Boolean> isConsistent(String nodeId);
+
+    CompletionStage<NodeInfo> getNodeInfo(String nodeId);
+
+    CompletionStage<Void> setDescription(String nodeId, String description);
+
+    CompletionStage<Void> setConsistent(String nodeId);
+
+    CompletionStage<Void> updateModificationTime(String nodeId);
+
+    CompletionStage<List<NodeInfo>> getChildNodes(String nodeId);
+
+    CompletionStage<List<NodeInfo>> getInconsistentNodes();
+
+    CompletionStage<Optional<NodeInfo>> getChildNode(String nodeId, String name);
+
+    CompletionStage<Optional<NodeInfo>> getParentNode(String nodeId);
+
+    CompletionStage<Void> setParentNode(String nodeId, String newParentNodeId);
+
+    CompletionStage<String> deleteNode(String nodeId);
+
+    CompletionStage<Void> renameNode(String nodeId, String name);
+
+    CompletionStage<Optional<InputStream>> readBinaryData(String nodeId, String name);
+
+    CompletionStage<Boolean> dataExists(String nodeId, String name);
+
+    CompletionStage<Set<String>> getDataNames(String nodeId);
+
+    CompletionStage<Boolean> removeData(String nodeId, String name);
+
+    CompletionStage<Void> createTimeSeries(String nodeId, TimeSeriesMetadata metadata);
+
+    CompletionStage<Set<String>> getTimeSeriesNames(String nodeId);
+
+    CompletionStage<Boolean> timeSeriesExists(String nodeId, String timeSeriesName);
+
+    CompletionStage<List<TimeSeriesMetadata>> getTimeSeriesMetadata(String nodeId, Set<String> timeSeriesNames);
+
+    CompletionStage<Set<Integer>> getTimeSeriesDataVersions(String nodeId);
+
+    CompletionStage<Set<Integer>> getTimeSeriesDataVersions(String nodeId, String timeSeriesName);
+
+    CompletionStage<Map<String, List<DoubleDataChunk>>> getDoubleTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version);
+
+    CompletionStage<Map<String, List<DoubleDataChunk>>> getDoubleTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version, TimeSeriesWindow window);
+
+    CompletionStage<Void> addDoubleTimeSeriesData(String nodeId, int version, String timeSeriesName, List<DoubleDataChunk> chunks);
+
+    CompletionStage<Map<String, List<StringDataChunk>>> getStringTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version);
+
+    CompletionStage<Map<String, List<StringDataChunk>>> getStringTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version, TimeSeriesWindow window);
+
+    CompletionStage<Void> addStringTimeSeriesData(String nodeId, int version, String timeSeriesName, List<StringDataChunk> chunks);
+
+    CompletionStage<Void> clearTimeSeries(String nodeId);
+
+    CompletionStage<Void> addDependency(String nodeId, String name, String toNodeId);
+
+    CompletionStage<Set<NodeInfo>> getDependencies(String nodeId, String name);
+
+    CompletionStage<Set<NodeDependency>> getDependencies(String nodeId);
+
+    CompletionStage<Set<NodeInfo>> getBackwardDependencies(String nodeId);
+
+    CompletionStage<Void> removeDependency(String nodeId, String name, String toNodeId);
+
+    CompletionStage<Void> flush();
+
+    CompletionStage<List<FileSystemCheckIssue>> checkFileSystem(FileSystemCheckOptions options);
+}
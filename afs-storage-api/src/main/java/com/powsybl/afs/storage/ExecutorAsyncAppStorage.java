@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.storage;
+
+import com.powsybl.afs.storage.check.FileSystemCheckIssue;
+import com.powsybl.afs.storage.check.FileSystemCheckOptions;
+import com.powsybl.timeseries.DoubleDataChunk;
+import com.powsybl.timeseries.StringDataChunk;
+import com.powsybl.timeseries.TimeSeriesMetadata;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Asynchronous view of a blocking storage, which runs each operation on an executor.
+ * <p>
+ * This is the default view of storages without native asynchronous support. Storages with such a support extend it to
+ * override the operations they can run without blocking a thread.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+public class ExecutorAsyncAppStorage implements AsyncAppStorage {
+
+    protected final AppStorage storage;
+
+    protected final Executor executor;
+
+    public ExecutorAsyncAppStorage(AppStorage storage, Executor executor) {
+        this.storage = Objects.requireNonNull(storage);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    protected <T> CompletionStage<T> supply(Supplier<T> operation) {
+        return CompletableFuture.supplyAsync(operation, executor);
+    }
+
+    protected CompletionStage<Void> run(Runnable operation) {
+        return CompletableFuture.runAsync(operation, executor);
+    }
+
+    /**
+     * Start a non blocking operation in the calling thread, reporting the failures of its synchronous part, argument
+     * checks for instance, through the returned stage.
+     */
+    protected static <T> CompletionStage<T> start(Supplier<? extends CompletionStage<T>> operation) {
+        return CompletableFuture.completedFuture(null).thenCompose(ignored -> operation.get());
+    }
+
+    @Override
+    public AppStorage getStorage() {
+        return storage;
+    }
+
+    @Override
+    public CompletionStage<NodeInfo> createRootNodeIfNotExists(String name, String nodePseudoClass) {
+        return supply(() -> storage.createRootNodeIfNotExists(name, nodePseudoClass));
+    }
+
+    @Override
+    public CompletionStage<NodeInfo> createNode(String parentNodeId, String name, String nodePseudoClass, String description, int version,
+                                                NodeGenericMetadata genericMetadata) {
+        return supply(() -> storage.createNode(parentNodeId, name, nodePseudoClass, description, version, genericMetadata));
+    }
+
+    @Override
+    public CompletionStage<Void> setMetadata(String nodeId, NodeGenericMetadata genericMetadata) {
+        return run(() -> storage.setMetadata(nodeId, genericMetadata));
+    }
+
+    @Override
+    public CompletionStage<Boolean> isWritable(String nodeId) {
+        return supply(() -> storage.isWritable(nodeId));
+    }
+
+    @Override
+    public CompletionStage<Boolean> isConsistent(String nodeId) {
+        return supply(() -> storage.isConsistent(nodeId));
+    }
+
+    @Override
+    public CompletionStage<NodeInfo> getNodeInfo(String nodeId) {
+        return supply(() -> storage.getNodeInfo(nodeId));
+    }
+
+    @Override
+    public CompletionStage<Void> setDescription(String nodeId, String description) {
+        return run(() -> storage.setDescription(nodeId, description));
+    }
+
+    @Override
+    public CompletionStage<Void> setConsistent(String nodeId) {
+        return run(() -> storage.setConsistent(nodeId));
+    }
+
+    @Override
+    public CompletionStage<Void> updateModificationTime(String nodeId) {
+        return run(() -> storage.updateModificationTime(nodeId));
+    }
+
+    @Override
+    public CompletionStage<List<NodeInfo>> getChildNodes(String nodeId) {
+        return supply(() -> storage.getChildNodes(nodeId));
+    }
+
+    @Override
+    public CompletionStage<List<NodeInfo>> getInconsistentNodes() {
+        return supply(storage::getInconsistentNodes);
+    }
+
+    @Override
+    public CompletionStage<Optional<NodeInfo>> getChildNode(String nodeId, String name) {
+        return supply(() -> storage.getChildNode(nodeId, name));
+    }
+
+    @Override
+    public CompletionStage<Optional<NodeInfo>> getParentNode(String nodeId) {
+        return supply(() -> storage.getParentNode(nodeId));
+    }
+
+    @Override
+    public CompletionStage<Void> setParentNode(String nodeId, String newParentNodeId) {
+        return run(() -> storage.setParentNode(nodeId, newParentNodeId));
+    }
+
+    @Override
+    public CompletionStage<String> deleteNode(String nodeId) {
+        return supply(() -> storage.deleteNode(nodeId));
+    }
+
+    @Override
+    public CompletionStage<Void> renameNode(String nodeId, String name) {
+        return run(() -> storage.renameNode(nodeId, name));
+    }
+
+    @Override
+    public CompletionStage<Optional<InputStream>> readBinaryData(String nodeId, String name) {
+        return supply(() -> storage.readBinaryData(nodeId, name));
+    }
+
+    @Override
+    public CompletionStage<Boolean> dataExists(String nodeId, String name) {
+        return supply(() -> storage.dataExists(nodeId, name));
+    }
+
+    @Override
+    public CompletionStage<Set<String>> getDataNames(String nodeId) {
+        return supply(() -> storage.getDataNames(nodeId));
+    }
+
+    @Override
+    public CompletionStage<Boolean> removeData(String nodeId, String name) {
+        return supply(() -> storage.removeData(nodeId, name));
+    }
+
+    @Override
+    public CompletionStage<Void> createTimeSeries(String nodeId, TimeSeriesMetadata metadata) {
+        return run(() -> storage.createTimeSeries(nodeId, metadata));
+    }
+
+    @Override
+    public CompletionStage<Set<String>> getTimeSeriesNames(String nodeId) {
+        return supply(() -> storage.getTimeSeriesNames(nodeId));
+    }
+
+    @Override
+    public CompletionStage<Boolean> timeSeriesExists(String nodeId, String timeSeriesName) {
+        return supply(() -> storage.timeSeriesExists(nodeId, timeSeriesName));
+    }
+
+    @Override
+    public CompletionStage<List<TimeSeriesMetadata>> getTimeSeriesMetadata(String nodeId, Set<String> timeSeriesNames) {
+        return supply(() -> storage.getTimeSeriesMetadata(nodeId, timeSeriesNames));
+    }
+
+    @Override
+    public CompletionStage<Set<Integer>> getTimeSeriesDataVersions(String nodeId) {
+        return supply(() -> storage.getTimeSeriesDataVersions(nodeId));
+    }
+
+    @Override
+    public CompletionStage<Set<Integer>> getTimeSeriesDataVersions(String nodeId, String timeSeriesName) {
+        return supply(() -> storage.getTimeSeriesDataVersions(nodeId, timeSeriesName));
+    }
+
+    @Override
+    public CompletionStage<Map<String, List<DoubleDataChunk>>> getDoubleTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version) {
+        return supply(() -> storage.getDoubleTimeSeriesData(nodeId, timeSeriesNames, version));
+    }
+
+    @Override
+    public CompletionStage<Map<String, List<DoubleDataChunk>>> getDoubleTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version,
+                                                                                       TimeSeriesWindow window) {
+        return supply(() -> storage.getDoubleTimeSeriesData(nodeId, timeSeriesNames, version, window));
+    }
+
+    @Override
+    public CompletionStage<Void> addDoubleTimeSeriesData(String nodeId, int version, String timeSeriesName, List<DoubleDataChunk> chunks) {
+        return run(() -> storage.addDoubleTimeSeriesData(nodeId, version, timeSeriesName, chunks));
+    }
+
+    @Override
+    public CompletionStage<Map<String, List<StringDataChunk>>> getStringTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version) {
+        return supply(() -> storage.getStringTimeSeriesData(nodeId, timeSeriesNames, version));
+    }
+
+    @Override
+    public CompletionStage<Map<String, List<StringDataChunk>>> getStringTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version,
+                                                                                       TimeSeriesWindow window) {
+        return supply(() -> storage.getStringTimeSeriesData(nodeId, timeSeriesNames, version, window));
+    }
+
+    @Override
+    public CompletionStage<Void> addStringTimeSeriesData(String nodeId, int version, String timeSeriesName, List<StringDataChunk> chunks) {
+        return run(() -> storage.addStringTimeSeriesData(nodeId, version, timeSeriesName, chunks));
+    }
+
+    @Override
+    public CompletionStage<Void> clearTimeSeries(String nodeId) {
+        return run(() -> storage.clearTimeSeries(nodeId));
+    }
+
+    @Override
+    public CompletionStage<Void> addDependency(String nodeId, String name, String toNodeId) {
+        return run(() -> storage.addDependency(nodeId, name, toNodeId));
+    }
+
+    @Override
+    public CompletionStage<Set<NodeInfo>> getDependencies(String nodeId, String name) {
+        return supply(() -> storage.getDependencies(nodeId, name));
+    }
+
+    @Override
+    public CompletionStage<Set<NodeDependency>> getDependencies(String nodeId) {
+        return supply(() -> storage.getDependencies(nodeId));
+    }
+
+    @Override
+    public CompletionStage<Set<NodeInfo>> getBackwardDependencies(String nodeId) {
+        return supply(() -> storage.getBackwardDependencies(nodeId));
+    }
+
+    @Override
+    public CompletionStage<Void> removeDependency(String nodeId, String name, String toNodeId) {
+        return run(() -> storage.removeDependency(nodeId, name, toNodeId));
+    }
+
+    @Override
+    public CompletionStage<Void> flush() {
+        return run(storage::flush);
+    }
+
+    @Override
+    public CompletionStage<List<FileSystemCheckIssue>> checkFileSystem(FileSystemCheckOptions options) {
+        return supply(() -> storage.checkFileSystem(options));
+    }
+}
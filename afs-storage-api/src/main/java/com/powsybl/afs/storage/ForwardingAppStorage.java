@@ -15,6 +15,7 @@ import com.powsybl.timeseries.TimeSeriesMetadata;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.*;
+import java.util.concurrent.Executor;
 
 /**
  * A storage implementation which simply delegates calls to another underlying AppStorage implementation.
@@ -89,6 +90,16 @@ public class ForwardingAppStorage implements AppStorage {
         return storage.getChildNodes(nodeId);
     }
 
+    @Override
+    public List<NodeInfo> findNodes(String nodeId, NodeQuery query) {
+        return storage.findNodes(nodeId, query);
+    }
+
+    @Override
+    public List<NodeInfo> searchNodes(String query, int limit) {
+        return storage.searchNodes(query, limit);
+    }
+
     @Override
     public List<NodeInfo> getInconsistentNodes() {
         return storage.getInconsistentNodes();
@@ -124,6 +135,16 @@ public class ForwardingAppStorage implements AppStorage {
         return storage.readBinaryData(nodeId, name);
     }
 
+    @Override
+    public Optional<InputStream> readGzippedBinaryData(String nodeId, String name) {
+        return storage.readGzippedBinaryData(nodeId, name);
+    }
+
+    @Override
+    public OptionalLong getBinaryDataLength(String nodeId, String name) {
+        return storage.getBinaryDataLength(nodeId, name);
+    }
+
     @Override
     public OutputStream writeBinaryData(String nodeId, String name) {
         return storage.writeBinaryData(nodeId, name);
@@ -179,6 +200,11 @@ public class ForwardingAppStorage implements AppStorage {
         return storage.getDoubleTimeSeriesData(nodeId, timeSeriesNames, version);
     }
 
+    @Override
+    public Map<String, List<DoubleDataChunk>> getDoubleTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version, TimeSeriesWindow window) {
+        return storage.getDoubleTimeSeriesData(nodeId, timeSeriesNames, version, window);
+    }
+
     @Override
     public void addDoubleTimeSeriesData(String nodeId, int version, String timeSeriesName, List<DoubleDataChunk> chunks) {
         storage.addDoubleTimeSeriesData(nodeId, version, timeSeriesName, chunks);
@@ -189,6 +215,11 @@ public class ForwardingAppStorage implements AppStorage {
         return storage.getStringTimeSeriesData(nodeId, timeSeriesNames, version);
     }
 
+    @Override
+    public Map<String, List<StringDataChunk>> getStringTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version, TimeSeriesWindow window) {
+        return storage.getStringTimeSeriesData(nodeId, timeSeriesNames, version, window);
+    }
+
     @Override
     public void addStringTimeSeriesData(String nodeId, int version, String timeSeriesName, List<StringDataChunk> chunks) {
         storage.addStringTimeSeriesData(nodeId, version, timeSeriesName, chunks);
@@ -252,4 +283,13 @@ public class ForwardingAppStorage implements AppStorage {
     public List<String> getSupportedFileSystemChecks() {
         return storage.getSupportedFileSystemChecks();
     }
+
+    /**
+     * Runs the operations of this storage, and not of the underlying one, on {@code executor}, so that the operations
+     * intercepted by subclasses are intercepted in the asynchronous view too.
+     */
+    @Override
+    public AsyncAppStorage async(Executor executor) {
+        return new ExecutorAsyncAppStorage(this, executor);
+    }
 }
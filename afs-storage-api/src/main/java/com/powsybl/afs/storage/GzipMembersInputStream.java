@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Decompresses a gzip stream made of several concatenated members, as returned by
+ * {@link AppStorage#readGzippedBinaryData(String, String)}.
+ * <p>
+ * {@link GZIPInputStream} relies on {@link InputStream#available()} to detect a member following the current one, so
+ * it may stop at the end of a member when reading from a stream which is chunked or received over the network. The
+ * stream given to it here reports that bytes are available as long as its end is not reached.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+public class GzipMembersInputStream extends GZIPInputStream {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    public GzipMembersInputStream(InputStream in) throws IOException {
+        super(new EndAwareInputStream(in), BUFFER_SIZE);
+    }
+
+    private static final class EndAwareInputStream extends PushbackInputStream {
+
+        private EndAwareInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int available() throws IOException {
+            int available = super.available();
+            if (available > 0) {
+                return available;
+            }
+            // blocks until the next byte is received, or the end of the stream is reached
+            int b = read();
+            if (b == -1) {
+                return 0;
+            }
+            unread(b);
+            return 1;
+        }
+    }
+}
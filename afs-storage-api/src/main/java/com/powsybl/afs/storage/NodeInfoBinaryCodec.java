@@ -0,0 +1,335 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.storage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Compact binary serialization of lists of {@link NodeInfo}, an alternative to JSON for the large node listings sent
+ * by the server. Lists of {@link NodeDependency} are written the same way, each node preceded by the dependency name.
+ * <p>
+ * Integers and times are written as variable length integers, UUID node ids as 16 bytes, and pseudo-classes and
+ * metadata keys, and dependency names, only once per list: the following occurrences are replaced by their index.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+public final class NodeInfoBinaryCodec {
+
+    public static final String MEDIA_TYPE = "application/x-afs-node-info-list";
+
+    private static final int MAGIC = 0x4E49; // "NI"
+
+    private static final int DEPENDENCIES_MAGIC = 0x4E44; // "ND"
+
+    private static final int FORMAT_VERSION = 1;
+
+    private static final int UUID_ID = 0;
+
+    private static final int STRING_ID = 1;
+
+    private NodeInfoBinaryCodec() {
+    }
+
+    private static final class Writer {
+
+        private final DataOutputStream out;
+
+        private final Map<String, Integer> internedStrings = new HashMap<>();
+
+        private Writer(DataOutputStream out) {
+            this.out = out;
+        }
+
+        private void writeVarLong(long value) throws IOException {
+            long v = value;
+            while ((v & ~0x7FL) != 0) {
+                out.writeByte((int) (v & 0x7F) | 0x80);
+                v >>>= 7;
+            }
+            out.writeByte((int) v);
+        }
+
+        private void writeZigZag(long value) throws IOException {
+            writeVarLong((value << 1) ^ (value >> 63));
+        }
+
+        private void writeString(String value) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length);
+            out.write(bytes);
+        }
+
+        private void writeInternedString(String value) throws IOException {
+            Integer index = internedStrings.get(value);
+            if (index != null) {
+                writeVarLong(index + 1L);
+            } else {
+                internedStrings.put(value, internedStrings.size());
+                writeVarLong(0);
+                writeString(value);
+            }
+        }
+
+        private static UUID parseUuid(String id) {
+            // only canonical ids, so that the id is read back unchanged
+            if (id.length() == 36) {
+                try {
+                    UUID uuid = UUID.fromString(id);
+                    if (uuid.toString().equals(id)) {
+                        return uuid;
+                    }
+                } catch (IllegalArgumentException e) {
+                    // not a UUID
+                }
+            }
+            return null;
+        }
+
+        private void writeId(String id) throws IOException {
+            UUID uuid = parseUuid(id);
+            if (uuid != null) {
+                out.writeByte(UUID_ID);
+                out.writeLong(uuid.getMostSignificantBits());
+                out.writeLong(uuid.getLeastSignificantBits());
+            } else {
+                out.writeByte(STRING_ID);
+                writeString(id);
+            }
+        }
+
+        private void writeMetadata(NodeGenericMetadata metadata) throws IOException {
+            writeVarLong(metadata.getStrings().size());
+            for (Map.Entry<String, String> e : metadata.getStrings().entrySet()) {
+                writeInternedString(e.getKey());
+                writeString(e.getValue());
+            }
+            writeVarLong(metadata.getDoubles().size());
+            for (Map.Entry<String, Double> e : metadata.getDoubles().entrySet()) {
+                writeInternedString(e.getKey());
+                out.writeDouble(e.getValue());
+            }
+            writeVarLong(metadata.getInts().size());
+            for (Map.Entry<String, Integer> e : metadata.getInts().entrySet()) {
+                writeInternedString(e.getKey());
+                writeZigZag(e.getValue());
+            }
+            writeVarLong(metadata.getBooleans().size());
+            for (Map.Entry<String, Boolean> e : metadata.getBooleans().entrySet()) {
+                writeInternedString(e.getKey());
+                out.writeBoolean(e.getValue());
+            }
+        }
+
+        private void writeNodeInfo(NodeInfo nodeInfo) throws IOException {
+            writeId(nodeInfo.getId());
+            writeString(nodeInfo.getName());
+            writeInternedString(nodeInfo.getPseudoClass());
+            writeString(nodeInfo.getDescription());
+            writeZigZag(nodeInfo.getCreationTime());
+            writeZigZag(nodeInfo.getModificationTime());
+            writeZigZag(nodeInfo.getVersion());
+            writeMetadata(nodeInfo.getGenericMetadata());
+        }
+
+        private void write(Collection<NodeInfo> nodeInfos) throws IOException {
+            out.writeShort(MAGIC);
+            out.writeByte(FORMAT_VERSION);
+            writeVarLong(nodeInfos.size());
+            for (NodeInfo nodeInfo : nodeInfos) {
+                writeNodeInfo(nodeInfo);
+            }
+            out.flush();
+        }
+
+        private void writeDependencies(Collection<NodeDependency> dependencies) throws IOException {
+            out.writeShort(DEPENDENCIES_MAGIC);
+            out.writeByte(FORMAT_VERSION);
+            writeVarLong(dependencies.size());
+            for (NodeDependency dependency : dependencies) {
+                writeInternedString(dependency.getName());
+                writeNodeInfo(dependency.getNodeInfo());
+            }
+            out.flush();
+        }
+    }
+
+    private static final class Reader {
+
+        private final DataInputStream in;
+
+        private final List<String> internedStrings = new ArrayList<>();
+
+        private Reader(DataInputStream in) {
+            this.in = in;
+        }
+
+        private long readVarLong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = in.readUnsignedByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IOException("Malformed variable length integer");
+        }
+
+        private int readCount() throws IOException {
+            long count = readVarLong();
+            if (count < 0 || count > Integer.MAX_VALUE) {
+                throw new IOException("Invalid count " + count);
+            }
+            return (int) count;
+        }
+
+        private long readZigZag() throws IOException {
+            long value = readVarLong();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        private String readString() throws IOException {
+            byte[] bytes = new byte[readCount()];
+            in.readFully(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        private String readInternedString() throws IOException {
+            int index = readCount();
+            if (index == 0) {
+                String value = readString();
+                internedStrings.add(value);
+                return value;
+            }
+            if (index > internedStrings.size()) {
+                throw new IOException("Invalid string reference " + index);
+            }
+            return internedStrings.get(index - 1);
+        }
+
+        private String readId() throws IOException {
+            int kind = in.readUnsignedByte();
+            return switch (kind) {
+                case UUID_ID -> new UUID(in.readLong(), in.readLong()).toString();
+                case STRING_ID -> readString();
+                default -> throw new IOException("Invalid node id kind " + kind);
+            };
+        }
+
+        private NodeGenericMetadata readMetadata() throws IOException {
+            NodeGenericMetadata metadata = new NodeGenericMetadata();
+            int count = readCount();
+            for (int i = 0; i < count; i++) {
+                metadata.setString(readInternedString(), readString());
+            }
+            count = readCount();
+            for (int i = 0; i < count; i++) {
+                metadata.setDouble(readInternedString(), in.readDouble());
+            }
+            count = readCount();
+            for (int i = 0; i < count; i++) {
+                metadata.setInt(readInternedString(), (int) readZigZag());
+            }
+            count = readCount();
+            for (int i = 0; i < count; i++) {
+                metadata.setBoolean(readInternedString(), in.readBoolean());
+            }
+            return metadata;
+        }
+
+        private NodeInfo readNodeInfo() throws IOException {
+            String id = readId();
+            String name = readString();
+            String pseudoClass = readInternedString();
+            String description = readString();
+            long creationTime = readZigZag();
+            long modificationTime = readZigZag();
+            int version = (int) readZigZag();
+            return new NodeInfo(id, name, pseudoClass, description, creationTime, modificationTime, version, readMetadata());
+        }
+
+        private int readHeader(int expectedMagic, String listName) throws IOException {
+            int magic = in.readUnsignedShort();
+            if (magic != expectedMagic) {
+                throw new IOException("Not a " + listName);
+            }
+            int formatVersion = in.readUnsignedByte();
+            if (formatVersion != FORMAT_VERSION) {
+                throw new IOException("Unsupported " + listName + " format version " + formatVersion);
+            }
+            return readCount();
+        }
+
+        private List<NodeInfo> read() throws IOException {
+            int count = readHeader(MAGIC, "node info list");
+            List<NodeInfo> nodeInfos = new ArrayList<>(Math.min(count, 1024));
+            for (int i = 0; i < count; i++) {
+                nodeInfos.add(readNodeInfo());
+            }
+            return nodeInfos;
+        }
+
+        private List<NodeDependency> readDependencies() throws IOException {
+            int count = readHeader(DEPENDENCIES_MAGIC, "node dependency list");
+            List<NodeDependency> dependencies = new ArrayList<>(Math.min(count, 1024));
+            for (int i = 0; i < count; i++) {
+                String name = readInternedString();
+                dependencies.add(new NodeDependency(name, readNodeInfo()));
+            }
+            return dependencies;
+        }
+    }
+
+    /**
+     * Writes the nodes to a stream, which is flushed but not closed.
+     */
+    public static void write(Collection<NodeInfo> nodeInfos, OutputStream os) throws IOException {
+        Objects.requireNonNull(nodeInfos);
+        Objects.requireNonNull(os);
+        new Writer(new DataOutputStream(new BufferedOutputStream(os))).write(nodeInfos);
+    }
+
+    /**
+     * Reads the nodes written by {@link #write(Collection, OutputStream)}, in the same order.
+     */
+    public static List<NodeInfo> read(InputStream is) throws IOException {
+        Objects.requireNonNull(is);
+        return new Reader(new DataInputStream(new BufferedInputStream(is))).read();
+    }
+
+    /**
+     * Writes the dependencies to a stream, which is flushed but not closed.
+     */
+    public static void writeDependencies(Collection<NodeDependency> dependencies, OutputStream os) throws IOException {
+        Objects.requireNonNull(dependencies);
+        Objects.requireNonNull(os);
+        new Writer(new DataOutputStream(new BufferedOutputStream(os))).writeDependencies(dependencies);
+    }
+
+    /**
+     * Reads the dependencies written by {@link #writeDependencies(Collection, OutputStream)}, in the same order.
+     */
+    public static List<NodeDependency> readDependencies(InputStream is) throws IOException {
+        Objects.requireNonNull(is);
+        return new Reader(new DataInputStream(new BufferedInputStream(is))).readDependencies();
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.storage;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * Criteria of the nodes searched by {@link AppStorage#findNodes(String, NodeQuery)}. A node matches if it has the
+ * pseudo-class, if any, its name matches the name pattern, if any, and it has all the metadata values of the query.
+ * <p>
+ * The name pattern is a glob, where {@code *} matches any sequence of characters and {@code ?} any character.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+public class NodeQuery {
+
+    public static final int NO_LIMIT = Integer.MAX_VALUE;
+
+    private String pseudoClass;
+
+    private String namePattern;
+
+    private NodeGenericMetadata metadata = new NodeGenericMetadata();
+
+    private int limit = NO_LIMIT;
+
+    private Pattern compiledNamePattern;
+
+    public String getPseudoClass() {
+        return pseudoClass;
+    }
+
+    public NodeQuery setPseudoClass(String pseudoClass) {
+        this.pseudoClass = pseudoClass;
+        return this;
+    }
+
+    public String getNamePattern() {
+        return namePattern;
+    }
+
+    public NodeQuery setNamePattern(String namePattern) {
+        this.namePattern = namePattern;
+        compiledNamePattern = null;
+        return this;
+    }
+
+    /**
+     * Metadata values the nodes must have, other metadata of the nodes are ignored.
+     */
+    public NodeGenericMetadata getMetadata() {
+        return metadata;
+    }
+
+    public NodeQuery setMetadata(NodeGenericMetadata metadata) {
+        this.metadata = Objects.requireNonNull(metadata);
+        return this;
+    }
+
+    /**
+     * Maximum number of nodes returned.
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    public NodeQuery setLimit(int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Invalid node query limit " + limit);
+        }
+        this.limit = limit;
+        return this;
+    }
+
+    private static Pattern compileGlob(String glob) {
+        StringBuilder regex = new StringBuilder();
+        StringBuilder literal = new StringBuilder();
+        for (char c : glob.toCharArray()) {
+            if (c == '*' || c == '?') {
+                if (!literal.isEmpty()) {
+                    regex.append(Pattern.quote(literal.toString()));
+                    literal.setLength(0);
+                }
+                regex.append(c == '*' ? ".*" : ".");
+            } else {
+                literal.append(c);
+            }
+        }
+        if (!literal.isEmpty()) {
+            regex.append(Pattern.quote(literal.toString()));
+        }
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+
+    public boolean matchesName(String name) {
+        if (namePattern == null) {
+            return true;
+        }
+        Pattern pattern = compiledNamePattern;
+        if (pattern == null) {
+            pattern = compileGlob(namePattern);
+            compiledNamePattern = pattern;
+        }
+        return pattern.matcher(name).matches();
+    }
+
+    private static <T> boolean containsAll(Map<String, T> values, Map<String, T> expectedValues) {
+        for (Map.Entry<String, T> e : expectedValues.entrySet()) {
+            if (!e.getValue().equals(values.get(e.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean matchesMetadata(NodeGenericMetadata nodeMetadata) {
+        return containsAll(nodeMetadata.getStrings(), metadata.getStrings())
+                && containsAll(nodeMetadata.getDoubles(), metadata.getDoubles())
+                && containsAll(nodeMetadata.getInts(), metadata.getInts())
+                && containsAll(nodeMetadata.getBooleans(), metadata.getBooleans());
+    }
+
+    public boolean matches(NodeInfo nodeInfo) {
+        Objects.requireNonNull(nodeInfo);
+        return (pseudoClass == null || pseudoClass.equals(nodeInfo.getPseudoClass()))
+                && matchesName(nodeInfo.getName())
+                && matchesMetadata(nodeInfo.getGenericMetadata());
+    }
+
+    /**
+     * Finds the matching descendants of a node by walking its consistent descendants, for storages without an index
+     * or for the queries an index cannot answer.
+     */
+    public List<NodeInfo> walk(AppStorage storage, String nodeId) {
+        Objects.requireNonNull(storage);
+        Objects.requireNonNull(nodeId);
+        List<NodeInfo> nodes = new ArrayList<>();
+        Deque<String> nodeIds = new ArrayDeque<>();
+        nodeIds.add(nodeId);
+        while (!nodeIds.isEmpty() && nodes.size() < limit) {
+            for (NodeInfo childNode : storage.getChildNodes(nodeIds.poll())) {
+                if (matches(childNode) && nodes.size() < limit) {
+                    nodes.add(childNode);
+                }
+                nodeIds.add(childNode.getId());
+            }
+        }
+        return nodes;
+    }
+
+    @Override
+    public String toString() {
+        return "NodeQuery(pseudoClass=" + pseudoClass + ", namePattern=" + namePattern + ", metadata=" + metadata + ", limit=" + limit + ")";
+    }
+}
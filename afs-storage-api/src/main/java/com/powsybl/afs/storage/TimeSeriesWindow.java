@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.storage;
+
+import com.powsybl.timeseries.CompressedDoubleDataChunk;
+import com.powsybl.timeseries.CompressedStringDataChunk;
+import com.powsybl.timeseries.DataChunk;
+import com.powsybl.timeseries.DoubleDataChunk;
+import com.powsybl.timeseries.RegularTimeSeriesIndex;
+import com.powsybl.timeseries.StringDataChunk;
+import com.powsybl.timeseries.UncompressedDoubleDataChunk;
+import com.powsybl.timeseries.UncompressedStringDataChunk;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+/**
+ * A window of points of a time series, from index {@code firstIndex} to index {@code lastIndex} (both included).
+ * <p>
+ * Chunks outside the window are dropped, chunks crossing its bounds are sliced so that only the points of the window are kept.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+public final class TimeSeriesWindow {
+
+    private final int firstIndex;
+
+    private final int lastIndex;
+
+    public TimeSeriesWindow(int firstIndex, int lastIndex) {
+        if (firstIndex < 0 || lastIndex < firstIndex) {
+            throw new IllegalArgumentException("Invalid time series window [" + firstIndex + ", " + lastIndex + "]");
+        }
+        this.firstIndex = firstIndex;
+        this.lastIndex = lastIndex;
+    }
+
+    /**
+     * Create the window of the points of {@code index} which are in the interval [{@code start}, {@code end}].
+     */
+    public static TimeSeriesWindow of(RegularTimeSeriesIndex index, Instant start, Instant end) {
+        Objects.requireNonNull(index);
+        Objects.requireNonNull(start);
+        Objects.requireNonNull(end);
+        long spacing = index.getSpacing();
+        long first = Math.max(0, Math.ceilDiv(start.toEpochMilli() - index.getStartTime(), spacing));
+        long last = Math.min(index.getPointCount() - 1L, Math.floorDiv(end.toEpochMilli() - index.getStartTime(), spacing));
+        if (first > last) {
+            throw new IllegalArgumentException("No point of index " + index + " between " + start + " and " + end);
+        }
+        return new TimeSeriesWindow((int) first, (int) last);
+    }
+
+    public int getFirstIndex() {
+        return firstIndex;
+    }
+
+    public int getLastIndex() {
+        return lastIndex;
+    }
+
+    public boolean overlaps(int offset, int length) {
+        return offset <= lastIndex && offset + length - 1 >= firstIndex;
+    }
+
+    public boolean contains(int offset, int length) {
+        return offset >= firstIndex && offset + length - 1 <= lastIndex;
+    }
+
+    public DoubleDataChunk slice(DoubleDataChunk chunk) {
+        Objects.requireNonNull(chunk);
+        if (contains(chunk.getOffset(), chunk.getLength())) {
+            return chunk;
+        }
+        int from = Math.max(firstIndex, chunk.getOffset());
+        int to = Math.min(lastIndex, chunk.getOffset() + chunk.getLength() - 1);
+        if (chunk instanceof CompressedDoubleDataChunk compressedChunk) {
+            double[] stepValues = compressedChunk.getStepValues();
+            int[] stepLengths = compressedChunk.getStepLengths();
+            int[] range = stepRange(chunk.getOffset(), stepLengths, from, to);
+            return new CompressedDoubleDataChunk(from, to - from + 1, Arrays.copyOfRange(stepValues, range[0], range[1] + 1),
+                slicedStepLengths(chunk.getOffset(), stepLengths, range, from, to));
+        }
+        double[] values = ((UncompressedDoubleDataChunk) chunk).getValues();
+        return new UncompressedDoubleDataChunk(from, Arrays.copyOfRange(values, from - chunk.getOffset(), to - chunk.getOffset() + 1));
+    }
+
+    public StringDataChunk slice(StringDataChunk chunk) {
+        Objects.requireNonNull(chunk);
+        if (contains(chunk.getOffset(), chunk.getLength())) {
+            return chunk;
+        }
+        int from = Math.max(firstIndex, chunk.getOffset());
+        int to = Math.min(lastIndex, chunk.getOffset() + chunk.getLength() - 1);
+        if (chunk instanceof CompressedStringDataChunk compressedChunk) {
+            String[] stepValues = compressedChunk.getStepValues();
+            int[] stepLengths = compressedChunk.getStepLengths();
+            int[] range = stepRange(chunk.getOffset(), stepLengths, from, to);
+            return new CompressedStringDataChunk(from, to - from + 1, Arrays.copyOfRange(stepValues, range[0], range[1] + 1),
+                slicedStepLengths(chunk.getOffset(), stepLengths, range, from, to));
+        }
+        String[] values = ((UncompressedStringDataChunk) chunk).getValues();
+        return new UncompressedStringDataChunk(from, Arrays.copyOfRange(values, from - chunk.getOffset(), to - chunk.getOffset() + 1));
+    }
+
+    /**
+     * Keep the chunks overlapping the window, sliced to the window.
+     */
+    public Map<String, List<DoubleDataChunk>> sliceDoubleChunks(Map<String, List<DoubleDataChunk>> chunksByName) {
+        return sliceChunks(chunksByName, this::slice);
+    }
+
+    /**
+     * Keep the chunks overlapping the window, sliced to the window.
+     */
+    public Map<String, List<StringDataChunk>> sliceStringChunks(Map<String, List<StringDataChunk>> chunksByName) {
+        return sliceChunks(chunksByName, this::slice);
+    }
+
+    private <C extends DataChunk<?, ?>> Map<String, List<C>> sliceChunks(Map<String, List<C>> chunksByName, UnaryOperator<C> slicer) {
+        Objects.requireNonNull(chunksByName);
+        Map<String, List<C>> sliced = new HashMap<>(chunksByName.size());
+        chunksByName.forEach((name, chunks) -> {
+            List<C> slicedChunks = new ArrayList<>();
+            for (C chunk : chunks) {
+                if (overlaps(chunk.getOffset(), chunk.getLength())) {
+                    slicedChunks.add(slicer.apply(chunk));
+                }
+            }
+            if (!slicedChunks.isEmpty()) {
+                sliced.put(name, slicedChunks);
+            }
+        });
+        return sliced;
+    }
+
+    /**
+     * Indexes of the first and the last steps of a compressed chunk containing points between {@code from} and {@code to}.
+     */
+    private static int[] stepRange(int offset, int[] stepLengths, int from, int to) {
+        int firstStep = -1;
+        int lastStep = -1;
+        int stepStart = offset;
+        for (int i = 0; i < stepLengths.length && stepStart <= to; i++) {
+            int stepEnd = stepStart + stepLengths[i] - 1;
+            if (stepEnd >= from) {
+                if (firstStep == -1) {
+                    firstStep = i;
+                }
+                lastStep = i;
+            }
+            stepStart = stepEnd + 1;
+        }
+        return new int[] {firstStep, lastStep};
+    }
+
+    private static int[] slicedStepLengths(int offset, int[] stepLengths, int[] range, int from, int to) {
+        int[] sliced = new int[range[1] - range[0] + 1];
+        int stepStart = offset;
+        for (int i = 0; i < range[0]; i++) {
+            stepStart += stepLengths[i];
+        }
+        for (int i = range[0]; i <= range[1]; i++) {
+            int stepEnd = stepStart + stepLengths[i] - 1;
+            sliced[i - range[0]] = Math.min(stepEnd, to) - Math.max(stepStart, from) + 1;
+            stepStart = stepEnd + 1;
+        }
+        return sliced;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(firstIndex, lastIndex);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof TimeSeriesWindow other) {
+            return firstIndex == other.firstIndex && lastIndex == other.lastIndex;
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "TimeSeriesWindow(firstIndex=" + firstIndex + ", lastIndex=" + lastIndex + ")";
+    }
+}
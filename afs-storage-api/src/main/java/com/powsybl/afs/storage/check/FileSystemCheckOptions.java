@@ -8,6 +8,7 @@ package com.powsybl.afs.storage.check;
 
 import java.time.Instant;
 import java.util.Collections;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
@@ -29,11 +30,17 @@ public class FileSystemCheckOptions {
     private final Instant inconsistentNodesExpirationTime; //Inconsistent nodes older than this could be deleted
     private final Set<String> types;
     private final boolean repair; //option for trying to solve all issues
+    private final FileSystemCheckProgressListener progressListener;
 
     FileSystemCheckOptions(Instant expiration, Set<String> types, boolean repair) {
+        this(expiration, types, repair, FileSystemCheckProgressListener.NONE);
+    }
+
+    FileSystemCheckOptions(Instant expiration, Set<String> types, boolean repair, FileSystemCheckProgressListener progressListener) {
         inconsistentNodesExpirationTime = expiration;
         this.types = Collections.unmodifiableSet(types);
         this.repair = repair;
+        this.progressListener = Objects.requireNonNull(progressListener);
     }
 
     /**
@@ -60,4 +67,11 @@ public class FileSystemCheckOptions {
     public boolean isRepair() {
         return repair;
     }
+
+    /**
+     * Listener notified of the progress of the checks, for implementations able to report it.
+     */
+    public FileSystemCheckProgressListener getProgressListener() {
+        return progressListener;
+    }
 }
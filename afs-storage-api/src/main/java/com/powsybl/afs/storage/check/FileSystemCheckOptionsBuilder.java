@@ -17,6 +17,7 @@ public class FileSystemCheckOptionsBuilder {
     private Instant inconsistentNodesExpirationTime;
     private final Set<String> types = new HashSet<>();
     private boolean repair = false;
+    private FileSystemCheckProgressListener progressListener = FileSystemCheckProgressListener.NONE;
 
     public FileSystemCheckOptionsBuilder() {
         // Nothing here
@@ -61,7 +62,12 @@ public class FileSystemCheckOptionsBuilder {
         return addCheckTypes(Arrays.asList(types));
     }
 
+    public FileSystemCheckOptionsBuilder setProgressListener(FileSystemCheckProgressListener progressListener) {
+        this.progressListener = Objects.requireNonNull(progressListener);
+        return this;
+    }
+
     public FileSystemCheckOptions build() {
-        return new FileSystemCheckOptions(inconsistentNodesExpirationTime, types, repair);
+        return new FileSystemCheckOptions(inconsistentNodesExpirationTime, types, repair, progressListener);
     }
 }
@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.storage.check;
+
+/**
+ * Listener notified of the progress of a file system check.
+ * <p>
+ * Implementations may scan the storage in parallel, so the listener must be thread-safe.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+@FunctionalInterface
+public interface FileSystemCheckProgressListener {
+
+    FileSystemCheckProgressListener NONE = (type, done, total) -> { };
+
+    /**
+     * @param type the check type
+     * @param done the number of parts of the check already done
+     * @param total the total number of parts of the check
+     */
+    void onProgress(String type, long done, long total);
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.storage.events;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+import java.util.Objects;
+
+/**
+ * Events of a topic sent together by a client to the server, which pushes them to its events bus and flushes it once.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.MINIMAL_CLASS, include = JsonTypeInfo.As.PROPERTY)
+public class NodeEventListContainer {
+
+    @JsonProperty("filesystemName")
+    private final String fileSystemName;
+
+    @JsonProperty("nodeEventList")
+    private final NodeEventList nodeEventList;
+
+    public NodeEventListContainer() {
+        this.fileSystemName = null;
+        this.nodeEventList = null;
+    }
+
+    public NodeEventListContainer(NodeEventList nodeEventList, String fileSystemName) {
+        this.nodeEventList = Objects.requireNonNull(nodeEventList);
+        this.fileSystemName = Objects.requireNonNull(fileSystemName);
+    }
+
+    public NodeEventList getNodeEventList() {
+        return nodeEventList;
+    }
+
+    public String getFileSystemName() {
+        return fileSystemName;
+    }
+}
@@ -10,6 +10,7 @@ import com.google.common.collect.Sets;
 import com.google.common.io.ByteStreams;
 import com.google.re2j.Pattern;
 import com.powsybl.afs.storage.events.*;
+import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.datasource.DataSource;
 import com.powsybl.timeseries.CompressedDoubleDataChunk;
 import com.powsybl.timeseries.CompressedStringDataChunk;
@@ -47,7 +48,12 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
@@ -751,6 +757,13 @@ public abstract class AbstractAppStorageTest {
             new UncompressedDoubleDataChunk(5, new double[] {3d}));
         assertEquals(doubleDataChunks, doubleTimeSeriesData.get("ts1"));
 
+        // check windowed query: chunks outside the window are dropped, the others are sliced
+        assertEquals(Map.of("ts1", List.of(new CompressedDoubleDataChunk(3, 1, new double[] {2d}, new int[] {1}))),
+            storage.getDoubleTimeSeriesData(dataNode2.getId(), Sets.newHashSet("ts1"), 0, new TimeSeriesWindow(3, 4)));
+        assertEquals(Map.of("ts1", List.of(new UncompressedDoubleDataChunk(5, new double[] {3d}))),
+            storage.getDoubleTimeSeriesData(dataNode2.getId(), Sets.newHashSet("ts1"), 0, new TimeSeriesWindow(5, 10)));
+        assertTrue(storage.getDoubleTimeSeriesData(dataNode2.getId(), Sets.newHashSet("ts1"), 0, new TimeSeriesWindow(6, 10)).isEmpty());
+
         // The result is empty if the timeseries does not exist
         assertTrue(storage.getDoubleTimeSeriesData(dataNode3.getId(), Sets.newHashSet("ts1"), 0).isEmpty());
     }
@@ -798,6 +811,10 @@ public abstract class AbstractAppStorageTest {
         List<StringDataChunk> stringDataChunks = List.of(new CompressedStringDataChunk(2, 2, new String[] {"a", "b"}, new int[] {1, 1}),
             new UncompressedStringDataChunk(5, new String[] {"c"}));
         assertEquals(stringDataChunks, stringTimeSeriesData.get("ts2"));
+
+        // check windowed query
+        assertEquals(Map.of("ts2", List.of(new CompressedStringDataChunk(2, 1, new String[] {"a"}, new int[] {1}))),
+            storage.getStringTimeSeriesData(dataNode.getId(), Sets.newHashSet("ts2"), 0, new TimeSeriesWindow(0, 2)));
     }
 
     @Test
@@ -1060,6 +1077,110 @@ public abstract class AbstractAppStorageTest {
         nextDependentTests();
     }
 
+    @Test
+    @Order(42)
+    public void asyncReadTest() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            AsyncAppStorage asyncStorage = storage.async(executor);
+
+            // Nodes
+            NodeInfo testFolderInfo = storage.getChildNode(rootFolderInfo.getId(), "other-tests").orElseThrow();
+            NodeInfo dataNode = storage.getChildNode(testFolderInfo.getId(), "data2").orElseThrow();
+            assertEquals(storage.getNodeInfo(dataNode.getId()), join(asyncStorage.getNodeInfo(dataNode.getId())));
+            assertEquals(storage.getChildNodes(testFolderInfo.getId()), join(asyncStorage.getChildNodes(testFolderInfo.getId())));
+            assertEquals(Optional.of(dataNode), join(asyncStorage.getChildNode(testFolderInfo.getId(), "data2")));
+            assertEquals(Optional.empty(), join(asyncStorage.getChildNode(testFolderInfo.getId(), "unknown")));
+            assertEquals(Optional.of(testFolderInfo), join(asyncStorage.getParentNode(dataNode.getId())));
+            assertTrue(join(asyncStorage.isWritable(dataNode.getId())));
+            assertTrue(join(asyncStorage.isConsistent(dataNode.getId())));
+            assertEquals(storage.getDataNames(dataNode.getId()), join(asyncStorage.getDataNames(dataNode.getId())));
+            assertFalse(join(asyncStorage.dataExists(dataNode.getId(), "unknown")));
+
+            // Time series
+            Set<String> timeSeriesNames = storage.getTimeSeriesNames(dataNode.getId());
+            assertEquals(timeSeriesNames, join(asyncStorage.getTimeSeriesNames(dataNode.getId())));
+            assertTrue(join(asyncStorage.timeSeriesExists(dataNode.getId(), "ts1")));
+            assertEquals(storage.getTimeSeriesMetadata(dataNode.getId(), timeSeriesNames), join(asyncStorage.getTimeSeriesMetadata(dataNode.getId(), timeSeriesNames)));
+            assertEquals(storage.getTimeSeriesDataVersions(dataNode.getId()), join(asyncStorage.getTimeSeriesDataVersions(dataNode.getId())));
+            assertEquals(storage.getTimeSeriesDataVersions(dataNode.getId(), "ts2"), join(asyncStorage.getTimeSeriesDataVersions(dataNode.getId(), "ts2")));
+            assertEquals(storage.getDoubleTimeSeriesData(dataNode.getId(), Set.of("ts1"), 0), join(asyncStorage.getDoubleTimeSeriesData(dataNode.getId(), Set.of("ts1"), 0)));
+            assertEquals(storage.getStringTimeSeriesData(dataNode.getId(), Set.of("ts2"), 0), join(asyncStorage.getStringTimeSeriesData(dataNode.getId(), Set.of("ts2"), 0)));
+            TimeSeriesWindow window = new TimeSeriesWindow(3, 5);
+            assertEquals(storage.getDoubleTimeSeriesData(dataNode.getId(), Set.of("ts1"), 0, window),
+                join(asyncStorage.getDoubleTimeSeriesData(dataNode.getId(), Set.of("ts1"), 0, window)));
+            assertEquals(storage.getStringTimeSeriesData(dataNode.getId(), Set.of("ts2"), 0, window),
+                join(asyncStorage.getStringTimeSeriesData(dataNode.getId(), Set.of("ts2"), 0, window)));
+
+            // Dependencies
+            NodeInfo dependencyFolderInfo = storage.getChildNode(rootFolderInfo.getId(), "test15").orElseThrow();
+            NodeInfo dependentNode = storage.getChildNode(dependencyFolderInfo.getId(), "data").orElseThrow();
+            NodeInfo dependencyNode = storage.getChildNode(dependencyFolderInfo.getId(), "data2").orElseThrow();
+            assertFalse(storage.getDependencies(dependentNode.getId()).isEmpty());
+            assertEquals(storage.getDependencies(dependentNode.getId()), join(asyncStorage.getDependencies(dependentNode.getId())));
+            assertEquals(Set.of(dependencyNode), join(asyncStorage.getDependencies(dependentNode.getId(), "mylink")));
+            assertEquals(storage.getBackwardDependencies(dependencyNode.getId()), join(asyncStorage.getBackwardDependencies(dependencyNode.getId())));
+
+            // Failures are reported through the returned stage
+            String unknownNodeId = "00000000-0000-0000-0000-000000000000";
+            CompletableFuture<NodeInfo> unknownNode = asyncStorage.getNodeInfo(unknownNodeId).toCompletableFuture();
+            CompletionException exception = assertThrows(CompletionException.class, unknownNode::join);
+            assertInstanceOf(PowsyblException.class, exception.getCause());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @Order(43)
+    public void findNodesTest() {
+        NodeInfo findFolder = createConsistentNode(rootFolderInfo.getId(), "find-tests", FOLDER_PSEUDO_CLASS, new NodeGenericMetadata());
+        NodeInfo project1 = createConsistentNode(findFolder.getId(), "project1", FOLDER_PSEUDO_CLASS, new NodeGenericMetadata());
+        NodeInfo project2 = createConsistentNode(findFolder.getId(), "project2", FOLDER_PSEUDO_CLASS, new NodeGenericMetadata());
+        NodeInfo runner1 = createConsistentNode(project1.getId(), "runner1", "runner", new NodeGenericMetadata().setString("tag", "a").setInt("n", 1));
+        NodeInfo runner2 = createConsistentNode(project2.getId(), "runner2", "runner", new NodeGenericMetadata().setString("tag", "b"));
+        NodeInfo runner3 = createConsistentNode(project2.getId(), "other3", "runner", new NodeGenericMetadata().setString("tag", "a"));
+        // neither inconsistent nodes nor nodes outside of the searched folder are found
+        storage.createNode(project2.getId(), "runner4", "runner", "", 0, new NodeGenericMetadata().setString("tag", "a"));
+        createConsistentNode(rootFolderInfo.getId(), "find-tests-runner", "runner", new NodeGenericMetadata().setString("tag", "a"));
+        storage.flush();
+
+        String folderId = findFolder.getId();
+        assertEquals(Set.of(runner1.getId(), runner2.getId(), runner3.getId()), findNodeIds(folderId, new NodeQuery().setPseudoClass("runner")));
+        assertEquals(Set.of(runner1.getId(), runner3.getId()),
+            findNodeIds(folderId, new NodeQuery().setPseudoClass("runner").setMetadata(new NodeGenericMetadata().setString("tag", "a"))));
+        assertEquals(Set.of(runner1.getId()),
+            findNodeIds(folderId, new NodeQuery().setMetadata(new NodeGenericMetadata().setString("tag", "a")).setNamePattern("runner*")));
+        assertEquals(Set.of(runner1.getId()), findNodeIds(folderId, new NodeQuery().setMetadata(new NodeGenericMetadata().setInt("n", 1))));
+        assertEquals(Set.of(project1.getId(), project2.getId()), findNodeIds(folderId, new NodeQuery().setNamePattern("project?")));
+        assertEquals(Set.of(runner2.getId(), runner3.getId()), findNodeIds(project2.getId(), new NodeQuery().setPseudoClass("runner")));
+        assertEquals(1, storage.findNodes(folderId, new NodeQuery().setPseudoClass("runner").setLimit(1)).size());
+        assertTrue(storage.findNodes(folderId, new NodeQuery().setPseudoClass("unknown")).isEmpty());
+
+        // the index follows the updates
+        storage.deleteNode(runner3.getId());
+        storage.setMetadata(runner1.getId(), new NodeGenericMetadata().setString("tag", "c"));
+        storage.flush();
+        assertTrue(findNodeIds(folderId, new NodeQuery().setMetadata(new NodeGenericMetadata().setString("tag", "a"))).isEmpty());
+        assertEquals(Set.of(runner1.getId()),
+            findNodeIds(folderId, new NodeQuery().setPseudoClass("runner").setMetadata(new NodeGenericMetadata().setString("tag", "c"))));
+        assertEquals(Set.of(runner1.getId(), runner2.getId()), findNodeIds(folderId, new NodeQuery().setPseudoClass("runner")));
+    }
+
+    private NodeInfo createConsistentNode(String parentNodeId, String name, String pseudoClass, NodeGenericMetadata metadata) {
+        NodeInfo nodeInfo = storage.createNode(parentNodeId, name, pseudoClass, "", 0, metadata);
+        storage.setConsistent(nodeInfo.getId());
+        return nodeInfo;
+    }
+
+    private Set<String> findNodeIds(String nodeId, NodeQuery query) {
+        return storage.findNodes(nodeId, query).stream().map(NodeInfo::getId).collect(Collectors.toSet());
+    }
+
+    private static <T> T join(CompletionStage<T> stage) {
+        return stage.toCompletableFuture().join();
+    }
+
     protected abstract AppStorage createStorage();
 
     protected abstract AppStorage createStorage(String fileSystemName);
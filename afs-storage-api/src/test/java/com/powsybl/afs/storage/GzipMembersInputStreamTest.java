@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.storage;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+class GzipMembersInputStreamTest {
+
+    private static byte[] gzip(String content) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzos = new GZIPOutputStream(bos)) {
+            gzos.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        return bos.toByteArray();
+    }
+
+    /**
+     * A stream which returns one member per read and never reports available bytes, as a network stream would.
+     */
+    private static InputStream chunked(byte[]... members) {
+        return new InputStream() {
+
+            private int member = 0;
+            private ByteArrayInputStream current = new ByteArrayInputStream(members[0]);
+
+            @Override
+            public int read() {
+                byte[] b = new byte[1];
+                return read(b, 0, 1) == -1 ? -1 : b[0] & 0xFF;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                int n = current.read(b, off, len);
+                while (n == -1 && member < members.length - 1) {
+                    current = new ByteArrayInputStream(members[++member]);
+                    n = current.read(b, off, len);
+                }
+                return n;
+            }
+        };
+    }
+
+    @Test
+    void test() throws IOException {
+        try (InputStream is = new GzipMembersInputStream(chunked(gzip("hello "), gzip(""), gzip("world"), gzip("!")))) {
+            assertEquals("hello world!", new String(is.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        try (InputStream is = new GzipMembersInputStream(chunked(gzip("single")))) {
+            assertEquals("single", new String(is.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.storage;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.afs.storage.json.AppStorageJsonModule;
+import com.powsybl.commons.json.JsonUtil;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+class NodeInfoBinaryCodecTest {
+
+    private static byte[] write(List<NodeInfo> nodeInfos) throws IOException {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        NodeInfoBinaryCodec.write(nodeInfos, os);
+        return os.toByteArray();
+    }
+
+    private static List<NodeInfo> read(byte[] bytes) throws IOException {
+        return NodeInfoBinaryCodec.read(new ByteArrayInputStream(bytes));
+    }
+
+    private static void assertNodeInfoEquals(NodeInfo expected, NodeInfo actual) {
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getName(), actual.getName());
+        assertEquals(expected.getPseudoClass(), actual.getPseudoClass());
+        assertEquals(expected.getDescription(), actual.getDescription());
+        assertEquals(expected.getCreationTime(), actual.getCreationTime());
+        assertEquals(expected.getModificationTime(), actual.getModificationTime());
+        assertEquals(expected.getVersion(), actual.getVersion());
+        assertEquals(expected.getGenericMetadata(), actual.getGenericMetadata());
+    }
+
+    @Test
+    void roundTripTest() throws IOException {
+        NodeGenericMetadata metadata = new NodeGenericMetadata()
+                .setString("s", "value é")
+                .setDouble("d", -1.5)
+                .setInt("i", Integer.MIN_VALUE)
+                .setBoolean("b", true);
+        List<NodeInfo> nodeInfos = List.of(
+                new NodeInfo(UUID.randomUUID().toString(), "node 1", "folder", "", 1_700_000_000_000L, 1_700_000_000_001L, 0, metadata),
+                new NodeInfo("not-a-uuid", "nœud 2", "folder", "description", 0, -1, -3, new NodeGenericMetadata()),
+                new NodeInfo(UUID.randomUUID().toString().toUpperCase(), "n", "file", "x".repeat(70000), Long.MAX_VALUE, Long.MIN_VALUE, Integer.MAX_VALUE, metadata));
+
+        List<NodeInfo> readNodeInfos = read(write(nodeInfos));
+        assertEquals(nodeInfos.size(), readNodeInfos.size());
+        for (int i = 0; i < nodeInfos.size(); i++) {
+            assertNodeInfoEquals(nodeInfos.get(i), readNodeInfos.get(i));
+        }
+
+        assertTrue(read(write(Collections.emptyList())).isEmpty());
+    }
+
+    @Test
+    void dependenciesTest() throws IOException {
+        NodeInfo network = new NodeInfo(UUID.randomUUID().toString(), "network", "importedCase", "", 1, 2, 0, new NodeGenericMetadata().setString("format", "XIIDM"));
+        NodeInfo script = new NodeInfo(UUID.randomUUID().toString(), "script", "modificationScript", "", 3, 4, 1, new NodeGenericMetadata());
+        List<NodeDependency> dependencies = List.of(new NodeDependency("case", network), new NodeDependency("script", script), new NodeDependency("case", script));
+
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        NodeInfoBinaryCodec.writeDependencies(dependencies, os);
+        List<NodeDependency> readDependencies = NodeInfoBinaryCodec.readDependencies(new ByteArrayInputStream(os.toByteArray()));
+        assertEquals(dependencies.size(), readDependencies.size());
+        for (int i = 0; i < dependencies.size(); i++) {
+            assertEquals(dependencies.get(i).getName(), readDependencies.get(i).getName());
+            assertNodeInfoEquals(dependencies.get(i).getNodeInfo(), readDependencies.get(i).getNodeInfo());
+        }
+
+        // the two list kinds are not mixed up
+        IOException e = assertThrows(IOException.class, () -> read(os.toByteArray()));
+        assertEquals("Not a node info list", e.getMessage());
+        byte[] nodeInfos = write(List.of(network));
+        e = assertThrows(IOException.class, () -> NodeInfoBinaryCodec.readDependencies(new ByteArrayInputStream(nodeInfos)));
+        assertEquals("Not a node dependency list", e.getMessage());
+    }
+
+    @Test
+    void compactnessTest() throws IOException {
+        List<NodeInfo> nodeInfos = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            NodeGenericMetadata metadata = new NodeGenericMetadata()
+                    .setString("type", "study")
+                    .setDouble("nominalVoltage", 400)
+                    .setInt("index", i)
+                    .setBoolean("enabled", i % 2 == 0);
+            nodeInfos.add(new NodeInfo(UUID.randomUUID().toString(), "node" + i, "projectFolder", "", 1_700_000_000_000L + i, 1_700_000_000_000L + i, 0, metadata));
+        }
+        ObjectMapper mapper = JsonUtil.createObjectMapper().registerModule(new AppStorageJsonModule());
+        byte[] json = mapper.writeValueAsBytes(nodeInfos);
+        byte[] binary = write(nodeInfos);
+        assertTrue(binary.length * 3 < json.length, () -> "binary " + binary.length + " bytes, json " + json.length + " bytes");
+        assertEquals(nodeInfos.get(999).getGenericMetadata(), read(binary).get(999).getGenericMetadata());
+    }
+
+    @Test
+    void invalidTest() throws IOException {
+        byte[] bytes = write(List.of(new NodeInfo("id", "name", "folder", "", 0, 0, 0, new NodeGenericMetadata())));
+        assertThrows(IOException.class, () -> read(new byte[] {1, 2, 3}));
+        byte[] truncated = new byte[bytes.length - 1];
+        System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+        assertThrows(IOException.class, () -> read(truncated));
+        bytes[2] = 2;
+        IOException e = assertThrows(IOException.class, () -> read(bytes));
+        assertEquals("Unsupported node info list format version 2", e.getMessage());
+    }
+}
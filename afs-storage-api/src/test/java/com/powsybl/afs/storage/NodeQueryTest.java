@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.storage;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+class NodeQueryTest {
+
+    private static NodeInfo createNodeInfo(String id, String name, String pseudoClass, NodeGenericMetadata metadata) {
+        return new NodeInfo(id, name, pseudoClass, "", 0, 0, 0, metadata);
+    }
+
+    @Test
+    void matchesTest() {
+        NodeInfo nodeInfo = createNodeInfo("id", "run (1).v2", "runner", new NodeGenericMetadata().setString("tag", "a").setInt("n", 1));
+        assertTrue(new NodeQuery().matches(nodeInfo));
+        assertTrue(new NodeQuery().setPseudoClass("runner").matches(nodeInfo));
+        assertFalse(new NodeQuery().setPseudoClass("folder").matches(nodeInfo));
+
+        // special characters of the name are not regular expression ones
+        assertTrue(new NodeQuery().setNamePattern("run (?).*").matches(nodeInfo));
+        assertTrue(new NodeQuery().setNamePattern("*v2").matches(nodeInfo));
+        assertFalse(new NodeQuery().setNamePattern("run").matches(nodeInfo));
+        assertFalse(new NodeQuery().setNamePattern("run.*").setNamePattern("run*.v3").matches(nodeInfo));
+
+        assertTrue(new NodeQuery().setMetadata(new NodeGenericMetadata().setString("tag", "a")).matches(nodeInfo));
+        assertTrue(new NodeQuery().setMetadata(new NodeGenericMetadata().setString("tag", "a").setInt("n", 1)).matches(nodeInfo));
+        assertFalse(new NodeQuery().setMetadata(new NodeGenericMetadata().setString("tag", "b")).matches(nodeInfo));
+        assertFalse(new NodeQuery().setMetadata(new NodeGenericMetadata().setInt("tag", 1)).matches(nodeInfo));
+        assertFalse(new NodeQuery().setMetadata(new NodeGenericMetadata().setBoolean("b", true)).matches(nodeInfo));
+    }
+
+    @Test
+    void limitTest() {
+        assertEquals(NodeQuery.NO_LIMIT, new NodeQuery().getLimit());
+        assertEquals(10, new NodeQuery().setLimit(10).getLimit());
+        NodeQuery query = new NodeQuery();
+        assertThrows(IllegalArgumentException.class, () -> query.setLimit(0));
+    }
+
+    @Test
+    void walkTest() {
+        AppStorage storage = mock(AppStorage.class);
+        NodeInfo folder = createNodeInfo("folder", "folder", "folder", new NodeGenericMetadata());
+        NodeInfo runner1 = createNodeInfo("runner1", "runner1", "runner", new NodeGenericMetadata());
+        NodeInfo runner2 = createNodeInfo("runner2", "runner2", "runner", new NodeGenericMetadata());
+        when(storage.getChildNodes("root")).thenReturn(List.of(folder, runner1));
+        when(storage.getChildNodes("folder")).thenReturn(List.of(runner2));
+
+        assertEquals(List.of(runner1, runner2), new NodeQuery().setPseudoClass("runner").walk(storage, "root"));
+        assertEquals(List.of(folder, runner1, runner2), new NodeQuery().walk(storage, "root"));
+        assertEquals(List.of(runner1), new NodeQuery().setPseudoClass("runner").setLimit(1).walk(storage, "root"));
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.storage;
+
+import com.powsybl.timeseries.CompressedDoubleDataChunk;
+import com.powsybl.timeseries.CompressedStringDataChunk;
+import com.powsybl.timeseries.DoubleDataChunk;
+import com.powsybl.timeseries.RegularTimeSeriesIndex;
+import com.powsybl.timeseries.UncompressedDoubleDataChunk;
+import com.powsybl.timeseries.UncompressedStringDataChunk;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+class TimeSeriesWindowTest {
+
+    @Test
+    void sliceTest() {
+        TimeSeriesWindow window = new TimeSeriesWindow(3, 7);
+
+        // chunks inside the window are kept as is
+        DoubleDataChunk inside = new UncompressedDoubleDataChunk(4, new double[] {1d, 2d});
+        assertSame(inside, window.slice(inside));
+
+        assertEquals(new UncompressedDoubleDataChunk(3, new double[] {3d, 4d}),
+            window.slice(new UncompressedDoubleDataChunk(1, new double[] {1d, 2d, 3d, 4d})));
+        assertEquals(new UncompressedStringDataChunk(6, new String[] {"a", "b"}),
+            window.slice(new UncompressedStringDataChunk(6, new String[] {"a", "b", "c"})));
+
+        // steps 0-2, 3-5, 6-9 and 10
+        assertEquals(new CompressedDoubleDataChunk(3, 5, new double[] {2d, 3d}, new int[] {3, 2}),
+            window.slice(new CompressedDoubleDataChunk(0, 11, new double[] {1d, 2d, 3d, 4d}, new int[] {3, 3, 4, 1})));
+        assertEquals(new CompressedStringDataChunk(3, 5, new String[] {"a"}, new int[] {5}),
+            window.slice(new CompressedStringDataChunk(2, 8, new String[] {"a", "b"}, new int[] {7, 1})));
+    }
+
+    @Test
+    void sliceChunksTest() {
+        TimeSeriesWindow window = new TimeSeriesWindow(2, 3);
+        Map<String, List<DoubleDataChunk>> chunks = Map.of(
+            "ts1", List.of(new UncompressedDoubleDataChunk(0, new double[] {1d, 2d, 3d}), new UncompressedDoubleDataChunk(3, new double[] {4d, 5d})),
+            "ts2", List.of(new UncompressedDoubleDataChunk(5, new double[] {1d})));
+        assertEquals(Map.of("ts1", List.of(new UncompressedDoubleDataChunk(2, new double[] {3d}), new UncompressedDoubleDataChunk(3, new double[] {4d}))),
+            window.sliceDoubleChunks(chunks));
+    }
+
+    @Test
+    void ofInstantsTest() {
+        RegularTimeSeriesIndex index = RegularTimeSeriesIndex.create(Instant.parse("2026-01-01T00:00:00Z"), Instant.parse("2026-01-01T23:00:00Z"), Duration.ofHours(1));
+        assertEquals(new TimeSeriesWindow(2, 4), TimeSeriesWindow.of(index, Instant.parse("2026-01-01T01:30:00Z"), Instant.parse("2026-01-01T04:00:00Z")));
+        assertEquals(new TimeSeriesWindow(0, 23), TimeSeriesWindow.of(index, Instant.parse("2025-12-31T00:00:00Z"), Instant.parse("2026-01-02T00:00:00Z")));
+        assertThrows(IllegalArgumentException.class,
+            () -> TimeSeriesWindow.of(index, Instant.parse("2026-01-01T01:10:00Z"), Instant.parse("2026-01-01T01:50:00Z")));
+        assertThrows(IllegalArgumentException.class, () -> new TimeSeriesWindow(3, 2));
+        assertThrows(IllegalArgumentException.class, () -> new TimeSeriesWindow(-1, 2));
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.storage.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.commons.json.JsonUtil;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+class NodeEventListContainerTest {
+
+    @Test
+    void mainTest() throws IOException {
+        NodeEventList events = new NodeEventList("topic", new NodeCreated("id1", "parentid"), new NodeCreated("id2", "parentid"));
+        NodeEventListContainer container = new NodeEventListContainer(events, "fs");
+        assertEquals("fs", container.getFileSystemName());
+        assertEquals(events, container.getNodeEventList());
+
+        ObjectMapper objectMapper = JsonUtil.createObjectMapper();
+        NodeEventListContainer container2 = objectMapper.readValue(objectMapper.writeValueAsString(container), NodeEventListContainer.class);
+        assertEquals("fs", container2.getFileSystemName());
+        assertEquals("topic", container2.getNodeEventList().getTopic());
+        assertEquals(events, container2.getNodeEventList());
+
+        NodeEventListContainer container3 = new NodeEventListContainer();
+        assertNull(container3.getNodeEventList());
+        assertNull(container3.getFileSystemName());
+    }
+}
@@ -21,7 +21,6 @@ import jakarta.ws.rs.core.Form;
 import jakarta.ws.rs.core.GenericType;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.Response;
-import org.jboss.resteasy.client.jaxrs.internal.ResteasyClientBuilderImpl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -48,10 +47,11 @@ public final class ClientUtils {
     private ClientUtils() {
     }
 
+    /**
+     * Creates a client sending its requests through the {@link HttpTransport#getDefault() default transport}.
+     */
     public static Client createClient() {
-        return new ResteasyClientBuilderImpl()
-            .connectionPoolSize(50)
-            .build();
+        return HttpTransport.getDefault().createClient();
     }
 
     public static void checkOk(Response response) {
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.ws.client.utils;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import jakarta.ws.rs.client.Client;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.jboss.resteasy.client.jaxrs.engines.ApacheHttpClient43Engine;
+import org.jboss.resteasy.client.jaxrs.internal.ResteasyClientBuilderImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP connections shared by the REST clients. Clients created by a transport send their requests through its
+ * connection pool, so that connections to a server are kept open and reused by all of them, instead of each client
+ * opening its own connections. Closing a client does not close the shared connections.
+ * <p>
+ * A request waits for a connection to be released when the pool is exhausted, up to the connection request timeout.
+ * The usage of the pool is logged periodically, at debug level, or as a warning when requests are waiting.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+public final class HttpTransport implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HttpTransport.class);
+
+    private static final long POOL_STATS_LOG_INTERVAL = 60;
+
+    private static HttpTransport defaultTransport;
+
+    /**
+     * Usage of the connection pool.
+     *
+     * @param leased number of connections used by a request
+     * @param available number of idle connections kept open
+     * @param pending number of requests waiting for a connection
+     * @param max maximum number of connections
+     */
+    public record PoolStats(int leased, int available, int pending, int max) {
+    }
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+
+    private final CloseableHttpClient httpClient;
+
+    private final ScheduledExecutorService poolStatsLogger;
+
+    public HttpTransport(RemoteServiceConfig config) {
+        this(config.getConnectionPoolSize(), config.getMaxConnectionsPerHost(), config.getKeepAliveTimeout(), config.getConnectionRequestTimeout());
+    }
+
+    public HttpTransport(int connectionPoolSize, int maxConnectionsPerHost, long keepAliveTimeout, long connectionRequestTimeout) {
+        if (connectionPoolSize <= 0 || maxConnectionsPerHost <= 0 || keepAliveTimeout <= 0 || connectionRequestTimeout <= 0) {
+            throw new IllegalArgumentException("Invalid transport settings: connectionPoolSize=" + connectionPoolSize
+                    + ", maxConnectionsPerHost=" + maxConnectionsPerHost + ", keepAliveTimeout=" + keepAliveTimeout
+                    + ", connectionRequestTimeout=" + connectionRequestTimeout);
+        }
+        connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(connectionPoolSize);
+        connectionManager.setDefaultMaxPerRoute(maxConnectionsPerHost);
+        long keepAliveMillis = TimeUnit.SECONDS.toMillis(keepAliveTimeout);
+        ConnectionKeepAliveStrategy keepAliveStrategy = (response, context) -> {
+            long duration = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return duration > 0 ? Math.min(duration, keepAliveMillis) : keepAliveMillis;
+        };
+        // as the default engine of the client: responses are decompressed by the reader interceptors, and requests
+        // are not retried as they may not be idempotent
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Math.toIntExact(TimeUnit.SECONDS.toMillis(connectionRequestTimeout)))
+                .build();
+        httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .setKeepAliveStrategy(keepAliveStrategy)
+                .evictExpiredConnections()
+                .evictIdleConnections(keepAliveTimeout, TimeUnit.SECONDS)
+                .disableContentCompression()
+                .disableAutomaticRetries()
+                .disableCookieManagement()
+                .build();
+        poolStatsLogger = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                .setNameFormat("afs-http-pool-stats-%d")
+                .setDaemon(true)
+                .build());
+        poolStatsLogger.scheduleWithFixedDelay(this::logPoolStats, POOL_STATS_LOG_INTERVAL, POOL_STATS_LOG_INTERVAL, TimeUnit.SECONDS);
+    }
+
+    void logPoolStats() {
+        PoolStats stats = getPoolStats();
+        if (stats.pending() > 0) {
+            LOGGER.warn("HTTP connection pool exhausted, {} requests waiting for a connection: {}", stats.pending(), stats);
+        } else {
+            LOGGER.debug("HTTP connection pool: {}", stats);
+        }
+    }
+
+    /**
+     * The transport configured by the {@code remote-service} module, or with the default settings if the module is
+     * missing. It is never closed.
+     */
+    public static synchronized HttpTransport getDefault() {
+        if (defaultTransport == null) {
+            defaultTransport = RemoteServiceConfig.load()
+                    .map(HttpTransport::new)
+                    .orElseGet(() -> new HttpTransport(RemoteServiceConfig.DEFAULT_CONNECTION_POOL_SIZE,
+                            RemoteServiceConfig.DEFAULT_MAX_CONNECTIONS_PER_HOST, RemoteServiceConfig.DEFAULT_KEEP_ALIVE_TIMEOUT,
+                            RemoteServiceConfig.DEFAULT_CONNECTION_REQUEST_TIMEOUT));
+            LOGGER.info("HTTP transport created: {}", defaultTransport.getPoolStats());
+        }
+        return defaultTransport;
+    }
+
+    public Client createClient() {
+        return new ResteasyClientBuilderImpl()
+                .httpEngine(new ApacheHttpClient43Engine(httpClient, false))
+                .build();
+    }
+
+    public PoolStats getPoolStats() {
+        org.apache.http.pool.PoolStats stats = connectionManager.getTotalStats();
+        return new PoolStats(stats.getLeased(), stats.getAvailable(), stats.getPending(), stats.getMax());
+    }
+
+    @Override
+    public void close() {
+        poolStatsLogger.shutdownNow();
+        try {
+            httpClient.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -8,6 +8,7 @@ package com.powsybl.afs.ws.client.utils;
 
 import com.google.common.base.MoreObjects;
 import com.powsybl.commons.config.ConfigurationException;
+import com.powsybl.commons.config.ModuleConfig;
 import com.powsybl.commons.config.PlatformConfig;
 import com.powsybl.commons.exceptions.UncheckedUriSyntaxException;
 
@@ -21,6 +22,14 @@ import java.util.Optional;
  */
 public class RemoteServiceConfig {
 
+    public static final int DEFAULT_CONNECTION_POOL_SIZE = 200;
+
+    public static final int DEFAULT_MAX_CONNECTIONS_PER_HOST = 100;
+
+    public static final long DEFAULT_KEEP_ALIVE_TIMEOUT = 30;
+
+    public static final long DEFAULT_CONNECTION_REQUEST_TIMEOUT = 30;
+
     private String hostName;
 
     private String appName;
@@ -33,6 +42,26 @@ public class RemoteServiceConfig {
 
     private long reconnectionDelay;
 
+    private boolean binaryNetworkTransferEnabled;
+
+    private boolean networkCompressionEnabled;
+
+    private int networkCacheSize;
+
+    private int uploadPartSize;
+
+    private int uploadParallelism;
+
+    private long taskMessageInterval;
+
+    private int connectionPoolSize;
+
+    private int maxConnectionsPerHost;
+
+    private long keepAliveTimeout;
+
+    private long connectionRequestTimeout;
+
     public RemoteServiceConfig(String hostName, String appName, int port, boolean secure) {
         this.hostName = Objects.requireNonNull(hostName);
         this.appName = Objects.requireNonNull(appName);
@@ -40,6 +69,16 @@ public class RemoteServiceConfig {
         this.secure = secure;
         this.autoReconnectionEnabled = false;
         this.reconnectionDelay = 60;
+        this.binaryNetworkTransferEnabled = true;
+        this.networkCompressionEnabled = false;
+        this.networkCacheSize = 0;
+        this.uploadPartSize = 0;
+        this.uploadParallelism = 4;
+        this.taskMessageInterval = 500;
+        this.connectionPoolSize = DEFAULT_CONNECTION_POOL_SIZE;
+        this.maxConnectionsPerHost = DEFAULT_MAX_CONNECTIONS_PER_HOST;
+        this.keepAliveTimeout = DEFAULT_KEEP_ALIVE_TIMEOUT;
+        this.connectionRequestTimeout = DEFAULT_CONNECTION_REQUEST_TIMEOUT;
     }
 
     public static Optional<RemoteServiceConfig> load() {
@@ -57,10 +96,24 @@ public class RemoteServiceConfig {
 
             moduleConfig.getOptionalBooleanProperty("auto-reconnection").ifPresent(config::setAutoReconnectionEnabled);
             moduleConfig.getOptionalLongProperty("reconnection-delay").ifPresent(config::setReconnectionDelay);
+            moduleConfig.getOptionalBooleanProperty("binary-network-transfer").ifPresent(config::setBinaryNetworkTransferEnabled);
+            moduleConfig.getOptionalBooleanProperty("network-compression").ifPresent(config::setNetworkCompressionEnabled);
+            moduleConfig.getOptionalIntProperty("network-cache-size").ifPresent(config::setNetworkCacheSize);
+            moduleConfig.getOptionalIntProperty("upload-part-size").ifPresent(config::setUploadPartSize);
+            moduleConfig.getOptionalIntProperty("upload-parallelism").ifPresent(config::setUploadParallelism);
+            moduleConfig.getOptionalLongProperty("task-message-interval").ifPresent(config::setTaskMessageInterval);
+            readTransportProperties(moduleConfig, config);
             return config;
         });
     }
 
+    private static void readTransportProperties(ModuleConfig moduleConfig, RemoteServiceConfig config) {
+        moduleConfig.getOptionalIntProperty("connection-pool-size").ifPresent(config::setConnectionPoolSize);
+        moduleConfig.getOptionalIntProperty("max-connections-per-host").ifPresent(config::setMaxConnectionsPerHost);
+        moduleConfig.getOptionalLongProperty("keep-alive-timeout").ifPresent(config::setKeepAliveTimeout);
+        moduleConfig.getOptionalLongProperty("connection-request-timeout").ifPresent(config::setConnectionRequestTimeout);
+    }
+
     private static int checkPort(int port) {
         if (port <= 0) {
             throw new IllegalArgumentException("Invalid port: " + port);
@@ -139,6 +192,145 @@ public class RemoteServiceConfig {
         this.reconnectionDelay = reconnectionDelay;
     }
 
+    /**
+     * If enabled, networks are downloaded using the binary IIDM format when the server supports it, XML otherwise.
+     */
+    public boolean isBinaryNetworkTransferEnabled() {
+        return binaryNetworkTransferEnabled;
+    }
+
+    public void setBinaryNetworkTransferEnabled(boolean binaryNetworkTransferEnabled) {
+        this.binaryNetworkTransferEnabled = binaryNetworkTransferEnabled;
+    }
+
+    /**
+     * If enabled, networks are downloaded gzip compressed when the server supports it.
+     */
+    public boolean isNetworkCompressionEnabled() {
+        return networkCompressionEnabled;
+    }
+
+    public void setNetworkCompressionEnabled(boolean networkCompressionEnabled) {
+        this.networkCompressionEnabled = networkCompressionEnabled;
+    }
+
+    /**
+     * Maximum number of downloaded networks kept in the client side cache, 0 to disable the cache.
+     */
+    public int getNetworkCacheSize() {
+        return networkCacheSize;
+    }
+
+    public void setNetworkCacheSize(int networkCacheSize) {
+        if (networkCacheSize < 0) {
+            throw new ConfigurationException("Network cache size must be positive, got " + networkCacheSize);
+        }
+        this.networkCacheSize = networkCacheSize;
+    }
+
+    /**
+     * Size in bytes of the parts of binary data uploads, whose parts are sent concurrently and sent again on failure
+     * when the server supports it. 0 to send binary data in a single request.
+     */
+    public int getUploadPartSize() {
+        return uploadPartSize;
+    }
+
+    public void setUploadPartSize(int uploadPartSize) {
+        if (uploadPartSize < 0) {
+            throw new ConfigurationException("Upload part size must be positive, got " + uploadPartSize);
+        }
+        this.uploadPartSize = uploadPartSize;
+    }
+
+    /**
+     * Maximum number of parts of a binary data upload sent concurrently.
+     */
+    public int getUploadParallelism() {
+        return uploadParallelism;
+    }
+
+    public void setUploadParallelism(int uploadParallelism) {
+        if (uploadParallelism <= 0) {
+            throw new ConfigurationException("Upload parallelism must be strictly positive, got " + uploadParallelism);
+        }
+        this.uploadParallelism = uploadParallelism;
+    }
+
+    /**
+     * Minimum interval in milliseconds between two message updates of a task sent to the server, the intermediate
+     * messages being dropped in favor of the latest one. 0 to send every message update.
+     */
+    public long getTaskMessageInterval() {
+        return taskMessageInterval;
+    }
+
+    public void setTaskMessageInterval(long taskMessageInterval) {
+        if (taskMessageInterval < 0) {
+            throw new ConfigurationException("Task message interval must be positive, got " + taskMessageInterval);
+        }
+        this.taskMessageInterval = taskMessageInterval;
+    }
+
+    /**
+     * Maximum number of HTTP connections kept open to the servers, shared by all the remote clients, see
+     * {@link HttpTransport}.
+     */
+    public int getConnectionPoolSize() {
+        return connectionPoolSize;
+    }
+
+    public void setConnectionPoolSize(int connectionPoolSize) {
+        if (connectionPoolSize <= 0) {
+            throw new ConfigurationException("Connection pool size must be strictly positive, got " + connectionPoolSize);
+        }
+        this.connectionPoolSize = connectionPoolSize;
+    }
+
+    /**
+     * Maximum number of HTTP connections kept open to a single server. Requests beyond it wait for a connection to be
+     * released.
+     */
+    public int getMaxConnectionsPerHost() {
+        return maxConnectionsPerHost;
+    }
+
+    public void setMaxConnectionsPerHost(int maxConnectionsPerHost) {
+        if (maxConnectionsPerHost <= 0) {
+            throw new ConfigurationException("Max connections per host must be strictly positive, got " + maxConnectionsPerHost);
+        }
+        this.maxConnectionsPerHost = maxConnectionsPerHost;
+    }
+
+    /**
+     * Maximum number of seconds an idle HTTP connection is kept open to be reused, shortened to the keep-alive timeout
+     * announced by the server if any.
+     */
+    public long getKeepAliveTimeout() {
+        return keepAliveTimeout;
+    }
+
+    public void setKeepAliveTimeout(long keepAliveTimeout) {
+        if (keepAliveTimeout <= 0) {
+            throw new ConfigurationException("Keep-alive timeout must be strictly positive, got " + keepAliveTimeout);
+        }
+        this.keepAliveTimeout = keepAliveTimeout;
+    }
+
+    /**
+     * Maximum number of seconds a request waits for a connection of the pool to be released, before failing.
+     */
+    public long getConnectionRequestTimeout() {
+        return connectionRequestTimeout;
+    }
+
+    public void setConnectionRequestTimeout(long connectionRequestTimeout) {
+        if (connectionRequestTimeout <= 0) {
+            throw new ConfigurationException("Connection request timeout must be strictly positive, got " + connectionRequestTimeout);
+        }
+        this.connectionRequestTimeout = connectionRequestTimeout;
+    }
+
     @Override
     public String toString() {
         return MoreObjects.toStringHelper(this)
@@ -148,6 +340,16 @@ public class RemoteServiceConfig {
                 .add("secure", secure)
                 .add("autoReconnectionEnabled", autoReconnectionEnabled)
                 .add("reconnectionDelay", reconnectionDelay)
+                .add("binaryNetworkTransferEnabled", binaryNetworkTransferEnabled)
+                .add("networkCompressionEnabled", networkCompressionEnabled)
+                .add("networkCacheSize", networkCacheSize)
+                .add("uploadPartSize", uploadPartSize)
+                .add("uploadParallelism", uploadParallelism)
+                .add("taskMessageInterval", taskMessageInterval)
+                .add("connectionPoolSize", connectionPoolSize)
+                .add("maxConnectionsPerHost", maxConnectionsPerHost)
+                .add("keepAliveTimeout", keepAliveTimeout)
+                .add("connectionRequestTimeout", connectionRequestTimeout)
                 .toString();
     }
 }
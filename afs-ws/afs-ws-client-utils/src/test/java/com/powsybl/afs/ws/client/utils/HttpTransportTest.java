@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.ws.client.utils;
+
+import com.sun.net.httpserver.HttpServer;
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.core.Response;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+class HttpTransportTest {
+
+    private HttpServer server;
+
+    private final Set<InetSocketAddress> clientAddresses = ConcurrentHashMap.newKeySet();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/hello", exchange -> {
+            clientAddresses.add(exchange.getRemoteAddress());
+            byte[] body = "hello".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "text/plain");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private URI getUri() {
+        return URI.create("http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/hello");
+    }
+
+    @Test
+    void test() {
+        try (HttpTransport transport = new HttpTransport(10, 5, 30, 30)) {
+            assertEquals(new HttpTransport.PoolStats(0, 0, 0, 10), transport.getPoolStats());
+
+            // connections are shared by the clients and not closed with them
+            for (int i = 0; i < 3; i++) {
+                try (Client client = transport.createClient()) {
+                    assertEquals("hello", client.target(getUri()).request().get(String.class));
+                }
+            }
+            assertEquals(new HttpTransport.PoolStats(0, 1, 0, 10), transport.getPoolStats());
+            assertEquals(1, clientAddresses.size());
+        }
+    }
+
+    @Test
+    void connectionRequestTimeoutTest() {
+        try (HttpTransport transport = new HttpTransport(1, 1, 30, 1);
+             Client client = transport.createClient()) {
+            // the unread response keeps the only connection leased
+            try (Response response = client.target(getUri()).request().get()) {
+                assertEquals(200, response.getStatus());
+                assertEquals(1, transport.getPoolStats().leased());
+                ProcessingException e = assertThrows(ProcessingException.class, () -> client.target(getUri()).request().get(String.class));
+                assertInstanceOf(ConnectionPoolTimeoutException.class, e.getCause());
+                transport.logPoolStats();
+            }
+            assertEquals("hello", client.target(getUri()).request().get(String.class));
+        }
+    }
+
+    @Test
+    void invalidSettingsTest() {
+        assertThrows(IllegalArgumentException.class, () -> new HttpTransport(0, 5, 30, 30));
+        assertThrows(IllegalArgumentException.class, () -> new HttpTransport(10, 0, 30, 30));
+        assertThrows(IllegalArgumentException.class, () -> new HttpTransport(10, 5, 0, 30));
+        assertThrows(IllegalArgumentException.class, () -> new HttpTransport(10, 5, 30, 0));
+    }
+
+    @Test
+    void defaultTest() {
+        assertSame(HttpTransport.getDefault(), HttpTransport.getDefault());
+        assertEquals(RemoteServiceConfig.DEFAULT_CONNECTION_POOL_SIZE, HttpTransport.getDefault().getPoolStats().max());
+    }
+}
@@ -50,7 +50,9 @@ class RemoteServiceConfigTest {
     @Test
     void string() {
         RemoteServiceConfig config = new RemoteServiceConfig("host", "test", 443, true);
-        assertEquals("RemoteServiceConfig{hostName=host, appName=test, port=443, secure=true, autoReconnectionEnabled=false, reconnectionDelay=60}", config.toString());
+        assertEquals("RemoteServiceConfig{hostName=host, appName=test, port=443, secure=true, autoReconnectionEnabled=false, reconnectionDelay=60, " +
+            "binaryNetworkTransferEnabled=true, networkCompressionEnabled=false, networkCacheSize=0, uploadPartSize=0, uploadParallelism=4, taskMessageInterval=500, " +
+            "connectionPoolSize=200, maxConnectionsPerHost=100, keepAliveTimeout=30, connectionRequestTimeout=30}", config.toString());
     }
 
     @Test
@@ -62,6 +64,16 @@ class RemoteServiceConfigTest {
         moduleConfig.setStringProperty("app-name", "app");
         moduleConfig.setStringProperty("auto-reconnection", "true");
         moduleConfig.setStringProperty("reconnection-delay", "5142");
+        moduleConfig.setStringProperty("binary-network-transfer", "false");
+        moduleConfig.setStringProperty("network-compression", "true");
+        moduleConfig.setStringProperty("network-cache-size", "10");
+        moduleConfig.setStringProperty("upload-part-size", "1048576");
+        moduleConfig.setStringProperty("upload-parallelism", "8");
+        moduleConfig.setStringProperty("task-message-interval", "0");
+        moduleConfig.setStringProperty("connection-pool-size", "200");
+        moduleConfig.setStringProperty("max-connections-per-host", "100");
+        moduleConfig.setStringProperty("keep-alive-timeout", "10");
+        moduleConfig.setStringProperty("connection-request-timeout", "5");
 
         RemoteServiceConfig config = RemoteServiceConfig.load(platformConfig)
                 .orElseThrow(AssertionError::new);
@@ -69,5 +81,15 @@ class RemoteServiceConfigTest {
         assertEquals("https://host:443/app", config.getRestUri().toString());
         assertTrue(config.isAutoReconnectionEnabled());
         assertEquals(5142L, config.getReconnectionDelay());
+        assertFalse(config.isBinaryNetworkTransferEnabled());
+        assertTrue(config.isNetworkCompressionEnabled());
+        assertEquals(10, config.getNetworkCacheSize());
+        assertEquals(1048576, config.getUploadPartSize());
+        assertEquals(8, config.getUploadParallelism());
+        assertEquals(0L, config.getTaskMessageInterval());
+        assertEquals(200, config.getConnectionPoolSize());
+        assertEquals(100, config.getMaxConnectionsPerHost());
+        assertEquals(10L, config.getKeepAliveTimeout());
+        assertEquals(5L, config.getConnectionRequestTimeout());
     }
 }
@@ -11,7 +11,10 @@ import com.google.common.base.Supplier;
 import com.powsybl.afs.AppFileSystem;
 import com.powsybl.afs.AppFileSystemProvider;
 import com.powsybl.afs.AppFileSystemProviderContext;
+import com.powsybl.afs.CoalescingTaskMonitor;
+import com.powsybl.afs.TaskMonitor;
 import com.powsybl.afs.ws.client.utils.RemoteServiceConfig;
+import com.powsybl.afs.ws.storage.ChunkedUploadConfig;
 import com.powsybl.afs.ws.storage.RemoteAppStorage;
 import com.powsybl.afs.ws.storage.RemoteTaskMonitor;
 import com.powsybl.afs.ws.storage.websocket.WebsocketConnectionPolicy;
@@ -20,6 +23,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -56,7 +60,12 @@ public class RemoteAppFileSystemProvider implements AppFileSystemProvider {
                         .map(fileSystemName -> {
                             WebsocketConnectionPolicy websocketPolicy = WebsocketConnectionPolicy.forConfig(config);
                             RemoteAppStorage storage = createRemoteAppStorage(fileSystemName, uri, context.getToken(), websocketPolicy);
-                            RemoteTaskMonitor taskMonitor = createRemoteTaskMonitor(fileSystemName, uri, context.getToken());
+                            if (config.getUploadPartSize() > 0) {
+                                storage.setChunkedUploadConfig(new ChunkedUploadConfig()
+                                        .setPartSize(config.getUploadPartSize())
+                                        .setParallelism(config.getUploadParallelism()));
+                            }
+                            TaskMonitor taskMonitor = createTaskMonitor(config, fileSystemName, uri, context.getToken());
                             return new AppFileSystem(fileSystemName, true, storage, taskMonitor);
                         })
                         .collect(Collectors.toList());
@@ -74,6 +83,14 @@ public class RemoteAppFileSystemProvider implements AppFileSystemProvider {
         return new RemoteAppStorage(fileSystemName, uri, token, websocketPolicy);
     }
 
+    private TaskMonitor createTaskMonitor(RemoteServiceConfig config, String fileSystemName, URI uri, String token) {
+        RemoteTaskMonitor taskMonitor = createRemoteTaskMonitor(fileSystemName, uri, token);
+        if (config.getTaskMessageInterval() > 0) {
+            return new CoalescingTaskMonitor(taskMonitor, Duration.ofMillis(config.getTaskMessageInterval()));
+        }
+        return taskMonitor;
+    }
+
     protected RemoteTaskMonitor createRemoteTaskMonitor(String fileSystemName, URI uri, String token) {
         return new RemoteTaskMonitor(fileSystemName, uri, token);
     }
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.ws.storage;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hands off the bytes written to it by a thread to another thread, which writes them to an output stream, typically the
+ * body of an HTTP request.
+ * <p>
+ * Unlike {@link java.io.PipedOutputStream}, whose threads wait for each other every 1 KiB by default, bytes are
+ * exchanged in large chunks, and the writer only waits when a few MiB are pending, or the reader when none is.
+ * Chunks are reused once written, so that no garbage is created while streaming.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+class BytePipe extends OutputStream {
+
+    static final int DEFAULT_CHUNK_SIZE = 256 * 1024;
+
+    static final int DEFAULT_CAPACITY = 8;
+
+    private static final long POLL_MILLIS = 100;
+
+    private record Chunk(byte[] data, int length) {
+    }
+
+    private static final Chunk END = new Chunk(new byte[0], 0);
+
+    private final int chunkSize;
+
+    private final BlockingQueue<Chunk> chunks;
+
+    private final BlockingQueue<byte[]> freeChunks;
+
+    private volatile Future<?> reader;
+
+    private volatile boolean readerDone = false;
+
+    private byte[] current;
+
+    private int count = 0;
+
+    private boolean closed = false;
+
+    BytePipe() {
+        this(DEFAULT_CHUNK_SIZE, DEFAULT_CAPACITY);
+    }
+
+    BytePipe(int chunkSize, int capacity) {
+        this.chunkSize = chunkSize;
+        chunks = new ArrayBlockingQueue<>(capacity);
+        freeChunks = new ArrayBlockingQueue<>(capacity + 1);
+        current = new byte[chunkSize];
+    }
+
+    /**
+     * Sets the task running {@link #drainTo(OutputStream)}, so that writing fails instead of waiting forever if it
+     * ends without reading, for instance if the connection to the server cannot be established.
+     */
+    void setReader(Future<?> reader) {
+        this.reader = Objects.requireNonNull(reader);
+    }
+
+    private void checkReader() throws IOException {
+        Future<?> r = reader;
+        if (readerDone || r != null && r.isDone()) {
+            throw new IOException("Pipe closed by the reader");
+        }
+    }
+
+    private void checkNotClosed() throws IOException {
+        if (closed) {
+            throw new IOException("Pipe closed");
+        }
+    }
+
+    private void put(Chunk chunk) throws IOException {
+        try {
+            while (!chunks.offer(chunk, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                checkReader();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        }
+    }
+
+    private void sendCurrent() throws IOException {
+        checkReader();
+        put(new Chunk(current, count));
+        byte[] free = freeChunks.poll();
+        current = free != null ? free : new byte[chunkSize];
+        count = 0;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        checkNotClosed();
+        if (count == chunkSize) {
+            sendCurrent();
+        }
+        current[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        checkNotClosed();
+        int written = 0;
+        while (written < len) {
+            if (count == chunkSize) {
+                sendCurrent();
+            }
+            int n = Math.min(len - written, chunkSize - count);
+            System.arraycopy(b, off + written, current, count, n);
+            count += n;
+            written += n;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        checkNotClosed();
+        if (count > 0) {
+            sendCurrent();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (count > 0) {
+            sendCurrent();
+        }
+        put(END);
+    }
+
+    /**
+     * Writes the bytes to {@code os} as they are written to the pipe, until the pipe is closed.
+     */
+    void drainTo(OutputStream os) throws IOException {
+        try {
+            Chunk chunk = chunks.take();
+            while (chunk != END) {
+                os.write(chunk.data(), 0, chunk.length());
+                freeChunks.offer(chunk.data());
+                chunk = chunks.take();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        } finally {
+            readerDone = true;
+            // unblocks the writer if the reader fails
+            chunks.clear();
+        }
+    }
+}
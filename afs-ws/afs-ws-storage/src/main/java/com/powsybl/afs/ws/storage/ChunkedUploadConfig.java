@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.ws.storage;
+
+import com.google.common.base.MoreObjects;
+
+/**
+ * Configuration of binary data uploads in several parts, see {@link RemoteAppStorage#setChunkedUploadConfig}.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+public class ChunkedUploadConfig {
+
+    public static final int DEFAULT_PART_SIZE = 8 * 1024 * 1024;
+
+    public static final int DEFAULT_PARALLELISM = 4;
+
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+
+    private int partSize = DEFAULT_PART_SIZE;
+
+    private int parallelism = DEFAULT_PARALLELISM;
+
+    private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+
+    /**
+     * Size in bytes of the parts. Binary data smaller than a part are sent in a single request.
+     */
+    public int getPartSize() {
+        return partSize;
+    }
+
+    public ChunkedUploadConfig setPartSize(int partSize) {
+        if (partSize <= 0) {
+            throw new IllegalArgumentException("Invalid part size: " + partSize);
+        }
+        this.partSize = partSize;
+        return this;
+    }
+
+    /**
+     * Maximum number of parts sent concurrently. It also bounds the memory used by an upload, about
+     * {@code (parallelism + 1) * partSize} bytes.
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public ChunkedUploadConfig setParallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Invalid parallelism: " + parallelism);
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Maximum number of times a part is sent before the upload fails.
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public ChunkedUploadConfig setMaxAttempts(int maxAttempts) {
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("Invalid maximum number of attempts: " + maxAttempts);
+        }
+        this.maxAttempts = maxAttempts;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("partSize", partSize)
+                .add("parallelism", parallelism)
+                .add("maxAttempts", maxAttempts)
+                .toString();
+    }
+}
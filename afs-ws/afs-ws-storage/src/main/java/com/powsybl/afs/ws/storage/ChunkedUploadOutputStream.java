@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.ws.storage;
+
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.powsybl.afs.storage.AfsStorageException;
+import com.powsybl.commons.exceptions.UncheckedInterruptedException;
+import jakarta.ws.rs.ProcessingException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Uploads the binary data written to it in parts of fixed size, several parts being sent concurrently.
+ * <p>
+ * A part whose transfer fails because the server could not be reached or answered with a server error is sent again, up
+ * to a maximum number of attempts, without restarting the whole upload. Other failures, such as a rejected request, are
+ * not retried.
+ * The upload is committed when the stream is closed, the commit being sent again in the same way, and the binary data
+ * is only visible once committed. If a part
+ * cannot be sent, the upload is aborted and the binary data is left untouched. Binary data smaller than a part is sent
+ * in a single request.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+class ChunkedUploadOutputStream extends OutputStream {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChunkedUploadOutputStream.class);
+
+    static final long DEFAULT_RETRY_DELAY_MILLIS = 500;
+
+    /**
+     * Failure of a request answered with a server error, which may not happen again if the request is sent again.
+     */
+    static final class ServerErrorException extends AfsStorageException {
+
+        ServerErrorException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+
+    /**
+     * Requests of the upload protocol. They throw a {@link ProcessingException} if the server cannot be reached, and a
+     * {@link ServerErrorException} if it answers with a server error.
+     */
+    interface Uploader {
+
+        /**
+         * Sends binary data in a single request.
+         */
+        void upload(byte[] data, int length);
+
+        /**
+         * Starts an upload and returns its ID.
+         */
+        String initiate();
+
+        void uploadPart(String uploadId, int partNumber, byte[] data, int length);
+
+        void commit(String uploadId, int partCount);
+
+        void abort(String uploadId);
+    }
+
+    private final Uploader uploader;
+
+    private final int partSize;
+
+    private final int maxAttempts;
+
+    private final long retryDelayMillis;
+
+    private final Semaphore permits;
+
+    private final ExecutorService executor;
+
+    private final List<CompletableFuture<Void>> pendingParts = new ArrayList<>();
+
+    private byte[] buffer;
+
+    private int count = 0;
+
+    private int partCount = 0;
+
+    private String uploadId;
+
+    private boolean closed = false;
+
+    ChunkedUploadOutputStream(Uploader uploader, ChunkedUploadConfig config) {
+        this(uploader, config, DEFAULT_RETRY_DELAY_MILLIS);
+    }
+
+    ChunkedUploadOutputStream(Uploader uploader, ChunkedUploadConfig config, long retryDelayMillis) {
+        this.uploader = Objects.requireNonNull(uploader);
+        Objects.requireNonNull(config);
+        partSize = config.getPartSize();
+        maxAttempts = config.getMaxAttempts();
+        this.retryDelayMillis = retryDelayMillis;
+        permits = new Semaphore(config.getParallelism());
+        executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("afs-upload-", 0).factory());
+        buffer = new byte[partSize];
+    }
+
+    private void checkNotClosed() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        checkNotClosed();
+        if (count == partSize) {
+            sendPart();
+        }
+        buffer[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        checkNotClosed();
+        int written = 0;
+        while (written < len) {
+            if (count == partSize) {
+                sendPart();
+            }
+            int n = Math.min(len - written, partSize - count);
+            System.arraycopy(b, off + written, buffer, count, n);
+            count += n;
+            written += n;
+        }
+    }
+
+    /**
+     * Sends the buffered part in background, waiting first for a part to be sent if the maximum number of parts are
+     * being sent.
+     */
+    private void sendPart() {
+        checkSentParts();
+        if (uploadId == null) {
+            uploadId = uploader.initiate();
+        }
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abort();
+            throw new UncheckedInterruptedException(e);
+        }
+        String partUploadId = uploadId;
+        int partNumber = partCount++;
+        byte[] data = buffer;
+        int length = count;
+        pendingParts.add(CompletableFuture.runAsync(() -> {
+            try {
+                uploadPart(partUploadId, partNumber, data, length);
+            } finally {
+                permits.release();
+            }
+        }, executor));
+        buffer = new byte[partSize];
+        count = 0;
+    }
+
+    private void uploadPart(String partUploadId, int partNumber, byte[] data, int length) {
+        retry(partUploadId, "sending part " + partNumber, () -> uploader.uploadPart(partUploadId, partNumber, data, length));
+    }
+
+    /**
+     * Sends a request of the upload again, with an exponential backoff, while the server cannot be reached or answers
+     * with a server error.
+     */
+    private void retry(String requestUploadId, String request, Runnable sender) {
+        int attempt = 1;
+        while (true) {
+            try {
+                sender.run();
+                return;
+            } catch (ProcessingException | ServerErrorException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                LOGGER.warn("Upload {}: {} failed (attempt {}/{}), retrying: {}", requestUploadId, request, attempt, maxAttempts, e.toString());
+                try {
+                    TimeUnit.MILLISECONDS.sleep(retryDelayMillis << (attempt - 1));
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new UncheckedInterruptedException(ex);
+                }
+                attempt++;
+            }
+        }
+    }
+
+    /**
+     * Fails as soon as a part could not be sent, instead of waiting for the stream to be closed.
+     */
+    private void checkSentParts() {
+        pendingParts.removeIf(part -> {
+            if (part.isDone()) {
+                awaitPart(part);
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private void awaitPart(CompletableFuture<Void> part) {
+        try {
+            part.get();
+        } catch (ExecutionException e) {
+            abort();
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new UncheckedExecutionException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abort();
+            throw new UncheckedInterruptedException(e);
+        }
+    }
+
+    private void abort() {
+        closed = true;
+        executor.shutdownNow();
+        if (uploadId != null) {
+            String abortedUploadId = uploadId;
+            uploadId = null;
+            try {
+                uploader.abort(abortedUploadId);
+            } catch (ProcessingException | AfsStorageException e) {
+                // the upload expires on server side anyway
+                LOGGER.warn("Upload {}: abort failed: {}", abortedUploadId, e.toString());
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (uploadId == null) {
+                uploader.upload(buffer, count);
+            } else {
+                if (count > 0) {
+                    sendPart();
+                }
+                for (CompletableFuture<Void> part : pendingParts) {
+                    awaitPart(part);
+                }
+                pendingParts.clear();
+                String committedUploadId = uploadId;
+                retry(committedUploadId, "commit", () -> uploader.commit(committedUploadId, partCount));
+            }
+        } finally {
+            executor.shutdown();
+            buffer = null;
+        }
+    }
+}
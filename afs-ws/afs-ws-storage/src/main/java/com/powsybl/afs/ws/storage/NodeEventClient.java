@@ -10,6 +10,7 @@ import com.powsybl.afs.storage.events.AppStorageListener;
 import com.powsybl.afs.storage.events.NodeEvent;
 import com.powsybl.afs.storage.events.NodeEventContainer;
 import com.powsybl.afs.storage.events.NodeEventList;
+import com.powsybl.afs.storage.events.NodeEventListContainer;
 import com.powsybl.afs.ws.storage.websocket.WebsocketConnectionManager;
 import com.powsybl.commons.util.WeakListenerList;
 import jakarta.websocket.*;
@@ -18,26 +19,71 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
+ * Events pushed by the client are buffered and sent to the server in one message per topic, on {@link #flush()}, once
+ * {@link #MAX_BATCH_SIZE} events are pending, or at the latest {@link #LINGER_MILLIS} ms after the first pending event,
+ * so that the server dispatches a bulk operation to its listeners at once.
+ * <p>
+ * A server older than 7.3.0 cannot decode these event lists, and closes the session with an unexpected condition
+ * error. If the session is closed this way after event lists have been sent, the client falls back to sending one
+ * message per event, which all servers accept, from the next session on. The events of the rejected lists are lost,
+ * as the other events sent while the session was closing.
+ *
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
  */
-@ClientEndpoint(decoders = {NodeEventListDecoder.class}, encoders = {NodeEventContainerEncoder.class})
+@ClientEndpoint(decoders = {NodeEventListDecoder.class}, encoders = {NodeEventListContainerEncoder.class, NodeEventContainerEncoder.class})
 public class NodeEventClient implements AutoCloseable {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(NodeEventClient.class);
 
+    static final int MAX_BATCH_SIZE = 1000;
+
+    static final long LINGER_MILLIS = 10;
+
+    private static final Executor LINGER_EXECUTOR = CompletableFuture.delayedExecutor(LINGER_MILLIS, TimeUnit.MILLISECONDS);
+
     private final WebsocketConnectionManager connectionManager;
     private final String fileSystemName;
     private final WeakListenerList<AppStorageListener> listeners;
+    private final Executor lingerExecutor;
 
     private Session session = null;
 
+    // events are buffered and sent under this lock, so that they are sent in push order
+    private final Lock lock = new ReentrantLock();
+
+    private List<NodeEventListContainer> pendingEvents = new ArrayList<>();
+
+    private int pendingEventCount = 0;
+
+    // whether the server accepts event lists, until it closes a session it has been sent event lists with an error
+    private volatile boolean eventListsAccepted = true;
+
+    // whether event lists have been sent in the current session
+    private volatile boolean eventListsSent = false;
+
     public NodeEventClient(WebsocketConnectionManager connectionManager, String fileSystemName, WeakListenerList<AppStorageListener> listeners) {
+        this(connectionManager, fileSystemName, listeners, LINGER_EXECUTOR);
+    }
+
+    /**
+     * @param lingerExecutor the executor sending the pending events if they are not flushed
+     */
+    NodeEventClient(WebsocketConnectionManager connectionManager, String fileSystemName, WeakListenerList<AppStorageListener> listeners,
+                    Executor lingerExecutor) {
         this.connectionManager = Objects.requireNonNull(connectionManager);
         this.fileSystemName = Objects.requireNonNull(fileSystemName);
         this.listeners = Objects.requireNonNull(listeners);
+        this.lingerExecutor = Objects.requireNonNull(lingerExecutor);
     }
 
     public void connect() {
@@ -45,20 +91,73 @@ public class NodeEventClient implements AutoCloseable {
     }
 
     public void pushEvent(NodeEvent event, String fileSystemName, String topic) {
-        if (session.isOpen()) {
-            RemoteEndpoint.Async remote = session.getAsyncRemote();
-            remote.setSendTimeout(1000);
-            remote.sendObject(new NodeEventContainer(event, fileSystemName, topic), result -> {
-                if (!result.isOK()) {
-                    LOGGER.error(result.getException().toString(), result.getException());
+        Objects.requireNonNull(event);
+        Objects.requireNonNull(fileSystemName);
+        Objects.requireNonNull(topic);
+        int count;
+        lock.lock();
+        try {
+            NodeEventListContainer last = pendingEvents.isEmpty() ? null : pendingEvents.get(pendingEvents.size() - 1);
+            if (last != null && last.getFileSystemName().equals(fileSystemName) && topic.equals(last.getNodeEventList().getTopic())) {
+                last.getNodeEventList().addEvent(event);
+            } else {
+                pendingEvents.add(new NodeEventListContainer(new NodeEventList(topic, event), fileSystemName));
+            }
+            count = ++pendingEventCount;
+        } finally {
+            lock.unlock();
+        }
+        if (count >= MAX_BATCH_SIZE) {
+            flush();
+        } else if (count == 1) {
+            lingerExecutor.execute(this::flush);
+        }
+    }
+
+    /**
+     * Sends the pending events to the server.
+     */
+    public void flush() {
+        lock.lock();
+        try {
+            if (pendingEvents.isEmpty()) {
+                return;
+            }
+            List<NodeEventListContainer> events = pendingEvents;
+            pendingEvents = new ArrayList<>();
+            pendingEventCount = 0;
+            if (session != null && session.isOpen()) {
+                RemoteEndpoint.Async remote = session.getAsyncRemote();
+                remote.setSendTimeout(1000);
+                for (NodeEventListContainer container : events) {
+                    if (eventListsAccepted) {
+                        eventListsSent = true;
+                        send(remote, container);
+                    } else {
+                        String topic = container.getNodeEventList().getTopic();
+                        for (NodeEvent event : container.getNodeEventList().getEvents()) {
+                            send(remote, new NodeEventContainer(event, container.getFileSystemName(), topic));
+                        }
+                    }
                 }
-            });
+            }
+        } finally {
+            lock.unlock();
         }
     }
 
+    private static void send(RemoteEndpoint.Async remote, Object message) {
+        remote.sendObject(message, result -> {
+            if (!result.isOK()) {
+                LOGGER.error(result.getException().toString(), result.getException());
+            }
+        });
+    }
+
     @OnOpen
     public void onOpen(Session session) {
         LOGGER.trace("Node event websocket session '{}' opened for file system '{}'", session.getId(), fileSystemName);
+        eventListsSent = false;
         this.session = session;
     }
 
@@ -82,14 +181,25 @@ public class NodeEventClient implements AutoCloseable {
     }
 
     @OnClose
-    public void onClose(Session session) {
-        LOGGER.trace("Node event websocket session '{}' closed for file system '{}'", session.getId(), fileSystemName);
+    public void onClose(Session session, CloseReason closeReason) {
+        LOGGER.trace("Node event websocket session '{}' closed for file system '{}': {}", session.getId(), fileSystemName, closeReason);
+        if (eventListsAccepted && eventListsSent && closeReason != null
+                && closeReason.getCloseCode().getCode() == CloseReason.CloseCodes.UNEXPECTED_CONDITION.getCode()) {
+            LOGGER.warn("Node event websocket session '{}' of file system '{}' closed by a server error after event lists were sent, "
+                    + "the server may be older than 7.3.0: falling back to single events", session.getId(), fileSystemName);
+            eventListsAccepted = false;
+        }
         connectionManager.onClose(session, this);
     }
 
+    boolean isEventListsAccepted() {
+        return eventListsAccepted;
+    }
+
     @Override
     public void close() {
-
+        // events pushed before closing are still sent
+        flush();
         try {
             //First close the connection manager, to ensure it does not try to reconnect
             connectionManager.close();
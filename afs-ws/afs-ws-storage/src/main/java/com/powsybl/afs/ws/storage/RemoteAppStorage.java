@@ -6,12 +6,15 @@
  */
 package com.powsybl.afs.ws.storage;
 
-import com.google.common.io.ByteStreams;
 import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.powsybl.afs.storage.AbstractAppStorage;
+import com.powsybl.afs.storage.AfsStorageException;
+import com.powsybl.afs.storage.AsyncAppStorage;
 import com.powsybl.afs.storage.NodeDependency;
 import com.powsybl.afs.storage.NodeGenericMetadata;
 import com.powsybl.afs.storage.NodeInfo;
+import com.powsybl.afs.storage.NodeQuery;
+import com.powsybl.afs.storage.TimeSeriesWindow;
 import com.powsybl.afs.storage.buffer.StorageChangeBuffer;
 import com.powsybl.afs.storage.check.FileSystemCheckIssue;
 import com.powsybl.afs.storage.check.FileSystemCheckOptions;
@@ -19,6 +22,7 @@ import com.powsybl.afs.ws.client.utils.ClientUtils;
 import com.powsybl.afs.ws.storage.websocket.WebsocketConnectionPolicy;
 import com.powsybl.afs.ws.utils.AfsRestApi;
 import com.powsybl.afs.ws.utils.JsonProvider;
+import com.powsybl.afs.ws.utils.NodeInfoBinaryProvider;
 import com.powsybl.afs.ws.utils.gzip.ReaderInterceptorGzip;
 import com.powsybl.afs.ws.utils.gzip.WriterInterceptorGzipCli;
 import com.powsybl.commons.exceptions.UncheckedInterruptedException;
@@ -31,6 +35,7 @@ import com.powsybl.timeseries.TimeSeriesVersions;
 import jakarta.ws.rs.client.AsyncInvoker;
 import jakarta.ws.rs.client.Client;
 import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.client.Invocation;
 import jakarta.ws.rs.client.WebTarget;
 import jakarta.ws.rs.core.*;
 import org.slf4j.Logger;
@@ -41,7 +46,11 @@ import java.net.URI;
 import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
 
 import static com.powsybl.afs.ws.client.utils.ClientUtils.checkOk;
 import static com.powsybl.afs.ws.client.utils.ClientUtils.readEntityIfOk;
@@ -57,10 +66,29 @@ public class RemoteAppStorage extends AbstractAppStorage {
 
     private static final int BUFFER_MAXIMUM_CHANGE = 1000;
     private static final long BUFFER_MAXIMUM_SIZE = Math.round(Math.pow(2, 20)); // 1Mo
-    private static final String FILE_SYSTEM_NAME = "fileSystemName";
-    private static final String NODE_ID = "nodeId";
-    private static final String VERSION = "version";
-    private static final String NODE_DATA_PATH = "fileSystems/{fileSystemName}/nodes/{nodeId}/data/{name}";
+    static final String FILE_SYSTEM_NAME = "fileSystemName";
+    static final String NODE_ID = "nodeId";
+    static final String VERSION = "version";
+    static final String FIRST_INDEX = "firstIndex";
+    static final String LAST_INDEX = "lastIndex";
+    static final String NODE_DATA_PATH = "fileSystems/{fileSystemName}/nodes/{nodeId}/data/{name}";
+    static final String NODE_DATA_UPLOADS_PATH = NODE_DATA_PATH + "/uploads";
+    static final String NODE_DATA_UPLOAD_PATH = NODE_DATA_UPLOADS_PATH + "/{uploadId}";
+
+    /**
+     * Node lists are received in the compact binary format, or in JSON from the servers not supporting it.
+     */
+    static final MediaType[] NODE_INFO_LIST_TYPES = {NodeInfoBinaryProvider.MEDIA_TYPE, new MediaType("application", "json", Map.of("q", "0.9"))};
+
+    /**
+     * Maximum number of node infos kept for revalidation, in the node and child node caches.
+     */
+    static final long MAX_CACHED_NODE_INFOS = 100_000;
+
+    /**
+     * Maximum size in bytes of the binary data kept for revalidation.
+     */
+    static final long MAX_CACHED_DATA_SIZE = 32L * 1024 * 1024;
 
     private final Client client;
 
@@ -72,6 +100,15 @@ public class RemoteAppStorage extends AbstractAppStorage {
 
     private final String token;
 
+    private ChunkedUploadConfig chunkedUploadConfig;
+
+    private final ValidatedCache<NodeInfo> nodeInfoCache = new ValidatedCache<>(MAX_CACHED_NODE_INFOS, nodeInfo -> 1, RemoteAppStorage::copy);
+
+    private final ValidatedCache<List<NodeInfo>> childNodesCache = new ValidatedCache<>(MAX_CACHED_NODE_INFOS, childNodes -> childNodes.size() + 1,
+        childNodes -> childNodes.stream().map(RemoteAppStorage::copy).collect(Collectors.toCollection(ArrayList::new)));
+
+    private final ValidatedCache<byte[]> dataCache = new ValidatedCache<>(MAX_CACHED_DATA_SIZE, data -> data.length, UnaryOperator.identity());
+
     private boolean closed = false;
 
     public RemoteAppStorage(String fileSystemName, URI baseUri) {
@@ -110,7 +147,39 @@ public class RemoteAppStorage extends AbstractAppStorage {
 
     static Client createClient() {
         return ClientUtils.createClient()
-                .register(new JsonProvider());
+                .register(new JsonProvider())
+                .register(new NodeInfoBinaryProvider());
+    }
+
+    private static NodeInfo copy(NodeInfo nodeInfo) {
+        NodeGenericMetadata metadata = nodeInfo.getGenericMetadata();
+        return new NodeInfo(nodeInfo.getId(), nodeInfo.getName(), nodeInfo.getPseudoClass(), nodeInfo.getDescription(),
+                nodeInfo.getCreationTime(), nodeInfo.getModificationTime(), nodeInfo.getVersion(),
+                new NodeGenericMetadata(new HashMap<>(metadata.getStrings()), new HashMap<>(metadata.getDoubles()),
+                        new HashMap<>(metadata.getInts()), new HashMap<>(metadata.getBooleans())));
+    }
+
+    /**
+     * Sends a request conditional to the entity tag of the cached response, if any, and returns the cached response if
+     * the server answers it has not been modified.
+     */
+    private static <T> T getValidated(ValidatedCache<T> cache, String key, Invocation.Builder request, Function<Response, T> reader) {
+        ValidatedCache.Entry<T> cached = cache.get(key);
+        if (cached != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, cached.tag());
+        }
+        try (Response response = request.get()) {
+            if (cached != null && response.getStatus() == Response.Status.NOT_MODIFIED.getStatusCode()) {
+                return cached.value();
+            }
+            cache.invalidate(key);
+            T value = reader.apply(response);
+            String tag = response.getHeaderString(HttpHeaders.ETAG);
+            if (tag != null) {
+                cache.put(key, tag, value);
+            }
+            return value;
+        }
     }
 
     static WebTarget getWebTarget(Client client, URI baseUri) {
@@ -130,6 +199,36 @@ public class RemoteAppStorage extends AbstractAppStorage {
         return true;
     }
 
+    WebTarget getWebTarget() {
+        return webTarget;
+    }
+
+    String getToken() {
+        return token;
+    }
+
+    public Optional<ChunkedUploadConfig> getChunkedUploadConfig() {
+        return Optional.ofNullable(chunkedUploadConfig);
+    }
+
+    /**
+     * Enables the upload of binary data in several parts sent concurrently, which requires a server supporting it. If
+     * {@code null}, binary data is streamed to the server in a single request, the default.
+     */
+    public RemoteAppStorage setChunkedUploadConfig(ChunkedUploadConfig chunkedUploadConfig) {
+        this.chunkedUploadConfig = chunkedUploadConfig;
+        return this;
+    }
+
+    /**
+     * Reads are sent with the reactive API of the client, without blocking the calling thread. Other operations are run
+     * on {@code executor}, as they have to be ordered with the buffered changes.
+     */
+    @Override
+    public AsyncAppStorage async(Executor executor) {
+        return new RemoteAsyncAppStorage(this, executor);
+    }
+
     public static List<String> getFileSystemNames(URI baseUri, String token) {
         try (Client client = createClient()) {
             try (Response response = getWebTarget(client, baseUri)
@@ -343,10 +442,46 @@ public class RemoteAppStorage extends AbstractAppStorage {
 
         LOGGER.debug("getChildNodes(fileSystemName={}, nodeId={})", fileSystemName, nodeId);
 
-        try (Response response = webTarget.path("fileSystems/{fileSystemName}/nodes/{nodeId}/children")
+        Invocation.Builder request = webTarget.path("fileSystems/{fileSystemName}/nodes/{nodeId}/children")
             .resolveTemplate(FILE_SYSTEM_NAME, fileSystemName)
             .resolveTemplate(NODE_ID, nodeId)
-            .request(MediaType.APPLICATION_JSON)
+            .request(NODE_INFO_LIST_TYPES)
+            .header(HttpHeaders.AUTHORIZATION, token);
+        return getValidated(childNodesCache, nodeId, request, response -> readEntityIfOk(response, new GenericType<>() {
+        }));
+    }
+
+    @Override
+    public List<NodeInfo> findNodes(String nodeId, NodeQuery query) {
+        Objects.requireNonNull(nodeId);
+        Objects.requireNonNull(query);
+
+        LOGGER.debug("findNodes(fileSystemName={}, nodeId={}, query={})", fileSystemName, nodeId, query);
+
+        try (Response response = webTarget.path("fileSystems/{fileSystemName}/nodes/{nodeId}/find")
+            .resolveTemplate(FILE_SYSTEM_NAME, fileSystemName)
+            .resolveTemplate(NODE_ID, nodeId)
+            .request(NODE_INFO_LIST_TYPES)
+            .header(HttpHeaders.AUTHORIZATION, token)
+            .post(Entity.json(query))) {
+            return readEntityIfOk(response, new GenericType<>() {
+            });
+        }
+    }
+
+    @Override
+    public List<NodeInfo> searchNodes(String query, int limit) {
+        Objects.requireNonNull(query);
+
+        LOGGER.debug("searchNodes(fileSystemName={}, query={}, limit={})", fileSystemName, query, limit);
+
+        try (Response response = webTarget.path("fileSystems/{fileSystemName}/search")
+            .queryParam("query", "{query}")
+            .queryParam("limit", limit)
+            .resolveTemplate(FILE_SYSTEM_NAME, fileSystemName)
+            // resolved as a template so that it is encoded whatever its characters
+            .resolveTemplate("query", query)
+            .request(NODE_INFO_LIST_TYPES)
             .header(HttpHeaders.AUTHORIZATION, token)
             .get()) {
             return readEntityIfOk(response, new GenericType<>() {
@@ -360,7 +495,7 @@ public class RemoteAppStorage extends AbstractAppStorage {
 
         try (Response response = webTarget.path("fileSystems/{fileSystemName}/inconsistentChildNodes")
             .resolveTemplate(FILE_SYSTEM_NAME, fileSystemName)
-            .request(MediaType.APPLICATION_JSON)
+            .request(NODE_INFO_LIST_TYPES)
             .header(HttpHeaders.AUTHORIZATION, token)
             .get()) {
             return readEntityIfOk(response, new GenericType<>() {
@@ -443,24 +578,18 @@ public class RemoteAppStorage extends AbstractAppStorage {
         }
     }
 
-    private static class OutputStreamPutRequest extends ForwardingOutputStream<PipedOutputStream> {
+    private static class OutputStreamPutRequest extends ForwardingOutputStream<BytePipe> {
 
         private final Future<Response> response;
 
         OutputStreamPutRequest(AsyncInvoker asyncInvoker) {
-            super(new PipedOutputStream());
+            super(new BytePipe());
             Objects.requireNonNull(asyncInvoker);
 
-            PipedInputStream pis;
-            try {
-                pis = new PipedInputStream(os);
-            } catch (IOException e) {
-                throw new UncheckedIOException(e);
-            }
-
-            StreamingOutput output = os -> ByteStreams.copy(pis, os);
+            StreamingOutput output = os::drainTo;
 
             response = asyncInvoker.put(Entity.entity(output, MediaType.APPLICATION_OCTET_STREAM));
+            os.setReader(response);
         }
 
         @Override
@@ -479,6 +608,107 @@ public class RemoteAppStorage extends AbstractAppStorage {
         }
     }
 
+    /**
+     * Requests of the binary data upload protocol of the server.
+     */
+    private final class BinaryDataUploader implements ChunkedUploadOutputStream.Uploader {
+
+        private final String nodeId;
+
+        private final String name;
+
+        private BinaryDataUploader(String nodeId, String name) {
+            this.nodeId = nodeId;
+            this.name = name;
+        }
+
+        private WebTarget target(String path) {
+            return webTarget.path(path)
+                    .resolveTemplate(FILE_SYSTEM_NAME, fileSystemName)
+                    .resolveTemplate(NODE_ID, nodeId)
+                    .resolveTemplate("name", name);
+        }
+
+        private static Entity<InputStream> entity(byte[] data, int length) {
+            return Entity.entity(new ByteArrayInputStream(data, 0, length), MediaType.APPLICATION_OCTET_STREAM);
+        }
+
+        @Override
+        public void upload(byte[] data, int length) {
+            try (Response response = target(NODE_DATA_PATH)
+                .request()
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .acceptEncoding("gzip")
+                .put(entity(data, length))) {
+                checkOk(response);
+            }
+        }
+
+        @Override
+        public String initiate() {
+            try (Response response = target(NODE_DATA_UPLOADS_PATH)
+                .request(MediaType.TEXT_PLAIN)
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .post(Entity.text(""))) {
+                return readEntityIfOk(response, String.class);
+            }
+        }
+
+        @Override
+        public void uploadPart(String uploadId, int partNumber, byte[] data, int length) {
+            LOGGER.debug("uploadPart(fileSystemName={}, nodeId={}, name={}, uploadId={}, partNumber={})", fileSystemName, nodeId, name, uploadId, partNumber);
+            try (Response response = target(NODE_DATA_UPLOAD_PATH + "/parts/{partNumber}")
+                .resolveTemplate("uploadId", uploadId)
+                .resolveTemplate("partNumber", partNumber)
+                .request()
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .acceptEncoding("gzip")
+                .put(entity(data, length))) {
+                checkPartOk(response);
+            }
+        }
+
+        /**
+         * Server errors, for instance a storage or a proxy temporarily unavailable, are told apart so that the part
+         * is sent again, while rejected requests are not.
+         */
+        private static void checkPartOk(Response response) {
+            try {
+                checkOk(response);
+            } catch (AfsStorageException e) {
+                if (response.getStatusInfo().getFamily() == Response.Status.Family.SERVER_ERROR) {
+                    throw new ChunkedUploadOutputStream.ServerErrorException("Server error " + response.getStatus() + ": " + e.getMessage(), e);
+                }
+                throw e;
+            }
+        }
+
+        @Override
+        public void commit(String uploadId, int partCount) {
+            try (Response response = target(NODE_DATA_UPLOAD_PATH)
+                .resolveTemplate("uploadId", uploadId)
+                .queryParam("partCount", partCount)
+                .request()
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .post(Entity.text(""))) {
+                checkOk(response);
+            }
+        }
+
+        @Override
+        public void abort(String uploadId) {
+            try (Response response = target(NODE_DATA_UPLOAD_PATH)
+                .resolveTemplate("uploadId", uploadId)
+                .request()
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .delete()) {
+                checkOk(response);
+            }
+        }
+    }
+
     @Override
     public Optional<InputStream> readBinaryData(String nodeId, String name) {
         Objects.requireNonNull(nodeId);
@@ -486,13 +716,34 @@ public class RemoteAppStorage extends AbstractAppStorage {
 
         LOGGER.debug("readBinaryData(fileSystemName={}, nodeId={}, name={})", fileSystemName, nodeId, name);
 
-        Response response = webTarget.path(NODE_DATA_PATH)
+        String key = nodeId + "/" + name;
+        ValidatedCache.Entry<byte[]> cached = dataCache.get(key);
+        Invocation.Builder request = webTarget.path(NODE_DATA_PATH)
                 .resolveTemplate(FILE_SYSTEM_NAME, fileSystemName)
                 .resolveTemplate(NODE_ID, nodeId)
                 .resolveTemplate("name", name)
                 .request(MediaType.APPLICATION_OCTET_STREAM)
                 .header(HttpHeaders.AUTHORIZATION, token)
-                .get();
+                // storages keeping data compressed send it as stored
+                .acceptEncoding("gzip");
+        if (cached != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, cached.tag());
+        }
+        Response response = request.get();
+        if (cached != null && response.getStatus() == Response.Status.NOT_MODIFIED.getStatusCode()) {
+            response.close();
+            return Optional.of(new ByteArrayInputStream(cached.value()));
+        }
+        dataCache.invalidate(key);
+        // only small data is sent with an entity tag, it is read to be cached
+        String tag = response.getHeaderString(HttpHeaders.ETAG);
+        if (tag != null && response.getStatus() == Response.Status.OK.getStatusCode()) {
+            try (response) {
+                byte[] data = readEntityIfOk(response, byte[].class);
+                dataCache.put(key, tag, data);
+                return Optional.of(new ByteArrayInputStream(data));
+            }
+        }
         return readOptionalEntityIfOk(response, InputStream.class)
                 .map(is -> new ForwardingInputStream<>(is) {
                     @Override
@@ -514,6 +765,10 @@ public class RemoteAppStorage extends AbstractAppStorage {
 
         LOGGER.debug("writeBinaryData(fileSystemName={}, nodeId={}, name={})", fileSystemName, nodeId, name);
 
+        if (chunkedUploadConfig != null) {
+            return new ChunkedUploadOutputStream(new BinaryDataUploader(nodeId, name), chunkedUploadConfig);
+        }
+
         AsyncInvoker asyncInvoker = webTarget.path(NODE_DATA_PATH)
                 .resolveTemplate(FILE_SYSTEM_NAME, fileSystemName)
                 .resolveTemplate(NODE_ID, nodeId)
@@ -616,7 +871,7 @@ public class RemoteAppStorage extends AbstractAppStorage {
             .resolveTemplate(FILE_SYSTEM_NAME, fileSystemName)
             .resolveTemplate(NODE_ID, nodeId)
             .resolveTemplate("name", name)
-            .request(MediaType.APPLICATION_JSON)
+            .request(NODE_INFO_LIST_TYPES)
             .header(HttpHeaders.AUTHORIZATION, token)
             .get()) {
             return readEntityIfOk(response, new GenericType<>() {
@@ -633,7 +888,7 @@ public class RemoteAppStorage extends AbstractAppStorage {
         try (Response response = webTarget.path("fileSystems/{fileSystemName}/nodes/{nodeId}/dependencies")
             .resolveTemplate(FILE_SYSTEM_NAME, fileSystemName)
             .resolveTemplate(NODE_ID, nodeId)
-            .request(MediaType.APPLICATION_JSON)
+            .request(NODE_INFO_LIST_TYPES)
             .header(HttpHeaders.AUTHORIZATION, token)
             .get()) {
             return readEntityIfOk(response, new GenericType<>() {
@@ -650,7 +905,7 @@ public class RemoteAppStorage extends AbstractAppStorage {
         try (Response response = webTarget.path("fileSystems/{fileSystemName}/nodes/{nodeId}/backwardDependencies")
             .resolveTemplate(FILE_SYSTEM_NAME, fileSystemName)
             .resolveTemplate(NODE_ID, nodeId)
-            .request(MediaType.APPLICATION_JSON)
+            .request(NODE_INFO_LIST_TYPES)
             .header(HttpHeaders.AUTHORIZATION, token)
             .get()) {
             return readEntityIfOk(response, new GenericType<>() {
@@ -799,20 +1054,36 @@ public class RemoteAppStorage extends AbstractAppStorage {
 
     @Override
     public Map<String, List<DoubleDataChunk>> getDoubleTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version) {
+        return getDoubleTimeSeriesData(nodeId, timeSeriesNames, version, null, null);
+    }
+
+    @Override
+    public Map<String, List<DoubleDataChunk>> getDoubleTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version, TimeSeriesWindow window) {
+        Objects.requireNonNull(window);
+        return getDoubleTimeSeriesData(nodeId, timeSeriesNames, version, window.getFirstIndex(), window.getLastIndex());
+    }
+
+    private Map<String, List<DoubleDataChunk>> getDoubleTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version,
+                                                                  Integer firstIndex, Integer lastIndex) {
         Objects.requireNonNull(nodeId);
         Objects.requireNonNull(timeSeriesNames);
         TimeSeriesVersions.check(version);
 
         if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug("getDoubleTimeSeriesData(fileSystemName={}, nodeId={}, timeSeriesNames={}, version={})",
-                    fileSystemName, nodeId, timeSeriesNames, version);
+            LOGGER.debug("getDoubleTimeSeriesData(fileSystemName={}, nodeId={}, timeSeriesNames={}, version={}, firstIndex={}, lastIndex={})",
+                    fileSystemName, nodeId, timeSeriesNames, version, firstIndex, lastIndex);
         }
 
-        try (Response response = webTarget.path("fileSystems/{fileSystemName}/nodes/{nodeId}/timeSeries/double/{version}")
+        WebTarget target = webTarget.path("fileSystems/{fileSystemName}/nodes/{nodeId}/timeSeries/double/{version}")
             .resolveTemplate(FILE_SYSTEM_NAME, fileSystemName)
             .resolveTemplate(NODE_ID, nodeId)
-            .resolveTemplate(VERSION, version)
-            .request()
+            .resolveTemplate(VERSION, version);
+        if (firstIndex != null) {
+            // the window is applied by the server so that only its points are transferred
+            target = target.queryParam(FIRST_INDEX, firstIndex)
+                .queryParam(LAST_INDEX, lastIndex);
+        }
+        try (Response response = target.request()
             .header(HttpHeaders.AUTHORIZATION, token)
             .post(Entity.json(timeSeriesNames))) {
             return readEntityIfOk(response, new GenericType<>() {
@@ -837,20 +1108,36 @@ public class RemoteAppStorage extends AbstractAppStorage {
 
     @Override
     public Map<String, List<StringDataChunk>> getStringTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version) {
+        return getStringTimeSeriesData(nodeId, timeSeriesNames, version, null, null);
+    }
+
+    @Override
+    public Map<String, List<StringDataChunk>> getStringTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version, TimeSeriesWindow window) {
+        Objects.requireNonNull(window);
+        return getStringTimeSeriesData(nodeId, timeSeriesNames, version, window.getFirstIndex(), window.getLastIndex());
+    }
+
+    private Map<String, List<StringDataChunk>> getStringTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version,
+                                                                  Integer firstIndex, Integer lastIndex) {
         Objects.requireNonNull(nodeId);
         Objects.requireNonNull(timeSeriesNames);
         TimeSeriesVersions.check(version);
 
         if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug("getStringTimeSeriesData(fileSystemName={}, nodeId={}, timeSeriesNames={}, version={})",
-                    fileSystemName, nodeId, timeSeriesNames, version);
+            LOGGER.debug("getStringTimeSeriesData(fileSystemName={}, nodeId={}, timeSeriesNames={}, version={}, firstIndex={}, lastIndex={})",
+                    fileSystemName, nodeId, timeSeriesNames, version, firstIndex, lastIndex);
         }
 
-        try (Response response = webTarget.path("fileSystems/{fileSystemName}/nodes/{nodeId}/timeSeries/string/{version}")
+        WebTarget target = webTarget.path("fileSystems/{fileSystemName}/nodes/{nodeId}/timeSeries/string/{version}")
             .resolveTemplate(FILE_SYSTEM_NAME, fileSystemName)
             .resolveTemplate(NODE_ID, nodeId)
-            .resolveTemplate(VERSION, version)
-            .request()
+            .resolveTemplate(VERSION, version);
+        if (firstIndex != null) {
+            // the window is applied by the server so that only its points are transferred
+            target = target.queryParam(FIRST_INDEX, firstIndex)
+                .queryParam(LAST_INDEX, lastIndex);
+        }
+        try (Response response = target.request()
             .header(HttpHeaders.AUTHORIZATION, token)
             .post(Entity.json(timeSeriesNames))) {
             return readEntityIfOk(response, new GenericType<>() {
@@ -883,14 +1170,12 @@ public class RemoteAppStorage extends AbstractAppStorage {
 
         LOGGER.debug("getNodeInfo(fileSystemName={}, nodeId={})", fileSystemName, nodeId);
 
-        try (Response response = webTarget.path("fileSystems/{fileSystemName}/nodes/{nodeId}")
+        Invocation.Builder request = webTarget.path("fileSystems/{fileSystemName}/nodes/{nodeId}")
             .resolveTemplate(FILE_SYSTEM_NAME, fileSystemName)
             .resolveTemplate(NODE_ID, nodeId)
             .request(MediaType.APPLICATION_JSON)
-            .header(HttpHeaders.AUTHORIZATION, token)
-            .get()) {
-            return readEntityIfOk(response, NodeInfo.class);
-        }
+            .header(HttpHeaders.AUTHORIZATION, token);
+        return getValidated(nodeInfoCache, nodeId, request, response -> readEntityIfOk(response, NodeInfo.class));
     }
 
     @Override
@@ -940,6 +1225,9 @@ public class RemoteAppStorage extends AbstractAppStorage {
             flush();
             eventsBus.close();
             client.close();
+            nodeInfoCache.invalidateAll();
+            childNodesCache.invalidateAll();
+            dataCache.invalidateAll();
             closed = true;
         }
     }
@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.ws.storage;
+
+import com.powsybl.afs.storage.ExecutorAsyncAppStorage;
+import com.powsybl.afs.storage.NodeDependency;
+import com.powsybl.afs.storage.NodeInfo;
+import com.powsybl.afs.storage.TimeSeriesWindow;
+import com.powsybl.timeseries.DoubleDataChunk;
+import com.powsybl.timeseries.StringDataChunk;
+import com.powsybl.timeseries.TimeSeriesMetadata;
+import com.powsybl.timeseries.TimeSeriesVersions;
+import jakarta.ws.rs.client.CompletionStageRxInvoker;
+import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.GenericType;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+import static com.powsybl.afs.ws.client.utils.ClientUtils.readEntityIfOk;
+import static com.powsybl.afs.ws.client.utils.ClientUtils.readOptionalEntityIfOk;
+import static com.powsybl.afs.ws.storage.RemoteAppStorage.FILE_SYSTEM_NAME;
+import static com.powsybl.afs.ws.storage.RemoteAppStorage.FIRST_INDEX;
+import static com.powsybl.afs.ws.storage.RemoteAppStorage.LAST_INDEX;
+import static com.powsybl.afs.ws.storage.RemoteAppStorage.NODE_DATA_PATH;
+import static com.powsybl.afs.ws.storage.RemoteAppStorage.NODE_ID;
+import static com.powsybl.afs.ws.storage.RemoteAppStorage.VERSION;
+
+/**
+ * Asynchronous view of a remote storage: reads are sent with the reactive API of the client, other operations, which
+ * have to be ordered with the buffered changes, are run on the executor.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+final class RemoteAsyncAppStorage extends ExecutorAsyncAppStorage {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RemoteAsyncAppStorage.class);
+
+    private final RemoteAppStorage remoteStorage;
+
+    RemoteAsyncAppStorage(RemoteAppStorage storage, Executor executor) {
+        super(storage, executor);
+        this.remoteStorage = storage;
+    }
+
+    private WebTarget nodeTarget(String path, String nodeId) {
+        Objects.requireNonNull(nodeId);
+        return remoteStorage.getWebTarget().path(path)
+            .resolveTemplate(FILE_SYSTEM_NAME, remoteStorage.getFileSystemName())
+            .resolveTemplate(NODE_ID, nodeId);
+    }
+
+    private CompletionStageRxInvoker rx(WebTarget target, MediaType... mediaTypes) {
+        LOGGER.debug("{} [ASYNC]", target.getUri());
+        return target.request(mediaTypes)
+            .header(HttpHeaders.AUTHORIZATION, remoteStorage.getToken())
+            .rx();
+    }
+
+    private static <T> T readEntity(Response response, GenericType<T> entityType) {
+        try (response) {
+            return readEntityIfOk(response, entityType);
+        }
+    }
+
+    private static <T> T readEntity(Response response, Class<T> entityType) {
+        try (response) {
+            return readEntityIfOk(response, entityType);
+        }
+    }
+
+    private static Optional<NodeInfo> readOptionalNodeInfo(Response response) {
+        try (response) {
+            return readOptionalEntityIfOk(response, NodeInfo.class);
+        }
+    }
+
+    @Override
+    public CompletionStage<Boolean> isWritable(String nodeId) {
+        return start(() -> rx(nodeTarget("fileSystems/{fileSystemName}/nodes/{nodeId}/writable", nodeId), MediaType.TEXT_PLAIN_TYPE).get()
+            .thenApply(response -> readEntity(response, Boolean.class)));
+    }
+
+    @Override
+    public CompletionStage<Boolean> isConsistent(String nodeId) {
+        return start(() -> rx(nodeTarget("fileSystems/{fileSystemName}/nodes/{nodeId}/consistent", nodeId), MediaType.TEXT_PLAIN_TYPE).get()
+            .thenApply(response -> readEntity(response, Boolean.class)));
+    }
+
+    @Override
+    public CompletionStage<NodeInfo> getNodeInfo(String nodeId) {
+        return start(() -> rx(nodeTarget("fileSystems/{fileSystemName}/nodes/{nodeId}", nodeId), MediaType.APPLICATION_JSON_TYPE).get()
+            .thenApply(response -> readEntity(response, NodeInfo.class)));
+    }
+
+    @Override
+    public CompletionStage<List<NodeInfo>> getChildNodes(String nodeId) {
+        return start(() -> rx(nodeTarget("fileSystems/{fileSystemName}/nodes/{nodeId}/children", nodeId), RemoteAppStorage.NODE_INFO_LIST_TYPES).get()
+            .thenApply(response -> readEntity(response, new GenericType<>() {
+            })));
+    }
+
+    @Override
+    public CompletionStage<Optional<NodeInfo>> getChildNode(String nodeId, String name) {
+        return start(() -> {
+            Objects.requireNonNull(name);
+            WebTarget target = nodeTarget("fileSystems/{fileSystemName}/nodes/{nodeId}/children/{childName}", nodeId)
+                .resolveTemplate("childName", name);
+            return rx(target, MediaType.APPLICATION_JSON_TYPE).get()
+                .thenApply(RemoteAsyncAppStorage::readOptionalNodeInfo);
+        });
+    }
+
+    @Override
+    public CompletionStage<Optional<NodeInfo>> getParentNode(String nodeId) {
+        return start(() -> rx(nodeTarget("fileSystems/{fileSystemName}/nodes/{nodeId}/parent", nodeId), MediaType.APPLICATION_JSON_TYPE).get()
+            .thenApply(RemoteAsyncAppStorage::readOptionalNodeInfo));
+    }
+
+    @Override
+    public CompletionStage<Boolean> dataExists(String nodeId, String name) {
+        return start(() -> {
+            Objects.requireNonNull(name);
+            WebTarget target = nodeTarget(NODE_DATA_PATH, nodeId).resolveTemplate("name", name);
+            return rx(target, MediaType.TEXT_PLAIN_TYPE).get()
+                .thenApply(response -> readEntity(response, Boolean.class));
+        });
+    }
+
+    @Override
+    public CompletionStage<Set<String>> getDataNames(String nodeId) {
+        return start(() -> rx(nodeTarget("fileSystems/{fileSystemName}/nodes/{nodeId}/data", nodeId), MediaType.APPLICATION_JSON_TYPE).get()
+            .thenApply(response -> readEntity(response, new GenericType<>() {
+            })));
+    }
+
+    @Override
+    public CompletionStage<Set<String>> getTimeSeriesNames(String nodeId) {
+        return start(() -> rx(nodeTarget("fileSystems/{fileSystemName}/nodes/{nodeId}/timeSeries/name", nodeId), MediaType.APPLICATION_JSON_TYPE).get()
+            .thenApply(response -> readEntity(response, new GenericType<>() {
+            })));
+    }
+
+    @Override
+    public CompletionStage<Boolean> timeSeriesExists(String nodeId, String timeSeriesName) {
+        return start(() -> {
+            Objects.requireNonNull(timeSeriesName);
+            WebTarget target = nodeTarget("fileSystems/{fileSystemName}/nodes/{nodeId}/timeSeries/{timeSeriesName}", nodeId)
+                .resolveTemplate("timeSeriesName", timeSeriesName);
+            return rx(target, MediaType.TEXT_PLAIN_TYPE).get()
+                .thenApply(response -> readEntity(response, Boolean.class));
+        });
+    }
+
+    @Override
+    public CompletionStage<List<TimeSeriesMetadata>> getTimeSeriesMetadata(String nodeId, Set<String> timeSeriesNames) {
+        return start(() -> {
+            Objects.requireNonNull(timeSeriesNames);
+            return rx(nodeTarget("fileSystems/{fileSystemName}/nodes/{nodeId}/timeSeries/metadata", nodeId), MediaType.APPLICATION_JSON_TYPE)
+                .post(Entity.json(timeSeriesNames))
+                .thenApply(response -> readEntity(response, new GenericType<>() {
+                }));
+        });
+    }
+
+    @Override
+    public CompletionStage<Set<Integer>> getTimeSeriesDataVersions(String nodeId) {
+        return start(() -> rx(nodeTarget("fileSystems/{fileSystemName}/nodes/{nodeId}/timeSeries/versions", nodeId), MediaType.APPLICATION_JSON_TYPE).get()
+            .thenApply(response -> readEntity(response, new GenericType<>() {
+            })));
+    }
+
+    @Override
+    public CompletionStage<Set<Integer>> getTimeSeriesDataVersions(String nodeId, String timeSeriesName) {
+        return start(() -> {
+            Objects.requireNonNull(timeSeriesName);
+            WebTarget target = nodeTarget("fileSystems/{fileSystemName}/nodes/{nodeId}/timeSeries/{timeSeriesName}/versions", nodeId)
+                .resolveTemplate("timeSeriesName", timeSeriesName);
+            return rx(target, MediaType.APPLICATION_JSON_TYPE).get()
+                .thenApply(response -> readEntity(response, new GenericType<>() {
+                }));
+        });
+    }
+
+    private WebTarget timeSeriesDataTarget(String type, String nodeId, Set<String> timeSeriesNames, int version, TimeSeriesWindow window) {
+        Objects.requireNonNull(timeSeriesNames);
+        TimeSeriesVersions.check(version);
+        WebTarget target = nodeTarget("fileSystems/{fileSystemName}/nodes/{nodeId}/timeSeries/" + type + "/{version}", nodeId)
+            .resolveTemplate(VERSION, version);
+        if (window != null) {
+            // the window is applied by the server so that only its points are transferred
+            target = target.queryParam(FIRST_INDEX, window.getFirstIndex())
+                .queryParam(LAST_INDEX, window.getLastIndex());
+        }
+        return target;
+    }
+
+    @Override
+    public CompletionStage<Map<String, List<DoubleDataChunk>>> getDoubleTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version) {
+        return readDoubleTimeSeriesData(nodeId, timeSeriesNames, version, null);
+    }
+
+    @Override
+    public CompletionStage<Map<String, List<DoubleDataChunk>>> getDoubleTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version,
+                                                                                       TimeSeriesWindow window) {
+        return start(() -> readDoubleTimeSeriesData(nodeId, timeSeriesNames, version, Objects.requireNonNull(window)));
+    }
+
+    private CompletionStage<Map<String, List<DoubleDataChunk>>> readDoubleTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version,
+                                                                                         TimeSeriesWindow window) {
+        return start(() -> rx(timeSeriesDataTarget("double", nodeId, timeSeriesNames, version, window), MediaType.APPLICATION_JSON_TYPE)
+            .post(Entity.json(timeSeriesNames))
+            .thenApply(response -> readEntity(response, new GenericType<>() {
+            })));
+    }
+
+    @Override
+    public CompletionStage<Map<String, List<StringDataChunk>>> getStringTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version) {
+        return readStringTimeSeriesData(nodeId, timeSeriesNames, version, null);
+    }
+
+    @Override
+    public CompletionStage<Map<String, List<StringDataChunk>>> getStringTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version,
+                                                                                       TimeSeriesWindow window) {
+        return start(() -> readStringTimeSeriesData(nodeId, timeSeriesNames, version, Objects.requireNonNull(window)));
+    }
+
+    private CompletionStage<Map<String, List<StringDataChunk>>> readStringTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version,
+                                                                                         TimeSeriesWindow window) {
+        return start(() -> rx(timeSeriesDataTarget("string", nodeId, timeSeriesNames, version, window), MediaType.APPLICATION_JSON_TYPE)
+            .post(Entity.json(timeSeriesNames))
+            .thenApply(response -> readEntity(response, new GenericType<>() {
+            })));
+    }
+
+    @Override
+    public CompletionStage<Set<NodeInfo>> getDependencies(String nodeId, String name) {
+        return start(() -> {
+            Objects.requireNonNull(name);
+            WebTarget target = nodeTarget("fileSystems/{fileSystemName}/nodes/{nodeId}/dependencies/{name}", nodeId)
+                .resolveTemplate("name", name);
+            return rx(target, RemoteAppStorage.NODE_INFO_LIST_TYPES).get()
+                .thenApply(response -> readEntity(response, new GenericType<>() {
+                }));
+        });
+    }
+
+    @Override
+    public CompletionStage<Set<NodeDependency>> getDependencies(String nodeId) {
+        return start(() -> rx(nodeTarget("fileSystems/{fileSystemName}/nodes/{nodeId}/dependencies", nodeId), RemoteAppStorage.NODE_INFO_LIST_TYPES).get()
+            .thenApply(response -> readEntity(response, new GenericType<>() {
+            })));
+    }
+
+    @Override
+    public CompletionStage<Set<NodeInfo>> getBackwardDependencies(String nodeId) {
+        return start(() -> rx(nodeTarget("fileSystems/{fileSystemName}/nodes/{nodeId}/backwardDependencies", nodeId), RemoteAppStorage.NODE_INFO_LIST_TYPES).get()
+            .thenApply(response -> readEntity(response, new GenericType<>() {
+            })));
+    }
+}
@@ -58,6 +58,9 @@ public class RemoteTaskMonitor implements TaskMonitor {
 
     private final WebTarget webTarget;
 
+    // servers released before the batch update of task messages answer 404 or 405
+    private volatile boolean batchUpdateSupported = true;
+
     public RemoteTaskMonitor(String fileSystemName, URI restUri, String token) {
         this.fileSystemName = Objects.requireNonNull(fileSystemName);
         this.restUri = Objects.requireNonNull(restUri);
@@ -131,6 +134,31 @@ public class RemoteTaskMonitor implements TaskMonitor {
         }
     }
 
+    @Override
+    public void updateTaskMessages(Map<UUID, String> messages) {
+        Objects.requireNonNull(messages);
+        if (messages.isEmpty()) {
+            return;
+        }
+        if (batchUpdateSupported) {
+            LOGGER.debug("updateTaskMessages(fileSystemName={}, size={})", fileSystemName, messages.size());
+
+            try (Response response = webTarget.path(TASK_PATH)
+                .resolveTemplate(FILE_SYSTEM_NAME, fileSystemName)
+                .request()
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .post(Entity.json(messages))) {
+                int status = response.getStatus();
+                if (status != Response.Status.NOT_FOUND.getStatusCode() && status != Response.Status.METHOD_NOT_ALLOWED.getStatusCode()) {
+                    checkOk(response);
+                    return;
+                }
+                batchUpdateSupported = false;
+            }
+        }
+        messages.forEach(this::updateTaskMessage);
+    }
+
     @Override
     public Snapshot takeSnapshot(String projectId) {
         LOGGER.debug("takeSnapshot(fileSystemName={}, projectId={})", fileSystemName, projectId);
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.ws.storage;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.Objects;
+import java.util.function.ToIntFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * Responses of the server kept with their entity tag. They are never used without being revalidated by a conditional
+ * request, so they cannot be stale: the cache only saves the transfer of the responses that did not change.
+ * <p>
+ * Values are copied when put in the cache and when got from it, as callers may modify them.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+final class ValidatedCache<T> {
+
+    record Entry<T>(String tag, T value) {
+    }
+
+    private final Cache<String, Entry<T>> cache;
+
+    private final UnaryOperator<T> copier;
+
+    ValidatedCache(long maximumWeight, ToIntFunction<T> weigher, UnaryOperator<T> copier) {
+        Objects.requireNonNull(weigher);
+        this.copier = Objects.requireNonNull(copier);
+        cache = CacheBuilder.newBuilder()
+                .maximumWeight(maximumWeight)
+                .<String, Entry<T>>weigher((key, entry) -> weigher.applyAsInt(entry.value()))
+                .build();
+    }
+
+    /**
+     * @return the entry of the key with a copy of its value, or null if not cached
+     */
+    Entry<T> get(String key) {
+        Entry<T> entry = cache.getIfPresent(key);
+        return entry != null ? new Entry<>(entry.tag(), copier.apply(entry.value())) : null;
+    }
+
+    void put(String key, String tag, T value) {
+        cache.put(key, new Entry<>(Objects.requireNonNull(tag), copier.apply(value)));
+    }
+
+    void invalidate(String key) {
+        cache.invalidate(key);
+    }
+
+    void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    long size() {
+        return cache.size();
+    }
+}
@@ -60,7 +60,7 @@ public class WebSocketEventsBus implements EventsBus {
 
     @Override
     public void flush() {
-        // Noop
+        nodeEventClient.flush();
     }
 
     @Override
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.ws.storage;
+
+import com.google.common.io.ByteStreams;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Throughput benchmark of the bridge between the thread writing binary data to a {@link RemoteAppStorage} and the
+ * thread sending it to the server: the {@link PipedOutputStream} previously used, with its default 1 KiB buffer,
+ * against {@link BytePipe}. Data is written in blocks of several sizes, and the MB/s of each bridge are logged.
+ * <p>
+ * Run with {@code mvn test -Dtest=BytePipeBenchmark -Dafs.benchmark=true}.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+@EnabledIfSystemProperty(named = "afs.benchmark", matches = "true")
+class BytePipeBenchmark {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BytePipeBenchmark.class);
+
+    private static final long SIZE = 1024L * 1024 * 1024;
+
+    private static final int[] BLOCK_SIZES = {64, 8 * 1024, 64 * 1024};
+
+    private interface Bridge {
+
+        /**
+         * Starts the reader and returns the stream to write to.
+         */
+        OutputStream start(ExecutorService executor) throws IOException;
+
+        void await() throws Exception;
+    }
+
+    private static final class PipedBridge implements Bridge {
+
+        private Future<?> reader;
+
+        @Override
+        public OutputStream start(ExecutorService executor) throws IOException {
+            PipedOutputStream pos = new PipedOutputStream();
+            PipedInputStream pis = new PipedInputStream(pos);
+            reader = executor.submit(() -> {
+                try {
+                    return ByteStreams.copy(pis, OutputStream.nullOutputStream());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            return pos;
+        }
+
+        @Override
+        public void await() throws Exception {
+            reader.get();
+        }
+    }
+
+    private static final class BytePipeBridge implements Bridge {
+
+        private Future<?> reader;
+
+        @Override
+        public OutputStream start(ExecutorService executor) {
+            BytePipe pipe = new BytePipe();
+            reader = executor.submit(() -> {
+                pipe.drainTo(OutputStream.nullOutputStream());
+                return null;
+            });
+            pipe.setReader(reader);
+            return pipe;
+        }
+
+        @Override
+        public void await() throws Exception {
+            reader.get();
+        }
+    }
+
+    private static double run(Bridge bridge, int blockSize, ExecutorService executor) throws Exception {
+        byte[] block = new byte[blockSize];
+        long start = System.nanoTime();
+        try (OutputStream os = bridge.start(executor)) {
+            for (long written = 0; written < SIZE; written += blockSize) {
+                os.write(block);
+            }
+        }
+        bridge.await();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        return SIZE / 1e6 / seconds;
+    }
+
+    @Test
+    void benchmark() throws Exception {
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            for (int blockSize : BLOCK_SIZES) {
+                // warm up
+                run(new PipedBridge(), blockSize, executor);
+                run(new BytePipeBridge(), blockSize, executor);
+                double piped = run(new PipedBridge(), blockSize, executor);
+                double bytePipe = run(new BytePipeBridge(), blockSize, executor);
+                LOGGER.info("{} byte writes: PipedOutputStream {} MB/s, BytePipe {} MB/s", blockSize, Math.round(piped), Math.round(bytePipe));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
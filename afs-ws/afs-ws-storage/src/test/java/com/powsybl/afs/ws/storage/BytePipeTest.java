@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.ws.storage;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+class BytePipeTest {
+
+    private static Future<Void> drain(BytePipe pipe, OutputStream os) {
+        Future<Void> reader = CompletableFuture.runAsync(() -> {
+            try {
+                pipe.drainTo(os);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        pipe.setReader(reader);
+        return reader;
+    }
+
+    @Test
+    void test() throws IOException, ExecutionException, InterruptedException {
+        byte[] content = new byte[100000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        BytePipe pipe = new BytePipe(1000, 2);
+        Future<Void> reader = drain(pipe, bos);
+        try (pipe) {
+            pipe.write(content[0]);
+            pipe.write(content, 1, 49999);
+            pipe.flush();
+            pipe.write(content, 50000, 50000);
+        }
+        reader.get();
+        assertArrayEquals(content, bos.toByteArray());
+        assertThrows(IOException.class, () -> pipe.write(1));
+    }
+
+    @Test
+    void readerFailureTest() {
+        BytePipe pipe = new BytePipe(1000, 2);
+        drain(pipe, new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Connection reset");
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                throw new IOException("Connection reset");
+            }
+        });
+        // the writer does not wait forever for a reader which failed
+        assertThrows(IOException.class, () -> {
+            for (int i = 0; i < 100; i++) {
+                pipe.write(new byte[1000]);
+            }
+        });
+    }
+
+    @Test
+    void noReaderTest() {
+        BytePipe pipe = new BytePipe(1000, 2);
+        // the request ended without reading the pipe
+        pipe.setReader(CompletableFuture.completedFuture(null));
+        assertThrows(IOException.class, () -> pipe.write(new byte[10000]));
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.ws.storage;
+
+import com.powsybl.afs.AfsException;
+import jakarta.ws.rs.ProcessingException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+class ChunkedUploadOutputStreamTest {
+
+    private static final byte[] CONTENT = "0123456789".repeat(100).getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * Keeps the uploaded parts in memory, the transfer of a part failing with the exception given by {@code error}
+     * when {@code failure} accepts its attempt number.
+     */
+    private static final class InMemoryUploader implements ChunkedUploadOutputStream.Uploader {
+
+        private final IntPredicate failure;
+
+        private final Supplier<RuntimeException> error;
+
+        private final Map<Integer, byte[]> parts = new ConcurrentHashMap<>();
+
+        private final AtomicInteger attempts = new AtomicInteger();
+
+        private final List<String> requests = new CopyOnWriteArrayList<>();
+
+        private final AtomicInteger commitFailures = new AtomicInteger();
+
+        private byte[] data;
+
+        private InMemoryUploader(IntPredicate failure) {
+            this(failure, () -> new ProcessingException("Connection reset"));
+        }
+
+        private InMemoryUploader(IntPredicate failure, Supplier<RuntimeException> error) {
+            this.failure = failure;
+            this.error = error;
+        }
+
+        @Override
+        public void upload(byte[] data, int length) {
+            requests.add("upload");
+            this.data = Arrays.copyOf(data, length);
+        }
+
+        @Override
+        public String initiate() {
+            requests.add("initiate");
+            return "id";
+        }
+
+        @Override
+        public void uploadPart(String uploadId, int partNumber, byte[] data, int length) {
+            assertEquals("id", uploadId);
+            if (failure.test(attempts.incrementAndGet())) {
+                throw error.get();
+            }
+            parts.put(partNumber, Arrays.copyOf(data, length));
+        }
+
+        @Override
+        public void commit(String uploadId, int partCount) {
+            requests.add("commit");
+            if (commitFailures.getAndDecrement() > 0) {
+                throw new ChunkedUploadOutputStream.ServerErrorException("Server error 503", null);
+            }
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            for (int partNumber = 0; partNumber < partCount; partNumber++) {
+                bos.writeBytes(parts.get(partNumber));
+            }
+            data = bos.toByteArray();
+        }
+
+        @Override
+        public void abort(String uploadId) {
+            requests.add("abort");
+        }
+    }
+
+    private static ChunkedUploadOutputStream createStream(InMemoryUploader uploader) {
+        return new ChunkedUploadOutputStream(uploader, new ChunkedUploadConfig().setPartSize(64).setParallelism(3).setMaxAttempts(3), 1);
+    }
+
+    @Test
+    void smallDataTest() throws IOException {
+        InMemoryUploader uploader = new InMemoryUploader(attempt -> false);
+        try (OutputStream os = createStream(uploader)) {
+            os.write(CONTENT, 0, 64);
+        }
+        assertEquals(List.of("upload"), uploader.requests);
+        assertArrayEquals(Arrays.copyOf(CONTENT, 64), uploader.data);
+    }
+
+    @Test
+    void partsTest() throws IOException {
+        // one transfer out of 4 fails, twice at most so that no part exhausts its attempts
+        InMemoryUploader uploader = new InMemoryUploader(attempt -> attempt % 4 == 0 && attempt <= 8);
+        try (OutputStream os = createStream(uploader)) {
+            os.write(CONTENT[0]);
+            os.write(CONTENT, 1, 499);
+            os.write(CONTENT, 500, CONTENT.length - 500);
+        }
+        assertEquals(List.of("initiate", "commit"), uploader.requests);
+        assertEquals(16, uploader.parts.size());
+        assertArrayEquals(CONTENT, uploader.data);
+    }
+
+    @Test
+    void failureTest() {
+        // the fourth transfer and all the following ones fail
+        InMemoryUploader uploader = new InMemoryUploader(attempt -> attempt >= 4);
+        OutputStream os = createStream(uploader);
+        assertThrows(ProcessingException.class, () -> {
+            os.write(CONTENT);
+            os.close();
+        });
+        assertTrue(uploader.requests.contains("abort"));
+        assertFalse(uploader.requests.contains("commit"));
+        assertNull(uploader.data);
+        assertThrows(IOException.class, () -> os.write(CONTENT));
+    }
+
+    @Test
+    void serverErrorTest() throws IOException {
+        // the first 2 transfers fail, whatever the parts they belong to
+        InMemoryUploader uploader = new InMemoryUploader(attempt -> attempt <= 2,
+            () -> new ChunkedUploadOutputStream.ServerErrorException("Server error 503", null));
+        try (OutputStream os = createStream(uploader)) {
+            os.write(CONTENT);
+        }
+        assertArrayEquals(CONTENT, uploader.data);
+    }
+
+    @Test
+    void commitRetryTest() throws IOException {
+        InMemoryUploader uploader = new InMemoryUploader(attempt -> false);
+        uploader.commitFailures.set(2);
+        try (OutputStream os = createStream(uploader)) {
+            os.write(CONTENT);
+        }
+        assertEquals(List.of("initiate", "commit", "commit", "commit"), uploader.requests);
+        assertArrayEquals(CONTENT, uploader.data);
+
+        // the commit is sent at most the maximum number of attempts
+        InMemoryUploader failingUploader = new InMemoryUploader(attempt -> false);
+        failingUploader.commitFailures.set(3);
+        OutputStream os = createStream(failingUploader);
+        assertThrows(ChunkedUploadOutputStream.ServerErrorException.class, () -> {
+            os.write(CONTENT);
+            os.close();
+        });
+        assertEquals(3, failingUploader.requests.stream().filter("commit"::equals).count());
+        assertNull(failingUploader.data);
+    }
+
+    @Test
+    void rejectedPartTest() {
+        // rejected parts are not sent again: the 2 parts are sent at most once each
+        InMemoryUploader uploader = new InMemoryUploader(attempt -> true, () -> new AfsException("Upload id not found"));
+        OutputStream os = createStream(uploader);
+        assertThrows(AfsException.class, () -> {
+            os.write(CONTENT, 0, 65);
+            os.close();
+        });
+        assertTrue(uploader.requests.contains("abort"));
+        assertNull(uploader.data);
+        assertTrue(uploader.attempts.get() <= 2);
+    }
+}
@@ -9,6 +9,7 @@ package com.powsybl.afs.ws.storage;
 import com.powsybl.afs.ws.storage.websocket.AutoReconnectionConnectionManager;
 import com.powsybl.afs.ws.storage.websocket.WebsocketConnectionManager;
 import com.powsybl.commons.util.WeakListenerList;
+import jakarta.websocket.CloseReason;
 import jakarta.websocket.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -51,7 +52,7 @@ class NodeEventClientReconnectionTest {
 
         NodeEventClient client = new NodeEventClient(createWebsocketManager(reconnection), "fs", new WeakListenerList<>());
         client.connect(); //emulate connection
-        client.onClose(session); //emulate session closing
+        client.onClose(session, new CloseReason(CloseReason.CloseCodes.CLOSED_ABNORMALLY, null)); //emulate session closing
 
         assertTrue(reconnectionAttempts.await(2, TimeUnit.SECONDS));
     }
@@ -73,7 +74,7 @@ class NodeEventClientReconnectionTest {
 
         NodeEventClient client = new NodeEventClient(createWebsocketManager(reconnection), "fs", new WeakListenerList<>());
         client.connect(); //emulate connection
-        client.onClose(session); //emulate session close
+        client.onClose(session, new CloseReason(CloseReason.CloseCodes.CLOSED_ABNORMALLY, null)); //emulate session close
 
         // Wait for 2 reconnection attempts
         assertTrue(attemptsBeforeClosing.await(2, TimeUnit.SECONDS));
@@ -92,7 +93,7 @@ class NodeEventClientReconnectionTest {
         NodeEventClient client = new NodeEventClient(createWebsocketManager(reconnection), "fs", new WeakListenerList<>());
         client.connect();
         client.close();
-        client.onClose(session);
+        client.onClose(session, new CloseReason(CloseReason.CloseCodes.CLOSED_ABNORMALLY, null));
 
         //Check the reconnection function will never be called
         assertThrows(TimeoutException.class, () -> reconnectionAfterClosing.get(500, TimeUnit.MILLISECONDS));
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.ws.storage;
+
+import com.powsybl.afs.storage.events.NodeCreated;
+import com.powsybl.afs.storage.events.NodeEventContainer;
+import com.powsybl.afs.storage.events.NodeEventList;
+import com.powsybl.afs.storage.events.NodeEventListContainer;
+import com.powsybl.afs.storage.events.NodeRemoved;
+import com.powsybl.afs.ws.storage.websocket.WebsocketConnectionManager;
+import com.powsybl.commons.util.WeakListenerList;
+import jakarta.websocket.CloseReason;
+import jakarta.websocket.RemoteEndpoint;
+import jakarta.websocket.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+class NodeEventClientTest {
+
+    private RemoteEndpoint.Async remote;
+
+    private final List<Runnable> lingerTasks = new ArrayList<>();
+
+    private Session session;
+
+    private NodeEventClient client;
+
+    @BeforeEach
+    void setUp() {
+        session = mock(Session.class);
+        remote = mock(RemoteEndpoint.Async.class);
+        when(session.isOpen()).thenReturn(true);
+        when(session.getAsyncRemote()).thenReturn(remote);
+        lingerTasks.clear();
+        client = new NodeEventClient(mock(WebsocketConnectionManager.class), "fs", new WeakListenerList<>(), lingerTasks::add);
+        client.onOpen(session);
+    }
+
+    @Test
+    void batchTest() {
+        client.pushEvent(new NodeCreated("a", "root"), "fs", "topic1");
+        client.pushEvent(new NodeCreated("b", "root"), "fs", "topic1");
+        client.pushEvent(new NodeRemoved("a", "root"), "fs", "topic2");
+        client.pushEvent(new NodeRemoved("b", "root"), "fs", "topic1");
+        client.flush();
+
+        // consecutive events of a topic are sent in a single message, in push order
+        ArgumentCaptor<Object> sent = ArgumentCaptor.forClass(Object.class);
+        verify(remote, times(3)).sendObject(sent.capture(), any());
+        List<NodeEventList> lists = sent.getAllValues().stream()
+            .map(container -> ((NodeEventListContainer) container).getNodeEventList())
+            .toList();
+        assertEquals(List.of(new NodeEventList("topic1", new NodeCreated("a", "root"), new NodeCreated("b", "root")),
+                             new NodeEventList("topic2", new NodeRemoved("a", "root")),
+                             new NodeEventList("topic1", new NodeRemoved("b", "root"))),
+                     lists);
+        assertEquals(List.of("topic1", "topic2", "topic1"), lists.stream().map(NodeEventList::getTopic).toList());
+
+        // nothing left to send
+        client.flush();
+        verify(remote, times(3)).sendObject(any(), any());
+    }
+
+    @Test
+    void lingerTest() {
+        client.pushEvent(new NodeCreated("a", "root"), "fs", "topic");
+        client.pushEvent(new NodeCreated("b", "root"), "fs", "topic");
+        verify(remote, never()).sendObject(any(), any());
+
+        // pending events are sent even if nobody flushes
+        assertEquals(1, lingerTasks.size());
+        lingerTasks.get(0).run();
+        verify(remote).sendObject(any(), any());
+    }
+
+    @Test
+    void defaultLingerTest() {
+        NodeEventClient defaultClient = new NodeEventClient(mock(WebsocketConnectionManager.class), "fs", new WeakListenerList<>());
+        Session session = mock(Session.class);
+        RemoteEndpoint.Async defaultRemote = mock(RemoteEndpoint.Async.class);
+        when(session.isOpen()).thenReturn(true);
+        when(session.getAsyncRemote()).thenReturn(defaultRemote);
+        defaultClient.onOpen(session);
+        defaultClient.pushEvent(new NodeCreated("a", "root"), "fs", "topic");
+        verify(defaultRemote, timeout(5000)).sendObject(any(), any());
+    }
+
+    @Test
+    void maxBatchSizeTest() {
+        for (int i = 0; i < NodeEventClient.MAX_BATCH_SIZE - 1; i++) {
+            client.pushEvent(new NodeCreated("n" + i, "root"), "fs", "topic");
+        }
+        verify(remote, never()).sendObject(any(), any());
+        client.pushEvent(new NodeCreated("last", "root"), "fs", "topic");
+        verify(remote).sendObject(any(), any());
+    }
+
+    @Test
+    void singleEventFallbackTest() {
+        // a session closed normally does not change the messages sent
+        client.pushEvent(new NodeCreated("a", "root"), "fs", "topic");
+        client.flush();
+        client.onClose(session, new CloseReason(CloseReason.CloseCodes.NORMAL_CLOSURE, null));
+        assertTrue(client.isEventListsAccepted());
+
+        // a server which cannot decode event lists closes the session with an error
+        client.onOpen(session);
+        client.pushEvent(new NodeCreated("b", "root"), "fs", "topic");
+        client.flush();
+        client.onClose(session, new CloseReason(CloseReason.CloseCodes.UNEXPECTED_CONDITION, "decoding error"));
+        assertFalse(client.isEventListsAccepted());
+
+        // events are then sent one by one
+        client.onOpen(session);
+        client.pushEvent(new NodeCreated("c", "root"), "fs", "topic");
+        client.pushEvent(new NodeRemoved("c", "root"), "fs", "topic");
+        client.flush();
+        ArgumentCaptor<Object> sent = ArgumentCaptor.forClass(Object.class);
+        verify(remote, times(4)).sendObject(sent.capture(), any());
+        List<Object> singleEvents = sent.getAllValues().subList(2, 4);
+        assertEquals(List.of(new NodeCreated("c", "root"), new NodeRemoved("c", "root")),
+                     singleEvents.stream().map(container -> ((NodeEventContainer) container).getNodeEvent()).toList());
+        assertEquals("topic", ((NodeEventContainer) singleEvents.get(0)).getTopic());
+    }
+}
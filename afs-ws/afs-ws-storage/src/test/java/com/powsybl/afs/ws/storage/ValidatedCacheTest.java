@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.ws.storage;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+class ValidatedCacheTest {
+
+    @Test
+    void test() {
+        ValidatedCache<List<String>> cache = new ValidatedCache<>(4, List::size, ArrayList::new);
+        assertNull(cache.get("a"));
+
+        List<String> value = new ArrayList<>(List.of("x", "y"));
+        cache.put("a", "W/\"1\"", value);
+        value.add("z");
+        ValidatedCache.Entry<List<String>> entry = cache.get("a");
+        assertEquals("W/\"1\"", entry.tag());
+        assertEquals(List.of("x", "y"), entry.value());
+
+        // values got from the cache are copies
+        entry.value().clear();
+        assertEquals(List.of("x", "y"), cache.get("a").value());
+
+        cache.invalidate("a");
+        assertNull(cache.get("a"));
+        assertThrows(NullPointerException.class, () -> cache.put("a", null, value));
+    }
+
+    @Test
+    void weightTest() {
+        ValidatedCache<List<String>> cache = new ValidatedCache<>(4, List::size, ArrayList::new);
+        cache.put("a", "W/\"1\"", List.of("x", "y", "z"));
+        cache.put("b", "W/\"2\"", List.of("x", "y", "z"));
+        // the weight is checked per cache segment, entries may be evicted before the maximum is reached
+        assertTrue(cache.size() <= 1);
+        cache.put("c", "W/\"3\"", List.of("x", "y", "z", "t", "u"));
+        assertNull(cache.get("c"));
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.ws.utils;
+
+import jakarta.ws.rs.core.MediaType;
+
+/**
+ * Media types used to transfer networks between the network cache server and its clients.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+public final class NetworkMediaTypes {
+
+    private NetworkMediaTypes() {
+    }
+
+    /**
+     * Binary IIDM serialization, as written by {@code NetworkSerDe} with the {@code BIN} tree data format.
+     */
+    public static final String APPLICATION_IIDM_BINARY = "application/x-iidm-binary";
+
+    public static final MediaType APPLICATION_IIDM_BINARY_TYPE = new MediaType("application", "x-iidm-binary");
+
+    public static final String GZIP_ENCODING = "gzip";
+
+    private static final String WILDCARD_ENCODING = "*";
+
+    /**
+     * Return true if an {@code Accept-Encoding} header value accepts the gzip encoding, either explicitly or through
+     * the wildcard, with a non zero quality value.
+     */
+    public static boolean isGzipAccepted(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        double gzipQuality = -1;
+        double wildcardQuality = -1;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parameters = element.split(";");
+            String coding = parameters[0].trim();
+            if (coding.equalsIgnoreCase(GZIP_ENCODING) || "x-gzip".equalsIgnoreCase(coding)) {
+                gzipQuality = Math.max(gzipQuality, getQuality(parameters));
+            } else if (coding.equals(WILDCARD_ENCODING)) {
+                wildcardQuality = getQuality(parameters);
+            }
+        }
+        // an explicit quality value takes precedence over the wildcard one
+        return gzipQuality >= 0 ? gzipQuality > 0 : wildcardQuality > 0;
+    }
+
+    private static double getQuality(String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            String parameter = parameters[i].trim();
+            if (parameter.length() > 2 && "q=".equalsIgnoreCase(parameter.substring(0, 2))) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    // an invalid quality value does not accept the encoding
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.ws.utils;
+
+import com.powsybl.afs.storage.NodeDependency;
+import com.powsybl.afs.storage.NodeInfo;
+import com.powsybl.afs.storage.NodeInfoBinaryCodec;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyReader;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Provider;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Reads and writes lists and sets of {@link NodeInfo} and {@link NodeDependency} with the {@link NodeInfoBinaryCodec}
+ * binary format.
+ *
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+@Provider
+@Consumes(NodeInfoBinaryCodec.MEDIA_TYPE)
+@Produces(NodeInfoBinaryCodec.MEDIA_TYPE)
+public class NodeInfoBinaryProvider implements MessageBodyReader<Collection<?>>, MessageBodyWriter<Collection<?>> {
+
+    public static final MediaType MEDIA_TYPE = MediaType.valueOf(NodeInfoBinaryCodec.MEDIA_TYPE);
+
+    private static Type getElementType(Type genericType) {
+        if (genericType instanceof ParameterizedType parameterizedType && parameterizedType.getActualTypeArguments().length == 1) {
+            return parameterizedType.getActualTypeArguments()[0];
+        }
+        return null;
+    }
+
+    private static boolean isNodeInfoCollection(Type genericType) {
+        Type elementType = getElementType(genericType);
+        return elementType == NodeInfo.class || elementType == NodeDependency.class;
+    }
+
+    @Override
+    public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return (type == List.class || type == Collection.class || type == Set.class) && isNodeInfoCollection(genericType);
+    }
+
+    @Override
+    public Collection<?> readFrom(Class<Collection<?>> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                                  MultivaluedMap<String, String> httpHeaders, InputStream entityStream) throws IOException {
+        List<?> elements = getElementType(genericType) == NodeDependency.class
+                ? NodeInfoBinaryCodec.readDependencies(entityStream)
+                : NodeInfoBinaryCodec.read(entityStream);
+        return Set.class.isAssignableFrom(type) ? new LinkedHashSet<>(elements) : elements;
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return Collection.class.isAssignableFrom(type) && isNodeInfoCollection(genericType);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void writeTo(Collection<?> elements, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                        MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) throws IOException {
+        if (getElementType(genericType) == NodeDependency.class) {
+            NodeInfoBinaryCodec.writeDependencies((Collection<NodeDependency>) elements, entityStream);
+        } else {
+            NodeInfoBinaryCodec.write((Collection<NodeInfo>) elements, entityStream);
+        }
+    }
+}
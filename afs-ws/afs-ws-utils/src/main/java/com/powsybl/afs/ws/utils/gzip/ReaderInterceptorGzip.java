@@ -6,6 +6,7 @@
  */
 package com.powsybl.afs.ws.utils.gzip;
 
+import com.powsybl.afs.storage.GzipMembersInputStream;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.ext.Provider;
 import jakarta.ws.rs.ext.ReaderInterceptor;
@@ -15,7 +16,6 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.zip.GZIPInputStream;
 
 /**
  * @author Ali Tahanout {@literal <ali.tahanout at rte-france.com>}
@@ -35,11 +35,17 @@ public class ReaderInterceptorGzip implements ReaderInterceptor {
             interceptorContext.setInputStream(inputStream);
             return interceptorContext.proceed();
         } else {
-            interceptorContext.setInputStream(new GZIPInputStream(new InputStream() {
+            // the response may be made of several gzip members, binary data chunks being sent as stored
+            interceptorContext.setInputStream(new GzipMembersInputStream(new InputStream() {
                 @Override
                 public int read() throws IOException {
                     return inputStream.read();
                 }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    return inputStream.read(b, off, len);
+                }
             }));
             return interceptorContext.proceed();
         }
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2026, RTE (https://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.afs.ws.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
+ */
+class NetworkMediaTypesTest {
+
+    @Test
+    void isGzipAcceptedTest() {
+        assertTrue(NetworkMediaTypes.isGzipAccepted("gzip"));
+        assertTrue(NetworkMediaTypes.isGzipAccepted("deflate, GZIP;q=0.5"));
+        assertTrue(NetworkMediaTypes.isGzipAccepted("x-gzip"));
+        assertTrue(NetworkMediaTypes.isGzipAccepted("*"));
+        assertFalse(NetworkMediaTypes.isGzipAccepted(null));
+        assertFalse(NetworkMediaTypes.isGzipAccepted(""));
+        assertFalse(NetworkMediaTypes.isGzipAccepted("deflate"));
+        assertFalse(NetworkMediaTypes.isGzipAccepted("notgzip"));
+
+        // refused with a zero quality value, even if the wildcard is accepted
+        assertFalse(NetworkMediaTypes.isGzipAccepted("gzip;q=0"));
+        assertFalse(NetworkMediaTypes.isGzipAccepted("gzip; q=0.0, *"));
+        assertFalse(NetworkMediaTypes.isGzipAccepted("*;q=0"));
+        assertFalse(NetworkMediaTypes.isGzipAccepted("gzip;q=invalid"));
+    }
+}